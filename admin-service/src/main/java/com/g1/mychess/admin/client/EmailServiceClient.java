@@ -2,9 +2,11 @@ package com.g1.mychess.admin.client;
 
 import com.g1.mychess.admin.dto.BlacklistEmailDTO;
 import com.g1.mychess.admin.dto.WhitelistEmailDTO;
+import com.g1.mychess.client.ServiceClientFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 /**
  * Client service for interacting with the Email Service API.
@@ -19,10 +21,10 @@ public class EmailServiceClient {
      * and a WebClient.Builder instance.
      *
      * @param emailServiceUrl the URL of the email service API
-     * @param webClientBuilder the WebClient.Builder instance to build the WebClient
+     * @param serviceClientFactory the factory creating the pooled WebClient
      */
-    public EmailServiceClient(@Value("${email.service.url}") String emailServiceUrl, WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.baseUrl(emailServiceUrl).build();  // Set the base URL of the email service
+    public EmailServiceClient(@Value("${email.service.url}") String emailServiceUrl, ServiceClientFactory serviceClientFactory) {
+        this.webClient = serviceClientFactory.create("email", emailServiceUrl);  // Set the base URL of the email service
     }
 
     /**
@@ -45,11 +47,22 @@ public class EmailServiceClient {
      * @param emailDTO the WhitelistEmailDTO containing the email details and information
      */
     public void sendWhitelistNotificationEmail(WhitelistEmailDTO emailDTO) {
-        webClient.post()
+        sendWhitelistNotificationEmailAsync(emailDTO).block();  // Block and wait for the email to be sent
+    }
+
+    /**
+     * Sends a notification email when a player is whitelisted, without blocking.
+     * The request is sent when the returned Mono is subscribed to.
+     *
+     * @param emailDTO the WhitelistEmailDTO containing the email details and information
+     * @return a Mono completing once the email service has accepted the email
+     */
+    public Mono<Void> sendWhitelistNotificationEmailAsync(WhitelistEmailDTO emailDTO) {
+        return webClient.post()
                 .uri("/api/v1/email/whitelists")  // URI for sending whitelist notification
                 .bodyValue(emailDTO)  // Send the emailDTO as the body of the request
                 .retrieve()
                 .toBodilessEntity()  // No response body expected
-                .block();  // Block and wait for the email to be sent
+                .then();
     }
 }
\ No newline at end of file
@@ -1,9 +1,16 @@
 package com.g1.mychess.admin.client;
 
 import com.g1.mychess.admin.dto.PlayerDTO;
+import com.g1.mychess.client.FanOut;
+import com.g1.mychess.client.ServiceClientFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Client service for interacting with the Player Service API.
@@ -11,17 +18,24 @@ import org.springframework.web.reactive.function.client.WebClient;
  */
 @Service
 public class PlayerServiceClient {
+    /**
+     * Number of players requested per call to the batch details endpoint.
+     */
+    static final int DETAILS_BATCH_SIZE = 100;
+
     private final WebClient webClient;
+    private final FanOut fanOut;
 
     /**
-     * Constructor to initialize PlayerServiceClient with the base URL of the player service
-     * and a WebClient.Builder instance.
+     * Constructor to initialize PlayerServiceClient with the base URL of the player service.
      *
      * @param playerServiceUrl the URL of the player service API
-     * @param webClientBuilder the WebClient.Builder instance to build the WebClient
+     * @param serviceClientFactory the factory creating the pooled WebClient
+     * @param fanOut the helper running the chunk requests in parallel
      */
-    public PlayerServiceClient(@Value("${player.service.url}") String playerServiceUrl, WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.baseUrl(playerServiceUrl).build();  // Set the base URL of the player service
+    public PlayerServiceClient(@Value("${player.service.url}") String playerServiceUrl, ServiceClientFactory serviceClientFactory, FanOut fanOut) {
+        this.webClient = serviceClientFactory.create("player", playerServiceUrl);  // Pooled client for the player service
+        this.fanOut = fanOut;
     }
 
     /**
@@ -38,6 +52,28 @@ public class PlayerServiceClient {
                 .block();  // Block and wait for the response
     }
 
+    /**
+     * Retrieves the details of several players, requesting them in chunks of {@link #DETAILS_BATCH_SIZE}
+     * that are fetched in parallel. Players that do not exist are left out of the result.
+     *
+     * @param playerIds the IDs of the players whose details are to be fetched
+     * @return a list of PlayerDTOs containing the details of the players
+     */
+    public List<PlayerDTO> getPlayersDetails(List<Long> playerIds) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < playerIds.size(); from += DETAILS_BATCH_SIZE) {
+            chunks.add(playerIds.subList(from, Math.min(from + DETAILS_BATCH_SIZE, playerIds.size())));
+        }
+        return fanOut.map(chunks, chunk -> webClient.post()
+                        .uri("/api/v1/player/details")  // URI for getting the details of several players
+                        .bodyValue(chunk)
+                        .retrieve()
+                        .bodyToMono(new ParameterizedTypeReference<List<PlayerDTO>>() {}))
+                .flatMapIterable(players -> players)
+                .collectList()
+                .block();
+    }
+
     /**
      * Updates the blacklist status of a player by their player ID.
      *
@@ -57,10 +93,21 @@ public class PlayerServiceClient {
      * @param playerId the ID of the player whose whitelist status is to be updated
      */
     public void updatePlayerWhitelistStatus(Long playerId) {
-        webClient.put()
+        updatePlayerWhitelistStatusAsync(playerId).block();  // Block and wait for the update to complete
+    }
+
+    /**
+     * Updates the whitelist status of a player by their player ID without blocking.
+     * The request is sent when the returned Mono is subscribed to.
+     *
+     * @param playerId the ID of the player whose whitelist status is to be updated
+     * @return a Mono completing once the update is done
+     */
+    public Mono<Void> updatePlayerWhitelistStatusAsync(Long playerId) {
+        return webClient.put()
                 .uri("/api/v1/player/whitelist-status/{playerId}", playerId)  // URI for updating whitelist status
                 .retrieve()
                 .toBodilessEntity()  // No response body expected
-                .block();  // Block and wait for the update to complete
+                .then();
     }
 }
\ No newline at end of file
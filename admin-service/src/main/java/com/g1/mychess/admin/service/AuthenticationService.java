@@ -1,7 +1,8 @@
 package com.g1.mychess.admin.service;
 
 import com.g1.mychess.admin.exception.UnauthorizedActionException;
-import com.g1.mychess.admin.util.JwtUtil;
+import com.g1.mychess.security.JwtUtil;
+import com.g1.mychess.security.VerifiedClaims;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.stereotype.Service;
 
@@ -24,12 +25,16 @@ public class AuthenticationService {
 
     /**
      * Extracts the user ID from the JWT token present in the HTTP request's Authorization header.
+     * The claims already verified by the JWT filter for this request are used when present.
      *
      * @param request The HTTP request containing the Authorization header with the JWT token.
      * @return The user ID extracted from the JWT token.
      * @throws UnauthorizedActionException If the Authorization header is missing or invalid.
      */
     public Long getUserIdFromRequest(HttpServletRequest request) {
+        if (request.getAttribute(VerifiedClaims.REQUEST_ATTRIBUTE) instanceof VerifiedClaims claims) {
+            return claims.getUserId();
+        }
         String jwtToken = extractJwtToken(request);
         return jwtUtil.extractUserId(jwtToken);
     }
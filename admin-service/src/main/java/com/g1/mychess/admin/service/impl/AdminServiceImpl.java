@@ -13,13 +13,17 @@ import com.g1.mychess.admin.repository.AdminRepository;
 import com.g1.mychess.admin.repository.BlacklistRepository;
 import com.g1.mychess.admin.service.AdminService;
 import com.g1.mychess.admin.service.AuthenticationService;
+import com.g1.mychess.client.FanOut;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.transaction.Transactional;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of the AdminService interface, providing administrative operations such as
@@ -33,6 +37,7 @@ public class AdminServiceImpl implements AdminService {
     private final PlayerServiceClient playerServiceClient;
     private final EmailServiceClient emailServiceClient;
     private final AuthenticationService authenticationService;
+    private final FanOut fanOut;
 
     /**
      * Constructor to initialize the AdminServiceImpl with required dependencies.
@@ -42,19 +47,22 @@ public class AdminServiceImpl implements AdminService {
      * @param playerServiceClient Client for accessing player data
      * @param emailServiceClient Client for sending emails
      * @param authenticationService Service for user authentication
+     * @param fanOut Helper running the calls for many players in parallel
      */
     public AdminServiceImpl(
             AdminRepository adminRepository,
             BlacklistRepository blacklistRepository,
             PlayerServiceClient playerServiceClient,
             EmailServiceClient emailServiceClient,
-            AuthenticationService authenticationService
+            AuthenticationService authenticationService,
+            FanOut fanOut
     ) {
         this.adminRepository = adminRepository;
         this.blacklistRepository = blacklistRepository;
         this.playerServiceClient = playerServiceClient;
         this.emailServiceClient = emailServiceClient;
         this.authenticationService = authenticationService;
+        this.fanOut = fanOut;
     }
 
     /**
@@ -136,44 +144,64 @@ public class AdminServiceImpl implements AdminService {
 
     /**
      * Automatically whitelists players whose bans have expired.
+     * The details of all affected players are fetched with batched calls to the player service, then the
+     * player service and the players are notified in parallel, with bounded concurrency.
      * This method is scheduled to run periodically.
      */
     @Override
     @Scheduled(fixedRate = 3600000)
     public void autoWhitelistExpiredBans() {
         LocalDateTime now = LocalDateTime.now();
-        List<Blacklist> expiredBans = blacklistRepository.findAllByIsActiveTrue();
+        List<Blacklist> expiredBans = new ArrayList<>();
 
-        for (Blacklist blacklist : expiredBans) {
+        for (Blacklist blacklist : blacklistRepository.findAllByIsActiveTrue()) {
             LocalDateTime banExpiration = blacklist.getBlacklistedAt().plusHours(blacklist.getBanDuration());
 
             if (now.isAfter(banExpiration)) {
-                whitelistPlayerAfterExpiry(blacklist);
+                expiredBans.add(blacklist);
             }
         }
+        if (expiredBans.isEmpty()) return;
+
+        List<Long> playerIds = expiredBans.stream().map(Blacklist::getPlayerId).toList();
+        Map<Long, PlayerDTO> players = new HashMap<>();
+        for (PlayerDTO playerDTO : playerServiceClient.getPlayersDetails(playerIds)) {
+            players.put(playerDTO.getId(), playerDTO);
+        }
+
+        List<WhitelistDTO> whitelists = new ArrayList<>();
+        for (Blacklist blacklist : expiredBans) {
+            WhitelistDTO whitelistDTO = whitelistPlayerAfterExpiry(blacklist, players.get(blacklist.getPlayerId()));
+            if (whitelistDTO != null) whitelists.add(whitelistDTO);
+        }
+
+        fanOut.forEach(whitelists, whitelistDTO -> playerServiceClient
+                        .updatePlayerWhitelistStatusAsync(whitelistDTO.getPlayerId())
+                        .then(emailServiceClient.sendWhitelistNotificationEmailAsync(toWhitelistEmailDTO(whitelistDTO))))
+                .block();  // A failed player does not stop the others; the failure is rethrown at the end
     }
 
     /**
-     * Whitelists a player whose ban has expired.
+     * Marks the ban of a player as expired.
      *
      * @param blacklist The blacklist entry of the player
+     * @param playerDTO The details of the player, or null if the player no longer exists
+     * @return The whitelist details to send to the player service and the player, or null if the player no longer exists
      */
-    private void whitelistPlayerAfterExpiry(Blacklist blacklist) {
+    private WhitelistDTO whitelistPlayerAfterExpiry(Blacklist blacklist, PlayerDTO playerDTO) {
         blacklist.setActive(false);
         blacklist.setWhitelistedAt(LocalDateTime.now());
         blacklist.setReason("Duration expired.");
         blacklistRepository.save(blacklist);
 
-        playerServiceClient.updatePlayerWhitelistStatus(blacklist.getPlayerId());
+        if (playerDTO == null) return null;
 
-        PlayerDTO playerDTO = playerServiceClient.getPlayerDetails(blacklist.getPlayerId());
-        WhitelistDTO whitelistDTO = new WhitelistDTO(
+        return new WhitelistDTO(
                 playerDTO.getId(),
                 playerDTO.getEmail(),
                 playerDTO.getUsername(),
                 blacklist.getReason()
         );
-        sendWhitelistNotificationEmail(whitelistDTO);
     }
 
     /**
@@ -249,12 +277,21 @@ public class AdminServiceImpl implements AdminService {
      * @param whitelistDTO The DTO containing the player's information
      */
     private void sendWhitelistNotificationEmail(WhitelistDTO whitelistDTO) {
+        emailServiceClient.sendWhitelistNotificationEmail(toWhitelistEmailDTO(whitelistDTO));
+    }
+
+    /**
+     * Builds the whitelist notification email of a player.
+     *
+     * @param whitelistDTO The DTO containing the player's information
+     * @return The email to send to the player
+     */
+    private WhitelistEmailDTO toWhitelistEmailDTO(WhitelistDTO whitelistDTO) {
         WhitelistEmailDTO emailDTO = new WhitelistEmailDTO();
         emailDTO.setTo(whitelistDTO.getEmail());
         emailDTO.setUsername(whitelistDTO.getUsername());
         emailDTO.setReason(whitelistDTO.getReason());
-
-        emailServiceClient.sendWhitelistNotificationEmail(emailDTO);
+        return emailDTO;
     }
 
     /**
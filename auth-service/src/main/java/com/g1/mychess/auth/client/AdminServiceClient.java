@@ -1,6 +1,7 @@
 package com.g1.mychess.auth.client;
 
 import com.g1.mychess.auth.dto.UserDTO;
+import com.g1.mychess.client.ServiceClientFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -16,10 +17,10 @@ public class AdminServiceClient {
      * Constructor that initializes the WebClient with the provided Admin Service URL.
      *
      * @param adminServiceUrl the URL of the Admin Service (from application properties)
-     * @param webClientBuilder the WebClient builder to create the WebClient instance
+     * @param serviceClientFactory the factory creating the pooled WebClient
      */
-    public AdminServiceClient(@Value("${admin.service.url}") String adminServiceUrl, WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.baseUrl(adminServiceUrl).build();
+    public AdminServiceClient(@Value("${admin.service.url}") String adminServiceUrl, ServiceClientFactory serviceClientFactory) {
+        this.webClient = serviceClientFactory.create("admin", adminServiceUrl);
     }
 
     /**
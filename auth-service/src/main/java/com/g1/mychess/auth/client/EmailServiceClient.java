@@ -2,6 +2,7 @@ package com.g1.mychess.auth.client;
 
 import com.g1.mychess.auth.dto.EmailRequestDTO;
 import com.g1.mychess.auth.exception.EmailSendFailedException;
+import com.g1.mychess.client.ServiceClientFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -17,10 +18,10 @@ public class EmailServiceClient {
      * Constructor that initializes the WebClient with the provided Email Service URL.
      *
      * @param emailServiceUrl the URL of the Email Service (from application properties)
-     * @param webClientBuilder the WebClient builder to create the WebClient instance
+     * @param serviceClientFactory the factory creating the pooled WebClient
      */
-    public EmailServiceClient(@Value("${email.service.url}") String emailServiceUrl, WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.baseUrl(emailServiceUrl).build();
+    public EmailServiceClient(@Value("${email.service.url}") String emailServiceUrl, ServiceClientFactory serviceClientFactory) {
+        this.webClient = serviceClientFactory.create("email", emailServiceUrl);
     }
 
     /**
@@ -1,10 +1,11 @@
 package com.g1.mychess.auth.client;
 
-import com.g1.mychess.auth.dto.RegisterRequestDTO;
 import com.g1.mychess.auth.dto.PlayerCreationResponseDTO;
+import com.g1.mychess.auth.dto.RegisterRequestDTO;
 import com.g1.mychess.auth.dto.UpdatePasswordRequestDTO;
 import com.g1.mychess.auth.dto.UserDTO;
 import com.g1.mychess.auth.exception.PlayerServiceException;
+import com.g1.mychess.client.ServiceClientFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -21,10 +22,10 @@ public class PlayerServiceClient {
      * Constructor that initializes the WebClient with the provided Player Service URL.
      *
      * @param playerServiceUrl the URL of the Player Service (from application properties)
-     * @param webClientBuilder the WebClient builder to create the WebClient instance
+     * @param serviceClientFactory the factory creating the pooled WebClient
      */
-    public PlayerServiceClient(@Value("${player.service.url}") String playerServiceUrl, WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.baseUrl(playerServiceUrl).build();
+    public PlayerServiceClient(@Value("${player.service.url}") String playerServiceUrl, ServiceClientFactory serviceClientFactory) {
+        this.webClient = serviceClientFactory.create("player", playerServiceUrl);
     }
 
     /**
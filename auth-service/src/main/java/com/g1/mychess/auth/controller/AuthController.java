@@ -2,7 +2,7 @@ package com.g1.mychess.auth.controller;
 
 import com.g1.mychess.auth.service.*;
 import com.g1.mychess.auth.dto.*;
-import com.g1.mychess.auth.util.JwtUtil;
+import com.g1.mychess.security.JwtUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
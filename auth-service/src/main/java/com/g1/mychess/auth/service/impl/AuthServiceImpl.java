@@ -8,7 +8,7 @@ import com.g1.mychess.auth.exception.*;
 import com.g1.mychess.auth.model.UserToken;
 import com.g1.mychess.auth.service.AuthService;
 import com.g1.mychess.auth.service.TokenService;
-import com.g1.mychess.auth.util.JwtUtil;
+import com.g1.mychess.security.JwtUtil;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -3,7 +3,7 @@ package com.g1.mychess.auth.service;
 import com.g1.mychess.auth.dto.RegisterRequestDTO;
 import com.g1.mychess.auth.repository.UserTokenRepository;
 import com.g1.mychess.auth.service.impl.AuthServiceImpl;
-import com.g1.mychess.auth.util.JwtUtil;
+import com.g1.mychess.security.JwtUtil;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -0,0 +1,79 @@
+package com.g1.mychess.benchmarks;
+
+import com.g1.mychess.email.template.EmailTemplateRegistry;
+import com.g1.mychess.email.template.RenderedEmail;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the rendering cost of one tournament broadcast to {@code recipients} players.
+ * <p>
+ * {@code concatenation} reproduces the previous {@code EmailContentBuilder}, which built every body by string
+ * concatenation. {@code template} renders the precompiled {@code tournament-sign-up} template of
+ * {@link EmailTemplateRegistry} with the variables of each recipient; {@code templateWithHtml} also renders its HTML
+ * body, as sent when {@code email.templates.html-enabled} is set.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    private static final String TOURNAMENT_NAME = "Singapore Open <Rapid> 2024";
+
+    @Param({"10000"})
+    private int recipients;
+
+    private EmailTemplateRegistry textRegistry;
+    private EmailTemplateRegistry htmlRegistry;
+    private String[] usernames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        textRegistry = new EmailTemplateRegistry(false);
+        htmlRegistry = new EmailTemplateRegistry(true);
+
+        usernames = new String[recipients];
+        for (int i = 0; i < recipients; i++) {
+            usernames[i] = "player" + i;
+        }
+    }
+
+    @Benchmark
+    public void concatenation(Blackhole blackhole) {
+        for (String username : usernames) {
+            blackhole.consume("Tournament Sign-Up Confirmation");
+            blackhole.consume("Dear " + username + ",\n\n" +
+                    "You have successfully signed up for the tournament: " + TOURNAMENT_NAME + ".\n\n" +
+                    "Good luck!\n\n" +
+                    "MyChess Team");
+        }
+    }
+
+    @Benchmark
+    public void template(Blackhole blackhole) {
+        render(textRegistry, blackhole);
+    }
+
+    @Benchmark
+    public void templateWithHtml(Blackhole blackhole) {
+        render(htmlRegistry, blackhole);
+    }
+
+    private void render(EmailTemplateRegistry registry, Blackhole blackhole) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("tournamentName", TOURNAMENT_NAME);
+        for (String username : usernames) {
+            variables.put("username", username);
+            RenderedEmail email = registry.render(EmailTemplateRegistry.TOURNAMENT_SIGN_UP, variables);
+            blackhole.consume(email);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.g1.mychess.benchmarks;
+
+import com.g1.mychess.match.model.MatchPlayer;
+import com.g1.mychess.match.service.impl.Glicko2RatingKernel;
+import com.g1.mychess.match.service.impl.Glicko2RatingServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-player Glicko-2 path of {@link Glicko2RatingServiceImpl} with the
+ * structure-of-arrays {@link Glicko2RatingKernel}, run sequentially and across cores,
+ * for one rating period of a Swiss-style event.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class Glicko2RatingBenchmark {
+
+    private static final double GLICKO_CONSTANT = 173.7178;
+    private static final int GAMES_PER_PLAYER = 9;
+
+    @Param({"1000", "100000", "1000000"})
+    private int playerCount;
+
+    private Glicko2RatingServiceImpl glicko2RatingService;
+    private MatchPlayer[] players;
+    private List<List<MatchPlayer>> opponentsByPlayer;
+    private double[][] resultsByPlayer;
+    private Glicko2RatingKernel.RatingPeriod period;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        glicko2RatingService = new Glicko2RatingServiceImpl();
+
+        players = new MatchPlayer[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            MatchPlayer player = new MatchPlayer();
+            player.setPlayerId((long) i);
+            player.setGlickoRating(800 + random.nextInt(1800));
+            player.setRatingDeviation(30 + random.nextInt(320));
+            player.setVolatility(0.04 + random.nextDouble() * 0.04);
+            players[i] = player;
+        }
+
+        opponentsByPlayer = new ArrayList<>(playerCount);
+        resultsByPlayer = new double[playerCount][];
+        period = new Glicko2RatingKernel.RatingPeriod(playerCount, playerCount * GAMES_PER_PLAYER);
+        for (int i = 0; i < playerCount; i++) {
+            period.ratings[i] = (players[i].getGlickoRating() - 1500) / GLICKO_CONSTANT;
+            period.ratingDeviations[i] = players[i].getRatingDeviation() / GLICKO_CONSTANT;
+            period.volatilities[i] = players[i].getVolatility();
+            period.offsets[i + 1] = period.offsets[i] + GAMES_PER_PLAYER;
+
+            List<MatchPlayer> opponents = new ArrayList<>(GAMES_PER_PLAYER);
+            double[] results = new double[GAMES_PER_PLAYER];
+            for (int k = 0; k < GAMES_PER_PLAYER; k++) {
+                MatchPlayer opponent = players[(i + 1 + random.nextInt(playerCount - 1)) % playerCount];
+                results[k] = random.nextInt(3) / 2.0;
+                opponents.add(opponent);
+
+                int slot = period.offsets[i] + k;
+                period.opponentRatings[slot] = (opponent.getGlickoRating() - 1500) / GLICKO_CONSTANT;
+                period.opponentRatingDeviations[slot] = opponent.getRatingDeviation() / GLICKO_CONSTANT;
+                period.scores[slot] = results[k];
+            }
+            opponentsByPlayer.add(opponents);
+            resultsByPlayer[i] = results;
+        }
+    }
+
+    @Benchmark
+    public void perPlayer(Blackhole blackhole) {
+        for (int i = 0; i < playerCount; i++) {
+            blackhole.consume(glicko2RatingService.calculatePlayerRatings(players[i], opponentsByPlayer.get(i), resultsByPlayer[i]));
+        }
+    }
+
+    @Benchmark
+    public double[] kernelSequential() {
+        Glicko2RatingKernel.rateSequentially(period);
+        return period.newRatings;
+    }
+
+    @Benchmark
+    public double[] kernelParallel() {
+        Glicko2RatingKernel.rate(period);
+        return period.newRatings;
+    }
+}
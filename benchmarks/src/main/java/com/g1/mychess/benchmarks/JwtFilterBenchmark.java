@@ -0,0 +1,131 @@
+package com.g1.mychess.benchmarks;
+
+import com.g1.mychess.security.JwtRequestFilter;
+import com.g1.mychess.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the JWT authentication overhead of one request.
+ * <p>
+ * {@code legacyFilter} reproduces the previous filter, which built a new parser and verified the same HS512 token
+ * three times per request. {@code filter} runs {@link JwtRequestFilter}, which verifies the token once and serves
+ * tokens seen before from the cache of {@link JwtUtil}. With {@code tokenCount = 1} every request reuses the same
+ * token; with more distinct tokens than the cache holds, most requests miss the cache and pay a single parse.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"1", "100000"})
+    private int tokenCount;
+
+    private SecretKey secretKey;
+    private JwtRequestFilter jwtRequestFilter;
+    private String[] authorizationHeaders;
+    private int next;
+
+    private final Map<String, Object> attributes = new HashMap<>();
+    private String authorizationHeader;
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        byte[] secret = new byte[64];
+        new Random(42).nextBytes(secret);
+        String encodedSecret = Base64.getEncoder().encodeToString(secret);
+        secretKey = Keys.hmacShaKeyFor(secret);
+
+        JwtUtil jwtUtil = new JwtUtil(encodedSecret);
+        jwtRequestFilter = new JwtRequestFilter(jwtUtil);
+
+        authorizationHeaders = new String[tokenCount];
+        for (int i = 0; i < tokenCount; i++) {
+            User user = new User("player" + i, "password", List.of(new SimpleGrantedAuthority("ROLE_PLAYER")));
+            authorizationHeaders[i] = "Bearer " + jwtUtil.generateToken(user, (long) i + 1);
+        }
+
+        request = (HttpServletRequest) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getHeader" -> "Authorization".equals(args[0]) ? authorizationHeader : null;
+                    case "getAttribute" -> attributes.get((String) args[0]);
+                    case "setAttribute" -> attributes.put((String) args[0], args[1]);
+                    case "removeAttribute" -> attributes.remove((String) args[0]);
+                    default -> defaultValue(method.getReturnType());
+                });
+        response = (HttpServletResponse) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{HttpServletResponse.class}, (proxy, method, args) -> defaultValue(method.getReturnType()));
+    }
+
+    @Benchmark
+    public Object filter() throws ServletException, IOException {
+        nextRequest();
+        jwtRequestFilter.doFilter(request, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object legacyFilter() {
+        nextRequest();
+        String jwt = authorizationHeader.substring(7);
+        String username = legacyParse(jwt).getSubject();
+        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            if (!legacyParse(jwt).getExpiration().before(new Date())) {
+                List<String> roles = legacyParse(jwt).get("role", List.class);
+                List<GrantedAuthority> authorities = new ArrayList<>();
+                for (String role : roles) {
+                    authorities.add(new SimpleGrantedAuthority(role));
+                }
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        username, null, authorities);
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+            }
+        }
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private void nextRequest() {
+        attributes.clear();
+        SecurityContextHolder.clearContext();
+        authorizationHeader = authorizationHeaders[next];
+        next = (next + 1) % authorizationHeaders.length;
+    }
+
+    private Claims legacyParse(String jwt) {
+        return Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(jwt).getBody();
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        return null;
+    }
+}
@@ -0,0 +1,167 @@
+package com.g1.mychess.benchmarks;
+
+import com.g1.mychess.match.dto.MatchDTO;
+import com.g1.mychess.match.model.Match;
+import com.g1.mychess.match.model.MatchPlayer;
+import com.g1.mychess.match.repository.MatchPlayerRepository;
+import com.g1.mychess.match.repository.MatchRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-match queries previously used to list the matches and results of a tournament with the
+ * fetch-join read models of {@link MatchRepository}, against an in-memory H2 database.
+ * The number of SQL statements per call, read from the Hibernate statistics, is printed after each iteration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchReadModelBenchmark {
+
+    private static final long TOURNAMENT_ID = 1L;
+    private static final int MATCHES_PER_ROUND = 100;
+
+    @Param({"1000"})
+    private int matchCount;
+
+    private SessionFactory sessionFactory;
+    private EntityManager entityManager;
+    private MatchRepository matchRepository;
+    private MatchPlayerRepository matchPlayerRepository;
+    private Statistics statistics;
+    private long invocations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Match.class)
+                .addAnnotatedClass(MatchPlayer.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:matches;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.generate_statistics", "true")
+                .setProperty("jakarta.persistence.validation.mode", "none")
+                .buildSessionFactory();
+        statistics = sessionFactory.getStatistics();
+
+        EntityManager seeder = sessionFactory.createEntityManager();
+        seeder.getTransaction().begin();
+        for (int i = 0; i < matchCount; i++) {
+            seeder.persist(createMatch(i));
+        }
+        seeder.getTransaction().commit();
+        seeder.close();
+
+        entityManager = sessionFactory.createEntityManager();
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+        matchRepository = repositoryFactory.getRepository(MatchRepository.class);
+        matchPlayerRepository = repositoryFactory.getRepository(MatchPlayerRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStatistics() {
+        statistics.clear();
+        invocations = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void printStatementsPerCall() {
+        System.out.printf("%n%.1f SQL statements per call%n", (double) statistics.getPrepareStatementCount() / invocations);
+    }
+
+    /**
+     * Listing as done before: the matches, then the lazy participants of each match.
+     */
+    @Benchmark
+    public List<MatchDTO> listMatchesLazily() {
+        entityManager.clear();
+        invocations++;
+        List<Match> matches = matchRepository.findByTournamentId(TOURNAMENT_ID).orElseThrow();
+        return matches.stream().map(MatchDTO::fromEntity).toList();
+    }
+
+    @Benchmark
+    public List<MatchDTO> listMatchesWithReadModel() {
+        entityManager.clear();
+        invocations++;
+        List<Match> matches = matchRepository.findAllWithParticipantsByTournamentId(TOURNAMENT_ID);
+        return matches.stream().map(MatchDTO::fromEntity).toList();
+    }
+
+    /**
+     * Results as done before: the matches, then one {@code findByMatchId} query per match.
+     */
+    @Benchmark
+    public List<Long> listWinnersPerMatch() {
+        entityManager.clear();
+        invocations++;
+        List<Long> winners = new ArrayList<>(matchCount);
+        for (Match match : matchRepository.findByTournamentId(TOURNAMENT_ID).orElseThrow()) {
+            addWinner(matchPlayerRepository.findByMatchId(match.getId()), winners);
+        }
+        return winners;
+    }
+
+    @Benchmark
+    public List<Long> listWinnersWithReadModel() {
+        entityManager.clear();
+        invocations++;
+        List<Long> winners = new ArrayList<>(matchCount);
+        for (Match match : matchRepository.findAllWithParticipantsByTournamentId(TOURNAMENT_ID)) {
+            addWinner(match.getParticipants(), winners);
+        }
+        return winners;
+    }
+
+    private static void addWinner(Iterable<MatchPlayer> participants, List<Long> winners) {
+        for (MatchPlayer participant : participants) {
+            if (participant.getResult() == MatchPlayer.Result.WIN) winners.add(participant.getPlayerId());
+        }
+    }
+
+    private static Match createMatch(int index) {
+        int round = index / MATCHES_PER_ROUND + 1;
+        Match match = new Match();
+        match.setTournamentId(TOURNAMENT_ID);
+        match.setScheduledTime(LocalDateTime.now());
+        match.setStatus(Match.MatchStatus.COMPLETED);
+        match.setRoundNumber(round);
+
+        MatchPlayer white = createMatchPlayer(match, 2L * (index % MATCHES_PER_ROUND), round, MatchPlayer.Result.WIN);
+        MatchPlayer black = createMatchPlayer(match, white.getPlayerId() + 1, round, MatchPlayer.Result.LOSS);
+        white.setOpponentId(black.getPlayerId());
+        black.setOpponentId(white.getPlayerId());
+        match.setParticipants(new HashSet<>(List.of(white, black)));
+        return match;
+    }
+
+    private static MatchPlayer createMatchPlayer(Match match, long playerId, int round, MatchPlayer.Result result) {
+        MatchPlayer player = new MatchPlayer();
+        player.setMatch(match);
+        player.setPlayerId(playerId);
+        player.setCurrentRound(round);
+        player.setGlickoRating(1500);
+        player.setRatingDeviation(200);
+        player.setVolatility(0.06);
+        player.setResult(result);
+        return player;
+    }
+}
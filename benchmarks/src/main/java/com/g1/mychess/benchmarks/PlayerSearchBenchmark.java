@@ -0,0 +1,94 @@
+package com.g1.mychess.benchmarks;
+
+import com.g1.mychess.player.service.impl.PlayerSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one page of player search results over {@code players} generated players.
+ * <p>
+ * {@code scan} reproduces the previous {@code LIKE '%query%'} search as a scan of the lower-cased usernames held in
+ * memory, a lower bound for the full table scan the database did per keystroke. {@code index} searches the trigram
+ * index of {@link PlayerSearchIndex} over username, full name and country, and ranks the matches; the queries cover
+ * one letter, a word prefix, a substring and two words.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PlayerSearchBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+    private static final String[] SYLLABLES = {
+            "ka", "ri", "mo", "te", "lu", "sa", "vin", "dor", "el", "an", "ko", "mi", "ra", "zen", "to", "bel", "gar", "is"
+    };
+    private static final String[] COUNTRIES = {
+            "Singapore", "Malaysia", "India", "Norway", "United States", "France", "Germany", "Brazil", "Japan", "Spain"
+    };
+
+    @Param({"1000000"})
+    private int players;
+
+    @Param({"k", "kari", "ndor", "mo sin"})
+    private String query;
+
+    private PlayerSearchIndex searchIndex;
+    private String[] usernames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<PlayerSearchIndex.Entry> entries = new ArrayList<>(players);
+        usernames = new String[players];
+        for (int i = 0; i < players; i++) {
+            String username = word(random) + i;
+            String fullName = capitalize(word(random)) + " " + capitalize(word(random));
+            usernames[i] = username.toLowerCase(Locale.ROOT);
+            entries.add(new PlayerSearchIndex.Entry((long) i + 1, username, fullName, COUNTRIES[random.nextInt(COUNTRIES.length)]));
+        }
+        searchIndex = new PlayerSearchIndex();
+        searchIndex.rebuild(entries);
+    }
+
+    @Benchmark
+    public void scan(Blackhole blackhole) {
+        String needle = query.toLowerCase(Locale.ROOT);
+        List<Long> page = new ArrayList<>(PAGE_SIZE);
+        int total = 0;
+        for (int i = 0; i < usernames.length; i++) {
+            if (usernames[i].contains(needle)) {
+                if (page.size() < PAGE_SIZE) page.add((long) i + 1);
+                total++;
+            }
+        }
+        blackhole.consume(page);
+        blackhole.consume(total);
+    }
+
+    @Benchmark
+    public PlayerSearchIndex.Result index() {
+        return searchIndex.search(query, 0, PAGE_SIZE);
+    }
+
+    private static String word(SplittableRandom random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(2);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,91 @@
+package com.g1.mychess.benchmarks;
+
+import com.g1.mychess.match.model.MatchPlayer;
+import com.g1.mychess.match.model.TournamentStanding;
+import com.g1.mychess.match.service.impl.SwissPairingEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of pairing one Swiss round with {@link SwissPairingEngine}.
+ * Before measuring, a number of rounds are paired and played with random results, so the measured
+ * round has realistic score groups, colour histories and rematch constraints.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SwissPairingBenchmark {
+
+    @Param({"64", "512", "4096"})
+    private int playerCount;
+
+    @Param({"8"})
+    private int round;
+
+    private SwissPairingEngine swissPairingEngine;
+    private List<MatchPlayer> players;
+    private Map<Long, TournamentStanding> standings;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        swissPairingEngine = new SwissPairingEngine();
+
+        players = new ArrayList<>(playerCount);
+        standings = new HashMap<>(playerCount * 2);
+        for (long playerId = 1; playerId <= playerCount; playerId++) {
+            MatchPlayer player = new MatchPlayer();
+            player.setPlayerId(playerId);
+            player.setGlickoRating(800 + random.nextInt(1800));
+            players.add(player);
+
+            TournamentStanding standing = new TournamentStanding();
+            standing.setPlayerId(playerId);
+            standings.put(playerId, standing);
+        }
+
+        for (int playedRound = 1; playedRound < round; playedRound++) {
+            syncPoints();
+            SwissPairingEngine.Pairing pairing = swissPairingEngine.pair(players, standings);
+            for (MatchPlayer[] pair : pairing.getPairs()) {
+                double whiteScore = random.nextInt(3) / 2.0;
+                recordGame(standings.get(pair[0].getPlayerId()), pair[1].getPlayerId(), 'W', whiteScore);
+                recordGame(standings.get(pair[1].getPlayerId()), pair[0].getPlayerId(), 'B', 1 - whiteScore);
+            }
+            if (pairing.getByePlayer() != null) {
+                TournamentStanding standing = standings.get(pairing.getByePlayer().getPlayerId());
+                standing.setPoints(standing.getPoints() + 1);
+                standing.setColourHistory(standing.getColourHistory() + TournamentStanding.BYE);
+            }
+        }
+        syncPoints();
+    }
+
+    @Benchmark
+    public SwissPairingEngine.Pairing pairRound() {
+        return swissPairingEngine.pair(players, standings);
+    }
+
+    private void syncPoints() {
+        for (MatchPlayer player : players) {
+            player.setPoints(standings.get(player.getPlayerId()).getPoints());
+        }
+    }
+
+    private static void recordGame(TournamentStanding standing, Long opponentId, char colour, double score) {
+        standing.setPoints(standing.getPoints() + score);
+        standing.setColourHistory(standing.getColourHistory() + colour);
+        standing.setOpponentIds(standing.getOpponentIds().isEmpty()
+                ? String.valueOf(opponentId)
+                : standing.getOpponentIds() + "," + opponentId);
+    }
+}
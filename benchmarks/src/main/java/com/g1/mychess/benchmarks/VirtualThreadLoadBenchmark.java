@@ -0,0 +1,191 @@
+package com.g1.mychess.benchmarks;
+
+import com.g1.mychess.client.ServiceClientAutoConfiguration;
+import com.g1.mychess.match.client.PlayerServiceClient;
+import com.g1.mychess.match.dto.UserDTO;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of a servlet endpoint that calls a slow downstream service through the blocking
+ * {@link PlayerServiceClient}, with and without {@code spring.threads.virtual.enabled}.
+ * <p>
+ * A stub player service answers after {@code downstreamLatencyMs}. Each invocation sends {@link #REQUESTS}
+ * concurrent requests to a minimal Spring Boot application and waits for all of them, so the score is the
+ * throughput in requests per second. With platform threads, throughput is capped near
+ * {@code tomcatThreads * 1000 / downstreamLatencyMs}, because every waiting call holds a Tomcat worker. With
+ * virtual threads, waiting calls release their carrier thread and the cap moves to the connection pool of the
+ * player service, so {@code mychess.client.max-connections} is raised to let the downstream calls actually run
+ * concurrently.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class VirtualThreadLoadBenchmark {
+
+    /**
+     * Number of concurrent requests sent per invocation.
+     */
+    static final int REQUESTS = 1000;
+
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param({"100"})
+    private int downstreamLatencyMs;
+
+    @Param({"200"})
+    private int tomcatThreads;
+
+    private HttpServer playerService;
+    private ExecutorService playerServiceExecutor;
+    private ConfigurableApplicationContext application;
+    private ExecutorService clientExecutor;
+    private HttpClient httpClient;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        playerServiceExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        playerService = HttpServer.create(new InetSocketAddress("localhost", 0), REQUESTS);
+        playerService.setExecutor(playerServiceExecutor);
+        playerService.createContext("/api/v1/player/playerid/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            String playerId = path.substring(path.lastIndexOf('/') + 1);
+            try {
+                Thread.sleep(downstreamLatencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = ("{\"userId\":" + playerId + ",\"username\":\"player" + playerId
+                    + "\",\"email\":\"player" + playerId + "@mychess.com\",\"role\":\"ROLE_PLAYER\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        playerService.start();
+
+        application = new SpringApplicationBuilder(LoadTestApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=" + tomcatThreads,
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=warn",
+                        "mychess.client.max-connections=" + REQUESTS,
+                        "player.service.url=http://localhost:" + playerService.getAddress().getPort())
+                .run();
+        int port = ((ServletWebServerApplicationContext) application).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port + "/players/";
+
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        application.close();
+        playerService.stop(0);
+        playerServiceExecutor.shutdownNow();
+        clientExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public int sendConcurrentRequests() {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + (i + 1))).GET().build();
+            responses[i] = httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("Unexpected status " + response.statusCode());
+                        }
+                    });
+        }
+        CompletableFuture.allOf(responses).join();
+        return responses.length;
+    }
+
+    /**
+     * Minimal web application with only the auto-configurations the endpoint needs, so neither a database
+     * nor {@code JWT_SECRET} is required.
+     */
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+            PropertyPlaceholderAutoConfiguration.class,
+            ServletWebServerFactoryAutoConfiguration.class,
+            EmbeddedWebServerFactoryCustomizerAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class,
+            JacksonAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class,
+            CodecsAutoConfiguration.class,
+            WebClientAutoConfiguration.class,
+            ServiceClientAutoConfiguration.class
+    })
+    @Import({PlayerServiceClient.class, LoadTestController.class})
+    static class LoadTestApplication {
+    }
+
+    /**
+     * Endpoint that blocks on the player service, like the service methods calling the clients do.
+     */
+    @RestController
+    static class LoadTestController {
+
+        private final PlayerServiceClient playerServiceClient;
+
+        LoadTestController(PlayerServiceClient playerServiceClient) {
+            this.playerServiceClient = playerServiceClient;
+        }
+
+        @GetMapping("/players/{playerId}")
+        public UserDTO getPlayer(@PathVariable Long playerId) {
+            return playerServiceClient.getPlayerDetails(playerId);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.g1.mychess.email;
 
+import com.g1.mychess.email.config.MailQueueProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
+@EnableConfigurationProperties(MailQueueProperties.class)
 public class EmailServiceApplication {
 
     public static void main(String[] args) {
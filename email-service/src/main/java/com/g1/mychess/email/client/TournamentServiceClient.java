@@ -0,0 +1,43 @@
+package com.g1.mychess.email.client;
+
+import com.g1.mychess.client.ServiceClientFactory;
+import com.g1.mychess.email.dto.PlayerDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+
+/**
+ * Client for fetching the players of a tournament from the Tournament service.
+ */
+@Service
+public class TournamentServiceClient {
+
+    private final WebClient webClient;
+
+    /**
+     * Constructs a TournamentServiceClient with the specified base URL.
+     *
+     * @param tournamentServiceUrl the base URL of the Tournament service.
+     * @param serviceClientFactory the factory creating the pooled WebClient.
+     */
+    public TournamentServiceClient(@Value("${tournament.service.url}") String tournamentServiceUrl, ServiceClientFactory serviceClientFactory) {
+        this.webClient = serviceClientFactory.create("tournament", tournamentServiceUrl);
+    }
+
+    /**
+     * Retrieves the players signed up to a tournament.
+     *
+     * @param tournamentId the ID of the tournament.
+     * @return the players of the tournament.
+     */
+    public List<PlayerDTO> getTournamentPlayers(Long tournamentId) {
+        return webClient.get()
+                .uri("/api/v1/tournaments/{tournamentId}/players", tournamentId)
+                .retrieve()
+                .bodyToFlux(PlayerDTO.class)
+                .collectList()
+                .block();
+    }
+}
@@ -0,0 +1,115 @@
+package com.g1.mychess.email.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the outbound mail queue, bound from {@code email.queue.*}.
+ */
+@ConfigurationProperties(prefix = "email.queue")
+public class MailQueueProperties {
+
+    /**
+     * Number of worker threads sending batches in parallel, each over its own SMTP connection.
+     */
+    private int workers = 4;
+
+    /**
+     * Maximum number of emails sent over one SMTP connection.
+     */
+    private int batchSize = 50;
+
+    /**
+     * Time between two polls of the queue.
+     */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * Number of attempts after which an email is marked as failed.
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * Delay before the first retry; it doubles after each further failed attempt.
+     */
+    private Duration initialBackoff = Duration.ofSeconds(30);
+
+    /**
+     * Upper bound of the delay between two attempts.
+     */
+    private Duration maxBackoff = Duration.ofHours(1);
+
+    /**
+     * Time after which an email still claimed for sending, e.g. by an instance that stopped mid-batch, is queued again.
+     */
+    private Duration claimTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Gets the delay before the next attempt of an email that has failed the given number of times.
+     *
+     * @param attempts The number of failed attempts so far, at least 1.
+     * @return The delay, doubling per attempt up to {@link #getMaxBackoff()}.
+     */
+    public Duration backoff(int attempts) {
+        int doublings = Math.min(attempts - 1, 30);
+        Duration delay = initialBackoff.multipliedBy(1L << doublings);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    public Duration getClaimTimeout() {
+        return claimTimeout;
+    }
+
+    public void setClaimTimeout(Duration claimTimeout) {
+        this.claimTimeout = claimTimeout;
+    }
+}
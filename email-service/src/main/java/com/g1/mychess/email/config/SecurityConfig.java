@@ -1,17 +1,23 @@
 package com.g1.mychess.email.config;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.Collections;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.http.SessionCreationPolicy;
 
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -27,6 +33,11 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    /**
+     * Header carrying the token shared by the services allowed to send tournament broadcasts.
+     */
+    public static final String SERVICE_TOKEN_HEADER = "X-Service-Token";
+
     /**
      * Configures Cross-Origin Resource Sharing (CORS) settings.
      * <p></p>
@@ -54,18 +65,22 @@ public class SecurityConfig {
      * <p>
      * - Disables CSRF as this is a stateless API.
      * - Configures CORS to allow specified origins and methods.
-     * - Sets authorization rules, permitting access to the email API while protecting other endpoints.
+     * - Sets authorization rules: tournament broadcasts, which send to any listed address, require the service token;
+     *   the rest of the email API is public and other endpoints are protected.
      * - Configures session management to be stateless.
      *
      * @param http the HttpSecurity instance to configure
+     * @param serviceToken the token expected in the {@value #SERVICE_TOKEN_HEADER} header of tournament broadcasts
      * @return the configured SecurityFilterChain
      * @throws Exception if an error occurs while building the security filter chain
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   @Value("${email.service-token:}") String serviceToken) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers("/api/v1/email/tournament-broadcast").access(hasServiceToken(serviceToken))
                         .requestMatchers("/api/v1/email/**").permitAll() // Allow public access to email endpoints
                         .anyRequest().authenticated() // Protect all other endpoints
                 )
@@ -73,4 +88,21 @@ public class SecurityConfig {
 
         return http.build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Grants access to requests carrying the service token in the {@value #SERVICE_TOKEN_HEADER} header.
+     * <p>
+     * The tokens are compared in constant time. Without a configured token every request is denied.
+     *
+     * @param serviceToken the expected token, blank if none is configured
+     * @return the authorization manager checking the header
+     */
+    private static AuthorizationManager<RequestAuthorizationContext> hasServiceToken(String serviceToken) {
+        byte[] expected = serviceToken.getBytes(StandardCharsets.UTF_8);
+        return (authentication, context) -> {
+            String token = context.getRequest().getHeader(SERVICE_TOKEN_HEADER);
+            return new AuthorizationDecision(expected.length > 0 && token != null
+                    && MessageDigest.isEqual(expected, token.getBytes(StandardCharsets.UTF_8)));
+        };
+    }
+}
@@ -10,7 +10,8 @@ import org.springframework.web.bind.annotation.*;
 /**
  * Controller for handling email-related requests.
  * This includes endpoints for verification, blacklist, whitelist, password reset, feedback,
- * and tournament notifications. Each endpoint sends a specific type of email.
+ * tournament notifications and tournament broadcasts. Each endpoint queues a specific type of email and answers with
+ * 202 Accepted; the email is sent in the background by the mail queue.
  */
 @RestController
 @RequestMapping("/api/v1/email")
@@ -29,23 +30,23 @@ public class EmailController {
     /**
      * Sends a verification email to a specified recipient.
      * @param emailRequestDTO contains recipient's email, username, and a user token for verification
-     * @return ResponseEntity with a success message if email is sent, otherwise a failure message
+     * @return ResponseEntity with 202 Accepted if the email is queued, otherwise a failure message
      */
     @PostMapping("/verification")
     public ResponseEntity<String> sendVerificationEmail(@RequestBody @Valid EmailRequestDTO emailRequestDTO) {
         try {
             emailService.sendVerificationEmail(emailRequestDTO.getTo(), emailRequestDTO.getUsername(), emailRequestDTO.getUserToken());
-            return ResponseEntity.ok("Verification email sent successfully.");
+            return ResponseEntity.accepted().body("Verification email queued.");
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Failed to send verification email.");
+                    .body("Failed to queue verification email.");
         }
     }
 
     /**
      * Sends a blacklist notification email to a specified recipient.
      * @param blacklistEmailDTO contains recipient's email, username, reason for blacklist, and ban duration
-     * @return ResponseEntity with a success message if email is sent, otherwise a failure message
+     * @return ResponseEntity with 202 Accepted if the email is queued, otherwise a failure message
      */
     @PostMapping("/blacklists")
     public ResponseEntity<String> sendBlacklistEmail(@RequestBody @Valid BlacklistEmailDTO blacklistEmailDTO) {
@@ -56,17 +57,17 @@ public class EmailController {
                     blacklistEmailDTO.getReason(),
                     blacklistEmailDTO.getBanDuration()
             );
-            return ResponseEntity.ok("Blacklist email sent successfully.");
+            return ResponseEntity.accepted().body("Blacklist email queued.");
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Failed to send blacklist email.");
+                    .body("Failed to queue blacklist email.");
         }
     }
 
     /**
      * Sends a whitelist notification email to a specified recipient.
      * @param whitelistEmailDTO contains recipient's email, username, and reason for whitelist
-     * @return ResponseEntity with a success message if email is sent, otherwise a failure message
+     * @return ResponseEntity with 202 Accepted if the email is queued, otherwise a failure message
      */
     @PostMapping("/whitelists")
     public ResponseEntity<String> sendWhitelistEmail(@RequestBody @Valid WhitelistEmailDTO whitelistEmailDTO) {
@@ -76,17 +77,17 @@ public class EmailController {
                     whitelistEmailDTO.getUsername(),
                     whitelistEmailDTO.getReason()
             );
-            return ResponseEntity.ok("Whitelist email sent successfully.");
+            return ResponseEntity.accepted().body("Whitelist email queued.");
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Failed to send whitelist email.");
+                    .body("Failed to queue whitelist email.");
         }
     }
 
     /**
      * Sends a password reset email to a specified recipient.
      * @param emailRequestDTO contains recipient's email, username, and a user token for password reset
-     * @return ResponseEntity with a success message if email is sent, otherwise a failure message
+     * @return ResponseEntity with 202 Accepted if the email is queued, otherwise a failure message
      */
     @PostMapping("/password-recovery")
     public ResponseEntity<String> sendPasswordResetEmail(@RequestBody @Valid EmailRequestDTO emailRequestDTO) {
@@ -96,17 +97,17 @@ public class EmailController {
                     emailRequestDTO.getUsername(),
                     emailRequestDTO.getUserToken()
             );
-            return ResponseEntity.ok("Password reset email sent successfully.");
+            return ResponseEntity.accepted().body("Password reset email queued.");
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Failed to send password reset email.");
+                    .body("Failed to queue password reset email.");
         }
     }
 
     /**
      * Sends a contact form feedback email.
      * @param contactFormDTO contains the sender's name, email, and message
-     * @return ResponseEntity with a success message if email is sent, otherwise a failure message
+     * @return ResponseEntity with 202 Accepted if the email is queued, otherwise a failure message
      */
     @PostMapping("/feedback")
     public ResponseEntity<String> sendContactUsEmail(@RequestBody @Valid ContactFormDTO contactFormDTO) {
@@ -116,58 +117,78 @@ public class EmailController {
                     contactFormDTO.getEmail(),
                     contactFormDTO.getMessage()
             );
-            return ResponseEntity.ok("Feedback email sent successfully.");
+            return ResponseEntity.accepted().body("Feedback email queued.");
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Failed to send feedback email.");
+                    .body("Failed to queue feedback email.");
         }
     }
 
     /**
      * Sends a tournament notification email to a specified recipient.
      * @param notification contains recipient's email, subject, and message for the tournament notification
-     * @return ResponseEntity with a success message if email is sent, otherwise a failure message
+     * @return ResponseEntity with 202 Accepted if the email is queued, otherwise a failure message
      */
     @PostMapping("/tournament-notification")
     public ResponseEntity<String> sendTournamentNotificationEmail(@RequestBody @Valid TournamentNotificationDTO notification) {
         try {
             emailService.sendTournamentNotificationEmail(notification.getTo(), notification.getSubject(), notification.getMessage());
-            return ResponseEntity.ok("Tournament notification email sent successfully.");
+            return ResponseEntity.accepted().body("Tournament notification email queued.");
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Failed to send tournament notification email.");
+                    .body("Failed to queue tournament notification email.");
+        }
+    }
+
+    /**
+     * Sends one templated email to each recipient of a broadcast, or to every player of a tournament.
+     * @param broadcast contains the template ID, the shared variables, and either the recipients with their own
+     *                  variables or the tournament ID
+     * @return ResponseEntity with 202 Accepted and the number of emails queued, 400 Bad Request if the template is
+     *         unknown or there are no recipients, otherwise a failure message
+     */
+    @PostMapping("/tournament-broadcast")
+    public ResponseEntity<String> sendTournamentBroadcast(@RequestBody @Valid TournamentBroadcastDTO broadcast) {
+        try {
+            int queued = emailService.sendTournamentBroadcast(broadcast);
+            return ResponseEntity.accepted().body(queued + " tournament broadcast emails queued.");
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("Failed to queue tournament broadcast emails.");
         }
     }
 
     /**
      * Sends a match reminder email to a specified recipient.
      * @param reminderEmailDTO contains recipient's email, subject, and message for the match reminder
-     * @return ResponseEntity with a success message if email is sent, otherwise a failure message
+     * @return ResponseEntity with 202 Accepted if the email is queued, otherwise a failure message
      */
     @PostMapping("/matchreminder")
     public ResponseEntity<String> sendMatchReminderEmail(@RequestBody @Valid ReminderEmailDTO reminderEmailDTO) {
         try {
             emailService.sendMatchReminderEmail(reminderEmailDTO.getTo(), reminderEmailDTO.getTournamentName(), reminderEmailDTO.getScheduledTime());
-            return ResponseEntity.ok("Match reminder email sent successfully.");
+            return ResponseEntity.accepted().body("Match reminder email queued.");
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Failed to send match reminder email.");
+                    .body("Failed to queue match reminder email.");
         }
     }
 
     /**
      * Sends a player report email to the feedback address.
      * @param reportEmailDTO contains the reporter's and reported player's details and report message
-     * @return ResponseEntity indicating success or failure
+     * @return ResponseEntity with 202 Accepted if the email is queued, otherwise a failure message
      */
     @PostMapping("/reports")
     public ResponseEntity<String> sendPlayerReportEmail(@RequestBody @Valid ReportEmailDTO reportEmailDTO) {
         try {
             emailService.sendPlayerReportEmail(reportEmailDTO);
-            return ResponseEntity.ok("Player report email sent successfully.");
+            return ResponseEntity.accepted().body("Player report email queued.");
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Failed to send player report email.");
+                    .body("Failed to queue player report email.");
         }
     }
 
@@ -0,0 +1,80 @@
+package com.g1.mychess.email.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Data Transfer Object (DTO) for one recipient of a tournament broadcast.
+ * Contains the recipient's email address and the template variables that differ per recipient.
+ */
+public class BroadcastRecipientDTO {
+
+    /**
+     * The recipient's email address.
+     */
+    @NotBlank
+    @Email
+    private String to;
+
+    /**
+     * The template variables of this recipient, e.g. {@code username}. They take precedence over the shared variables
+     * of the broadcast.
+     */
+    private Map<String, String> variables = new HashMap<>();
+
+    /**
+     * Default constructor for {@link BroadcastRecipientDTO}.
+     */
+    public BroadcastRecipientDTO() {
+    }
+
+    /**
+     * Constructs a new {@link BroadcastRecipientDTO} with the given details.
+     *
+     * @param to The recipient's email address.
+     * @param variables The template variables of this recipient.
+     */
+    public BroadcastRecipientDTO(String to, Map<String, String> variables) {
+        this.to = to;
+        this.variables = variables;
+    }
+
+    /**
+     * Gets the recipient's email address.
+     *
+     * @return The email address of the recipient.
+     */
+    public String getTo() {
+        return to;
+    }
+
+    /**
+     * Sets the recipient's email address.
+     *
+     * @param to The email address of the recipient.
+     */
+    public void setTo(String to) {
+        this.to = to;
+    }
+
+    /**
+     * Gets the template variables of this recipient.
+     *
+     * @return The variables, keyed by name.
+     */
+    public Map<String, String> getVariables() {
+        return variables;
+    }
+
+    /**
+     * Sets the template variables of this recipient.
+     *
+     * @param variables The variables, keyed by name.
+     */
+    public void setVariables(Map<String, String> variables) {
+        this.variables = variables;
+    }
+}
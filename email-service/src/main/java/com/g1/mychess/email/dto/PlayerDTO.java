@@ -0,0 +1,77 @@
+package com.g1.mychess.email.dto;
+
+/**
+ * Data Transfer Object (DTO) for the player details the email service needs from the Tournament service.
+ * Other player details in the response are ignored.
+ */
+public class PlayerDTO {
+
+    /**
+     * The unique identifier of the player.
+     */
+    private Long id;
+
+    /**
+     * The username of the player.
+     */
+    private String username;
+
+    /**
+     * The email address of the player.
+     */
+    private String email;
+
+    /**
+     * Gets the unique identifier of the player.
+     *
+     * @return The player ID.
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the unique identifier of the player.
+     *
+     * @param id The player ID.
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the username of the player.
+     *
+     * @return The username of the player.
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Sets the username of the player.
+     *
+     * @param username The username of the player.
+     */
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    /**
+     * Gets the email address of the player.
+     *
+     * @return The email address of the player.
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Sets the email address of the player.
+     *
+     * @param email The email address of the player.
+     */
+    public void setEmail(String email) {
+        this.email = email;
+    }
+}
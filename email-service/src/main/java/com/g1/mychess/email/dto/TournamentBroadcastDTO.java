@@ -0,0 +1,120 @@
+package com.g1.mychess.email.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object (DTO) for sending one templated email to many recipients.
+ * The recipients are either listed, or all players of the tournament with the given ID when no recipients are listed.
+ */
+public class TournamentBroadcastDTO {
+
+    /**
+     * The most recipients one broadcast may list. Broadcasts to a whole tournament name the tournament instead.
+     */
+    public static final int MAX_RECIPIENTS = 100;
+
+    /**
+     * The ID of the tournament whose players receive the email when no recipients are listed.
+     * It is also available to the template as the {@code tournamentId} variable.
+     */
+    private Long tournamentId;
+
+    /**
+     * The recipients of the email, each with their own template variables. At most {@value #MAX_RECIPIENTS}, each
+     * with a valid email address.
+     */
+    @NotNull
+    @Size(max = MAX_RECIPIENTS)
+    private List<@Valid @NotNull BroadcastRecipientDTO> recipients = new ArrayList<>();
+
+    /**
+     * The ID of the email template, e.g. {@code tournament-round-start}.
+     */
+    @NotBlank
+    private String templateId;
+
+    /**
+     * The template variables shared by all recipients, e.g. {@code tournamentName}.
+     */
+    private Map<String, String> variables = new HashMap<>();
+
+    /**
+     * Gets the ID of the tournament.
+     *
+     * @return The tournament ID, or null if the recipients are listed.
+     */
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    /**
+     * Sets the ID of the tournament.
+     *
+     * @param tournamentId The tournament ID.
+     */
+    public void setTournamentId(Long tournamentId) {
+        this.tournamentId = tournamentId;
+    }
+
+    /**
+     * Gets the listed recipients.
+     *
+     * @return The recipients; empty if all players of the tournament receive the email.
+     */
+    public List<BroadcastRecipientDTO> getRecipients() {
+        return recipients;
+    }
+
+    /**
+     * Sets the listed recipients.
+     *
+     * @param recipients The recipients.
+     */
+    public void setRecipients(List<BroadcastRecipientDTO> recipients) {
+        this.recipients = recipients;
+    }
+
+    /**
+     * Gets the ID of the email template.
+     *
+     * @return The template ID.
+     */
+    public String getTemplateId() {
+        return templateId;
+    }
+
+    /**
+     * Sets the ID of the email template.
+     *
+     * @param templateId The template ID.
+     */
+    public void setTemplateId(String templateId) {
+        this.templateId = templateId;
+    }
+
+    /**
+     * Gets the template variables shared by all recipients.
+     *
+     * @return The variables, keyed by name.
+     */
+    public Map<String, String> getVariables() {
+        return variables;
+    }
+
+    /**
+     * Sets the template variables shared by all recipients.
+     *
+     * @param variables The variables, keyed by name.
+     */
+    public void setVariables(Map<String, String> variables) {
+        this.variables = variables;
+    }
+}
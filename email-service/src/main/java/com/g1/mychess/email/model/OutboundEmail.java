@@ -0,0 +1,227 @@
+package com.g1.mychess.email.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing an email waiting in, or sent from, the outbound mail queue.
+ *
+ * Emails are stored before the request that produced them is answered, so a queued email survives a restart of the
+ * service. The mail queue sends due {@link EmailStatus#PENDING} emails in batches and retries failed ones later.
+ * This entity is mapped to the `outbound_emails` table in the database.
+ */
+@Entity
+@Table(name = "outbound_emails", indexes = {
+        @Index(name = "idx_outbound_emails_status_next_attempt", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_outbound_emails_claimed_by", columnList = "claimed_by")
+})
+public class OutboundEmail {
+
+    /**
+     * Unique identifier for the email.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The recipient's email address.
+     */
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    /**
+     * The subject of the email.
+     */
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    /**
+     * The content/body of the email.
+     */
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    /**
+     * The HTML alternative of the content, or null for a plain text email.
+     */
+    @Column(name = "html_content", columnDefinition = "TEXT")
+    private String htmlContent;
+
+    /**
+     * The delivery status of the email.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private EmailStatus status = EmailStatus.PENDING;
+
+    /**
+     * The number of failed attempts to send the email.
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    /**
+     * The earliest time the email may be sent, pushed back after each failed attempt.
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * The dispatch round that claimed the email for sending, so that the round loads exactly the emails it claimed.
+     */
+    @Column(name = "claimed_by", length = 36)
+    private String claimedBy;
+
+    /**
+     * The time the email was claimed; a claim older than {@code email.queue.claim-timeout} is returned to the queue.
+     */
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    /**
+     * The time the email was queued.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * The time the email was accepted by the SMTP server.
+     */
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /**
+     * The error of the last failed attempt.
+     */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public OutboundEmail() {}
+
+    public OutboundEmail(String recipient, String subject, String content, String htmlContent, LocalDateTime createdAt) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.content = content;
+        this.htmlContent = htmlContent;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = createdAt;
+    }
+
+    // Getters and Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public void setRecipient(String recipient) {
+        this.recipient = recipient;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public String getHtmlContent() {
+        return htmlContent;
+    }
+
+    public void setHtmlContent(String htmlContent) {
+        this.htmlContent = htmlContent;
+    }
+
+    public EmailStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(EmailStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public void setClaimedBy(String claimedBy) {
+        this.claimedBy = claimedBy;
+    }
+
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    public void setClaimedAt(LocalDateTime claimedAt) {
+        this.claimedAt = claimedAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getSentAt() {
+        return sentAt;
+    }
+
+    public void setSentAt(LocalDateTime sentAt) {
+        this.sentAt = sentAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    /**
+     * Delivery status of a queued email.
+     */
+    public enum EmailStatus {
+        PENDING,  // Waiting to be sent, possibly after a failed attempt
+        SENDING,  // Claimed by a worker
+        SENT,     // Accepted by the SMTP server
+        FAILED    // Given up after the maximum number of attempts
+    }
+}
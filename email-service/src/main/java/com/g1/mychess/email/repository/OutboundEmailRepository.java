@@ -0,0 +1,90 @@
+package com.g1.mychess.email.repository;
+
+import com.g1.mychess.email.model.OutboundEmail;
+import com.g1.mychess.email.model.OutboundEmail.EmailStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for {@link OutboundEmail} entity, which backs the outbound mail queue.
+ */
+@Repository
+public interface OutboundEmailRepository extends JpaRepository<OutboundEmail, Long> {
+
+    /**
+     * Finds the IDs of the emails with the given status that are due, oldest first.
+     *
+     * @param status The status of the emails, normally {@link EmailStatus#PENDING}.
+     * @param now The current time; emails whose next attempt is later are left out.
+     * @param pageable The maximum number of emails to return.
+     * @return The IDs of the due emails.
+     */
+    @Query("SELECT e.id FROM OutboundEmail e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt")
+    List<Long> findDueIds(@Param("status") EmailStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Claims the given emails for sending, skipping those no longer in the {@code from} status.
+     * <p>
+     * The status is checked and changed in one statement, so of two dispatchers racing for the same email only one
+     * claims it. The claimed emails are then loaded with {@link #findByClaimedByAndStatus(String, EmailStatus)}.
+     *
+     * @param ids The IDs of the emails to claim.
+     * @param from The status the emails must still have, normally {@link EmailStatus#PENDING}.
+     * @param to The status of the claimed emails, normally {@link EmailStatus#SENDING}.
+     * @param claimedBy The ID of the dispatch round claiming the emails.
+     * @param claimedAt The time of the claim.
+     * @return The number of emails claimed.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboundEmail e SET e.status = :to, e.claimedBy = :claimedBy, e.claimedAt = :claimedAt " +
+            "WHERE e.status = :from AND e.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("from") EmailStatus from,
+              @Param("to") EmailStatus to,
+              @Param("claimedBy") String claimedBy,
+              @Param("claimedAt") LocalDateTime claimedAt);
+
+    /**
+     * Finds the emails claimed by a dispatch round that still have the given status.
+     *
+     * @param claimedBy The ID of the dispatch round.
+     * @param status The status of the emails, normally {@link EmailStatus#SENDING}.
+     * @return The claimed emails.
+     */
+    List<OutboundEmail> findByClaimedByAndStatus(String claimedBy, EmailStatus status);
+
+    /**
+     * Counts the emails with the given status.
+     *
+     * @param status The status of the emails.
+     * @return The number of emails with the status.
+     */
+    long countByStatus(EmailStatus status);
+
+    /**
+     * Moves the emails with one status that were claimed before the given time to another status, e.g. to return
+     * emails whose dispatcher stopped before sending them to the queue.
+     *
+     * @param from The current status of the emails.
+     * @param to The new status of the emails.
+     * @param claimedBefore Emails claimed at or after this time are left alone; emails without a claim time are moved.
+     * @return The number of emails updated.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboundEmail e SET e.status = :to " +
+            "WHERE e.status = :from AND (e.claimedAt IS NULL OR e.claimedAt < :claimedBefore)")
+    int releaseClaims(@Param("from") EmailStatus from,
+                      @Param("to") EmailStatus to,
+                      @Param("claimedBefore") LocalDateTime claimedBefore);
+}
@@ -1,6 +1,7 @@
 package com.g1.mychess.email.service;
 
 import com.g1.mychess.email.dto.ReportEmailDTO;
+import com.g1.mychess.email.dto.TournamentBroadcastDTO;
 
 import java.time.LocalDateTime;
 
@@ -10,6 +11,7 @@ import java.time.LocalDateTime;
  * blacklist/whitelist notifications, password resets, contact feedback, and tournament notifications.
  *
  * Implementing classes are expected to provide the actual implementation for these email-sending actions.
+ * The emails are queued and sent in the background, so the methods return before the email is delivered.
  */
 public interface EmailService {
 
@@ -68,6 +70,16 @@ public interface EmailService {
      */
     void sendTournamentNotificationEmail(String to, String subject, String message);
 
+    /**
+     * Sends one templated email to each recipient of a broadcast, e.g. all players of a tournament.
+     * Every email is rendered with the shared variables of the broadcast and the variables of its recipient.
+     *
+     * @param broadcast The template, the shared variables and either the recipients or the tournament ID.
+     * @return The number of emails queued; a recipient listed twice receives one email.
+     * @throws IllegalArgumentException if the template does not exist or neither recipients nor a tournament are given.
+     */
+    int sendTournamentBroadcast(TournamentBroadcastDTO broadcast);
+
     void sendMatchReminderEmail(String to, String tournamentName, LocalDateTime scheduledTime);
 
     void sendPlayerReportEmail(ReportEmailDTO reportEmailDTO);
@@ -0,0 +1,50 @@
+package com.g1.mychess.email.service;
+
+import com.g1.mychess.email.template.RenderedEmail;
+
+import java.util.Map;
+
+/**
+ * Interface of the outbound mail queue.
+ *
+ * Emails are stored when they are enqueued and sent later by a pool of workers, so callers do not wait for the
+ * SMTP round-trip. Emails that cannot be sent are retried with an increasing delay.
+ */
+public interface MailQueueService {
+
+    /**
+     * Adds an email to the queue.
+     *
+     * @param to      The recipient's email address.
+     * @param subject The subject of the email.
+     * @param content The content/body of the email.
+     */
+    default void enqueue(String to, String subject, String content) {
+        enqueue(to, subject, content, null);
+    }
+
+    /**
+     * Adds an email with an HTML alternative to the queue. It is sent as a multipart email.
+     *
+     * @param to          The recipient's email address.
+     * @param subject     The subject of the email.
+     * @param content     The plain text content/body of the email.
+     * @param htmlContent The HTML content/body of the email, or null to send plain text only.
+     */
+    void enqueue(String to, String subject, String content, String htmlContent);
+
+    /**
+     * Adds one email per recipient to the queue, stored together in one transaction.
+     *
+     * @param emails The rendered emails, keyed by the recipient's email address.
+     */
+    void enqueueAll(Map<String, RenderedEmail> emails);
+
+    /**
+     * Sends the emails that are due, in batches over one SMTP connection each, and schedules failed ones for a
+     * retry. Called periodically by the queue itself.
+     *
+     * @return The number of emails attempted.
+     */
+    int dispatch();
+}
@@ -1,14 +1,23 @@
 package com.g1.mychess.email.service.impl;
 
+import com.g1.mychess.email.client.TournamentServiceClient;
+import com.g1.mychess.email.dto.BroadcastRecipientDTO;
+import com.g1.mychess.email.dto.PlayerDTO;
 import com.g1.mychess.email.dto.ReportEmailDTO;
+import com.g1.mychess.email.dto.TournamentBroadcastDTO;
 import com.g1.mychess.email.service.EmailService;
-import com.g1.mychess.email.util.EmailContentBuilder;
+import com.g1.mychess.email.service.MailQueueService;
+import com.g1.mychess.email.template.EmailTemplateRegistry;
+import com.g1.mychess.email.template.RenderedEmail;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 /**
@@ -16,12 +25,15 @@ import org.springframework.stereotype.Service;
  *
  * This service is responsible for sending various types of emails such as verification emails,
  * blacklist/whitelist notifications, password reset requests, contact us feedback, and tournament notifications.
- * It uses {@link JavaMailSender} to send emails and {@link EmailContentBuilder} to construct the email content.
+ * It renders the emails from the precompiled templates of the {@link EmailTemplateRegistry} and hands them to the
+ * {@link MailQueueService}, which sends them in the background.
  */
 @Service
 public class EmailServiceImpl implements EmailService {
 
-    private final JavaMailSender mailSender;
+    private final MailQueueService mailQueueService;
+    private final EmailTemplateRegistry emailTemplateRegistry;
+    private final TournamentServiceClient tournamentServiceClient;
 
     // URL for the authentication service, injected from application properties
     @Value("${auth.service.url}")
@@ -36,12 +48,21 @@ public class EmailServiceImpl implements EmailService {
     private String feedbackEmailAddress;
 
     /**
-     * Constructor to inject the {@link JavaMailSender} dependency.
+     * Constructor to inject the {@link MailQueueService}, {@link EmailTemplateRegistry} and
+     * {@link TournamentServiceClient} dependencies.
      *
-     * @param mailSender The mail sender used to send the emails.
+     * @param mailQueueService The queue the emails are sent from.
+     * @param emailTemplateRegistry The templates the emails are rendered from.
+     * @param tournamentServiceClient The client fetching the players of a tournament broadcast.
      */
-    public EmailServiceImpl(JavaMailSender mailSender) {
-        this.mailSender = mailSender;
+    public EmailServiceImpl(
+            MailQueueService mailQueueService,
+            EmailTemplateRegistry emailTemplateRegistry,
+            TournamentServiceClient tournamentServiceClient
+    ) {
+        this.mailQueueService = mailQueueService;
+        this.emailTemplateRegistry = emailTemplateRegistry;
+        this.tournamentServiceClient = tournamentServiceClient;
     }
 
     /**
@@ -53,9 +74,8 @@ public class EmailServiceImpl implements EmailService {
      */
     @Override
     public void sendVerificationEmail(String to, String username, String verificationToken) {
-        String subject = "Email Verification - MyChess";
-        String content = EmailContentBuilder.buildVerificationEmailContent(username, verificationToken, authServiceUrl);
-        sendEmail(to, subject, content);
+        String verificationUrl = authServiceUrl + "/api/v1/auth/verification?token=" + verificationToken;
+        sendEmail(to, EmailTemplateRegistry.VERIFICATION, variables("username", username, "verificationUrl", verificationUrl));
     }
 
     /**
@@ -68,9 +88,8 @@ public class EmailServiceImpl implements EmailService {
      */
     @Override
     public void sendBlacklistEmail(String to, String username, String reason, Long banDuration) {
-        String subject = "Blacklist Notification - MyChess";
-        String content = EmailContentBuilder.buildBlacklistEmailContent(username, reason, banDuration);
-        sendEmail(to, subject, content);
+        sendEmail(to, EmailTemplateRegistry.BLACKLIST,
+                variables("username", username, "reason", reason, "banDuration", banDuration));
     }
 
     /**
@@ -82,9 +101,7 @@ public class EmailServiceImpl implements EmailService {
      */
     @Override
     public void sendWhitelistEmail(String to, String username, String reason) {
-        String subject = "Whitelist Notification - MyChess";
-        String content = EmailContentBuilder.buildWhitelistEmailContent(username, reason);
-        sendEmail(to, subject, content);
+        sendEmail(to, EmailTemplateRegistry.WHITELIST, variables("username", username, "reason", reason));
     }
 
     /**
@@ -96,9 +113,8 @@ public class EmailServiceImpl implements EmailService {
      */
     @Override
     public void sendPasswordResetEmail(String to, String username, String resetToken) {
-        String subject = "Password Reset Request - MyChess";
-        String content = EmailContentBuilder.buildPasswordResetEmailContent(username, resetToken, frontendUrl);
-        sendEmail(to, subject, content);
+        String resetUrl = frontendUrl + "/password-reset/" + resetToken;
+        sendEmail(to, EmailTemplateRegistry.PASSWORD_RESET, variables("username", username, "resetUrl", resetUrl));
     }
 
     /**
@@ -110,9 +126,8 @@ public class EmailServiceImpl implements EmailService {
      */
     @Override
     public void sendContactUsEmail(String name, String email, String message) {
-        String subject = "Feedback from " + name;
-        String content = EmailContentBuilder.buildContactUsEmailContent(name, email, message);
-        sendEmail(feedbackEmailAddress, subject, content);
+        sendEmail(feedbackEmailAddress, EmailTemplateRegistry.CONTACT_US,
+                variables("name", name, "email", email, "message", message));
     }
 
     /**
@@ -124,40 +139,108 @@ public class EmailServiceImpl implements EmailService {
      */
     @Override
     public void sendTournamentNotificationEmail(String to, String subject, String message) {
-        sendEmail(to, subject, message);
+        sendEmail(to, EmailTemplateRegistry.TOURNAMENT_NOTIFICATION, variables("subject", subject, "message", message));
+    }
+
+    /**
+     * Sends one templated email to each recipient of a broadcast.
+     * The emails are rendered here and stored in the queue in one transaction, so the caller makes a single request
+     * however many players are notified.
+     *
+     * @param broadcast The template, the shared variables and either the recipients or the tournament ID.
+     * @return The number of emails queued.
+     */
+    @Override
+    public int sendTournamentBroadcast(TournamentBroadcastDTO broadcast) {
+        String templateId = broadcast.getTemplateId();
+        if (!emailTemplateRegistry.getTemplateIds().contains(templateId)) {
+            throw new IllegalArgumentException("Unknown email template: " + templateId);
+        }
+        List<BroadcastRecipientDTO> recipients = resolveRecipients(broadcast);
+
+        Map<String, Object> shared = new HashMap<>();
+        if (broadcast.getVariables() != null) {
+            shared.putAll(broadcast.getVariables());
+        }
+        if (broadcast.getTournamentId() != null) {
+            shared.put("tournamentId", broadcast.getTournamentId());
+        }
+
+        Map<String, RenderedEmail> emails = new LinkedHashMap<>();
+        for (BroadcastRecipientDTO recipient : recipients) {
+            if (emails.containsKey(recipient.getTo())) continue;
+
+            Map<String, Object> variables = new HashMap<>(shared);
+            if (recipient.getVariables() != null) {
+                variables.putAll(recipient.getVariables());
+            }
+            emails.put(recipient.getTo(), emailTemplateRegistry.render(templateId, variables));
+        }
+        mailQueueService.enqueueAll(emails);
+        return emails.size();
     }
 
     @Override
     public void sendMatchReminderEmail(String to, String tournamentName, LocalDateTime scheduledTime) {
-        String subject = "MyChess - Match Reminder for Tournament:" + tournamentName;
-        String content = EmailContentBuilder.buildMatchReminderEmailContent(tournamentName, scheduledTime);
-        sendEmail(to, subject, content);
+        sendEmail(to, EmailTemplateRegistry.MATCH_REMINDER,
+                variables("tournamentName", tournamentName, "scheduledTime", scheduledTime));
     }
 
     @Override
     public void sendPlayerReportEmail(ReportEmailDTO reportEmailDTO) {
-        String subject = "Player Report: " + reportEmailDTO.getReportedPlayerUsername();
-        String content = EmailContentBuilder.buildPlayerReportEmailContent(
-                reportEmailDTO.getReporterUsername(),
-                reportEmailDTO.getReportedPlayerUsername(),
-                reportEmailDTO.getReason(),
-                reportEmailDTO.getDescription()
-        );
-        sendEmail(feedbackEmailAddress, subject, content);
+        sendEmail(feedbackEmailAddress, EmailTemplateRegistry.PLAYER_REPORT, variables(
+                "reporterUsername", reportEmailDTO.getReporterUsername(),
+                "reportedUsername", reportEmailDTO.getReportedPlayerUsername(),
+                "reason", reportEmailDTO.getReason(),
+                "description", reportEmailDTO.getDescription()
+        ));
     }
 
     /**
-     * Helper method to send an email using the {@link JavaMailSender}.
+     * Helper method to get the recipients of a broadcast: the listed ones, or else the players of the tournament,
+     * with their username as template variable.
+     *
+     * @param broadcast The broadcast.
+     * @return The recipients.
+     */
+    private List<BroadcastRecipientDTO> resolveRecipients(TournamentBroadcastDTO broadcast) {
+        if (broadcast.getRecipients() != null && !broadcast.getRecipients().isEmpty()) {
+            return broadcast.getRecipients();
+        }
+        if (broadcast.getTournamentId() == null) {
+            throw new IllegalArgumentException("A tournament broadcast needs either recipients or a tournament ID.");
+        }
+
+        List<BroadcastRecipientDTO> recipients = new ArrayList<>();
+        for (PlayerDTO player : tournamentServiceClient.getTournamentPlayers(broadcast.getTournamentId())) {
+            if (player.getEmail() == null) continue;
+            Map<String, String> variables = new HashMap<>();
+            variables.put("username", player.getUsername());
+            recipients.add(new BroadcastRecipientDTO(player.getEmail(), variables));
+        }
+        return recipients;
+    }
+
+    /**
+     * Helper method to render an email and queue it with the {@link MailQueueService}.
      *
      * @param to The recipient's email address.
-     * @param subject The subject of the email.
-     * @param content The content/body of the email.
+     * @param templateId The ID of the template to render.
+     * @param variables The values of the template variables.
+     */
+    private void sendEmail(String to, String templateId, Map<String, Object> variables) {
+        RenderedEmail email = emailTemplateRegistry.render(templateId, variables);
+        mailQueueService.enqueue(to, email.getSubject(), email.getText(), email.getHtml());
+    }
+
+    /**
+     * Builds the variables of a template from alternating names and values. Unlike {@link Map#of}, values may be null.
      */
-    private void sendEmail(String to, String subject, String content) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(content);
-        mailSender.send(message);
+    private static Map<String, Object> variables(Object... namesAndValues) {
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            variables.put((String) namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return variables;
     }
 }
\ No newline at end of file
@@ -0,0 +1,325 @@
+package com.g1.mychess.email.service.impl;
+
+import com.g1.mychess.email.config.MailQueueProperties;
+import com.g1.mychess.email.model.OutboundEmail;
+import com.g1.mychess.email.model.OutboundEmail.EmailStatus;
+import com.g1.mychess.email.repository.OutboundEmailRepository;
+import com.g1.mychess.email.service.MailQueueService;
+import com.g1.mychess.email.template.RenderedEmail;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of the {@link MailQueueService} interface, backed by the `outbound_emails` table.
+ *
+ * A single dispatcher thread polls the table every {@code email.queue.poll-interval}, claims up to
+ * {@code workers * batch-size} due emails and hands them to the worker pool in batches. Emails are claimed with one
+ * conditional update per round, so several instances of the service can share the queue without sending an email
+ * twice; claims older than {@code email.queue.claim-timeout}, e.g. of an instance that stopped mid-batch, are
+ * returned to the queue. Each worker sends its batch
+ * with one {@link JavaMailSender#send(MimeMessage...)} call, which opens a single SMTP connection for the
+ * whole batch. Emails with an HTML body are sent as multipart emails with a plain text alternative. Emails the server
+ * rejects, or all emails of a batch whose connection failed, are retried with exponential backoff until
+ * {@code email.queue.max-attempts} is reached.
+ *
+ * The following metrics are published:
+ * <ul>
+ *     <li>{@code email.queue.depth}: emails waiting to be sent, counted by the dispatcher at most every
+ *     {@value #DEPTH_REFRESH_SECONDS} seconds rather than on every scrape,</li>
+ *     <li>{@code email.send.latency}: time to send one batch over SMTP,</li>
+ *     <li>{@code email.queue.latency}: time from enqueueing an email to its delivery,</li>
+ *     <li>{@code email.send.attempts}: attempts per outcome ({@code sent}, {@code retry}, {@code failed}).</li>
+ * </ul>
+ */
+@Service
+public class MailQueueServiceImpl implements MailQueueService {
+
+    private static final Logger log = LoggerFactory.getLogger(MailQueueServiceImpl.class);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final long DEPTH_REFRESH_SECONDS = 15;
+
+    private final OutboundEmailRepository outboundEmailRepository;
+    private final JavaMailSender mailSender;
+    private final MailQueueProperties properties;
+
+    private final ScheduledExecutorService dispatcher;
+    private final ExecutorService workers;
+
+    private final Timer sendLatency;
+    private final Timer queueLatency;
+    private final Counter sentAttempts;
+    private final Counter retriedAttempts;
+    private final Counter failedAttempts;
+    private final AtomicLong queueDepth = new AtomicLong();
+    // Only used by the dispatcher thread
+    private long depthRefreshedAt;
+
+    /**
+     * Constructs the mail queue.
+     *
+     * @param outboundEmailRepository The repository storing the queued emails.
+     * @param mailSender The mail sender used to send the emails.
+     * @param properties The settings of the queue.
+     * @param meterRegistry The registry the queue metrics are published to.
+     */
+    public MailQueueServiceImpl(
+            OutboundEmailRepository outboundEmailRepository,
+            JavaMailSender mailSender,
+            MailQueueProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.outboundEmailRepository = outboundEmailRepository;
+        this.mailSender = mailSender;
+        this.properties = properties;
+        this.dispatcher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("mail-dispatcher").factory());
+        this.workers = Executors.newFixedThreadPool(properties.getWorkers(), Thread.ofPlatform().name("mail-worker-", 1).factory());
+
+        Gauge.builder("email.queue.depth", queueDepth, AtomicLong::get)
+                .description("Emails waiting to be sent")
+                .register(meterRegistry);
+        this.sendLatency = Timer.builder("email.send.latency")
+                .description("Time to send one batch of emails over a single SMTP connection")
+                .register(meterRegistry);
+        this.queueLatency = Timer.builder("email.queue.latency")
+                .description("Time from enqueueing an email to its delivery")
+                .register(meterRegistry);
+        this.sentAttempts = attemptCounter(meterRegistry, "sent");
+        this.retriedAttempts = attemptCounter(meterRegistry, "retry");
+        this.failedAttempts = attemptCounter(meterRegistry, "failed");
+        this.depthRefreshedAt = System.nanoTime() - TimeUnit.SECONDS.toNanos(DEPTH_REFRESH_SECONDS);
+    }
+
+    /**
+     * Starts polling the queue once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long interval = properties.getPollInterval().toMillis();
+        dispatcher.scheduleWithFixedDelay(this::drain, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops polling and waits for the batches in flight to be sent.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        dispatcher.shutdown();
+        dispatcher.awaitTermination(30, TimeUnit.SECONDS);
+        workers.shutdown();
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void enqueue(String to, String subject, String content, String htmlContent) {
+        outboundEmailRepository.save(new OutboundEmail(to, subject, content, htmlContent, LocalDateTime.now()));
+    }
+
+    @Override
+    public void enqueueAll(Map<String, RenderedEmail> emails) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboundEmail> outboundEmails = new ArrayList<>(emails.size());
+        emails.forEach((to, email) ->
+                outboundEmails.add(new OutboundEmail(to, email.getSubject(), email.getText(), email.getHtml(), now)));
+        outboundEmailRepository.saveAll(outboundEmails);
+    }
+
+    @Override
+    public int dispatch() {
+        int batchSize = properties.getBatchSize();
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> dueIds = outboundEmailRepository.findDueIds(
+                EmailStatus.PENDING, now, PageRequest.of(0, properties.getWorkers() * batchSize));
+        if (dueIds.isEmpty()) return 0;
+
+        // Emails claimed by another dispatcher in the meantime are no longer PENDING and are skipped
+        String claimedBy = UUID.randomUUID().toString();
+        if (outboundEmailRepository.claim(dueIds, EmailStatus.PENDING, EmailStatus.SENDING, claimedBy, now) == 0) return 0;
+        List<OutboundEmail> due = outboundEmailRepository.findByClaimedByAndStatus(claimedBy, EmailStatus.SENDING);
+
+        List<Callable<Void>> batches = new ArrayList<>();
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<OutboundEmail> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            batches.add(() -> {
+                sendBatch(batch);
+                return null;
+            });
+        }
+        try {
+            workers.invokeAll(batches);
+        } catch (InterruptedException e) {
+            // The emails of unfinished batches stay SENDING and are returned to the queue once their claim times out
+            Thread.currentThread().interrupt();
+        }
+        return due.size();
+    }
+
+    /**
+     * Dispatches rounds until fewer emails are due than one round can take, then refreshes the queue depth and
+     * releases timed out claims if they were last done more than {@value #DEPTH_REFRESH_SECONDS} seconds ago.
+     * Errors are caught so that a failed round, e.g. while the database is unavailable, does not end the polling.
+     */
+    private void drain() {
+        try {
+            int capacity = properties.getWorkers() * properties.getBatchSize();
+            while (dispatch() >= capacity && !Thread.currentThread().isInterrupted()) {
+                // The queue is backed up, go on with the next round right away
+            }
+            long now = System.nanoTime();
+            if (now - depthRefreshedAt >= TimeUnit.SECONDS.toNanos(DEPTH_REFRESH_SECONDS)) {
+                depthRefreshedAt = now;
+                releaseTimedOutClaims();
+                refreshQueueDepth();
+            }
+        } catch (RuntimeException e) {
+            log.error("Error dispatching queued emails", e);
+        }
+    }
+
+    /**
+     * Returns emails claimed longer than {@code email.queue.claim-timeout} ago to the queue.
+     *
+     * @return The number of emails returned to the queue.
+     */
+    int releaseTimedOutClaims() {
+        LocalDateTime claimedBefore = LocalDateTime.now().minus(properties.getClaimTimeout());
+        int released = outboundEmailRepository.releaseClaims(EmailStatus.SENDING, EmailStatus.PENDING, claimedBefore);
+        if (released > 0) {
+            log.warn("Returned {} emails with a timed out claim to the queue", released);
+        }
+        return released;
+    }
+
+    /**
+     * Counts the emails waiting to be sent for the {@code email.queue.depth} gauge.
+     */
+    void refreshQueueDepth() {
+        queueDepth.set(outboundEmailRepository.countByStatus(EmailStatus.PENDING));
+    }
+
+    /**
+     * Sends a batch of emails over one SMTP connection and records the outcome of each email.
+     *
+     * @param batch The emails to send.
+     */
+    private void sendBatch(List<OutboundEmail> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboundEmail> prepared = new ArrayList<>(batch.size());
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+        for (OutboundEmail email : batch) {
+            try {
+                messages.add(toMessage(email));
+                prepared.add(email);
+            } catch (MessagingException e) {
+                markFailed(email, e, now);
+            }
+        }
+
+        Map<Object, Exception> failedMessages = Map.of();
+        if (!messages.isEmpty()) {
+            long start = System.nanoTime();
+            try {
+                mailSender.send(messages.toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                failedMessages = e.getFailedMessages().isEmpty() ? allFailed(messages, e) : e.getFailedMessages();
+            } catch (MailException e) {
+                failedMessages = allFailed(messages, e);
+            }
+            sendLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        now = LocalDateTime.now();
+        for (int i = 0; i < messages.size(); i++) {
+            Exception failure = failedMessages.get(messages.get(i));
+            if (failure == null) {
+                markSent(prepared.get(i), now);
+            } else {
+                markFailed(prepared.get(i), failure, now);
+            }
+        }
+        outboundEmailRepository.saveAll(batch);
+    }
+
+    private void markSent(OutboundEmail email, LocalDateTime now) {
+        email.setStatus(EmailStatus.SENT);
+        email.setSentAt(now);
+        email.setLastError(null);
+        queueLatency.record(Duration.between(email.getCreatedAt(), now));
+        sentAttempts.increment();
+    }
+
+    private void markFailed(OutboundEmail email, Exception failure, LocalDateTime now) {
+        email.setAttempts(email.getAttempts() + 1);
+        email.setLastError(truncate(String.valueOf(failure.getMessage())));
+        if (email.getAttempts() >= properties.getMaxAttempts()) {
+            email.setStatus(EmailStatus.FAILED);
+            failedAttempts.increment();
+        } else {
+            email.setStatus(EmailStatus.PENDING);
+            email.setNextAttemptAt(now.plus(properties.backoff(email.getAttempts())));
+            retriedAttempts.increment();
+        }
+    }
+
+    private MimeMessage toMessage(OutboundEmail email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        boolean multipart = email.getHtmlContent() != null;
+        MimeMessageHelper helper = new MimeMessageHelper(message, multipart, "UTF-8");
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        if (multipart) {
+            helper.setText(email.getContent(), email.getHtmlContent());
+        } else {
+            helper.setText(email.getContent());
+        }
+        return message;
+    }
+
+    private static Map<Object, Exception> allFailed(List<MimeMessage> messages, Exception failure) {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        for (MimeMessage message : messages) {
+            failedMessages.put(message, failure);
+        }
+        return failedMessages;
+    }
+
+    private static String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private static Counter attemptCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("email.send.attempts")
+                .description("Attempts to send a queued email, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
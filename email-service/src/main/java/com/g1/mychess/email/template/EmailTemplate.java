@@ -0,0 +1,143 @@
+package com.g1.mychess.email.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An email template compiled once into its literal text and variable slots.
+ *
+ * Variables are written {@code {{name}}}. Compiling splits the source into the text between the variables and the
+ * variable names, so rendering only appends those pieces and the per-recipient values, without parsing the template
+ * again. Values of HTML templates are escaped. A variable without a value renders as an empty string.
+ */
+public final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    /**
+     * Buffers above this capacity are not kept for reuse, so one very large email does not pin its buffer.
+     */
+    private static final int MAX_REUSED_CAPACITY = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
+    private final String[] literals;
+    private final String[] variables;
+    private final boolean html;
+    private final int literalLength;
+
+    private EmailTemplate(String[] literals, String[] variables, boolean html) {
+        this.literals = literals;
+        this.variables = variables;
+        this.html = html;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compiles a template.
+     *
+     * @param source The template text, with variables written {@code {{name}}}.
+     * @param html Whether the template is HTML, in which case the values are escaped.
+     * @return The compiled template.
+     * @throws IllegalArgumentException if a variable is not closed or has no name.
+     */
+    public static EmailTemplate compile(String source, boolean html) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+
+        int from = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, from)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed variable at index " + open + " of template.");
+            }
+            String name = source.substring(open + OPEN.length(), close).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Variable without a name at index " + open + " of template.");
+            }
+            literals.add(source.substring(from, open));
+            variables.add(name);
+            from = close + CLOSE.length();
+        }
+        literals.add(source.substring(from));
+
+        return new EmailTemplate(literals.toArray(String[]::new), variables.toArray(String[]::new), html);
+    }
+
+    /**
+     * Renders the template into a string, using a buffer reused by the calling thread.
+     *
+     * @param values The values of the variables, keyed by name.
+     * @return The rendered text.
+     */
+    public String render(Map<String, ?> values) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        renderTo(buffer, values);
+        String rendered = buffer.toString();
+        if (buffer.capacity() > MAX_REUSED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return rendered;
+    }
+
+    /**
+     * Appends the rendered template to a buffer.
+     *
+     * @param out The buffer to append to.
+     * @param values The values of the variables, keyed by name.
+     */
+    public void renderTo(StringBuilder out, Map<String, ?> values) {
+        out.ensureCapacity(out.length() + literalLength + 16 * variables.length);
+        for (int i = 0; i < variables.length; i++) {
+            out.append(literals[i]);
+            Object value = values.get(variables[i]);
+            if (value == null) continue;
+            if (html) {
+                appendEscaped(out, value.toString());
+            } else {
+                out.append(value);
+            }
+        }
+        out.append(literals[variables.length]);
+    }
+
+    /**
+     * Gets the names of the variables of the template, in order of appearance.
+     *
+     * @return The variable names; a variable used twice appears twice.
+     */
+    public List<String> getVariables() {
+        return List.of(variables);
+    }
+
+    /**
+     * Tells whether the template is HTML.
+     *
+     * @return true if the values are escaped as HTML.
+     */
+    public boolean isHtml() {
+        return html;
+    }
+
+    private static void appendEscaped(StringBuilder out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
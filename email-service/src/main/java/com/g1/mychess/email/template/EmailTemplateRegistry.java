@@ -0,0 +1,131 @@
+package com.g1.mychess.email.template;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registry of the email templates, compiled once when the service starts.
+ *
+ * Each template is read from {@code email-templates/<id>.txt} on the classpath. Its first line is the subject,
+ * written {@code Subject: ...}, followed by an empty line and the plain text body. An optional
+ * {@code email-templates/<id>.html} holds the HTML body, which is only sent when {@code email.templates.html-enabled}
+ * is set. The subject and both bodies may use variables, see {@link EmailTemplate}.
+ */
+@Component
+public class EmailTemplateRegistry {
+
+    public static final String VERIFICATION = "verification";
+    public static final String PASSWORD_RESET = "password-reset";
+    public static final String BLACKLIST = "blacklist";
+    public static final String WHITELIST = "whitelist";
+    public static final String MATCH_REMINDER = "match-reminder";
+    public static final String TOURNAMENT_NOTIFICATION = "tournament-notification";
+    public static final String TOURNAMENT_SIGN_UP = "tournament-sign-up";
+    public static final String TOURNAMENT_ROUND_START = "tournament-round-start";
+    public static final String TOURNAMENT_CANCELLATION = "tournament-cancellation";
+    public static final String CONTACT_US = "contact-us";
+    public static final String PLAYER_REPORT = "player-report";
+
+    private static final List<String> TEMPLATE_IDS = List.of(
+            VERIFICATION, PASSWORD_RESET, BLACKLIST, WHITELIST, MATCH_REMINDER,
+            TOURNAMENT_NOTIFICATION, TOURNAMENT_SIGN_UP, TOURNAMENT_ROUND_START, TOURNAMENT_CANCELLATION,
+            CONTACT_US, PLAYER_REPORT);
+
+    private static final String LOCATION = "email-templates/";
+    private static final String SUBJECT_PREFIX = "Subject: ";
+
+    private final Map<String, CompiledTemplates> templates = new HashMap<>();
+    private final boolean htmlEnabled;
+
+    /**
+     * Loads and compiles every template.
+     *
+     * @param htmlEnabled Whether to render the HTML bodies, sent as multipart emails.
+     * @throws IllegalStateException if a template is missing or malformed.
+     */
+    public EmailTemplateRegistry(@Value("${email.templates.html-enabled:false}") boolean htmlEnabled) {
+        this.htmlEnabled = htmlEnabled;
+        for (String id : TEMPLATE_IDS) {
+            templates.put(id, load(id));
+        }
+    }
+
+    /**
+     * Renders an email.
+     *
+     * @param templateId The ID of the template, e.g. {@link #VERIFICATION}.
+     * @param variables The values of the template variables, keyed by name.
+     * @return The rendered subject and bodies; the HTML body is null unless HTML is enabled and the template has one.
+     * @throws IllegalArgumentException if there is no template with the ID.
+     */
+    public RenderedEmail render(String templateId, Map<String, ?> variables) {
+        CompiledTemplates compiled = templates.get(templateId);
+        if (compiled == null) {
+            throw new IllegalArgumentException("Unknown email template: " + templateId);
+        }
+        String html = htmlEnabled && compiled.html != null ? compiled.html.render(variables) : null;
+        return new RenderedEmail(compiled.subject.render(variables), compiled.text.render(variables), html);
+    }
+
+    /**
+     * Gets the IDs of all templates.
+     *
+     * @return The template IDs.
+     */
+    public Set<String> getTemplateIds() {
+        return templates.keySet();
+    }
+
+    private static CompiledTemplates load(String id) {
+        String text = read(LOCATION + id + ".txt");
+        if (text == null) {
+            throw new IllegalStateException("Missing email template " + LOCATION + id + ".txt");
+        }
+        int subjectEnd = text.indexOf("\n\n");
+        if (!text.startsWith(SUBJECT_PREFIX) || subjectEnd < 0) {
+            throw new IllegalStateException("Email template " + id + " must start with a subject line and an empty line.");
+        }
+        String html = read(LOCATION + id + ".html");
+
+        return new CompiledTemplates(
+                EmailTemplate.compile(text.substring(SUBJECT_PREFIX.length(), subjectEnd), false),
+                EmailTemplate.compile(text.substring(subjectEnd + 2), false),
+                html != null ? EmailTemplate.compile(html, true) : null);
+    }
+
+    /**
+     * Reads a classpath resource, without the line break ending the file.
+     */
+    private static String read(String path) {
+        ClassPathResource resource = new ClassPathResource(path);
+        if (!resource.exists()) return null;
+        try (InputStream in = resource.getInputStream()) {
+            String content = new String(in.readAllBytes(), StandardCharsets.UTF_8).replace("\r\n", "\n");
+            return content.endsWith("\n") ? content.substring(0, content.length() - 1) : content;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read email template " + path, e);
+        }
+    }
+
+    private static class CompiledTemplates {
+        private final EmailTemplate subject;
+        private final EmailTemplate text;
+        private final EmailTemplate html;
+
+        private CompiledTemplates(EmailTemplate subject, EmailTemplate text, EmailTemplate html) {
+            this.subject = subject;
+            this.text = text;
+            this.html = html;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.g1.mychess.email.template;
+
+/**
+ * The subject and bodies of an email rendered from an {@link EmailTemplate}.
+ */
+public class RenderedEmail {
+
+    private final String subject;
+    private final String text;
+    private final String html;
+
+    public RenderedEmail(String subject, String text, String html) {
+        this.subject = subject;
+        this.text = text;
+        this.html = html;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Gets the HTML body, sent as an alternative to the plain text body.
+     *
+     * @return The HTML body, or null if the email is plain text only.
+     */
+    public String getHtml() {
+        return html;
+    }
+}
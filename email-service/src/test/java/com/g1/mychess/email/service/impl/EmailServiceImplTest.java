@@ -0,0 +1,93 @@
+package com.g1.mychess.email.service.impl;
+
+import com.g1.mychess.email.client.TournamentServiceClient;
+import com.g1.mychess.email.dto.BroadcastRecipientDTO;
+import com.g1.mychess.email.dto.PlayerDTO;
+import com.g1.mychess.email.dto.TournamentBroadcastDTO;
+import com.g1.mychess.email.service.MailQueueService;
+import com.g1.mychess.email.template.EmailTemplateRegistry;
+import com.g1.mychess.email.template.RenderedEmail;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class EmailServiceImplTest {
+
+    private MailQueueService mailQueueService;
+    private TournamentServiceClient tournamentServiceClient;
+    private EmailServiceImpl emailService;
+
+    @BeforeEach
+    void setUp() {
+        mailQueueService = mock(MailQueueService.class);
+        tournamentServiceClient = mock(TournamentServiceClient.class);
+        emailService = new EmailServiceImpl(mailQueueService, new EmailTemplateRegistry(false), tournamentServiceClient);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendTournamentBroadcast_RendersOneEmailPerRecipient() {
+        TournamentBroadcastDTO broadcast = new TournamentBroadcastDTO();
+        broadcast.setTemplateId(EmailTemplateRegistry.TOURNAMENT_ROUND_START);
+        broadcast.setVariables(Map.of("tournamentName", "Open 2024", "round", "3"));
+        broadcast.setRecipients(List.of(
+                new BroadcastRecipientDTO("alice@mychess.com", Map.of("username", "alice")),
+                new BroadcastRecipientDTO("bob@mychess.com", Map.of("username", "bob")),
+                new BroadcastRecipientDTO("alice@mychess.com", Map.of("username", "alice"))));
+
+        assertEquals(2, emailService.sendTournamentBroadcast(broadcast));
+
+        ArgumentCaptor<Map<String, RenderedEmail>> emails = ArgumentCaptor.forClass(Map.class);
+        verify(mailQueueService, times(1)).enqueueAll(emails.capture());
+        verifyNoInteractions(tournamentServiceClient);
+
+        RenderedEmail bob = emails.getValue().get("bob@mychess.com");
+        assertEquals("MyChess - Round 3 of Open 2024 has started", bob.getSubject());
+        assertTrue(bob.getText().startsWith("Dear bob,"));
+        assertTrue(emails.getValue().get("alice@mychess.com").getText().startsWith("Dear alice,"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendTournamentBroadcast_FetchesPlayersOfTournament() {
+        PlayerDTO player = new PlayerDTO();
+        player.setUsername("carol");
+        player.setEmail("carol@mychess.com");
+        when(tournamentServiceClient.getTournamentPlayers(7L)).thenReturn(List.of(player, new PlayerDTO()));
+
+        TournamentBroadcastDTO broadcast = new TournamentBroadcastDTO();
+        broadcast.setTournamentId(7L);
+        broadcast.setTemplateId(EmailTemplateRegistry.TOURNAMENT_CANCELLATION);
+        broadcast.setVariables(Map.of("tournamentName", "Blitz Cup"));
+
+        assertEquals(1, emailService.sendTournamentBroadcast(broadcast));
+
+        ArgumentCaptor<Map<String, RenderedEmail>> emails = ArgumentCaptor.forClass(Map.class);
+        verify(mailQueueService).enqueueAll(emails.capture());
+        RenderedEmail email = emails.getValue().get("carol@mychess.com");
+        assertTrue(email.getText().startsWith("Dear carol,"));
+        assertTrue(email.getText().contains("Blitz Cup"));
+    }
+
+    @Test
+    public void testSendTournamentBroadcast_RejectsUnknownTemplateOrMissingRecipients() {
+        TournamentBroadcastDTO unknownTemplate = new TournamentBroadcastDTO();
+        unknownTemplate.setTournamentId(7L);
+        unknownTemplate.setTemplateId("unknown");
+        assertThrows(IllegalArgumentException.class, () -> emailService.sendTournamentBroadcast(unknownTemplate));
+
+        TournamentBroadcastDTO noRecipients = new TournamentBroadcastDTO();
+        noRecipients.setTemplateId(EmailTemplateRegistry.TOURNAMENT_CANCELLATION);
+        assertThrows(IllegalArgumentException.class, () -> emailService.sendTournamentBroadcast(noRecipients));
+
+        verify(mailQueueService, never()).enqueueAll(anyMap());
+        verifyNoInteractions(tournamentServiceClient);
+    }
+}
@@ -0,0 +1,236 @@
+package com.g1.mychess.email.service.impl;
+
+import com.g1.mychess.email.config.MailQueueProperties;
+import com.g1.mychess.email.model.OutboundEmail;
+import com.g1.mychess.email.model.OutboundEmail.EmailStatus;
+import com.g1.mychess.email.repository.OutboundEmailRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Sends queued emails to a local GreenMail SMTP server. The repository is kept in memory.
+ */
+public class MailQueueServiceImplTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final List<OutboundEmail> table = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicLong ids = new AtomicLong();
+
+    private MailQueueProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private MailQueueServiceImpl mailQueueService;
+
+    @BeforeEach
+    void setUp() {
+        OutboundEmailRepository repository = mock(OutboundEmailRepository.class);
+        when(repository.save(any(OutboundEmail.class))).thenAnswer(invocation -> {
+            OutboundEmail email = invocation.getArgument(0);
+            email.setId(ids.incrementAndGet());
+            table.add(email);
+            return email;
+        });
+        when(repository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.countByStatus(any(EmailStatus.class))).thenAnswer(invocation -> {
+            EmailStatus status = invocation.getArgument(0);
+            synchronized (table) {
+                return table.stream().filter(email -> email.getStatus() == status).count();
+            }
+        });
+        when(repository.findDueIds(any(EmailStatus.class), any(LocalDateTime.class), any(Pageable.class))).thenAnswer(invocation -> {
+            EmailStatus status = invocation.getArgument(0);
+            LocalDateTime now = invocation.getArgument(1);
+            Pageable pageable = invocation.getArgument(2);
+            synchronized (table) {
+                return table.stream()
+                        .filter(email -> email.getStatus() == status && !email.getNextAttemptAt().isAfter(now))
+                        .limit(pageable.getPageSize())
+                        .map(OutboundEmail::getId)
+                        .toList();
+            }
+        });
+        when(repository.claim(anyCollection(), any(EmailStatus.class), any(EmailStatus.class), anyString(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> {
+                    Collection<Long> claimIds = invocation.getArgument(0);
+                    EmailStatus from = invocation.getArgument(1);
+                    synchronized (table) {
+                        List<OutboundEmail> claimed = table.stream()
+                                .filter(email -> claimIds.contains(email.getId()) && email.getStatus() == from)
+                                .toList();
+                        for (OutboundEmail email : claimed) {
+                            email.setStatus(invocation.getArgument(2));
+                            email.setClaimedBy(invocation.getArgument(3));
+                            email.setClaimedAt(invocation.getArgument(4));
+                        }
+                        return claimed.size();
+                    }
+                });
+        when(repository.findByClaimedByAndStatus(anyString(), any(EmailStatus.class))).thenAnswer(invocation -> {
+            String claimedBy = invocation.getArgument(0);
+            EmailStatus status = invocation.getArgument(1);
+            synchronized (table) {
+                return table.stream()
+                        .filter(email -> claimedBy.equals(email.getClaimedBy()) && email.getStatus() == status)
+                        .toList();
+            }
+        });
+        when(repository.releaseClaims(any(EmailStatus.class), any(EmailStatus.class), any(LocalDateTime.class))).thenAnswer(invocation -> {
+            EmailStatus from = invocation.getArgument(0);
+            LocalDateTime claimedBefore = invocation.getArgument(2);
+            synchronized (table) {
+                List<OutboundEmail> released = table.stream()
+                        .filter(email -> email.getStatus() == from
+                                && (email.getClaimedAt() == null || email.getClaimedAt().isBefore(claimedBefore)))
+                        .toList();
+                released.forEach(email -> email.setStatus(invocation.getArgument(1)));
+                return released.size();
+            }
+        });
+
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+
+        properties = new MailQueueProperties();
+        properties.setWorkers(2);
+        properties.setBatchSize(3);
+        properties.setMaxAttempts(2);
+        properties.setInitialBackoff(Duration.ofMinutes(1));
+
+        meterRegistry = new SimpleMeterRegistry();
+        mailQueueService = new MailQueueServiceImpl(repository, mailSender, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        mailQueueService.stop();
+    }
+
+    @Test
+    public void testDispatch_SendsQueuedEmailsInBatches() {
+        for (int i = 0; i < 5; i++) {
+            mailQueueService.enqueue("player" + i + "@mychess.com", "Subject " + i, "Content " + i);
+        }
+        mailQueueService.refreshQueueDepth();
+        assertEquals(5.0, meterRegistry.get("email.queue.depth").gauge().value());
+
+        assertEquals(5, mailQueueService.dispatch());
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(5, received.length);
+        assertTrue(table.stream().allMatch(email -> email.getStatus() == EmailStatus.SENT && email.getSentAt() != null));
+        assertEquals(2, meterRegistry.get("email.send.latency").timer().count());
+        assertEquals(5.0, meterRegistry.get("email.send.attempts").tag("outcome", "sent").counter().count());
+        assertEquals(0, mailQueueService.dispatch());
+
+        // The gauge keeps the last count until the dispatcher refreshes it
+        assertEquals(5.0, meterRegistry.get("email.queue.depth").gauge().value());
+        mailQueueService.refreshQueueDepth();
+        assertEquals(0.0, meterRegistry.get("email.queue.depth").gauge().value());
+    }
+
+    @Test
+    public void testDispatch_SkipsEmailsClaimedByAnotherDispatcher() {
+        for (int i = 0; i < 3; i++) {
+            mailQueueService.enqueue("player" + i + "@mychess.com", "Subject " + i, "Content " + i);
+        }
+        OutboundEmail claimedElsewhere = table.get(1);
+        claimedElsewhere.setStatus(EmailStatus.SENDING);
+        claimedElsewhere.setClaimedBy("another-dispatcher");
+        claimedElsewhere.setClaimedAt(LocalDateTime.now());
+
+        assertEquals(2, mailQueueService.dispatch());
+
+        assertEquals(2, greenMail.getReceivedMessages().length);
+        assertEquals(EmailStatus.SENDING, claimedElsewhere.getStatus());
+        assertEquals(0, mailQueueService.releaseTimedOutClaims());
+    }
+
+    @Test
+    public void testReleaseTimedOutClaims_QueuesEmailsAgain() {
+        mailQueueService.enqueue("player@mychess.com", "Subject", "Content");
+        OutboundEmail email = table.get(0);
+        email.setStatus(EmailStatus.SENDING);
+        email.setClaimedBy("stopped-dispatcher");
+        email.setClaimedAt(LocalDateTime.now().minus(properties.getClaimTimeout()).minusSeconds(1));
+
+        assertEquals(1, mailQueueService.releaseTimedOutClaims());
+        assertEquals(EmailStatus.PENDING, email.getStatus());
+        assertEquals(1, mailQueueService.dispatch());
+        assertEquals(EmailStatus.SENT, email.getStatus());
+    }
+
+    @Test
+    public void testDispatch_SendsHtmlEmailAsMultipart() throws Exception {
+        mailQueueService.enqueue("player@mychess.com", "Subject", "Plain content", "<p>HTML content</p>");
+
+        assertEquals(1, mailQueueService.dispatch());
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(1, received.length);
+        assertInstanceOf(MimeMultipart.class, received[0].getContent());
+        String raw = GreenMailUtil.getWholeMessage(received[0]);
+        assertTrue(raw.contains("Plain content"));
+        assertTrue(raw.contains("<p>HTML content</p>"));
+    }
+
+    @Test
+    public void testDispatch_RetriesWithBackoffWhenServerIsDown() {
+        mailQueueService.enqueue("player@mychess.com", "Subject", "Content");
+        greenMail.stop();
+
+        LocalDateTime before = LocalDateTime.now();
+        assertEquals(1, mailQueueService.dispatch());
+
+        OutboundEmail email = table.get(0);
+        assertEquals(EmailStatus.PENDING, email.getStatus());
+        assertEquals(1, email.getAttempts());
+        assertNotNull(email.getLastError());
+        assertFalse(email.getNextAttemptAt().isBefore(before.plus(properties.getInitialBackoff())));
+
+        // Not due until the backoff has passed
+        assertEquals(0, mailQueueService.dispatch());
+
+        // The last attempt also fails, so the email is given up
+        email.setNextAttemptAt(LocalDateTime.now());
+        assertEquals(1, mailQueueService.dispatch());
+        assertEquals(EmailStatus.FAILED, email.getStatus());
+        assertEquals(2, email.getAttempts());
+        assertEquals(1.0, meterRegistry.get("email.send.attempts").tag("outcome", "failed").counter().count());
+    }
+
+    @Test
+    public void testBackoff_DoublesUpToMaximum() {
+        properties.setInitialBackoff(Duration.ofSeconds(30));
+        properties.setMaxBackoff(Duration.ofMinutes(3));
+
+        assertEquals(Duration.ofSeconds(30), properties.backoff(1));
+        assertEquals(Duration.ofSeconds(60), properties.backoff(2));
+        assertEquals(Duration.ofSeconds(120), properties.backoff(3));
+        assertEquals(Duration.ofMinutes(3), properties.backoff(4));
+        assertEquals(Duration.ofMinutes(3), properties.backoff(40));
+    }
+}
@@ -0,0 +1,69 @@
+package com.g1.mychess.email.template;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmailTemplateTest {
+
+    @Test
+    public void testRender_ReplacesVariables() {
+        EmailTemplate template = EmailTemplate.compile("Dear {{username}}, welcome to {{ tournamentName }}!", false);
+
+        assertEquals(List.of("username", "tournamentName"), template.getVariables());
+        assertEquals("Dear alice, welcome to Open 2024!",
+                template.render(Map.of("username", "alice", "tournamentName", "Open 2024")));
+        assertEquals("Dear bob, welcome to Blitz!",
+                template.render(Map.of("username", "bob", "tournamentName", "Blitz")));
+    }
+
+    @Test
+    public void testRender_MissingVariableRendersEmpty() {
+        EmailTemplate template = EmailTemplate.compile("Hello {{username}}.", false);
+
+        assertEquals("Hello .", template.render(Map.of()));
+    }
+
+    @Test
+    public void testRender_EscapesHtmlValues() {
+        EmailTemplate html = EmailTemplate.compile("<p>{{name}}</p>", true);
+        EmailTemplate text = EmailTemplate.compile("{{name}}", false);
+
+        assertEquals("<p>&lt;b&gt;Tom &amp; &quot;Jerry&#39;s&quot;&lt;/b&gt;</p>",
+                html.render(Map.of("name", "<b>Tom & \"Jerry's\"</b>")));
+        assertEquals("<b>Tom</b>", text.render(Map.of("name", "<b>Tom</b>")));
+    }
+
+    @Test
+    public void testCompile_RejectsMalformedVariables() {
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("Dear {{username", false));
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("Dear {{ }}", false));
+    }
+
+    @Test
+    public void testRegistry_RendersTextAndHtmlBodies() {
+        Map<String, Object> variables = Map.of("username", "alice", "verificationUrl", "http://localhost/verify?token=x");
+
+        RenderedEmail text = new EmailTemplateRegistry(false).render(EmailTemplateRegistry.VERIFICATION, variables);
+        assertEquals("Email Verification - MyChess", text.getSubject());
+        assertTrue(text.getText().startsWith("Dear alice,\n\n"));
+        assertTrue(text.getText().contains("http://localhost/verify?token=x"));
+        assertNull(text.getHtml());
+
+        RenderedEmail html = new EmailTemplateRegistry(true).render(EmailTemplateRegistry.VERIFICATION, variables);
+        assertEquals(text.getText(), html.getText());
+        assertNotNull(html.getHtml());
+        assertTrue(html.getHtml().contains("<p>Dear alice,</p>"));
+    }
+
+    @Test
+    public void testRegistry_RejectsUnknownTemplate() {
+        EmailTemplateRegistry registry = new EmailTemplateRegistry(false);
+
+        assertThrows(IllegalArgumentException.class, () -> registry.render("unknown", Map.of()));
+        assertEquals(11, registry.getTemplateIds().size());
+    }
+}
@@ -92,16 +92,8 @@ class Profile extends React.Component {
     checkIfFollowing = async (profileId) => {
         const currentPlayerId = parseInt(sessionStorage.getItem("currentPlayerId"));
         try {
-            const followingList = await PlayerService.getFollowing(currentPlayerId);
-
-            // Access the 'content' array within the response
-            if (Array.isArray(followingList.data.content)) {
-                const isFollowing = followingList.data.content.some(followed => followed.id === profileId);
-                this.setState({ isFollowing });
-            } else {
-                console.error('Expected followingList.data.content to be an array but got:', followingList.data.content);
-                this.setState({ isFollowing: false }); // Default to not following if data is unexpected
-            }
+            const response = await PlayerService.checkFollowing(currentPlayerId, [profileId]);
+            this.setState({ isFollowing: Array.isArray(response.data) && response.data.includes(profileId) });
         } catch (error) {
             console.error('Error checking if following:', error);
         }
@@ -42,6 +42,11 @@ class PlayerService {
     async getFollowing(playerId) {
         return ProtectedPlayerAPI.get(`/player/${playerId}/following`);
     }
+
+    // Returns the ids among playerIds that followerId follows
+    async checkFollowing(followerId, playerIds) {
+        return ProtectedPlayerAPI.post(`/player/${followerId}/following/check`, playerIds);
+    }
 }
 
 export default new PlayerService();
\ No newline at end of file
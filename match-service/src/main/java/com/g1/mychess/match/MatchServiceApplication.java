@@ -1,9 +1,13 @@
 package com.g1.mychess.match;
 
+import com.g1.mychess.match.config.MatchReminderProperties;
+import com.g1.mychess.match.config.TournamentCacheProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
+@EnableConfigurationProperties({MatchReminderProperties.class, TournamentCacheProperties.class})
 public class MatchServiceApplication {
 
     public static void main(String[] args) {
@@ -1,8 +1,10 @@
 package com.g1.mychess.match.client;
+import com.g1.mychess.client.ServiceClientFactory;
 import com.g1.mychess.match.dto.ReminderEmailDTO;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 /**
  * A service client for sending match reminder emails via an external email service.
@@ -18,10 +20,10 @@ public class EmailServiceClient {
      * The URL is injected through the application configuration properties.
      *
      * @param emailServiceUrl The base URL of the email service, configured in application properties.
-     * @param webClientBuilder A builder for the WebClient used to make HTTP requests to the email service.
+     * @param serviceClientFactory The factory creating the pooled WebClient used to make HTTP requests to the email service.
      */
-    public EmailServiceClient(@Value("${player.service.url}") String emailServiceUrl, WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.baseUrl(emailServiceUrl).build();
+    public EmailServiceClient(@Value("${email.service.url}") String emailServiceUrl, ServiceClientFactory serviceClientFactory) {
+        this.webClient = serviceClientFactory.create("email", emailServiceUrl);
     }
 
     /**
@@ -29,15 +31,18 @@ public class EmailServiceClient {
      * This method takes a {@link ReminderEmailDTO} object that contains the necessary information
      * (e.g., recipient, tournament name, scheduled match time) to send a reminder email to a player.
      *
+     * The request is sent when the returned {@link Mono} is subscribed to, so that many reminders can be
+     * sent in parallel.
+     *
      * @param reminderEmailDTO A DTO containing the details of the match reminder email.
+     * @return A {@link Mono} completing once the email service has accepted the email.
      * @see ReminderEmailDTO
      */
-    public void sendMatchReminderEmail(ReminderEmailDTO reminderEmailDTO){
-        webClient.post()
+    public Mono<Void> sendMatchReminderEmail(ReminderEmailDTO reminderEmailDTO){
+        return webClient.post()
                 .uri("/api/v1/email/matchreminder")
                 .bodyValue(reminderEmailDTO)
                 .retrieve()
-                .bodyToMono(Void.class)
-                .block();
+                .bodyToMono(Void.class);
     }
 }
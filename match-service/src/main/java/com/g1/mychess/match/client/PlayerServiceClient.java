@@ -1,26 +1,42 @@
 package com.g1.mychess.match.client;
 
+import com.g1.mychess.client.FanOut;
+import com.g1.mychess.client.ServiceClientFactory;
+import com.g1.mychess.match.dto.PlayerDTO;
 import com.g1.mychess.match.dto.PlayerRatingUpdateDTO;
 import com.g1.mychess.match.dto.UserDTO;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Client for interacting with the Player service to update player profile ratings.
  */
 @Service
 public class PlayerServiceClient {
+
+    /**
+     * Number of players requested per call to the batch details endpoint.
+     */
+    static final int DETAILS_BATCH_SIZE = 100;
+
     private final WebClient webClient;
+    private final FanOut fanOut;
 
     /**
      * Constructs a PlayerServiceClient with the specified base URL.
      *
      * @param playerServiceUrl the base URL of the Player service.
-     * @param webClientBuilder a WebClient.Builder for creating a WebClient.
+     * @param serviceClientFactory the factory creating the pooled WebClient.
+     * @param fanOut the helper running the chunk requests in parallel.
      */
-    public PlayerServiceClient(@Value("${player.service.url}") String playerServiceUrl, WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.baseUrl(playerServiceUrl).build();
+    public PlayerServiceClient(@Value("${player.service.url}") String playerServiceUrl, ServiceClientFactory serviceClientFactory, FanOut fanOut) {
+        this.webClient = serviceClientFactory.create("player", playerServiceUrl);
+        this.fanOut = fanOut;
     }
 
     /**
@@ -37,6 +53,20 @@ public class PlayerServiceClient {
                 .block();
     }
 
+    /**
+     * Sends a single request to update the rating profiles of several players at once.
+     *
+     * @param ratingUpdates the PlayerRatingUpdateDTOs containing the updated rating information of each player.
+     */
+    public void updatePlayerProfileRatings(List<PlayerRatingUpdateDTO> ratingUpdates) {
+        webClient.post()
+                .uri("/api/v1/profile/ratings")
+                .bodyValue(ratingUpdates)
+                .retrieve()
+                .bodyToMono(Void.class)
+                .block();
+    }
+
     /**
      * Retrieves the details of a player from the external player service.
      * This method uses the WebClient to make a GET request to the player service
@@ -53,4 +83,27 @@ public class PlayerServiceClient {
                 .block();
     }
 
-}
\ No newline at end of file
+    /**
+     * Retrieves the details of several players from the player service, requesting them in chunks of
+     * {@link #DETAILS_BATCH_SIZE} so that a large roster costs a handful of calls instead of one per player.
+     * The chunks are fetched in parallel and their players returned in the order of the IDs.
+     * Players that do not exist are left out of the result.
+     *
+     * @param playerIds The IDs of the players whose details are to be retrieved.
+     * @return A list of {@link PlayerDTO} containing the details of the players.
+     */
+    public List<PlayerDTO> getPlayersDetails(List<Long> playerIds) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < playerIds.size(); from += DETAILS_BATCH_SIZE) {
+            chunks.add(playerIds.subList(from, Math.min(from + DETAILS_BATCH_SIZE, playerIds.size())));
+        }
+        return fanOut.map(chunks, chunk -> webClient.post()
+                        .uri("/api/v1/player/details")
+                        .bodyValue(chunk)
+                        .retrieve()
+                        .bodyToMono(new ParameterizedTypeReference<List<PlayerDTO>>() {}))
+                .flatMapIterable(players -> players)
+                .collectList()
+                .block();
+    }
+}
@@ -0,0 +1,173 @@
+package com.g1.mychess.match.client;
+
+import com.g1.mychess.match.config.TournamentCacheProperties;
+import com.g1.mychess.match.dto.TournamentDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded cache of the tournament details looked up by the {@link TournamentServiceClient}.
+ * <p>
+ * Match scheduling and reminders look up the same few tournaments over and over, while their name and admin rarely
+ * change. Entries expire after {@code match.tournament-cache.ttl} and are dropped as soon as the tournament service
+ * reports an update. When the cache is full, expired entries are evicted first, then an arbitrary tenth of the
+ * remaining ones, which keeps eviction amortised O(1) per insert.
+ * </p>
+ * <p>
+ * Lookups are published as {@code cache.gets} with a {@code result} tag of {@code hit} or {@code miss}, together with
+ * {@code cache.size} and {@code cache.evictions}, all tagged {@code cache=tournaments}. The cached details are shared
+ * between callers and must not be modified.
+ * </p>
+ */
+@Component
+public class TournamentCache {
+
+    private static final String CACHE_NAME = "tournaments";
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<Long, Entry> entries;
+
+    /**
+     * Incremented by every invalidation, so that details fetched before an invalidation are not cached after it.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    /**
+     * Constructs the cache and registers its metrics.
+     *
+     * @param properties The TTL and maximum size of the cache.
+     * @param meterRegistry The registry the cache metrics are published to.
+     */
+    @Autowired
+    public TournamentCache(TournamentCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::currentTimeMillis);
+    }
+
+    TournamentCache(TournamentCacheProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.maxSize = properties.getMaxSize();
+        this.ttlMillis = properties.getTtl().toMillis();
+        this.clock = clock;
+        this.entries = new ConcurrentHashMap<>(Math.min(Math.max(maxSize, 16), 1024));
+
+        this.hits = getsCounter(meterRegistry, "hit");
+        this.misses = getsCounter(meterRegistry, "miss");
+        this.evictions = Counter.builder("cache.evictions")
+                .description("Tournaments evicted from the cache because it was full")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        Gauge.builder("cache.size", entries, Map::size)
+                .description("Number of tournaments in the cache")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Gets the cached details of a tournament, unless they are unknown or have expired.
+     *
+     * @param tournamentId The ID of the tournament.
+     * @return The cached details, or {@code null}.
+     */
+    public TournamentDTO get(Long tournamentId) {
+        Entry entry = entries.get(tournamentId);
+        if (entry != null && entry.isExpired(clock.getAsLong())) {
+            entries.remove(tournamentId, entry);
+            entry = null;
+        }
+        (entry != null ? hits : misses).increment();
+        return entry != null ? entry.tournament : null;
+    }
+
+    /**
+     * Gets the current version of the cache, to be passed to {@link #put} once the details looked up have arrived.
+     *
+     * @return The number of invalidations so far.
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Caches the details of a tournament, unless the cache was invalidated since they were requested.
+     *
+     * @param tournamentId The ID of the tournament.
+     * @param tournament The details of the tournament.
+     * @param requestedAtVersion The {@link #version()} read before the details were requested.
+     */
+    public void put(Long tournamentId, TournamentDTO tournament, long requestedAtVersion) {
+        if (maxSize <= 0 || tournament == null) return;
+
+        long now = clock.getAsLong();
+        if (entries.size() >= maxSize && !entries.containsKey(tournamentId)) {
+            evict(now);
+        }
+        entries.put(tournamentId, new Entry(tournament, now + ttlMillis));
+        // Checked after the put, so an invalidation racing with it either sees the entry or is seen here
+        if (version.get() != requestedAtVersion) {
+            entries.remove(tournamentId);
+        }
+    }
+
+    /**
+     * Drops the cached details of a tournament, so that the next lookup fetches them again.
+     *
+     * @param tournamentId The ID of the tournament.
+     */
+    public void invalidate(Long tournamentId) {
+        version.incrementAndGet();
+        entries.remove(tournamentId);
+    }
+
+    /**
+     * Gets the number of tournaments currently cached, including expired ones not yet evicted.
+     *
+     * @return The number of cached tournaments.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        entries.values().removeIf(entry -> entry.isExpired(now));
+
+        int target = maxSize - Math.max(1, maxSize / 10);
+        Iterator<Long> tournamentIds = entries.keySet().iterator();
+        while (entries.size() > target && tournamentIds.hasNext()) {
+            tournamentIds.next();
+            tournamentIds.remove();
+            evictions.increment();
+        }
+    }
+
+    private static Counter getsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.gets")
+                .description("Tournament lookups served from the cache (hit) or by the tournament service (miss)")
+                .tag("cache", CACHE_NAME)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * The cached details of one tournament, valid until a fixed time.
+     */
+    private record Entry(TournamentDTO tournament, long expiresAtMillis) {
+
+        private boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+}
@@ -1,26 +1,35 @@
 package com.g1.mychess.match.client;
 
+import com.g1.mychess.client.ServiceClientFactory;
 import com.g1.mychess.match.dto.TournamentDTO;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
 
 /**
  * Client for fetching tournament details from an external Tournament service.
+ * Details are served from the {@link TournamentCache} while they are fresh.
  */
 @Service
 public class TournamentServiceClient {
 
     private final WebClient webClient;
+    private final TournamentCache tournamentCache;
 
     /**
      * Constructs a TournamentServiceClient with the specified base URL.
      *
      * @param tournamentServiceUrl the base URL of the Tournament service.
-     * @param webClientBuilder a WebClient.Builder for creating a WebClient.
+     * @param serviceClientFactory the factory creating the pooled WebClient.
+     * @param tournamentCache the cache of recently fetched tournament details.
      */
-    public TournamentServiceClient(@Value("${tournament.service.url}") String tournamentServiceUrl, WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.baseUrl(tournamentServiceUrl).build();
+    public TournamentServiceClient(@Value("${tournament.service.url}") String tournamentServiceUrl, ServiceClientFactory serviceClientFactory, TournamentCache tournamentCache) {
+        this.webClient = serviceClientFactory.create("tournament", tournamentServiceUrl);
+        this.tournamentCache = tournamentCache;
     }
 
     /**
@@ -30,10 +39,39 @@ public class TournamentServiceClient {
      * @return the details of the tournament as a TournamentDTO.
      */
     public TournamentDTO getTournamentDetails(Long tournamentId) {
-        return webClient.get()
-                .uri("/api/v1/tournaments/id/{tournamentId}", tournamentId)
-                .retrieve()
-                .bodyToMono(TournamentDTO.class)
-                .block();
+        return getTournamentDetailsAsync(tournamentId).block();
+    }
+
+    /**
+     * Looks up a tournament that may not exist, e.g. to tell an unknown tournament from one without matches.
+     *
+     * @param tournamentId the ID of the tournament to look up.
+     * @return the details of the tournament, or empty if the tournament service does not know it.
+     */
+    public Optional<TournamentDTO> findTournament(Long tournamentId) {
+        return getTournamentDetailsAsync(tournamentId)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())
+                .blockOptional();
+    }
+
+    /**
+     * Retrieves the details of a tournament by its ID without blocking, so that several tournaments can be
+     * looked up in parallel.
+     *
+     * @param tournamentId the ID of the tournament to retrieve.
+     * @return a Mono emitting the details of the tournament.
+     */
+    public Mono<TournamentDTO> getTournamentDetailsAsync(Long tournamentId) {
+        return Mono.defer(() -> {
+            TournamentDTO cached = tournamentCache.get(tournamentId);
+            if (cached != null) return Mono.just(cached);
+
+            long version = tournamentCache.version();
+            return webClient.get()
+                    .uri("/api/v1/tournaments/id/{tournamentId}", tournamentId)
+                    .retrieve()
+                    .bodyToMono(TournamentDTO.class)
+                    .doOnNext(tournament -> tournamentCache.put(tournamentId, tournament, version));
+        });
     }
 }
\ No newline at end of file
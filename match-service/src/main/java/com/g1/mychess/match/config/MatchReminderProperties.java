@@ -0,0 +1,49 @@
+package com.g1.mychess.match.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the match reminders, bound from {@code match.reminders.*}.
+ */
+@ConfigurationProperties(prefix = "match.reminders")
+public class MatchReminderProperties {
+
+    /**
+     * How long before the scheduled time of a match its participants are reminded.
+     */
+    private Duration leadTime = Duration.ofHours(1);
+
+    /**
+     * Time between two loads of the upcoming reminders from the database. Matches created or rescheduled in between
+     * are picked up by the next load at the latest.
+     */
+    private Duration reloadInterval = Duration.ofMinutes(1);
+
+    public Duration getLeadTime() {
+        return leadTime;
+    }
+
+    public void setLeadTime(Duration leadTime) {
+        this.leadTime = leadTime;
+    }
+
+    public Duration getReloadInterval() {
+        return reloadInterval;
+    }
+
+    public void setReloadInterval(Duration reloadInterval) {
+        this.reloadInterval = reloadInterval;
+    }
+
+    /**
+     * Gets how far ahead of now the scheduled times of the loaded reminders may lie. Two reload intervals beyond the
+     * lead time, so that every reminder is queued at least one load before it is due.
+     *
+     * @return The loading horizon.
+     */
+    public Duration getHorizon() {
+        return leadTime.plus(reloadInterval.multipliedBy(2));
+    }
+}
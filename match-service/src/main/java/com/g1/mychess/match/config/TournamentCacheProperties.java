@@ -0,0 +1,39 @@
+package com.g1.mychess.match.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings of the cache of tournament details, bound from {@code match.tournament-cache.*}.
+ */
+@ConfigurationProperties(prefix = "match.tournament-cache")
+public class TournamentCacheProperties {
+
+    /**
+     * How long the details of a tournament are served from the cache. The tournament service invalidates an entry
+     * when the tournament is updated, so this only bounds the staleness left by a lost notification.
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * The maximum number of tournaments kept. Zero disables the cache.
+     */
+    private int maxSize = 1000;
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+}
@@ -2,6 +2,7 @@ package com.g1.mychess.match.controller;
 
 import java.util.*;
 
+import com.g1.mychess.match.client.TournamentCache;
 import com.g1.mychess.match.dto.MatchDTO;
 import com.g1.mychess.match.dto.MatchResultDTO;
 import com.g1.mychess.match.dto.MatchmakingDTO;
@@ -27,6 +28,7 @@ public class MatchController {
     private final MatchResultService matchResultService;
     private final MatchTimeService matchTimeService;
     private final TournamentFinalisationService tournamentFinalisationService;
+    private final TournamentCache tournamentCache;
 
     /**
      * Constructs the MatchController with the required services.
@@ -36,13 +38,15 @@ public class MatchController {
      * @param matchResultService The service for processing match results.
      * @param matchTimeService The service for updating match times.
      * @param tournamentFinalisationService The service for finalizing tournaments.
+     * @param tournamentCache The cache of tournament details fetched from the tournament service.
      */
-    public MatchController(MatchService matchService, MatchmakingService matchmakingService, MatchResultService matchResultService, MatchTimeService matchTimeService, TournamentFinalisationService tournamentFinalisationService) {
+    public MatchController(MatchService matchService, MatchmakingService matchmakingService, MatchResultService matchResultService, MatchTimeService matchTimeService, TournamentFinalisationService tournamentFinalisationService, TournamentCache tournamentCache) {
         this.matchService = matchService;
         this.matchmakingService = matchmakingService;
         this.matchResultService = matchResultService;
         this.matchTimeService = matchTimeService;
         this.tournamentFinalisationService = tournamentFinalisationService;
+        this.tournamentCache = tournamentCache;
     }
 
     /**
@@ -54,6 +58,8 @@ public class MatchController {
      */
     @PostMapping("/admin/{tournamentId}/matchmaking")
     public ResponseEntity<String> runMatchmaking(@PathVariable Long tournamentId, @Valid @RequestBody MatchmakingDTO matchmakingDTO, @Valid @RequestBody String tournamentFormat) {
+        // The tournament has moved to a new round
+        tournamentCache.invalidate(tournamentId);
         matchmakingService.runMatchmaking(matchmakingDTO, tournamentFormat);
         return ResponseEntity.status(HttpStatus.OK).body("Matchmaking for tournament " + tournamentId + " started successfully.");
     }
@@ -78,10 +84,24 @@ public class MatchController {
      */
     @PostMapping("/admin/{tournamentId}/status/completed")
     public ResponseEntity<String> finalizeTournament(@Valid @RequestBody MatchmakingDTO matchmakingDTO) {
+        tournamentCache.invalidate(matchmakingDTO.getTournamentId());
         tournamentFinalisationService.finalizeTournament(matchmakingDTO);
         return ResponseEntity.ok("Tournament finalized successfully.");
     }
 
+    /**
+     * Endpoint notified by the tournament service when a tournament has been updated, so that its cached details
+     * are fetched again on the next lookup.
+     *
+     * @param tournamentId The ID of the updated tournament.
+     * @return An empty response once the cached details have been dropped.
+     */
+    @PostMapping("/admin/tournaments/{tournamentId}/events/updated")
+    public ResponseEntity<Void> tournamentUpdated(@PathVariable Long tournamentId) {
+        tournamentCache.invalidate(tournamentId);
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Endpoint to retrieve all matches for a specific tournament.
      *
@@ -0,0 +1,83 @@
+package com.g1.mychess.match.dto;
+
+/**
+ * Data Transfer Object (DTO) representing the details of a player, as returned by the player service.
+ * Only the fields the match service needs are mapped; the other fields of the response are ignored.
+ */
+public class PlayerDTO {
+
+    /**
+     * The unique identifier of the player.
+     */
+    private Long id;
+
+    /**
+     * The username of the player.
+     */
+    private String username;
+
+    /**
+     * The email address of the player.
+     */
+    private String email;
+
+    /**
+     * Default constructor for creating an empty PlayerDTO.
+     */
+    public PlayerDTO() {}
+
+    /**
+     * Constructs a PlayerDTO with the given details.
+     *
+     * @param id The unique identifier of the player.
+     * @param username The username of the player.
+     * @param email The email address of the player.
+     */
+    public PlayerDTO(Long id, String username, String email) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+    }
+
+    /**
+     * Gets the unique identifier of the player.
+     *
+     * @return The player ID.
+     */
+    public Long getId() { return id; }
+
+    /**
+     * Sets the unique identifier of the player.
+     *
+     * @param id The player ID to set.
+     */
+    public void setId(Long id) { this.id = id; }
+
+    /**
+     * Gets the username of the player.
+     *
+     * @return The username.
+     */
+    public String getUsername() { return username; }
+
+    /**
+     * Sets the username of the player.
+     *
+     * @param username The username to set.
+     */
+    public void setUsername(String username) { this.username = username; }
+
+    /**
+     * Gets the email address of the player.
+     *
+     * @return The email address.
+     */
+    public String getEmail() { return email; }
+
+    /**
+     * Sets the email address of the player.
+     *
+     * @param email The email address to set.
+     */
+    public void setEmail(String email) { this.email = email; }
+}
@@ -26,6 +26,11 @@ public class PlayerRatingUpdateDTO {
      */
     private double volatility;
 
+    /**
+     * The tournament whose result this update is, or {@code null} for any other rating change.
+     */
+    private Long tournamentId;
+
     // Constructors
 
     /**
@@ -116,4 +121,22 @@ public class PlayerRatingUpdateDTO {
     public void setVolatility(double volatility) {
         this.volatility = volatility;
     }
+
+    /**
+     * Gets the tournament whose result this update is.
+     *
+     * @return The tournament ID, or {@code null} if the update is not a tournament result.
+     */
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    /**
+     * Sets the tournament whose result this update is.
+     *
+     * @param tournamentId The tournament ID to set.
+     */
+    public void setTournamentId(Long tournamentId) {
+        this.tournamentId = tournamentId;
+    }
 }
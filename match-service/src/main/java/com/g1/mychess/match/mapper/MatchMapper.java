@@ -3,11 +3,9 @@ package com.g1.mychess.match.mapper;
 import com.g1.mychess.match.dto.MatchDTO;
 import com.g1.mychess.match.dto.TournamentResultsDTO;
 import com.g1.mychess.match.model.Match;
-import com.g1.mychess.match.model.MatchPlayer;
+import com.g1.mychess.match.model.TournamentStanding;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -37,25 +35,17 @@ public class MatchMapper {
                 .collect(Collectors.toList());
     }
 
-    public static TournamentResultsDTO toTournamentResultsDTO(List<MatchPlayer> matchPlayers) {
-        // Create a map of unique player IDs and corresponding PlayerResultDTOs (no points summing)
-        Map<Long, TournamentResultsDTO.PlayerResultDTO> uniquePlayerResults = matchPlayers.stream()
-                .collect(Collectors.toMap(
-                        MatchPlayer::getPlayerId,
-                        mp -> new TournamentResultsDTO.PlayerResultDTO(mp.getPlayerId(), mp.getPoints()),
-                        (existing, replacement) -> existing // Keep the first occurrence of each player ID
-                ));
-
-        // Convert map values to a list for the final DTO
-        List<TournamentResultsDTO.PlayerResultDTO> playerResults = new ArrayList<>(uniquePlayerResults.values());
-
-        // Assume tournamentId is derived from the first match's tournamentId in the list of MatchPlayers
-        Long tournamentId = matchPlayers.isEmpty() ? null : matchPlayers.get(0).getMatch().getTournamentId();
-
-        // Return the final TournamentResultsDTO with unique player results
+    /**
+     * Converts the standings of a tournament to its results, keeping their order.
+     *
+     * @param tournamentId the ID of the tournament.
+     * @param standings the standings of the tournament's players.
+     * @return the resulting TournamentResultsDTO.
+     */
+    public static TournamentResultsDTO toTournamentResultsDTO(Long tournamentId, List<TournamentStanding> standings) {
+        List<TournamentResultsDTO.PlayerResultDTO> playerResults = standings.stream()
+                .map(standing -> new TournamentResultsDTO.PlayerResultDTO(standing.getPlayerId(), standing.getPoints()))
+                .collect(Collectors.toList());
         return new TournamentResultsDTO(tournamentId, playerResults);
     }
-
-
-
 }
\ No newline at end of file
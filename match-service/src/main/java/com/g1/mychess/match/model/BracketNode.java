@@ -0,0 +1,260 @@
+package com.g1.mychess.match.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+
+/**
+ * Entity representing one match of a knockout bracket.
+ *
+ * The {@code BracketNode} class holds the two player slots of a bracket match, the match once both slots are filled,
+ * and the winner once it is completed. Nodes are linked to the node their winner advances to, so the whole bracket
+ * is created when the tournament is seeded and advancing a winner only touches a node and its parent.
+ * This entity is mapped to the `bracket_nodes` table in the database.
+ */
+@Entity
+@Table(name = "bracket_nodes",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"tournament_id", "round_number", "position"}),
+        indexes = @Index(columnList = "match_id"))
+public class BracketNode {
+
+    /**
+     * Unique identifier for the bracket node.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The ID of the tournament this bracket node belongs to.
+     */
+    @Column(name = "tournament_id", nullable = false)
+    @NotNull
+    private Long tournamentId;
+
+    /**
+     * The round of the node, starting from 1 for the first round of the bracket.
+     */
+    @Column(name = "round_number", nullable = false)
+    @Min(1)
+    private int roundNumber;
+
+    /**
+     * The position of the node within its round, starting from 0 at the top of the bracket.
+     */
+    @Column(name = "position", nullable = false)
+    @Min(0)
+    private int position;
+
+    /**
+     * The node the winner of this node advances to, or {@code null} for the final.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    private BracketNode parent;
+
+    /**
+     * The slot of the player playing white, filled by the winner of the upper feeding node.
+     */
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "playerId", column = @Column(name = "top_player_id")),
+            @AttributeOverride(name = "glickoRating", column = @Column(name = "top_glicko_rating")),
+            @AttributeOverride(name = "ratingDeviation", column = @Column(name = "top_rating_deviation")),
+            @AttributeOverride(name = "volatility", column = @Column(name = "top_volatility")),
+            @AttributeOverride(name = "points", column = @Column(name = "top_points"))
+    })
+    private BracketSlot top = new BracketSlot();
+
+    /**
+     * The slot of the player playing black, filled by the winner of the lower feeding node.
+     */
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "playerId", column = @Column(name = "bottom_player_id")),
+            @AttributeOverride(name = "glickoRating", column = @Column(name = "bottom_glicko_rating")),
+            @AttributeOverride(name = "ratingDeviation", column = @Column(name = "bottom_rating_deviation")),
+            @AttributeOverride(name = "volatility", column = @Column(name = "bottom_volatility")),
+            @AttributeOverride(name = "points", column = @Column(name = "bottom_points"))
+    })
+    private BracketSlot bottom = new BracketSlot();
+
+    /**
+     * The ID of the match played at this node, or {@code null} until both slots are filled.
+     */
+    @Column(name = "match_id")
+    private Long matchId;
+
+    /**
+     * The ID of the player who won this node, or {@code null} while it is undecided.
+     * A player without an opponent in the first round wins their node by a bye.
+     */
+    @Column(name = "winner_id")
+    private Long winnerId;
+
+    /**
+     * Gets the slot the winner of this node fills in the parent node.
+     * Nodes at even positions feed the top slot and nodes at odd positions feed the bottom slot.
+     * @return the slot of the parent node, or {@code null} if this node is the final.
+     */
+    public BracketSlot getParentSlot() {
+        if (parent == null) return null;
+        return position % 2 == 0 ? parent.getTop() : parent.getBottom();
+    }
+
+    /**
+     * Checks whether both slots of the node are filled, so its match can be played.
+     * @return true if both players are known, false otherwise.
+     */
+    public boolean isReady() {
+        return getTop().isFilled() && getBottom().isFilled();
+    }
+
+    // Getters and Setters
+
+    /**
+     * Gets the ID of the bracket node.
+     * @return the ID of the bracket node.
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the ID of the bracket node.
+     * @param id the ID to set.
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the tournament ID of the bracket node.
+     * @return the tournament ID.
+     */
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    /**
+     * Sets the tournament ID of the bracket node.
+     * @param tournamentId the tournament ID to set.
+     */
+    public void setTournamentId(Long tournamentId) {
+        this.tournamentId = tournamentId;
+    }
+
+    /**
+     * Gets the round of the bracket node.
+     * @return the round number.
+     */
+    public int getRoundNumber() {
+        return roundNumber;
+    }
+
+    /**
+     * Sets the round of the bracket node.
+     * @param roundNumber the round number to set.
+     */
+    public void setRoundNumber(int roundNumber) {
+        this.roundNumber = roundNumber;
+    }
+
+    /**
+     * Gets the position of the bracket node within its round.
+     * @return the position.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Sets the position of the bracket node within its round.
+     * @param position the position to set.
+     */
+    public void setPosition(int position) {
+        this.position = position;
+    }
+
+    /**
+     * Gets the node the winner of this node advances to.
+     * @return the parent node, or {@code null} for the final.
+     */
+    public BracketNode getParent() {
+        return parent;
+    }
+
+    /**
+     * Sets the node the winner of this node advances to.
+     * @param parent the parent node to set.
+     */
+    public void setParent(BracketNode parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Gets the top slot of the bracket node.
+     * Hibernate loads an embedded slot whose columns are all null as {@code null}, so an open slot read from
+     * the database is returned as an empty one.
+     * @return the top slot.
+     */
+    public BracketSlot getTop() {
+        return top != null ? top : new BracketSlot();
+    }
+
+    /**
+     * Sets the top slot of the bracket node.
+     * @param top the top slot to set.
+     */
+    public void setTop(BracketSlot top) {
+        this.top = top;
+    }
+
+    /**
+     * Gets the bottom slot of the bracket node.
+     * An open slot read from the database is returned as an empty one, see {@link #getTop()}.
+     * @return the bottom slot.
+     */
+    public BracketSlot getBottom() {
+        return bottom != null ? bottom : new BracketSlot();
+    }
+
+    /**
+     * Sets the bottom slot of the bracket node.
+     * @param bottom the bottom slot to set.
+     */
+    public void setBottom(BracketSlot bottom) {
+        this.bottom = bottom;
+    }
+
+    /**
+     * Gets the ID of the match played at this node.
+     * @return the match ID, or {@code null} if the match has not been created.
+     */
+    public Long getMatchId() {
+        return matchId;
+    }
+
+    /**
+     * Sets the ID of the match played at this node.
+     * @param matchId the match ID to set.
+     */
+    public void setMatchId(Long matchId) {
+        this.matchId = matchId;
+    }
+
+    /**
+     * Gets the ID of the player who won this node.
+     * @return the winner ID, or {@code null} if the node is undecided.
+     */
+    public Long getWinnerId() {
+        return winnerId;
+    }
+
+    /**
+     * Sets the ID of the player who won this node.
+     * @param winnerId the winner ID to set.
+     */
+    public void setWinnerId(Long winnerId) {
+        this.winnerId = winnerId;
+    }
+}
@@ -0,0 +1,154 @@
+package com.g1.mychess.match.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * Embeddable representing one of the two player slots of a {@link BracketNode}.
+ *
+ * A slot is open until the winner of the feeding node (or a seeded player) is placed in it. The player's rating
+ * is kept with the slot so that the node's match can be created without looking up the player's previous match.
+ */
+@Embeddable
+public class BracketSlot {
+
+    /**
+     * The ID of the player in the slot, or {@code null} while the slot is open.
+     */
+    @Column(name = "player_id")
+    private Long playerId;
+
+    /**
+     * The Glicko rating of the player when they entered the slot.
+     */
+    @Column(name = "glicko_rating")
+    private Double glickoRating;
+
+    /**
+     * The rating deviation of the player when they entered the slot.
+     */
+    @Column(name = "rating_deviation")
+    private Double ratingDeviation;
+
+    /**
+     * The volatility of the player when they entered the slot.
+     */
+    @Column(name = "volatility")
+    private Double volatility;
+
+    /**
+     * The points of the player when they entered the slot.
+     */
+    @Column(name = "points")
+    private Double points;
+
+    public BracketSlot() {
+    }
+
+    /**
+     * Creates a filled slot for the given player.
+     *
+     * @param playerId The ID of the player.
+     * @param glickoRating The Glicko rating of the player.
+     * @param ratingDeviation The rating deviation of the player.
+     * @param volatility The volatility of the player.
+     * @param points The points of the player.
+     */
+    public BracketSlot(Long playerId, double glickoRating, double ratingDeviation, double volatility, double points) {
+        this.playerId = playerId;
+        this.glickoRating = glickoRating;
+        this.ratingDeviation = ratingDeviation;
+        this.volatility = volatility;
+        this.points = points;
+    }
+
+    /**
+     * Checks whether a player has been placed in the slot.
+     * @return true if the slot is filled, false if it is open.
+     */
+    public boolean isFilled() {
+        return playerId != null;
+    }
+
+    // Getters and Setters
+
+    /**
+     * Gets the ID of the player in the slot.
+     * @return the player ID, or {@code null} if the slot is open.
+     */
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    /**
+     * Sets the ID of the player in the slot.
+     * @param playerId the player ID to set.
+     */
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+
+    /**
+     * Gets the Glicko rating of the player in the slot.
+     * @return the Glicko rating.
+     */
+    public Double getGlickoRating() {
+        return glickoRating;
+    }
+
+    /**
+     * Sets the Glicko rating of the player in the slot.
+     * @param glickoRating the Glicko rating to set.
+     */
+    public void setGlickoRating(Double glickoRating) {
+        this.glickoRating = glickoRating;
+    }
+
+    /**
+     * Gets the rating deviation of the player in the slot.
+     * @return the rating deviation.
+     */
+    public Double getRatingDeviation() {
+        return ratingDeviation;
+    }
+
+    /**
+     * Sets the rating deviation of the player in the slot.
+     * @param ratingDeviation the rating deviation to set.
+     */
+    public void setRatingDeviation(Double ratingDeviation) {
+        this.ratingDeviation = ratingDeviation;
+    }
+
+    /**
+     * Gets the volatility of the player in the slot.
+     * @return the volatility.
+     */
+    public Double getVolatility() {
+        return volatility;
+    }
+
+    /**
+     * Sets the volatility of the player in the slot.
+     * @param volatility the volatility to set.
+     */
+    public void setVolatility(Double volatility) {
+        this.volatility = volatility;
+    }
+
+    /**
+     * Gets the points of the player in the slot.
+     * @return the points.
+     */
+    public Double getPoints() {
+        return points;
+    }
+
+    /**
+     * Sets the points of the player in the slot.
+     * @param points the points to set.
+     */
+    public void setPoints(Double points) {
+        this.points = points;
+    }
+}
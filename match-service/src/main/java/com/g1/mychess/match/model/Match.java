@@ -11,7 +11,8 @@ import java.util.Set;
  * scheduled time, status, and round number.
  */
 @Entity
-@Table(name = "matches")
+@Table(name = "matches",
+        indexes = @Index(name = "idx_matches_scheduled_time", columnList = "scheduled_time"))
 public class Match {
 
     /**
@@ -58,6 +59,13 @@ public class Match {
     @Min(1)
     private Integer roundNumber;
 
+    /**
+     * The time the reminder of the match was claimed for sending, or null if no reminder has been sent yet
+     * for the current scheduled time.
+     */
+    @Column(name = "reminder_sent_at")
+    private LocalDateTime reminderSentAt;
+
     /**
      * Enumeration representing the possible statuses of a match.
      */
@@ -165,4 +173,20 @@ public class Match {
     public void setRoundNumber(Integer roundNumber) {
         this.roundNumber = roundNumber;
     }
+
+    /**
+     * Gets the time the reminder of the match was sent.
+     * @return the time the reminder was sent, or null if it has not been sent.
+     */
+    public LocalDateTime getReminderSentAt() {
+        return reminderSentAt;
+    }
+
+    /**
+     * Sets the time the reminder of the match was sent.
+     * @param reminderSentAt the time the reminder was sent, or null to send it again.
+     */
+    public void setReminderSentAt(LocalDateTime reminderSentAt) {
+        this.reminderSentAt = reminderSentAt;
+    }
 }
@@ -109,6 +109,13 @@ public class MatchPlayer {
     @Column(name = "result")
     private Result result;
 
+    /**
+     * The colour the player has in this match, or {@code null} for byes.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "colour")
+    private Colour colour;
+
     /**
      * Enum representing the possible outcomes of a match.
      */
@@ -118,6 +125,14 @@ public class MatchPlayer {
         DRAW
     }
 
+    /**
+     * Enum representing the colour of the pieces a player has in a match.
+     */
+    public enum Colour {
+        WHITE,
+        BLACK
+    }
+
     // Getters and Setters
 
     /**
@@ -327,4 +342,20 @@ public class MatchPlayer {
     public void setGameDuration(Long gameDuration) {
         this.gameDuration = gameDuration;
     }
+
+    /**
+     * Gets the colour the player has in this match.
+     * @return the colour, or {@code null} for byes.
+     */
+    public Colour getColour() {
+        return colour;
+    }
+
+    /**
+     * Sets the colour the player has in this match.
+     * @param colour the colour to set.
+     */
+    public void setColour(Colour colour) {
+        this.colour = colour;
+    }
 }
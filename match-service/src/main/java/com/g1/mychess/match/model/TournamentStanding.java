@@ -0,0 +1,264 @@
+package com.g1.mychess.match.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entity representing the running standing of a player in a tournament.
+ *
+ * The {@code TournamentStanding} class is a materialised view of a player's results so far: cumulative points,
+ * colour history, opponents played and tiebreaks. It is updated incrementally whenever a match of the player is
+ * completed or the player receives a bye, so pairing a round only needs to read one row per player.
+ * This entity is mapped to the `tournament_standings` table in the database.
+ */
+@Entity
+@Table(name = "tournament_standings",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"tournament_id", "player_id"}))
+public class TournamentStanding {
+
+    /**
+     * Character appended to the colour history for a round in which the player had a bye.
+     */
+    public static final char BYE = '-';
+
+    /**
+     * Unique identifier for the standing record.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The ID of the tournament this standing belongs to.
+     */
+    @Column(name = "tournament_id", nullable = false)
+    @NotNull
+    private Long tournamentId;
+
+    /**
+     * The ID of the player this standing belongs to.
+     */
+    @Column(name = "player_id", nullable = false)
+    @NotNull
+    private Long playerId;
+
+    /**
+     * The cumulative points of the player, including byes.
+     */
+    @Column(name = "points", nullable = false)
+    @Min(0)
+    private double points;
+
+    /**
+     * The number of games the player has played, excluding byes.
+     */
+    @Column(name = "games_played", nullable = false)
+    @Min(0)
+    private int gamesPlayed;
+
+    /**
+     * The number of games the player has won, excluding byes. Used as a tiebreak.
+     */
+    @Column(name = "wins", nullable = false)
+    @Min(0)
+    private int wins;
+
+    /**
+     * The sum of the player's running score after each round (progressive score). Used as a tiebreak.
+     */
+    @Column(name = "cumulative_score", nullable = false)
+    @Min(0)
+    private double cumulativeScore;
+
+    /**
+     * The colours the player had, one character per round: 'W' for white, 'B' for black and {@link #BYE} for a bye.
+     */
+    @Column(name = "colour_history", nullable = false)
+    private String colourHistory = "";
+
+    /**
+     * Comma-separated IDs of the opponents the player has played, in round order.
+     */
+    @Column(name = "opponent_ids", nullable = false, length = 2048)
+    private String opponentIds = "";
+
+    // Getters and Setters
+
+    /**
+     * Gets the unique identifier for the standing.
+     * @return the unique ID of the standing.
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the unique identifier for the standing.
+     * @param id the unique ID to set for the standing.
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the ID of the tournament.
+     * @return the tournament ID.
+     */
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    /**
+     * Sets the ID of the tournament.
+     * @param tournamentId the tournament ID to set.
+     */
+    public void setTournamentId(Long tournamentId) {
+        this.tournamentId = tournamentId;
+    }
+
+    /**
+     * Gets the ID of the player.
+     * @return the player ID.
+     */
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    /**
+     * Sets the ID of the player.
+     * @param playerId the player ID to set.
+     */
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+
+    /**
+     * Gets the cumulative points of the player.
+     * @return the points.
+     */
+    public double getPoints() {
+        return points;
+    }
+
+    /**
+     * Sets the cumulative points of the player.
+     * @param points the points to set.
+     */
+    public void setPoints(double points) {
+        this.points = points;
+    }
+
+    /**
+     * Gets the number of games played, excluding byes.
+     * @return the number of games played.
+     */
+    public int getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /**
+     * Sets the number of games played, excluding byes.
+     * @param gamesPlayed the number of games played to set.
+     */
+    public void setGamesPlayed(int gamesPlayed) {
+        this.gamesPlayed = gamesPlayed;
+    }
+
+    /**
+     * Gets the number of games won, excluding byes.
+     * @return the number of wins.
+     */
+    public int getWins() {
+        return wins;
+    }
+
+    /**
+     * Sets the number of games won, excluding byes.
+     * @param wins the number of wins to set.
+     */
+    public void setWins(int wins) {
+        this.wins = wins;
+    }
+
+    /**
+     * Gets the progressive score of the player.
+     * @return the cumulative score.
+     */
+    public double getCumulativeScore() {
+        return cumulativeScore;
+    }
+
+    /**
+     * Sets the progressive score of the player.
+     * @param cumulativeScore the cumulative score to set.
+     */
+    public void setCumulativeScore(double cumulativeScore) {
+        this.cumulativeScore = cumulativeScore;
+    }
+
+    /**
+     * Gets the colour history of the player, one character per round.
+     * @return the colour history.
+     */
+    public String getColourHistory() {
+        return colourHistory;
+    }
+
+    /**
+     * Sets the colour history of the player.
+     * @param colourHistory the colour history to set.
+     */
+    public void setColourHistory(String colourHistory) {
+        this.colourHistory = colourHistory;
+    }
+
+    /**
+     * Gets the comma-separated IDs of the opponents played.
+     * @return the opponent IDs.
+     */
+    public String getOpponentIds() {
+        return opponentIds;
+    }
+
+    /**
+     * Sets the comma-separated IDs of the opponents played.
+     * @param opponentIds the opponent IDs to set.
+     */
+    public void setOpponentIds(String opponentIds) {
+        this.opponentIds = opponentIds;
+    }
+
+    /**
+     * Parses the opponents played, in round order.
+     * @return the list of opponent IDs.
+     */
+    public List<Long> getOpponentIdList() {
+        List<Long> opponents = new ArrayList<>();
+        if (opponentIds.isEmpty()) return opponents;
+
+        for (String opponentId : opponentIds.split(",")) {
+            opponents.add(Long.valueOf(opponentId));
+        }
+        return opponents;
+    }
+
+    /**
+     * Checks whether the player has already played the given opponent in this tournament.
+     * @param opponentId the ID of the opponent.
+     * @return true if the players have met before, false otherwise.
+     */
+    public boolean hasPlayed(Long opponentId) {
+        return getOpponentIdList().contains(opponentId);
+    }
+
+    /**
+     * Checks whether the player has already received a bye in this tournament.
+     * @return true if the player has had a bye, false otherwise.
+     */
+    public boolean hasHadBye() {
+        return colourHistory.indexOf(BYE) >= 0;
+    }
+}
@@ -0,0 +1,56 @@
+package com.g1.mychess.match.repository;
+
+import com.g1.mychess.match.model.BracketNode;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for {@link BracketNode} entity.
+ * This interface extends {@link JpaRepository} to provide CRUD operations for the {@link BracketNode} entity.
+ * It also includes the queries used to advance the winner of a knockout match.
+ */
+@Repository
+public interface BracketNodeRepository extends JpaRepository<BracketNode, Long> {
+
+    /**
+     * Finds the bracket node of a match.
+     *
+     * @param matchId The ID of the match.
+     * @return An {@link Optional} containing the bracket node, or empty if the match is not part of a knockout bracket.
+     */
+    Optional<BracketNode> findByMatchId(Long matchId);
+
+    /**
+     * Finds a bracket node and locks its row until the end of the transaction.
+     * The winners of the two matches feeding a node are placed one after the other, so neither overwrites
+     * the slot the other has just filled.
+     *
+     * @param id The ID of the bracket node.
+     * @return An {@link Optional} containing the locked bracket node, or empty if it does not exist.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM BracketNode n WHERE n.id = :id")
+    Optional<BracketNode> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Checks whether a match is part of a knockout bracket.
+     *
+     * @param matchId The ID of the match.
+     * @return true if a bracket node refers to the match, false otherwise.
+     */
+    boolean existsByMatchId(Long matchId);
+
+    /**
+     * Checks whether the bracket of a tournament has been created.
+     *
+     * @param tournamentId The ID of the tournament.
+     * @return true if the tournament has bracket nodes, false otherwise.
+     */
+    boolean existsByTournamentId(Long tournamentId);
+}
@@ -0,0 +1,125 @@
+package com.g1.mychess.match.repository;
+
+import com.g1.mychess.match.model.Match;
+import com.g1.mychess.match.model.MatchPlayer;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC batch writer for the output of matchmaking.
+ * <p>
+ * {@link Match} and {@link MatchPlayer} use {@code GenerationType.IDENTITY}, which makes Hibernate insert one row
+ * per statement. This writer inserts whole rounds with JDBC batches instead, which the MySQL driver rewrites into
+ * multi-row inserts ({@code rewriteBatchedStatements=true}), and reads back the generated keys so the matches can
+ * be referenced by their participants.
+ * </p>
+ */
+@Repository
+public class MatchBatchWriter {
+
+    /**
+     * Number of rows sent per JDBC batch.
+     */
+    static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT_MATCH =
+            "INSERT INTO matches (tournament_id, scheduled_time, status, round_number) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_MATCH_PLAYER =
+            "INSERT INTO match_players (match_id, player_id, opponent_id, current_round, points, glicko_rating, "
+                    + "rating_deviation, volatility, result, colour) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a {@link MatchBatchWriter} with the provided JDBC template.
+     *
+     * @param jdbcTemplate The JDBC template bound to the match service data source.
+     */
+    public MatchBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the given matches and all of their participants in batches.
+     * The generated match IDs are set on the {@link Match} objects.
+     *
+     * @param matches The new matches, each with its participants set.
+     */
+    public void insertAll(List<Match> matches) {
+        for (int from = 0; from < matches.size(); from += BATCH_SIZE) {
+            insertMatches(matches.subList(from, Math.min(from + BATCH_SIZE, matches.size())));
+        }
+
+        List<MatchPlayer> matchPlayers = new ArrayList<>(matches.size() * 2);
+        for (Match match : matches) {
+            matchPlayers.addAll(match.getParticipants());
+        }
+        for (int from = 0; from < matchPlayers.size(); from += BATCH_SIZE) {
+            insertMatchPlayers(matchPlayers.subList(from, Math.min(from + BATCH_SIZE, matchPlayers.size())));
+        }
+    }
+
+    private void insertMatches(List<Match> matches) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_MATCH, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Match match = matches.get(i);
+                        ps.setLong(1, match.getTournamentId());
+                        ps.setTimestamp(2, Timestamp.valueOf(match.getScheduledTime()));
+                        ps.setString(3, match.getStatus().name());
+                        ps.setObject(4, match.getRoundNumber(), Types.INTEGER);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return matches.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < matches.size(); i++) {
+            matches.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+    }
+
+    private void insertMatchPlayers(List<MatchPlayer> matchPlayers) {
+        jdbcTemplate.batchUpdate(INSERT_MATCH_PLAYER, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                MatchPlayer matchPlayer = matchPlayers.get(i);
+                ps.setLong(1, matchPlayer.getMatch().getId());
+                ps.setLong(2, matchPlayer.getPlayerId());
+                ps.setObject(3, matchPlayer.getOpponentId(), Types.BIGINT);
+                ps.setInt(4, matchPlayer.getCurrentRound());
+                ps.setDouble(5, matchPlayer.getPoints());
+                ps.setDouble(6, matchPlayer.getGlickoRating());
+                ps.setDouble(7, matchPlayer.getRatingDeviation());
+                ps.setDouble(8, matchPlayer.getVolatility());
+                ps.setString(9, matchPlayer.getResult() != null ? matchPlayer.getResult().name() : null);
+                ps.setString(10, matchPlayer.getColour() != null ? matchPlayer.getColour().name() : null);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return matchPlayers.size();
+            }
+        });
+    }
+}
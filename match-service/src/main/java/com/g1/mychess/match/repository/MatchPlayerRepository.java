@@ -2,6 +2,8 @@ package com.g1.mychess.match.repository;
 
 import com.g1.mychess.match.model.MatchPlayer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
@@ -63,5 +65,13 @@ public interface MatchPlayerRepository extends JpaRepository<MatchPlayer, Long>
      */
     List<MatchPlayer> findByMatchId(Long matchId);
 
-    List<MatchPlayer> findByMatch_TournamentIdOrderByPointsDesc(Long tournamentId);
+    /**
+     * Finds every {@link MatchPlayer} entity of a tournament together with its {@link com.g1.mychess.match.model.Match}.
+     * The match is fetch-joined so that the whole tournament is loaded in a single query.
+     *
+     * @param tournamentId The ID of the tournament to find match players for.
+     * @return A list of {@link MatchPlayer} entities, with their matches initialized, for the given tournament.
+     */
+    @Query("SELECT mp FROM MatchPlayer mp JOIN FETCH mp.match m WHERE m.tournamentId = :tournamentId")
+    List<MatchPlayer> findAllWithMatchByTournamentId(@Param("tournamentId") Long tournamentId);
 }
@@ -1,12 +1,16 @@
 package com.g1.mychess.match.repository;
 
 import com.g1.mychess.match.model.Match;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +30,14 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
      */
     Optional<List<Match>> findByTournamentId(Long tournamentId);
 
+    /**
+     * Checks whether any match exists for the specified tournament, without loading the matches.
+     *
+     * @param tournamentId The ID of the tournament.
+     * @return true if the tournament has at least one match, false otherwise.
+     */
+    boolean existsByTournamentId(Long tournamentId);
+
     /**
      * Finds the maximum round number for a given tournament.
      * This query returns the highest round number associated with the given tournament ID.
@@ -46,5 +58,80 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
      */
     Optional<List<Match>> findByTournamentIdAndRoundNumber(Long tournamentId, Integer roundNumber);
 
-    List<Match> findByScheduledTimeBetween(LocalDateTime now, LocalDateTime oneHourLater);
+    /**
+     * Finds every match of a tournament together with its participants, in a single query.
+     * Use this read model when the participants or results of the matches are needed.
+     *
+     * @param tournamentId The ID of the tournament to find matches for.
+     * @return A list of matches, ordered by round, with their participants initialized.
+     */
+    @EntityGraph(attributePaths = "participants")
+    @Query("SELECT m FROM Match m WHERE m.tournamentId = :tournamentId ORDER BY m.roundNumber, m.id")
+    List<Match> findAllWithParticipantsByTournamentId(@Param("tournamentId") Long tournamentId);
+
+    /**
+     * Finds the matches of a tournament round together with their participants, in a single query.
+     *
+     * @param tournamentId The ID of the tournament.
+     * @param roundNumber The round number to find matches for.
+     * @return A list of matches of the round with their participants initialized.
+     */
+    @EntityGraph(attributePaths = "participants")
+    @Query("SELECT m FROM Match m WHERE m.tournamentId = :tournamentId AND m.roundNumber = :roundNumber ORDER BY m.id")
+    List<Match> findAllWithParticipantsByTournamentIdAndRoundNumber(@Param("tournamentId") Long tournamentId,
+                                                                    @Param("roundNumber") Integer roundNumber);
+
+    /**
+     * Finds the scheduled matches starting within the given window whose reminder has not been sent yet.
+     * The query is served by the index on {@code scheduled_time}.
+     *
+     * @param from The start of the window, exclusive.
+     * @param to The end of the window, inclusive.
+     * @return The matches, without their participants.
+     */
+    @Query("SELECT m FROM Match m WHERE m.scheduledTime > :from AND m.scheduledTime <= :to " +
+            "AND m.status = com.g1.mychess.match.model.Match.MatchStatus.SCHEDULED AND m.reminderSentAt IS NULL")
+    List<Match> findPendingReminders(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Claims the reminders of the given matches, so that each reminder is sent once even across restarts.
+     * Only matches that are still scheduled within the window and whose reminder has not been claimed are updated.
+     *
+     * @param matchIds The IDs of the matches.
+     * @param from The start of the window, exclusive.
+     * @param to The end of the window, inclusive; matches rescheduled later are left for a later reminder.
+     * @param sentAt The claim time, stored as the time the reminder was sent.
+     * @return The number of reminders claimed.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Match m SET m.reminderSentAt = :sentAt WHERE m.id IN :matchIds AND m.reminderSentAt IS NULL " +
+            "AND m.scheduledTime > :from AND m.scheduledTime <= :to " +
+            "AND m.status = com.g1.mychess.match.model.Match.MatchStatus.SCHEDULED")
+    int claimReminders(@Param("matchIds") Collection<Long> matchIds, @Param("from") LocalDateTime from,
+                       @Param("to") LocalDateTime to, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * Finds the matches whose reminders were claimed at the given time, together with their participants.
+     *
+     * @param matchIds The IDs of the matches.
+     * @param sentAt The claim time.
+     * @return The claimed matches with their participants initialized.
+     */
+    @EntityGraph(attributePaths = "participants")
+    @Query("SELECT m FROM Match m WHERE m.id IN :matchIds AND m.reminderSentAt = :sentAt")
+    List<Match> findClaimedReminders(@Param("matchIds") Collection<Long> matchIds, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * Releases reminders claimed at the given time, e.g. because the email service could not be reached,
+     * so that they are sent again.
+     *
+     * @param matchIds The IDs of the matches.
+     * @param sentAt The claim time.
+     * @return The number of reminders released.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Match m SET m.reminderSentAt = NULL WHERE m.id IN :matchIds AND m.reminderSentAt = :sentAt")
+    int releaseReminders(@Param("matchIds") Collection<Long> matchIds, @Param("sentAt") LocalDateTime sentAt);
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.g1.mychess.match.repository;
+
+import com.g1.mychess.match.model.TournamentStanding;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for {@link TournamentStanding} entity.
+ * This interface extends {@link JpaRepository} to provide CRUD operations for the {@link TournamentStanding} entity.
+ * It also includes custom query methods for reading the standings of a tournament in a single query.
+ */
+@Repository
+public interface TournamentStandingRepository extends JpaRepository<TournamentStanding, Long> {
+
+    /**
+     * Finds the standings of every player of a tournament.
+     *
+     * @param tournamentId The ID of the tournament to find standings for.
+     * @return A list of {@link TournamentStanding} entities for the given tournament.
+     */
+    List<TournamentStanding> findByTournamentId(Long tournamentId);
+
+    /**
+     * Finds the standings of every player of a tournament, the most points first.
+     *
+     * @param tournamentId The ID of the tournament to find standings for.
+     * @return A list of {@link TournamentStanding} entities ordered by points, then player ID.
+     */
+    List<TournamentStanding> findByTournamentIdOrderByPointsDescPlayerIdAsc(Long tournamentId);
+
+    /**
+     * Finds the standings of the given players in a tournament.
+     *
+     * @param tournamentId The ID of the tournament.
+     * @param playerIds The IDs of the players to find standings for.
+     * @return A list of {@link TournamentStanding} entities for the given tournament and players.
+     */
+    List<TournamentStanding> findByTournamentIdAndPlayerIdIn(Long tournamentId, Collection<Long> playerIds);
+}
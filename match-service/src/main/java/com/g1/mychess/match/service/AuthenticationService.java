@@ -1,7 +1,8 @@
 package com.g1.mychess.match.service;
 
 import com.g1.mychess.match.exception.UnauthorizedActionException;
-import com.g1.mychess.match.util.JwtUtil;
+import com.g1.mychess.security.JwtUtil;
+import com.g1.mychess.security.VerifiedClaims;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.stereotype.Service;
 
@@ -32,7 +33,8 @@ public class AuthenticationService {
     /**
      * Extracts the user ID from the JWT token in the HTTP request.
      * <p>
-     * The method looks for the "Authorization" header, retrieves the JWT token, and
+     * The claims verified by the JWT filter for this request are used when present, so the token is not
+     * parsed again. Otherwise the method looks for the "Authorization" header, retrieves the JWT token, and
      * extracts the user ID. If the header is missing or invalid, an {@link UnauthorizedActionException}
      * is thrown.
      * </p>
@@ -42,6 +44,9 @@ public class AuthenticationService {
      * @throws UnauthorizedActionException If the "Authorization" header is missing or invalid.
      */
     public Long getUserIdFromRequest(HttpServletRequest request) {
+        if (request.getAttribute(VerifiedClaims.REQUEST_ATTRIBUTE) instanceof VerifiedClaims claims) {
+            return claims.getUserId();
+        }
         String authorizationHeader = request.getHeader("Authorization");
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             String jwtToken = authorizationHeader.substring(7);
@@ -32,4 +32,22 @@ public interface Glicko2RatingService {
      *                    and volatility.
      */
     PlayerRatingUpdateDTO calculatePlayerRatings(MatchPlayer player, List<MatchPlayer> opponents, double[] results);
+
+    /**
+     * Calculates the updated ratings of several players in one pass, treating the tournament as a
+     * single Glicko-2 rating period.
+     * <p>
+     * Every game played by a rated player is looked up in {@code tournamentMatchPlayers}, which must
+     * contain both sides of each match of the tournament. Callers should load this list with a single
+     * query rather than resolving opponents one by one.
+     * </p>
+     *
+     * @param ratedPlayers           The {@link MatchPlayer} records holding the pre-tournament rating of each
+     *                               player to rate (typically the earliest record of
+     *                               each participant).
+     * @param tournamentMatchPlayers All {@link MatchPlayer} records of the tournament, with their matches loaded.
+     * @return                       A list of {@link PlayerRatingUpdateDTO}, one per rated player, in the same order
+     *                               as {@code ratedPlayers}.
+     */
+    List<PlayerRatingUpdateDTO> calculatePlayerRatings(List<MatchPlayer> ratedPlayers, List<MatchPlayer> tournamentMatchPlayers);
 }
\ No newline at end of file
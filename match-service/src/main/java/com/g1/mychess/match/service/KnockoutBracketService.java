@@ -0,0 +1,40 @@
+package com.g1.mychess.match.service;
+
+import com.g1.mychess.match.dto.TournamentPlayerDTO;
+import com.g1.mychess.match.model.Match;
+
+import java.util.Collection;
+
+/**
+ * Service interface for maintaining the brackets of knockout tournaments.
+ * The bracket is created once when the tournament is seeded, and each completed match advances its winner
+ * to the next node, creating the next match as soon as both of its players are known.
+ */
+public interface KnockoutBracketService {
+
+    /**
+     * Creates the bracket of a knockout tournament and the matches of its first round.
+     * Does nothing if the bracket of the tournament already exists.
+     *
+     * @param tournamentId The ID of the tournament.
+     * @param participants The participants of the tournament.
+     */
+    void createBracket(Long tournamentId, Collection<TournamentPlayerDTO> participants);
+
+    /**
+     * Advances the winner of a completed match in its bracket.
+     * Does nothing if the match is not part of a knockout bracket.
+     *
+     * @param match The completed match, with the results of its participants set.
+     * @throws IllegalStateException if the match is part of a knockout bracket and has no winner.
+     */
+    void recordMatchResult(Match match);
+
+    /**
+     * Checks whether a match is part of a knockout bracket, where every match needs a winner.
+     *
+     * @param matchId The ID of the match.
+     * @return true if the match is a knockout match, false otherwise.
+     */
+    boolean isKnockoutMatch(Long matchId);
+}
@@ -0,0 +1,41 @@
+package com.g1.mychess.match.service;
+
+import com.g1.mychess.match.model.Match;
+
+import java.util.Collection;
+
+/**
+ * Service interface for the reminder emails sent to the participants of upcoming matches.
+ * <p>
+ * Each match is reminded once, {@code match.reminders.lead-time} before its scheduled time. The reminders of
+ * the upcoming matches are kept in memory and fire on time; whether a reminder has been sent is stored with the
+ * match, so that a restart does not send it twice.
+ * </p>
+ */
+public interface MatchReminderService {
+
+    /**
+     * Schedules the reminder of a match, or moves it after the match has been rescheduled.
+     * Matches too far ahead are left to a later load.
+     *
+     * @param match The match to remind its participants of.
+     */
+    void schedule(Match match);
+
+    /**
+     * Loads the unsent reminders of the matches starting within the loading horizon from the database and
+     * schedules them.
+     *
+     * @return The number of reminders loaded.
+     */
+    int loadPendingReminders();
+
+    /**
+     * Sends the reminders of the given matches now, if they are still due and have not been sent.
+     * The participants' email addresses and the tournament names are looked up in batches.
+     *
+     * @param matchIds The IDs of the matches.
+     * @return The number of reminder emails sent.
+     */
+    int sendReminders(Collection<Long> matchIds);
+}
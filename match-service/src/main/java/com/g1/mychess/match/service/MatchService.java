@@ -55,10 +55,4 @@ public interface MatchService {
      * @return A {@link TournamentResultsDTO} containing the results of the specified tournament.
      */
     TournamentResultsDTO getTournamentResults(Long tournamentId);
-
-    /**
-     * Sends reminders for upcoming matches. This method is intended to notify participants about
-     * their scheduled matches in the tournament, ensuring that they are informed in advance.
-     */
-    void sendMatchReminders();
 }
\ No newline at end of file
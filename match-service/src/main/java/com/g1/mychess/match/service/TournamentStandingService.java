@@ -0,0 +1,39 @@
+package com.g1.mychess.match.service;
+
+import com.g1.mychess.match.model.Match;
+import com.g1.mychess.match.model.TournamentStanding;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Service interface for maintaining the materialised standings of a tournament.
+ * Standings are updated incrementally as matches complete and byes are given, and are read
+ * in a single query when a new round is paired.
+ */
+public interface TournamentStandingService {
+
+    /**
+     * Loads the standings of the given players in a tournament, creating empty standings for
+     * players who have none yet.
+     *
+     * @param tournamentId The ID of the tournament.
+     * @param playerIds The IDs of the players whose standings are needed.
+     * @return A map of player ID to {@link TournamentStanding}.
+     */
+    Map<Long, TournamentStanding> getStandings(Long tournamentId, Collection<Long> playerIds);
+
+    /**
+     * Records the result of a completed match in the standings of both participants.
+     *
+     * @param match The completed match, with the results of its participants set.
+     */
+    void recordMatchResult(Match match);
+
+    /**
+     * Records a bye, worth one point, in the standing of a player.
+     *
+     * @param standing The standing of the player receiving the bye.
+     */
+    void recordBye(TournamentStanding standing);
+}
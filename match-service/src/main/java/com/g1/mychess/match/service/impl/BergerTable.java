@@ -0,0 +1,89 @@
+package com.g1.mychess.match.service.impl;
+
+/**
+ * Round-robin schedule following the FIDE Berger tables.
+ * <p>
+ * Players are identified by their seed index {@code 0..playerCount-1}. With an odd number of players a dummy
+ * player is added, and whoever is paired with it has a bye that round. Each round is computed on demand in
+ * O(n) time from the first round: every player except the last is shifted by {@code n / 2} positions modulo
+ * {@code n - 1}, and the last player alternates colours. A full schedule therefore costs O(n&sup2;) time and
+ * only O(n) memory.
+ * </p>
+ */
+public final class BergerTable {
+
+    private final int playerCount;
+    private final int size;
+
+    /**
+     * Creates the Berger table for the given number of players.
+     *
+     * @param playerCount The number of players, at least 2.
+     */
+    public BergerTable(int playerCount) {
+        if (playerCount < 2) {
+            throw new IllegalArgumentException("A round robin needs at least 2 players.");
+        }
+        this.playerCount = playerCount;
+        this.size = playerCount % 2 == 0 ? playerCount : playerCount + 1;
+    }
+
+    /**
+     * Gets the number of rounds of the schedule.
+     * @return the number of rounds.
+     */
+    public int getRounds() {
+        return size - 1;
+    }
+
+    /**
+     * Gets the maximum number of games in a round, which is the length the arrays passed to
+     * {@link #pairRound(int, int[], int[])} must have.
+     * @return the number of boards.
+     */
+    public int getBoards() {
+        return size / 2;
+    }
+
+    /**
+     * Computes the games of a round. Games against the dummy player of an odd field are left out.
+     *
+     * @param round The round number, from 1 to {@link #getRounds()}.
+     * @param white Receives the seed index of the player with white on each board.
+     * @param black Receives the seed index of the player with black on each board.
+     * @return The number of games written to the arrays.
+     */
+    public int pairRound(int round, int[] white, int[] black) {
+        if (round < 1 || round > getRounds()) {
+            throw new IllegalArgumentException("Round " + round + " is outside of 1.." + getRounds());
+        }
+
+        int shift = (round - 1) * (size / 2);
+        int last = size - 1;
+        int games = 0;
+        for (int board = 0; board < size / 2; board++) {
+            int top = rotate(board, shift);
+            int bottom = board == 0 ? last : rotate(last - board, shift);
+
+            int whitePlayer = top;
+            int blackPlayer = bottom;
+            if (board == 0 && round % 2 == 0) {
+                whitePlayer = bottom;
+                blackPlayer = top;
+            }
+            if (whitePlayer >= playerCount || blackPlayer >= playerCount) continue;
+
+            white[games] = whitePlayer;
+            black[games] = blackPlayer;
+            games++;
+        }
+        return games;
+    }
+
+    /**
+     * Moves a player of the first round, other than the last one, by the shift of a later round.
+     */
+    private int rotate(int seed, int shift) {
+        return (int) ((seed + (long) shift) % (size - 1));
+    }
+}
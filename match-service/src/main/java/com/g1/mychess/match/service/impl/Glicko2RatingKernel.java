@@ -0,0 +1,245 @@
+package com.g1.mychess.match.service.impl;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Allocation-free Glicko-2 kernel that rates every player of a rating period at once.
+ * <p>
+ * The period is held as a structure of arrays (see {@link RatingPeriod}); the games of player {@code i}
+ * are stored in the range {@code [offsets[i], offsets[i + 1])} of the opponent and score arrays.
+ * The "g" and "E" terms are computed once per game, no objects are created per player, and large
+ * periods are split across the common fork-join pool.
+ * </p>
+ */
+public final class Glicko2RatingKernel {
+
+    private static final double VOLATILITY_TAU = 0.5;
+    private static final double TAU_SQUARED = VOLATILITY_TAU * VOLATILITY_TAU;
+    private static final double CONVERGENCE_TOLERANCE = 0.000001;
+    private static final double THREE_OVER_PI_SQUARED = 3.0 / (Math.PI * Math.PI);
+
+    /**
+     * Number of players below which a period (or a slice of one) is rated on the calling thread.
+     */
+    static final int PARALLEL_THRESHOLD = 4096;
+
+    private Glicko2RatingKernel() {
+    }
+
+    /**
+     * Rates every player of the period, splitting the work across cores when the period is large.
+     *
+     * @param period The rating period; its output arrays are overwritten.
+     */
+    public static void rate(RatingPeriod period) {
+        if (period.playerCount() < PARALLEL_THRESHOLD) {
+            ratePlayers(period, 0, period.playerCount());
+        } else {
+            ForkJoinPool.commonPool().invoke(new RatePlayersTask(period, 0, period.playerCount()));
+        }
+    }
+
+    /**
+     * Rates every player of the period on the calling thread.
+     *
+     * @param period The rating period; its output arrays are overwritten.
+     */
+    public static void rateSequentially(RatingPeriod period) {
+        ratePlayers(period, 0, period.playerCount());
+    }
+
+    private static void ratePlayers(RatingPeriod period, int fromPlayer, int toPlayer) {
+        for (int i = fromPlayer; i < toPlayer; i++) {
+            ratePlayer(period, i);
+        }
+    }
+
+    /**
+     * Rates a single player of the period. A player without games keeps their rating and volatility,
+     * and only their rating deviation grows.
+     */
+    private static void ratePlayer(RatingPeriod period, int i) {
+        double R = period.ratings[i];
+        double RD = period.ratingDeviations[i];
+        double volatility = period.volatilities[i];
+        int from = period.offsets[i];
+        int to = period.offsets[i + 1];
+
+        if (from == to) {
+            period.newRatings[i] = R;
+            period.newRatingDeviations[i] = Math.sqrt(RD * RD + volatility * volatility);
+            period.newVolatilities[i] = volatility;
+            return;
+        }
+
+        double[] opponentRatings = period.opponentRatings;
+        double[] opponentRatingDeviations = period.opponentRatingDeviations;
+        double[] scores = period.scores;
+
+        double v_inverse = 0;
+        double deltaSum = 0;
+        for (int j = from; j < to; j++) {
+            double g_RDj = calculate_g(opponentRatingDeviations[j]);
+            double E_R_Rj = 1.0 / (1.0 + Math.exp(-g_RDj * (R - opponentRatings[j])));
+            v_inverse += g_RDj * g_RDj * E_R_Rj * (1 - E_R_Rj);
+            deltaSum += g_RDj * (scores[j] - E_R_Rj);
+        }
+        double v = 1 / v_inverse;
+        double delta = v * deltaSum;
+
+        double newVolatility = calculate_volatility(RD, volatility, v, delta * delta);
+        double preRatingRDSquared = RD * RD + newVolatility * newVolatility;
+        double newRatingDeviation = 1 / Math.sqrt(1 / preRatingRDSquared + v_inverse);
+
+        period.newRatings[i] = R + newRatingDeviation * newRatingDeviation * deltaSum;
+        period.newRatingDeviations[i] = newRatingDeviation;
+        period.newVolatilities[i] = newVolatility;
+    }
+
+    /**
+     * Calculates the "g" function used in the Glicko-2 system, which scales the rating deviation.
+     *
+     * @param RD The rating deviation of the player.
+     * @return The value of "g(RD)".
+     */
+    public static double calculate_g(double RD) {
+        return 1.0 / Math.sqrt(1.0 + THREE_OVER_PI_SQUARED * RD * RD);
+    }
+
+    /**
+     * The function whose root is the new volatility (step 5 of the Glicko-2 algorithm).
+     *
+     * @param x The current volatility guess, as {@code ln(sigma^2)}.
+     * @param delta_squared The squared delta value.
+     * @param RD_squared The squared rating deviation.
+     * @param v The total variance.
+     * @param A The initial guess, {@code ln(sigma^2)} of the current volatility.
+     * @return The result of the function.
+     */
+    public static double calculate_function(double x, double delta_squared, double RD_squared, double v, double A) {
+        double expX = Math.exp(x);
+        double denominator = RD_squared + v + expX;
+
+        double firstPart = expX * (delta_squared - denominator) / (2 * denominator * denominator);
+        double secondPart = (x - A) / TAU_SQUARED;
+
+        return firstPart - secondPart;
+    }
+
+    /**
+     * Calculates the new volatility of a player with the Illinois variant of regula falsi.
+     *
+     * @param RD The rating deviation of the player.
+     * @param volatility The current volatility of the player.
+     * @param v The total variance.
+     * @param delta_squared The squared delta value.
+     * @return The updated volatility.
+     */
+    public static double calculate_volatility(double RD, double volatility, double v, double delta_squared) {
+        double RD_squared = RD * RD;
+        double a = Math.log(volatility * volatility);
+        double A = a;
+        double B;
+
+        if (delta_squared > RD_squared + v) {
+            B = Math.log(delta_squared - RD_squared - v);
+        } else {
+            int k = 1;
+            while (calculate_function(a - k * VOLATILITY_TAU, delta_squared, RD_squared, v, a) < 0) {
+                k++;
+            }
+            B = a - k * VOLATILITY_TAU;
+        }
+
+        double f_A = calculate_function(A, delta_squared, RD_squared, v, a);
+        double f_B = calculate_function(B, delta_squared, RD_squared, v, a);
+
+        while (Math.abs(B - A) > CONVERGENCE_TOLERANCE) {
+            double C = A + ((A - B) * f_A) / (f_B - f_A);
+            double f_C = calculate_function(C, delta_squared, RD_squared, v, a);
+
+            if (f_C * f_B <= 0) {
+                A = B;
+                f_A = f_B;
+            } else {
+                f_A /= 2;
+            }
+            B = C;
+            f_B = f_C;
+        }
+
+        return Math.exp(A / 2);
+    }
+
+    /**
+     * Splits a range of players in halves until it is small enough to rate on one thread.
+     */
+    private static final class RatePlayersTask extends RecursiveAction {
+
+        private final RatingPeriod period;
+        private final int fromPlayer;
+        private final int toPlayer;
+
+        RatePlayersTask(RatingPeriod period, int fromPlayer, int toPlayer) {
+            this.period = period;
+            this.fromPlayer = fromPlayer;
+            this.toPlayer = toPlayer;
+        }
+
+        @Override
+        protected void compute() {
+            if (toPlayer - fromPlayer <= PARALLEL_THRESHOLD) {
+                ratePlayers(period, fromPlayer, toPlayer);
+                return;
+            }
+            int middle = (fromPlayer + toPlayer) >>> 1;
+            invokeAll(new RatePlayersTask(period, fromPlayer, middle), new RatePlayersTask(period, middle, toPlayer));
+        }
+    }
+
+    /**
+     * Structure-of-arrays input and output of one rating period. Ratings and rating deviations are on
+     * the Glicko-2 scale; the games of player {@code i} occupy {@code [offsets[i], offsets[i + 1])}
+     * of the opponent and score arrays.
+     */
+    public static final class RatingPeriod {
+
+        public final double[] ratings;
+        public final double[] ratingDeviations;
+        public final double[] volatilities;
+
+        public final int[] offsets;
+        public final double[] opponentRatings;
+        public final double[] opponentRatingDeviations;
+        public final double[] scores;
+
+        public final double[] newRatings;
+        public final double[] newRatingDeviations;
+        public final double[] newVolatilities;
+
+        /**
+         * Allocates the arrays of a period. The caller fills the inputs, including {@code offsets},
+         * whose last entry must equal {@code gameCount}.
+         *
+         * @param playerCount The number of players to rate.
+         * @param gameCount The total number of games over all players.
+         */
+        public RatingPeriod(int playerCount, int gameCount) {
+            this.ratings = new double[playerCount];
+            this.ratingDeviations = new double[playerCount];
+            this.volatilities = new double[playerCount];
+            this.offsets = new int[playerCount + 1];
+            this.opponentRatings = new double[gameCount];
+            this.opponentRatingDeviations = new double[gameCount];
+            this.scores = new double[gameCount];
+            this.newRatings = new double[playerCount];
+            this.newRatingDeviations = new double[playerCount];
+            this.newVolatilities = new double[playerCount];
+        }
+
+        public int playerCount() {
+            return ratings.length;
+        }
+    }
+}
@@ -4,7 +4,12 @@ import com.g1.mychess.match.dto.PlayerRatingUpdateDTO;
 import com.g1.mychess.match.model.MatchPlayer;
 import com.g1.mychess.match.service.Glicko2RatingService;
 import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This service class implements the Glicko-2 rating system to calculate new player ratings
@@ -16,9 +21,6 @@ public class Glicko2RatingServiceImpl implements Glicko2RatingService {
 
     private static final double GLICKO_CONSTANT = 173.7178;
     private static final double GLICKO_BASE_RATING = 1500;
-    private static final double PI = Math.PI;
-    private static final double VOLATILITY_TAU = 0.5;
-    private static final double CONVERGENCE_TOLERANCE = 0.000001;
 
     /**
      * Calculates the updated player ratings using the Glicko-2 system.
@@ -29,186 +31,149 @@ public class Glicko2RatingServiceImpl implements Glicko2RatingService {
      * @return A DTO containing the updated player rating, rating deviation, and volatility.
      */
     public PlayerRatingUpdateDTO calculatePlayerRatings(MatchPlayer player, List<MatchPlayer> opponents, double[] result) {
-        // Converting to Glicko-2 scale
-        double R = convertToGlickoScale(player.getGlickoRating() - GLICKO_BASE_RATING);
-        double RD = convertToGlickoScale(player.getRatingDeviation());
+        Glicko2RatingKernel.RatingPeriod period = new Glicko2RatingKernel.RatingPeriod(1, opponents.size());
 
-        double[] opponentsRating = new double[opponents.size()];
-        double[] opponentsRD = new double[opponents.size()];
+        // Converting to Glicko-2 scale
+        period.ratings[0] = convertToGlickoScale(player.getGlickoRating() - GLICKO_BASE_RATING);
+        period.ratingDeviations[0] = convertToGlickoScale(player.getRatingDeviation());
+        period.volatilities[0] = player.getVolatility();
+        period.offsets[1] = opponents.size();
 
         for (int j = 0; j < opponents.size(); j++) {
-            opponentsRating[j] = convertToGlickoScale(opponents.get(j).getGlickoRating() - GLICKO_BASE_RATING);
-            opponentsRD[j] = convertToGlickoScale(opponents.get(j).getRatingDeviation());
+            period.opponentRatings[j] = convertToGlickoScale(opponents.get(j).getGlickoRating() - GLICKO_BASE_RATING);
+            period.opponentRatingDeviations[j] = convertToGlickoScale(opponents.get(j).getRatingDeviation());
+            period.scores[j] = result[j];
         }
 
-        // Calculate Glicko-2 rating changes
-        double delta = calculate_delta(R, opponentsRating, opponentsRD, result);
-        double v = calculate_v(R, opponentsRating, opponentsRD);
-        double newVolatility = calculate_volatility(RD, player.getVolatility(), v, delta * delta);
-        double newRatingDeviation = calculateNewRatingDeviation(RD, newVolatility, v);
-        double newRating = calculateNewRating(R, newRatingDeviation, delta, v);
+        Glicko2RatingKernel.rateSequentially(period);
 
-        // Convert back to Glicko scale and round values for final DTO
-        return new PlayerRatingUpdateDTO(
-                player.getPlayerId(),
-                Math.round(convertFromGlickoScale(newRating + GLICKO_BASE_RATING)),              // Glicko scale rating
-                Math.round(convertFromGlickoScale(newRatingDeviation) * 10) / 10.0, // Glicko scale RD, 1 decimal place
-                Math.round(newVolatility * 1000) / 1000.0             // Volatility, 3 decimal places
-        );
+        return toRatingUpdate(player.getPlayerId(), period, 0);
     }
 
     /**
-     * Converts a rating from the Glicko scale to the Glicko-2 scale.
+     * Calculates the updated ratings of all rated players of a tournament in a single pass.
+     * <p>
+     * The match players of the tournament are indexed once into a {@link Glicko2RatingKernel.RatingPeriod}:
+     * for player {@code i}, the games are stored in the range {@code [offsets[i], offsets[i + 1])} of the
+     * opponent rating, opponent RD and score arrays. No repository lookups are made while rating.
+     * </p>
      *
-     * @param value The value to be converted.
-     * @return The converted rating in Glicko-2 scale.
+     * @param ratedPlayers The records holding the pre-tournament rating of each player to rate.
+     * @param tournamentMatchPlayers All match player records of the tournament, with their matches loaded.
+     * @return A list of DTOs containing the updated ratings, in the order of {@code ratedPlayers}.
      */
-    private double convertToGlickoScale(double value) {
-        return value / GLICKO_CONSTANT;
-    }
+    @Override
+    public List<PlayerRatingUpdateDTO> calculatePlayerRatings(List<MatchPlayer> ratedPlayers, List<MatchPlayer> tournamentMatchPlayers) {
+        int playerCount = ratedPlayers.size();
+        Map<Long, Integer> playerIndex = new HashMap<>(playerCount * 2);
+        for (int i = 0; i < playerCount; i++) {
+            playerIndex.put(ratedPlayers.get(i).getPlayerId(), i);
+        }
 
-    // Convert from Glicko-2 scale to standard Glicko scale
-    private double convertFromGlickoScale(double value) {
-        return GLICKO_CONSTANT * value;
-    }
+        Map<Long, List<MatchPlayer>> sidesByMatch = groupByMatch(tournamentMatchPlayers);
 
-    /**
-     * Calculates the "g" function used in the Glicko-2 system, which scales the rating deviation.
-     *
-     * @param RD The rating deviation of the player.
-     * @return The value of "g(RD)".
-     */
-    public static double calculate_g(double RD) {
-        return 1.0 / Math.sqrt(1.0 + (3.0 * RD * RD) / (Math.PI * Math.PI));
+        // Count the games of each rated player, then turn the counts into offsets
+        int[] offsets = new int[playerCount + 1];
+        for (MatchPlayer matchPlayer : tournamentMatchPlayers) {
+            Integer index = playerIndex.get(matchPlayer.getPlayerId());
+            if (index != null && findOpponentSide(sidesByMatch, matchPlayer) != null) {
+                offsets[index + 1]++;
+            }
+        }
+        for (int i = 0; i < playerCount; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+
+        Glicko2RatingKernel.RatingPeriod period = new Glicko2RatingKernel.RatingPeriod(playerCount, offsets[playerCount]);
+        System.arraycopy(offsets, 0, period.offsets, 0, offsets.length);
+        for (int i = 0; i < playerCount; i++) {
+            MatchPlayer player = ratedPlayers.get(i);
+            period.ratings[i] = convertToGlickoScale(player.getGlickoRating() - GLICKO_BASE_RATING);
+            period.ratingDeviations[i] = convertToGlickoScale(player.getRatingDeviation());
+            period.volatilities[i] = player.getVolatility();
+        }
+
+        int[] cursor = Arrays.copyOf(offsets, playerCount);
+        for (MatchPlayer matchPlayer : tournamentMatchPlayers) {
+            Integer index = playerIndex.get(matchPlayer.getPlayerId());
+            if (index == null) continue;
+
+            MatchPlayer opponent = findOpponentSide(sidesByMatch, matchPlayer);
+            if (opponent == null) continue;
+
+            int slot = cursor[index]++;
+            period.opponentRatings[slot] = convertToGlickoScale(opponent.getGlickoRating() - GLICKO_BASE_RATING);
+            period.opponentRatingDeviations[slot] = convertToGlickoScale(opponent.getRatingDeviation());
+            period.scores[slot] = toScore(matchPlayer.getResult());
+        }
+
+        Glicko2RatingKernel.rate(period);
+
+        List<PlayerRatingUpdateDTO> ratingUpdates = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            ratingUpdates.add(toRatingUpdate(ratedPlayers.get(i).getPlayerId(), period, i));
+        }
+        return ratingUpdates;
     }
 
     /**
-     * Calculates the expected probability of the player winning against an opponent.
-     *
-     * @param R The rating of the player.
-     * @param Rj The rating of the opponent.
-     * @param RDj The rating deviation of the opponent.
-     * @return The expected probability of the player winning.
+     * Groups match player records by the ID of their match, so both sides of a game can be found in constant time.
      */
-    public static double calculate_E(double R, double Rj, double RDj) {
-        return 1.0 / (1.0 + Math.exp(-calculate_g(RDj) * (R - Rj)));
+    private Map<Long, List<MatchPlayer>> groupByMatch(List<MatchPlayer> matchPlayers) {
+        Map<Long, List<MatchPlayer>> sidesByMatch = new HashMap<>(matchPlayers.size());
+        for (MatchPlayer matchPlayer : matchPlayers) {
+            sidesByMatch.computeIfAbsent(matchPlayer.getMatch().getId(), id -> new ArrayList<>(2)).add(matchPlayer);
+        }
+        return sidesByMatch;
     }
 
     /**
-     * Calculates the "v" function, which represents the total variance for a set of opponents.
-     *
-     * @param R The rating of the player.
-     * @param opponents_rating The ratings of the opponents.
-     * @param opponents_RD The rating deviations of the opponents.
-     * @return The calculated value of "v".
+     * Finds the opponent's record in the same match, or {@code null} for byes and incomplete matches.
      */
-    public static double calculate_v(double R, double[] opponents_rating, double[] opponents_RD) {
-        double v_inverse = 0;
-        for (int j = 0; j < opponents_rating.length; j++) {
-            double Rj = opponents_rating[j];
-            double RDj = opponents_RD[j];
-            double g_RDj = calculate_g(RDj);
-            double E_R_Rj = calculate_E(R, Rj, RDj);
-            v_inverse += g_RDj * g_RDj * E_R_Rj * (1 - E_R_Rj);
+    private MatchPlayer findOpponentSide(Map<Long, List<MatchPlayer>> sidesByMatch, MatchPlayer matchPlayer) {
+        if (matchPlayer.getOpponentId() == null) return null;
+
+        for (MatchPlayer side : sidesByMatch.get(matchPlayer.getMatch().getId())) {
+            if (matchPlayer.getOpponentId().equals(side.getPlayerId())) {
+                return side;
+            }
         }
-        return 1 / v_inverse;
+        return null;
     }
 
     /**
-     * Calculates the delta, which is the difference between the current and expected ratings,
-     * weighted by the variance.
-     *
-     * @param R The rating of the player.
-     * @param opponents_rating The ratings of the opponents.
-     * @param opponents_RD The rating deviations of the opponents.
-     * @param results The results of the match (1.0 for win, 0.5 for draw, 0.0 for loss).
-     * @return The calculated delta.
+     * Converts a match result into a Glicko-2 score (1.0 for a win, 0.5 for a draw, 0.0 otherwise).
      */
-    public static double calculate_delta(double R, double[] opponents_rating, double[] opponents_RD, double[] results) {
-        double temp = 0;
-        for (int j = 0; j < opponents_rating.length; j++) {
-            double Rj = opponents_rating[j];
-            double RDj = opponents_RD[j];
-            double g_RDj = calculate_g(RDj);
-            double E_R_Rj = calculate_E(R, Rj, RDj);
-            temp += g_RDj * (results[j] - E_R_Rj);
-        }
-        return calculate_v(R, opponents_rating, opponents_RD) * temp;
+    private static double toScore(MatchPlayer.Result result) {
+        if (result == MatchPlayer.Result.WIN) return 1.0;
+        if (result == MatchPlayer.Result.DRAW) return 0.5;
+        return 0.0;
     }
 
     /**
-     * A helper function used in the calculation of volatility. It models the relationship
-     * between the volatility, rating deviation, and variance.
-     *
-     * @param x The current volatility guess.
-     * @param delta_squared The squared delta value.
-     * @param RD_squared The squared rating deviation.
-     * @param v The total variance.
-     * @param A The initial guess for the volatility.
-     * @return The result of the function.
+     * Converts the kernel output of player {@code i} back to the Glicko scale and rounds it for the final DTO.
      */
-    public static double calculate_function(double x, double delta_squared, double RD_squared, double v, double A) {
-        double expX = Math.exp(x);
-
-        double numerator = expX * Math.pow(delta_squared - RD_squared - v - expX, 2);
-        double denominator = Math.pow(RD_squared + v + expX, 2);
-
-        double firstPart = numerator / denominator;
-        double secondPart = (x - A) / (VOLATILITY_TAU * VOLATILITY_TAU);
-
-        return firstPart - secondPart;
+    private PlayerRatingUpdateDTO toRatingUpdate(Long playerId, Glicko2RatingKernel.RatingPeriod period, int i) {
+        return new PlayerRatingUpdateDTO(
+                playerId,
+                Math.round(convertFromGlickoScale(period.newRatings[i]) + GLICKO_BASE_RATING),              // Glicko scale rating
+                Math.round(convertFromGlickoScale(period.newRatingDeviations[i]) * 10) / 10.0, // Glicko scale RD, 1 decimal place
+                Math.round(period.newVolatilities[i] * 1000) / 1000.0             // Volatility, 3 decimal places
+        );
     }
 
     /**
-     * Calculates the volatility of a player's rating, which measures the degree of uncertainty in the player's performance.
+     * Converts a rating from the Glicko scale to the Glicko-2 scale.
      *
-     * @param RD The rating deviation of the player.
-     * @param volatility The current volatility of the player.
-     * @param v The total variance.
-     * @param delta_squared The squared delta value.
-     * @return The updated volatility.
+     * @param value The value to be converted.
+     * @return The converted rating in Glicko-2 scale.
      */
-    public static double calculate_volatility(double RD, double volatility, double v, double delta_squared) {
-        double A = Math.log(Math.pow(volatility, 2));
-        double B;
-        double convergence_tolerance = 0.000001;
-
-        if (delta_squared > (RD * RD) + v) {
-            B = Math.log(delta_squared - (RD * RD) - v);
-        } else {
-            int k = 1;
-            while (calculate_function(A - k * VOLATILITY_TAU, delta_squared, RD * RD, v, A) < 0) { // tau is set at 0.5
-                k++;
-            }
-            B = A - k * VOLATILITY_TAU;
-        }
-
-        double f_A = calculate_function(A, delta_squared, RD * RD, v, A);
-        double f_B = calculate_function(B, delta_squared, RD * RD, v, A);
-
-        while (Math.abs(B - A) > CONVERGENCE_TOLERANCE) {
-            double C = A + ((A - B) * f_A) / (f_B - f_A);
-            double f_C = calculate_function(C, delta_squared, RD * RD, v, A);
-
-            if (f_C * f_B <= 0) {
-                A = B;
-                f_A = f_B;
-            } else {
-                f_A /= 2;
-            }
-            B = C;
-            f_B = f_C;
-        }
-
-        return Math.exp(A / 2);
-    }
-
-    private double calculateNewRatingDeviation(double RD, double newVolatility, double v) {
-        double pre_rating_RD = Math.sqrt(RD * RD + newVolatility * newVolatility);
-        return 1 / Math.sqrt((1 / pre_rating_RD / pre_rating_RD) + (1 / v));
+    private double convertToGlickoScale(double value) {
+        return value / GLICKO_CONSTANT;
     }
 
-    private double calculateNewRating(double R, double newRD, double delta, double v) {
-        return R + newRD * newRD * delta / v;
+    // Convert from Glicko-2 scale to standard Glicko scale
+    private double convertFromGlickoScale(double value) {
+        return GLICKO_CONSTANT * value;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,235 @@
+package com.g1.mychess.match.service.impl;
+
+import com.g1.mychess.match.dto.TournamentPlayerDTO;
+import com.g1.mychess.match.model.BracketNode;
+import com.g1.mychess.match.model.BracketSlot;
+import com.g1.mychess.match.model.Match;
+import com.g1.mychess.match.model.MatchPlayer;
+import com.g1.mychess.match.repository.BracketNodeRepository;
+import com.g1.mychess.match.repository.MatchBatchWriter;
+import com.g1.mychess.match.service.KnockoutBracketService;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Implementation of the {@link KnockoutBracketService} interface.
+ * <p>
+ * The bracket of a tournament with {@code n} players has room for the next power of two, {@code size}, and
+ * {@code size - 1} {@link BracketNode}s. Players are seeded by rating in the standard order, so the best seeds
+ * meet as late as possible and receive the byes when {@code n} is not a power of two.
+ * </p>
+ * <p>
+ * Advancing the winner of a match reads the match's node and locks its parent. The winner fills the parent's slot,
+ * and once the other slot is filled too, the parent's match is inserted immediately, so each half of the bracket
+ * progresses independently instead of waiting for the whole round. The lock makes the winners of two sibling
+ * matches completed at the same time fill the parent one after the other, so the second always sees the first.
+ * </p>
+ * <p>
+ * A knockout match cannot end in a draw: a drawn game has to be decided by a tiebreak, whose winner is reported
+ * as the result of the match.
+ * </p>
+ */
+@Service
+public class KnockoutBracketServiceImpl implements KnockoutBracketService {
+
+    private final BracketNodeRepository bracketNodeRepository;
+    private final MatchBatchWriter matchBatchWriter;
+
+    /**
+     * Constructs a {@link KnockoutBracketServiceImpl} with the provided repositories.
+     *
+     * @param bracketNodeRepository Repository for accessing bracket node data.
+     * @param matchBatchWriter Batch writer for the created matches and match players.
+     */
+    public KnockoutBracketServiceImpl(BracketNodeRepository bracketNodeRepository, MatchBatchWriter matchBatchWriter) {
+        this.bracketNodeRepository = bracketNodeRepository;
+        this.matchBatchWriter = matchBatchWriter;
+    }
+
+    /**
+     * Creates every node of the bracket, places the seeded players in the first round, advances the players
+     * with a bye, and inserts the matches of every node whose players are known.
+     *
+     * @param tournamentId The ID of the tournament.
+     * @param participants The participants of the tournament.
+     */
+    @Override
+    @Transactional
+    public void createBracket(Long tournamentId, Collection<TournamentPlayerDTO> participants) {
+        if (participants.size() < 2 || bracketNodeRepository.existsByTournamentId(tournamentId)) return;
+
+        List<TournamentPlayerDTO> seeds = new ArrayList<>(participants);
+        seeds.sort(Comparator.comparingDouble(TournamentPlayerDTO::getGlickoRating).reversed()
+                .thenComparing(TournamentPlayerDTO::getPlayerId));
+
+        int size = Integer.highestOneBit(seeds.size() - 1) << 1;
+        int rounds = Integer.numberOfTrailingZeros(size);
+
+        // Nodes are created from the final down, so every parent is inserted before its children
+        List<BracketNode> nodes = new ArrayList<>(size - 1);
+        BracketNode[] parents = new BracketNode[0];
+        for (int round = rounds; round >= 1; round--) {
+            BracketNode[] roundNodes = new BracketNode[size >> round];
+            for (int position = 0; position < roundNodes.length; position++) {
+                BracketNode node = new BracketNode();
+                node.setTournamentId(tournamentId);
+                node.setRoundNumber(round);
+                node.setPosition(position);
+                node.setParent(round == rounds ? null : parents[position / 2]);
+                roundNodes[position] = node;
+                nodes.add(node);
+            }
+            parents = roundNodes;
+        }
+
+        BracketNode[] firstRound = parents;
+        int[] seedOrder = seedOrder(size);
+        Set<BracketNode> readyNodes = new LinkedHashSet<>();
+        for (BracketNode node : firstRound) {
+            int topSeed = seedOrder[2 * node.getPosition()];
+            int bottomSeed = seedOrder[2 * node.getPosition() + 1];
+            node.setTop(toSlot(seeds.get(topSeed)));
+            if (bottomSeed < seeds.size()) {
+                node.setBottom(toSlot(seeds.get(bottomSeed)));
+                readyNodes.add(node);
+            } else if (advance(node, node.getTop())) {
+                readyNodes.add(node.getParent());
+            }
+        }
+
+        List<Match> matches = new ArrayList<>(readyNodes.size());
+        for (BracketNode node : readyNodes) {
+            matches.add(createMatch(node));
+        }
+        matchBatchWriter.insertAll(matches);
+
+        Iterator<Match> matchIterator = matches.iterator();
+        for (BracketNode node : readyNodes) {
+            node.setMatchId(matchIterator.next().getId());
+        }
+        bracketNodeRepository.saveAll(nodes);
+    }
+
+    /**
+     * Advances the winner of a completed match to the parent node, and inserts the parent's match
+     * if its other player is already known.
+     *
+     * @param match The completed match, with the results of its participants set.
+     * @throws IllegalStateException if the match is part of a knockout bracket and has no winner.
+     */
+    @Override
+    @Transactional
+    public void recordMatchResult(Match match) {
+        Optional<BracketNode> bracketNode = bracketNodeRepository.findByMatchId(match.getId());
+        if (bracketNode.isEmpty()) return;
+
+        MatchPlayer winningPlayer = match.getParticipants().stream()
+                .filter(participant -> participant.getResult() == MatchPlayer.Result.WIN)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Knockout match " + match.getId() + " has no winner."));
+
+        BracketNode node = bracketNode.get();
+        if (node.getParent() != null) {
+            // Loads the parent in its own select under the row lock. BracketNode.parent is LAZY and not initialised
+            // before this point, so the proxy reads the state fetched here rather than a copy loaded without the lock
+            bracketNodeRepository.findByIdForUpdate(node.getParent().getId()).orElseThrow();
+        }
+        BracketSlot winnerSlot = new BracketSlot(winningPlayer.getPlayerId(), winningPlayer.getGlickoRating(),
+                winningPlayer.getRatingDeviation(), winningPlayer.getVolatility(), winningPlayer.getPoints());
+
+        if (!advance(node, winnerSlot)) {
+            bracketNodeRepository.save(node);
+            return;
+        }
+
+        BracketNode parent = node.getParent();
+        Match nextMatch = createMatch(parent);
+        matchBatchWriter.insertAll(List.of(nextMatch));
+        parent.setMatchId(nextMatch.getId());
+        bracketNodeRepository.saveAll(List.of(node, parent));
+    }
+
+    /**
+     * Checks whether a match is part of a knockout bracket.
+     *
+     * @param matchId The ID of the match.
+     * @return true if a bracket node refers to the match, false otherwise.
+     */
+    @Override
+    public boolean isKnockoutMatch(Long matchId) {
+        return bracketNodeRepository.existsByMatchId(matchId);
+    }
+
+    /**
+     * Records the winner of a node and places them in the parent node.
+     *
+     * @return true if the parent node has become ready to be played, false otherwise.
+     */
+    private boolean advance(BracketNode node, BracketSlot winnerSlot) {
+        node.setWinnerId(winnerSlot.getPlayerId());
+        BracketNode parent = node.getParent();
+        if (parent == null) return false;
+
+        if (node.getPosition() % 2 == 0) parent.setTop(winnerSlot);
+        else parent.setBottom(winnerSlot);
+        return parent.isReady() && parent.getMatchId() == null;
+    }
+
+    /**
+     * Returns the zero-based seeds in bracket order, so that seeds {@code 2i} and {@code 2i + 1} of the result
+     * meet in the first round and the two best seeds can only meet in the final.
+     */
+    static int[] seedOrder(int size) {
+        int[] order = {0};
+        while (order.length < size) {
+            int length = order.length * 2;
+            int[] next = new int[length];
+            for (int i = 0; i < order.length; i++) {
+                next[2 * i] = order[i];
+                next[2 * i + 1] = length - 1 - order[i];
+            }
+            order = next;
+        }
+        return order;
+    }
+
+    private BracketSlot toSlot(TournamentPlayerDTO participant) {
+        return new BracketSlot(participant.getPlayerId(), participant.getGlickoRating(),
+                participant.getRatingDeviation(), participant.getVolatility(), 0);
+    }
+
+    /**
+     * Creates the match of a ready node, with the top player playing white.
+     */
+    private Match createMatch(BracketNode node) {
+        Match match = new Match();
+        match.setTournamentId(node.getTournamentId());
+        match.setScheduledTime(LocalDateTime.now().plusDays(1));
+        match.setStatus(Match.MatchStatus.SCHEDULED);
+        match.setRoundNumber(node.getRoundNumber());
+
+        MatchPlayer white = createMatchPlayer(node.getTop(), node.getRoundNumber(), MatchPlayer.Colour.WHITE);
+        MatchPlayer black = createMatchPlayer(node.getBottom(), node.getRoundNumber(), MatchPlayer.Colour.BLACK);
+        white.setOpponentId(black.getPlayerId());
+        black.setOpponentId(white.getPlayerId());
+        white.setMatch(match);
+        black.setMatch(match);
+        match.setParticipants(new HashSet<>(Arrays.asList(white, black)));
+        return match;
+    }
+
+    private MatchPlayer createMatchPlayer(BracketSlot slot, int round, MatchPlayer.Colour colour) {
+        MatchPlayer player = new MatchPlayer();
+        player.setPlayerId(slot.getPlayerId());
+        player.setGlickoRating(slot.getGlickoRating());
+        player.setRatingDeviation(slot.getRatingDeviation());
+        player.setVolatility(slot.getVolatility());
+        player.setPoints(slot.getPoints());
+        player.setCurrentRound(round);
+        player.setColour(colour);
+        return player;
+    }
+}
@@ -0,0 +1,314 @@
+package com.g1.mychess.match.service.impl;
+
+import com.g1.mychess.client.FanOut;
+import com.g1.mychess.match.client.EmailServiceClient;
+import com.g1.mychess.match.client.PlayerServiceClient;
+import com.g1.mychess.match.client.TournamentServiceClient;
+import com.g1.mychess.match.config.MatchReminderProperties;
+import com.g1.mychess.match.dto.PlayerDTO;
+import com.g1.mychess.match.dto.ReminderEmailDTO;
+import com.g1.mychess.match.model.Match;
+import com.g1.mychess.match.model.MatchPlayer;
+import com.g1.mychess.match.repository.MatchRepository;
+import com.g1.mychess.match.service.MatchReminderService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of the {@link MatchReminderService} interface, backed by a {@link DelayQueue}.
+ * <p>
+ * A loader thread reads the unsent reminders of the matches starting within the loading horizon every
+ * {@code match.reminders.reload-interval}, using the index on {@code scheduled_time}, and puts them in the delay queue.
+ * A dispatcher thread takes each reminder from the queue as soon as it is due, together with all other due reminders,
+ * and sends them in one batch. A match rescheduled in the meantime replaces its queued reminder; the replaced one is
+ * skipped when it comes due.
+ * </p>
+ * <p>
+ * Before sending, the reminders are claimed in the database by setting {@code reminder_sent_at}, so a reminder is
+ * sent once even if the service restarts. Reminders whose emails could not be sent are released and retried by the
+ * next load. A match is released as a whole, so a participant whose email did go out may be reminded twice.
+ * </p>
+ */
+@Service
+public class MatchReminderServiceImpl implements MatchReminderService {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchReminderServiceImpl.class);
+
+    /**
+     * How much earlier than its due time a reminder may be sent, to absorb timer jitter.
+     */
+    private static final Duration TOLERANCE = Duration.ofSeconds(5);
+
+    private final MatchRepository matchRepository;
+    private final PlayerServiceClient playerServiceClient;
+    private final TournamentServiceClient tournamentServiceClient;
+    private final EmailServiceClient emailServiceClient;
+    private final FanOut fanOut;
+    private final MatchReminderProperties properties;
+
+    private final DelayQueue<PendingReminder> queue = new DelayQueue<>();
+    private final Map<Long, PendingReminder> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService loader;
+    private final ExecutorService dispatcher;
+
+    /**
+     * Constructs the reminder service.
+     *
+     * @param matchRepository The repository for match data.
+     * @param playerServiceClient The client looking up the participants' email addresses.
+     * @param tournamentServiceClient The client looking up the tournament names.
+     * @param emailServiceClient The client sending the reminder emails.
+     * @param fanOut The helper sending the emails in parallel.
+     * @param properties The lead time and reload interval of the reminders.
+     */
+    public MatchReminderServiceImpl(
+            MatchRepository matchRepository,
+            PlayerServiceClient playerServiceClient,
+            TournamentServiceClient tournamentServiceClient,
+            EmailServiceClient emailServiceClient,
+            FanOut fanOut,
+            MatchReminderProperties properties
+    ) {
+        this.matchRepository = matchRepository;
+        this.playerServiceClient = playerServiceClient;
+        this.tournamentServiceClient = tournamentServiceClient;
+        this.emailServiceClient = emailServiceClient;
+        this.fanOut = fanOut;
+        this.properties = properties;
+        this.loader = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("match-reminder-loader").factory());
+        this.dispatcher = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("match-reminder-dispatcher").factory());
+    }
+
+    /**
+     * Starts loading and sending the reminders once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long interval = properties.getReloadInterval().toMillis();
+        loader.scheduleWithFixedDelay(this::reload, 0, interval, TimeUnit.MILLISECONDS);
+        dispatcher.execute(this::dispatch);
+    }
+
+    /**
+     * Stops loading and sending the reminders. Reminders still queued are loaded again on the next start.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        loader.shutdownNow();
+        dispatcher.shutdownNow();
+        loader.awaitTermination(30, TimeUnit.SECONDS);
+        dispatcher.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void schedule(Match match) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime scheduledTime = match.getScheduledTime();
+        if (match.getStatus() != Match.MatchStatus.SCHEDULED || match.getReminderSentAt() != null
+                || scheduledTime == null || !scheduledTime.isAfter(now)
+                || scheduledTime.isAfter(now.plus(properties.getHorizon()))) {
+            pending.remove(match.getId());
+            return;
+        }
+        enqueue(match.getId(), scheduledTime.minus(properties.getLeadTime()));
+    }
+
+    @Override
+    public int loadPendingReminders() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Match> matches = matchRepository.findPendingReminders(now, now.plus(properties.getHorizon()));
+        for (Match match : matches) {
+            schedule(match);
+        }
+        return matches.size();
+    }
+
+    @Override
+    public int sendReminders(Collection<Long> matchIds) {
+        LocalDateTime now = LocalDateTime.now();
+        // Truncated so that the claim time reads back equal from the database
+        LocalDateTime sentAt = now.truncatedTo(ChronoUnit.MILLIS);
+        LocalDateTime latest = now.plus(properties.getLeadTime()).plus(TOLERANCE);
+        if (matchRepository.claimReminders(matchIds, now, latest, sentAt) == 0) return 0;
+
+        List<Match> matches = matchRepository.findClaimedReminders(matchIds, sentAt);
+        try {
+            return sendClaimedReminders(matches, sentAt);
+        } catch (RuntimeException e) {
+            matchRepository.releaseReminders(matchIds, sentAt);
+            throw e;
+        }
+    }
+
+    /**
+     * Sends the reminders of matches claimed at the given time and releases those of matches whose emails failed.
+     *
+     * @param matches The claimed matches with their participants.
+     * @param sentAt The claim time.
+     * @return The number of reminder emails sent.
+     */
+    private int sendClaimedReminders(List<Match> matches, LocalDateTime sentAt) {
+        Map<Long, String> emails = getPlayerEmails(matches);
+        Map<Long, String> tournamentNames = getTournamentNames(matches);
+
+        List<Map.Entry<Long, ReminderEmailDTO>> reminderEmails = new ArrayList<>();
+        for (Match match : matches) {
+            for (MatchPlayer participant : match.getParticipants()) {
+                String email = emails.get(participant.getPlayerId());
+                if (email == null) continue;
+
+                ReminderEmailDTO emailDTO = new ReminderEmailDTO();
+                emailDTO.setTo(email);
+                emailDTO.setTournamentName(tournamentNames.get(match.getTournamentId()));
+                emailDTO.setScheduledTime(match.getScheduledTime());
+                reminderEmails.add(Map.entry(match.getId(), emailDTO));
+            }
+        }
+
+        AtomicInteger sent = new AtomicInteger();
+        Set<Long> failedMatchIds = ConcurrentHashMap.newKeySet();
+        fanOut.forEach(reminderEmails, reminder -> emailServiceClient.sendMatchReminderEmail(reminder.getValue())
+                .doOnSuccess(ignored -> sent.incrementAndGet())
+                .onErrorResume(error -> {
+                    log.warn("Error sending reminder of match {}: {}", reminder.getKey(), error.getMessage());
+                    failedMatchIds.add(reminder.getKey());
+                    return Mono.empty();
+                })).block();
+
+        if (!failedMatchIds.isEmpty()) {
+            matchRepository.releaseReminders(failedMatchIds, sentAt);
+        }
+        return sent.get();
+    }
+
+    /**
+     * Retrieves the email addresses of all participants of the given matches with batched calls to the player service.
+     *
+     * @param matches The matches whose participants are to be looked up.
+     * @return A map of player ID to email address.
+     */
+    private Map<Long, String> getPlayerEmails(List<Match> matches) {
+        Set<Long> playerIds = new LinkedHashSet<>();
+        for (Match match : matches) {
+            for (MatchPlayer participant : match.getParticipants()) {
+                playerIds.add(participant.getPlayerId());
+            }
+        }
+
+        Map<Long, String> emails = new HashMap<>();
+        for (PlayerDTO player : playerServiceClient.getPlayersDetails(new ArrayList<>(playerIds))) {
+            emails.put(player.getId(), player.getEmail());
+        }
+        return emails;
+    }
+
+    /**
+     * Retrieves the names of the tournaments of the given matches, looking up each tournament once and in parallel.
+     *
+     * @param matches The matches whose tournaments are to be looked up.
+     * @return A map of tournament ID to tournament name.
+     */
+    private Map<Long, String> getTournamentNames(List<Match> matches) {
+        Set<Long> tournamentIds = new LinkedHashSet<>();
+        for (Match match : matches) {
+            tournamentIds.add(match.getTournamentId());
+        }
+
+        Map<Long, String> names = new HashMap<>();
+        fanOut.map(tournamentIds, tournamentId -> tournamentServiceClient.getTournamentDetailsAsync(tournamentId)
+                        .map(tournament -> Map.entry(tournamentId, Objects.toString(tournament.getName(), ""))))
+                .doOnNext(entry -> names.put(entry.getKey(), entry.getValue()))
+                .blockLast();
+        return names;
+    }
+
+    /**
+     * Queues the reminder of a match, replacing a reminder queued for a different time.
+     */
+    private synchronized void enqueue(Long matchId, LocalDateTime fireAt) {
+        PendingReminder previous = pending.get(matchId);
+        if (previous != null && previous.fireAt.equals(fireAt)) return;
+
+        PendingReminder reminder = new PendingReminder(matchId, fireAt);
+        pending.put(matchId, reminder);
+        queue.offer(reminder);
+    }
+
+    /**
+     * Loads the upcoming reminders. Errors are caught so that a failed load, e.g. while the database is unavailable,
+     * does not end the loading.
+     */
+    private void reload() {
+        try {
+            loadPendingReminders();
+        } catch (RuntimeException e) {
+            log.error("Error loading match reminders", e);
+        }
+    }
+
+    /**
+     * Waits for the next due reminder and sends it together with all other due reminders, until interrupted.
+     */
+    private void dispatch() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<PendingReminder> due = new ArrayList<>();
+                due.add(queue.take());
+                queue.drainTo(due);
+
+                List<Long> matchIds = new ArrayList<>();
+                for (PendingReminder reminder : due) {
+                    // A reminder replaced after its match was rescheduled is no longer in the map
+                    if (pending.remove(reminder.matchId, reminder)) {
+                        matchIds.add(reminder.matchId);
+                    }
+                }
+                if (!matchIds.isEmpty()) {
+                    sendReminders(matchIds);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Error sending match reminders", e);
+            }
+        }
+    }
+
+    /**
+     * The reminder of one match, due at a fixed time.
+     */
+    private static final class PendingReminder implements Delayed {
+        private final Long matchId;
+        private final LocalDateTime fireAt;
+        private final long fireAtMillis;
+
+        private PendingReminder(Long matchId, LocalDateTime fireAt) {
+            this.matchId = matchId;
+            this.fireAt = fireAt;
+            this.fireAtMillis = fireAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(fireAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(fireAtMillis, ((PendingReminder) other).fireAtMillis);
+        }
+    }
+}
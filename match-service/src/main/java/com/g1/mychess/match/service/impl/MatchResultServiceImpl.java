@@ -6,7 +6,9 @@ import com.g1.mychess.match.model.Match;
 import com.g1.mychess.match.model.MatchPlayer;
 import com.g1.mychess.match.repository.MatchPlayerRepository;
 import com.g1.mychess.match.repository.MatchRepository;
+import com.g1.mychess.match.service.KnockoutBracketService;
 import com.g1.mychess.match.service.MatchResultService;
+import com.g1.mychess.match.service.TournamentStandingService;
 import jakarta.transaction.Transactional;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -28,26 +30,35 @@ public class MatchResultServiceImpl implements MatchResultService {
 
     private final MatchRepository matchRepository;
     private final MatchPlayerRepository matchPlayerRepository;
+    private final TournamentStandingService tournamentStandingService;
+    private final KnockoutBracketService knockoutBracketService;
 
     /**
      * Constructs a {@link MatchResultServiceImpl} with the provided repositories.
      *
      * @param matchRepository Repository for accessing match data.
      * @param matchPlayerRepository Repository for accessing match player data.
+     * @param tournamentStandingService Service for updating the tournament standings.
+     * @param knockoutBracketService Service for advancing winners in knockout brackets.
      */
-    public MatchResultServiceImpl(MatchRepository matchRepository, MatchPlayerRepository matchPlayerRepository) {
+    public MatchResultServiceImpl(MatchRepository matchRepository, MatchPlayerRepository matchPlayerRepository,
+                                  TournamentStandingService tournamentStandingService,
+                                  KnockoutBracketService knockoutBracketService) {
         this.matchRepository = matchRepository;
         this.matchPlayerRepository = matchPlayerRepository;
+        this.tournamentStandingService = tournamentStandingService;
+        this.knockoutBracketService = knockoutBracketService;
     }
 
     /**
      * Finalizes the match by determining the outcome (draw or win/loss) and updating the player results accordingly.
-     * Updates the match status to completed and saves the match and player data.
+     * Updates the match status to completed, saves the match and player data, records the result
+     * in the tournament standings, and advances the winner of a knockout match in its bracket.
      *
      * @param matchId The ID of the match to complete.
      * @param winnerPlayerId The ID of the winning player (relevant only if the match is not a draw).
      * @param loserPlayerId The ID of the losing player (relevant only if the match is not a draw).
-     * @param isDraw A flag indicating whether the match is a draw.
+     * @param isDraw A flag indicating whether the match is a draw; knockout matches cannot be drawn.
      * @return A {@link ResponseEntity} containing the result message of the operation.
      *
      * @throws MatchNotFoundException if the match with the given ID cannot be found.
@@ -60,6 +71,9 @@ public class MatchResultServiceImpl implements MatchResultService {
         if (match.getStatus() == Match.MatchStatus.COMPLETED) {
             return ResponseEntity.badRequest().body("Match is already completed.");
         }
+        if (isDraw && knockoutBracketService.isKnockoutMatch(matchId)) {
+            return ResponseEntity.badRequest().body("A knockout match cannot end in a draw. Report the winner of the tiebreak.");
+        }
 
         Set<MatchPlayer> participants = match.getParticipants();
 
@@ -67,6 +81,8 @@ public class MatchResultServiceImpl implements MatchResultService {
         else handleWinLoss(participants, winnerPlayerId, loserPlayerId);
 
         finalizeMatchCompletion(match, participants);
+        tournamentStandingService.recordMatchResult(match);
+        knockoutBracketService.recordMatchResult(match);
 
         return ResponseEntity.ok("Match completed successfully.");
     }
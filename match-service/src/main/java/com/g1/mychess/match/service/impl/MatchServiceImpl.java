@@ -1,60 +1,53 @@
 package com.g1.mychess.match.service.impl;
 
-import com.g1.mychess.match.client.PlayerServiceClient;
-import com.g1.mychess.match.client.PlayerServiceClient;
 import com.g1.mychess.match.client.TournamentServiceClient;
-import com.g1.mychess.match.client.EmailServiceClient;
-import com.g1.mychess.match.client.EmailServiceClient;
 import com.g1.mychess.match.dto.*;
 import com.g1.mychess.match.exception.TournamentNotFoundException;
 import com.g1.mychess.match.exception.TournamentRoundNotFoundException;
 import com.g1.mychess.match.mapper.MatchMapper;
 import com.g1.mychess.match.model.Match;
 import com.g1.mychess.match.model.MatchPlayer;
-import com.g1.mychess.match.repository.MatchPlayerRepository;
+import com.g1.mychess.match.model.TournamentStanding;
 import com.g1.mychess.match.repository.MatchRepository;
+import com.g1.mychess.match.repository.TournamentStandingRepository;
 import com.g1.mychess.match.service.MatchService;
-import com.g1.mychess.match.service.MatchTimeService;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
 import java.util.*;
 
 /**
  * Service implementation for match-related operations in the chess application.
  * Provides methods to retrieve matches by tournament, round, and match results.
+ * <p>
+ * Matches are fetched with their participants in a single query. Only an empty result is checked against the
+ * tournament service, which owns the tournaments, to tell an unknown tournament (404) from one without matches yet.
+ * </p>
  */
 @Service
 public class MatchServiceImpl implements MatchService {
 
     private final MatchRepository matchRepository;
-    private final MatchPlayerRepository matchPlayerRepository;
-    private final EmailServiceClient emailServiceClient;
-    private final PlayerServiceClient playerServiceClient;
-    private final MatchTimeServiceImpl matchTimeService;
+    private final TournamentStandingRepository tournamentStandingRepository;
+    private final TournamentServiceClient tournamentServiceClient;
 
     /**
      * Constructor to initialize repositories.
      *
      * @param matchRepository          The repository for match data.
-     * @param matchPlayerRepository    The repository for match player data.
+     * @param tournamentStandingRepository The repository for the tournament standings.
+     * @param tournamentServiceClient  The client checking whether a tournament exists.
      */
     @Autowired
     public MatchServiceImpl(
             MatchRepository matchRepository,
-            MatchPlayerRepository matchPlayerRepository,
-            EmailServiceClient emailServiceClient,
-            PlayerServiceClient playerServiceClient,
-            MatchTimeServiceImpl matchTimeService
+            TournamentStandingRepository tournamentStandingRepository,
+            TournamentServiceClient tournamentServiceClient
     ) {
         this.matchRepository = matchRepository;
-        this.matchPlayerRepository = matchPlayerRepository;
-        this.emailServiceClient = emailServiceClient;
-        this.playerServiceClient = playerServiceClient;
-        this.matchTimeService = matchTimeService;
+        this.tournamentStandingRepository = tournamentStandingRepository;
+        this.tournamentServiceClient = tournamentServiceClient;
     }
 
     /**
@@ -67,29 +60,32 @@ public class MatchServiceImpl implements MatchService {
     @Override
     @Transactional
     public List<MatchDTO> findAllMatchByTournament(Long tournamentId) {
-        List<Match> matches = matchRepository.findByTournamentId(tournamentId)
-                .orElseThrow(() -> new TournamentNotFoundException("Tournament with id = " + tournamentId + " does not exist."));
+        List<Match> matches = matchRepository.findAllWithParticipantsByTournamentId(tournamentId);
+        if (matches.isEmpty()) {
+            requireTournament(tournamentId);
+        }
         return MatchMapper.toDTOList(matches);
     }
 
     /**
      * Retrieves all matches associated with a specific round of a given tournament.
-     * It first checks whether the tournament exists and then fetches matches for the specified round.
+     * The matches are fetched with their participants in a single query; only when the round is empty
+     * is the tournament checked for existence.
      *
      * @param tournamentId The ID of the tournament.
      * @param roundNumber  The round number of the tournament.
      * @return A list of MatchDTO objects representing the matches in the specified round.
      * @throws TournamentNotFoundException if the tournament with the given ID does not exist.
-     * @throws TournamentRoundNotFoundException if the round number does not exist for the tournament.
+     * @throws TournamentRoundNotFoundException if the tournament has no matches in the given round.
      */
     @Override
     @Transactional
     public List<MatchDTO> findAllMatchByTournamentRound(Long tournamentId, Integer roundNumber) {
-        matchRepository.findByTournamentId(tournamentId)
-                .orElseThrow(() -> new TournamentNotFoundException("Tournament with id = " + tournamentId + " does not exist."));
-
-        List<Match> matches = matchRepository.findByTournamentIdAndRoundNumber(tournamentId, roundNumber)
-                .orElseThrow(() -> new TournamentRoundNotFoundException("Tournament with id = " + tournamentId + " does not have round = " + roundNumber));
+        List<Match> matches = matchRepository.findAllWithParticipantsByTournamentIdAndRoundNumber(tournamentId, roundNumber);
+        if (matches.isEmpty()) {
+            requireTournament(tournamentId);
+            throw new TournamentRoundNotFoundException("Tournament with id = " + tournamentId + " does not have round = " + roundNumber);
+        }
 
         return MatchMapper.toDTOList(matches);
     }
@@ -97,6 +93,7 @@ public class MatchServiceImpl implements MatchService {
     /**
      * Retrieves all match results associated with a given tournament.
      * Builds a MatchResultDTO for each match containing information about the winner, loser, or draw.
+     * The matches are fetched with their participants in a single query.
      *
      * @param tournamentId The ID of the tournament.
      * @return A list of MatchResultDTO objects representing the results of matches in the tournament.
@@ -105,17 +102,19 @@ public class MatchServiceImpl implements MatchService {
     @Override
     @Transactional
     public List<MatchResultDTO> findAllMatchResultsByTournament(Long tournamentId) {
-        List<Match> matches = matchRepository.findByTournamentId(tournamentId)
-                .orElseThrow(() -> new TournamentNotFoundException("Tournament with id = " + tournamentId + " does not exist."));
+        List<Match> matches = matchRepository.findAllWithParticipantsByTournamentId(tournamentId);
+        if (matches.isEmpty()) {
+            requireTournament(tournamentId);
+        }
         List<MatchResultDTO> matchResults = new ArrayList<>();
 
         for (Match match : matches) {
-            List<MatchPlayer> participants = matchPlayerRepository.findByMatchId(match.getId());
+            Set<MatchPlayer> participants = match.getParticipants();
             if (participants.size() != 2) {
                 continue; // Skip incomplete match data
             }
 
-            MatchResultDTO matchResult = buildMatchResult(participants);
+            MatchResultDTO matchResult = buildMatchResult(match.getId(), participants);
             if (matchResult != null) {
                 matchResults.add(matchResult);
             }
@@ -124,14 +123,27 @@ public class MatchServiceImpl implements MatchService {
         return matchResults;
     }
 
+    /**
+     * Checks with the tournament service that a tournament exists.
+     *
+     * @param tournamentId The ID of the tournament.
+     * @throws TournamentNotFoundException if the tournament with the given ID does not exist.
+     */
+    private void requireTournament(Long tournamentId) {
+        if (tournamentServiceClient.findTournament(tournamentId).isEmpty()) {
+            throw new TournamentNotFoundException("Tournament with id = " + tournamentId + " does not exist.");
+        }
+    }
+
     /**
      * Builds a MatchResultDTO object based on the match participants' results.
      * It processes the results, determining whether the match was a draw, win, or loss.
      *
-     * @param participants A list of MatchPlayer objects representing the participants in the match.
+     * @param matchId The ID of the match.
+     * @param participants The MatchPlayer objects representing the participants in the match.
      * @return A MatchResultDTO representing the result of the match, or null if the result is incomplete.
      */
-    private MatchResultDTO buildMatchResult(List<MatchPlayer> participants) {
+    private MatchResultDTO buildMatchResult(Long matchId, Set<MatchPlayer> participants) {
         MatchResultDTO matchResult = new MatchResultDTO();
         boolean isDraw = false;
         Long winnerId = null;
@@ -162,75 +174,30 @@ public class MatchServiceImpl implements MatchService {
             if (loserId != null) {
                 matchResult.setLoserId(loserId);
             }
+        } else {
+            return null; // Only return matches with a result
         }
 
-        return matchResult.getMatchId() != null ? matchResult : null; // Only return non-null results
+        matchResult.setMatchId(matchId);
+        return matchResult;
     }
 
     /**
      * Retrieves the results of a specific tournament based on the provided tournament ID.
-     * This method queries the match players in the tournament, orders them by points in descending
-     * order, and then maps the results to a {@link TournamentResultsDTO}.
+     * The points are read from the tournament standings, which add up every game and bye of a player. A match player
+     * only holds the points of its own game in a round-robin tournament, whose rounds are all scheduled up front.
      *
      * @param tournamentId The ID of the tournament for which the results are to be fetched.
-     * @return A {@link TournamentResultsDTO} containing the ordered results of the specified tournament.
+     * @return A {@link TournamentResultsDTO} containing the results of the tournament, the most points first.
+     * @throws TournamentNotFoundException if the tournament with the given ID does not exist.
      */
     @Override
     @Transactional
     public TournamentResultsDTO getTournamentResults(Long tournamentId) {
-        List<MatchPlayer> matchPlayers = matchPlayerRepository.findByMatch_TournamentIdOrderByPointsDesc(tournamentId);
-        return MatchMapper.toTournamentResultsDTO(matchPlayers);
-    }
-
-    /**
-     * Sends reminders for upcoming matches scheduled within the next hour.
-     * This method runs every hour (configured with @Scheduled annotation), and retrieves matches
-     * that are scheduled to start in the next hour, then sends reminder emails to the participants.
-     */
-    @Override
-    @Scheduled(fixedRate = 3600000) // Runs every hour
-    @Transactional
-    public void sendMatchReminders() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime oneHourLater = now.plusHours(1);
-
-        List<Match> upcomingMatches = matchRepository.findByScheduledTimeBetween(now, oneHourLater);
-
-        for (Match match : upcomingMatches) {
-            sendReminderEmails(match);
+        List<TournamentStanding> standings = tournamentStandingRepository.findByTournamentIdOrderByPointsDescPlayerIdAsc(tournamentId);
+        if (standings.isEmpty()) {
+            requireTournament(tournamentId);
         }
+        return MatchMapper.toTournamentResultsDTO(tournamentId, standings);
     }
-
-    /**
-     * Sends reminder emails to the participants of a specific match.
-     * This method retrieves the email addresses of all match participants and sends them a reminder
-     * about the upcoming match using {@link #sendReminderEmail(String, Match)}.
-     *
-     * @param match The match object containing the participants and scheduled time.
-     */
-    private void sendReminderEmails(Match match) {
-        Set<MatchPlayer> participants = match.getParticipants();
-
-        for (MatchPlayer participant : participants) {
-            String email = playerServiceClient.getPlayerDetails(participant.getPlayerId()).getEmail();
-            sendReminderEmail(email, match);
-        }
-    }
-
-    /**
-     * Sends a reminder email to a specific player for a particular match.
-     * This method constructs a {@link ReminderEmailDTO} object and uses the {@link EmailServiceClient}
-     * to send the email reminder to the player.
-     *
-     * @param email The recipient player's email address.
-     * @param match The match details (tournament name and scheduled time) to include in the reminder.
-     */
-    private void sendReminderEmail(String email, Match match) {
-        ReminderEmailDTO emailDTO = new ReminderEmailDTO();
-        emailDTO.setTo(email);
-        emailDTO.setTournamentName(matchTimeService.getTournamentById(match.getTournamentId()).getName());
-        emailDTO.setScheduledTime(match.getScheduledTime());
-
-        emailServiceClient.sendMatchReminderEmail(emailDTO);
-    }
-}
\ No newline at end of file
+}
@@ -7,6 +7,7 @@ import com.g1.mychess.match.exception.UnauthorizedActionException;
 import com.g1.mychess.match.model.Match;
 import com.g1.mychess.match.repository.MatchRepository;
 import com.g1.mychess.match.service.AuthenticationService;
+import com.g1.mychess.match.service.MatchReminderService;
 import com.g1.mychess.match.service.MatchResultService;
 import com.g1.mychess.match.service.MatchTimeService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,6 +29,7 @@ public class MatchTimeServiceImpl implements MatchTimeService {
     private final TournamentServiceClient tournamentServiceClient;
     private final AuthenticationService authenticationService;
     private final MatchResultServiceImpl matchResultService;
+    private final MatchReminderService matchReminderService;
 
     /**
      * Constructor to initialize necessary dependencies for match time updates.
@@ -36,12 +38,14 @@ public class MatchTimeServiceImpl implements MatchTimeService {
      * @param tournamentServiceClient The client for fetching tournament details.
      * @param authenticationService Service for handling user authentication.
      * @param matchResultService Service for accessing match results.
+     * @param matchReminderService Service scheduling the reminders of the matches.
      */
-    public MatchTimeServiceImpl(MatchRepository matchRepository, TournamentServiceClient tournamentServiceClient, AuthenticationService authenticationService, MatchResultServiceImpl matchResultService) {
+    public MatchTimeServiceImpl(MatchRepository matchRepository, TournamentServiceClient tournamentServiceClient, AuthenticationService authenticationService, MatchResultServiceImpl matchResultService, MatchReminderService matchReminderService) {
         this.matchRepository = matchRepository;
         this.tournamentServiceClient = tournamentServiceClient;
         this.authenticationService = authenticationService;
         this.matchResultService = matchResultService;
+        this.matchReminderService = matchReminderService;
     }
 
     /**
@@ -106,13 +110,16 @@ public class MatchTimeServiceImpl implements MatchTimeService {
     }
 
     /**
-     * Updates the scheduled time of a match.
+     * Updates the scheduled time of a match and moves its reminder to the new time.
+     * A reminder already sent for the previous time is sent again for the new one.
      *
      * @param match The match to update.
      * @param newScheduledTime The new scheduled time to set for the match.
      */
     private void updateScheduledTime(Match match, LocalDateTime newScheduledTime) {
         match.setScheduledTime(newScheduledTime);
+        match.setReminderSentAt(null);
         matchRepository.save(match);
+        matchReminderService.schedule(match);
     }
 }
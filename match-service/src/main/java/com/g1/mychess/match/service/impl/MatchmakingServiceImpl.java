@@ -2,12 +2,15 @@ package com.g1.mychess.match.service.impl;
 
 import com.g1.mychess.match.dto.MatchmakingDTO;
 import com.g1.mychess.match.dto.TournamentPlayerDTO;
-import com.g1.mychess.match.exception.TournamentRoundNotFoundException;
 import com.g1.mychess.match.model.Match;
 import com.g1.mychess.match.model.MatchPlayer;
+import com.g1.mychess.match.model.TournamentStanding;
+import com.g1.mychess.match.repository.MatchBatchWriter;
 import com.g1.mychess.match.repository.MatchPlayerRepository;
 import com.g1.mychess.match.repository.MatchRepository;
+import com.g1.mychess.match.service.KnockoutBracketService;
 import com.g1.mychess.match.service.MatchmakingService;
+import com.g1.mychess.match.service.TournamentStandingService;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -25,17 +28,31 @@ public class MatchmakingServiceImpl implements MatchmakingService {
 
     private final MatchRepository matchRepository;
     private final MatchPlayerRepository matchPlayerRepository;
+    private final TournamentStandingService tournamentStandingService;
+    private final SwissPairingEngine swissPairingEngine;
+    private final MatchBatchWriter matchBatchWriter;
+    private final KnockoutBracketService knockoutBracketService;
 
     /**
      * Constructor for MatchmakingServiceImpl.
      *
-     * @param matchRepository       Repository for Match entity
-     * @param matchPlayerRepository Repository for MatchPlayer entity
+     * @param matchRepository           Repository for Match entity
+     * @param matchPlayerRepository     Repository for MatchPlayer entity
+     * @param tournamentStandingService Service for the materialised tournament standings
+     * @param swissPairingEngine        Engine pairing the rounds of Swiss tournaments
+     * @param matchBatchWriter          Batch writer for the generated matches and match players
+     * @param knockoutBracketService    Service maintaining the brackets of knockout tournaments
      */
     @Autowired
-    public MatchmakingServiceImpl(MatchRepository matchRepository, MatchPlayerRepository matchPlayerRepository) {
+    public MatchmakingServiceImpl(MatchRepository matchRepository, MatchPlayerRepository matchPlayerRepository,
+                                  TournamentStandingService tournamentStandingService, SwissPairingEngine swissPairingEngine,
+                                  MatchBatchWriter matchBatchWriter, KnockoutBracketService knockoutBracketService) {
         this.matchRepository = matchRepository;
         this.matchPlayerRepository = matchPlayerRepository;
+        this.tournamentStandingService = tournamentStandingService;
+        this.swissPairingEngine = swissPairingEngine;
+        this.matchBatchWriter = matchBatchWriter;
+        this.knockoutBracketService = knockoutBracketService;
     }
 
     /**
@@ -65,13 +82,15 @@ public class MatchmakingServiceImpl implements MatchmakingService {
      *
      * @param participants The set of participants in the tournament
      * @param currentRound The current round number
+     * @param standings The standings of the tournament, keyed by player ID
      * @return List of MatchPlayer objects
      */
-    private List<MatchPlayer> initializePlayers(Set<TournamentPlayerDTO> participants, int currentRound) {
+    private List<MatchPlayer> initializePlayers(Set<TournamentPlayerDTO> participants, int currentRound,
+                                                Map<Long, TournamentStanding> standings) {
         List<MatchPlayer> players = new ArrayList<>();
 
         for (TournamentPlayerDTO participant : participants) {
-            MatchPlayer player = createMatchPlayer(participant, currentRound);
+            MatchPlayer player = createMatchPlayer(participant, currentRound, standings.get(participant.getPlayerId()).getPoints());
             players.add(player);
         }
         return players;
@@ -82,170 +101,120 @@ public class MatchmakingServiceImpl implements MatchmakingService {
      *
      * @param participant The participant data transfer object
      * @param currentRound The current round number
+     * @param points The player's points before this round
      * @return A MatchPlayer object initialized with the player's data
      */
-    private MatchPlayer createMatchPlayer(TournamentPlayerDTO participant, int currentRound) {
+    private MatchPlayer createMatchPlayer(TournamentPlayerDTO participant, int currentRound, double points) {
         MatchPlayer player = new MatchPlayer();
         player.setPlayerId(participant.getPlayerId());
         player.setGlickoRating(participant.getGlickoRating());
         player.setRatingDeviation(participant.getRatingDeviation());
         player.setVolatility(participant.getVolatility());
         player.setCurrentRound(currentRound);
-        player.setPoints(getPlayerPoints(participant, currentRound));
+        player.setPoints(points);
         return player;
     }
 
-    /**
-     * Retrieves the points of a player for the current round.
-     * If it is the first round, the player starts with 0 points.
-     *
-     * @param participant The participant data transfer object
-     * @param currentRound The current round number
-     * @return The player's points for the current round
-     */
-    private double getPlayerPoints(TournamentPlayerDTO participant, int currentRound) {
-        if (currentRound == 1) return 0;
-
-        MatchPlayer previousRoundPlayer = matchPlayerRepository.findByPlayerIdAndMatch_TournamentIdAndCurrentRound(
-                participant.getPlayerId(), participant.getTournamentId(), currentRound - 1);
-
-        return (previousRoundPlayer != null) ? previousRoundPlayer.getPoints() : 0;
-    }
-
     /**
      * Runs the Swiss-system matchmaking, pairing players by points and ratings.
+     * The points of every participant are read from the tournament standings in a single query.
      */
     private void generateSwissMatches(MatchmakingDTO matchmakingDTO) {
         Long tournamentId = matchmakingDTO.getTournamentId();
         int currentRound = matchmakingDTO.getCurrentRound();
         Set<TournamentPlayerDTO> participants = matchmakingDTO.getParticipants();
 
-        List<MatchPlayer> players = initializePlayers(participants, currentRound);
-        List<Match> newMatches = createSwissSystemMatches(players, tournamentId, currentRound);
+        List<Long> playerIds = participants.stream().map(TournamentPlayerDTO::getPlayerId).toList();
+        Map<Long, TournamentStanding> standings = tournamentStandingService.getStandings(tournamentId, playerIds);
+
+        List<MatchPlayer> players = initializePlayers(participants, currentRound, standings);
+        List<Match> newMatches = createSwissSystemMatches(players, tournamentId, currentRound, standings);
 
-        matchRepository.saveAll(newMatches);
-        saveMatchPlayers(newMatches);
+        matchBatchWriter.insertAll(newMatches);
     }
 
     /**
-     * Generates matches for the knockout stage of a tournament.
+     * Creates the bracket of a knockout tournament with its first-round matches.
+     * Later rounds are created by the {@link KnockoutBracketService} as results arrive, so once the bracket
+     * exists this does nothing.
      */
     private void generateKnockoutMatches(MatchmakingDTO matchmakingDTO) {
-        Long tournamentId = matchmakingDTO.getTournamentId();
-        int currentRound = matchmakingDTO.getCurrentRound();
-        List<Match> currentRoundMatches = matchRepository.findByTournamentIdAndRoundNumber(tournamentId, currentRound)
-                .orElseThrow(() -> new TournamentRoundNotFoundException("Tournament with id = " + tournamentId + " does not have round = " + currentRound));
-
-        if (!isRoundComplete(currentRoundMatches)) return;
-
-        List<MatchPlayer> winners = getWinnersFromMatches(currentRoundMatches);
-        if (winners.size() == 1) return;
-
-        int nextRound = currentRound + 1;
-        for (int i = 0; i < winners.size(); i += 2) {
-            if (i + 1 < winners.size()) {
-                createMatch(tournamentId, nextRound, winners.get(i).getPlayerId(), winners.get(i + 1).getPlayerId());
-            }
-        }
+        knockoutBracketService.createBracket(matchmakingDTO.getTournamentId(), matchmakingDTO.getParticipants());
     }
 
     /**
-     * Generates all possible matches for a round-robin tournament.
+     * Generates the full schedule of a round-robin tournament from the {@link BergerTable}, seeding players by rating.
+     * Each round gets its own round number and colours, and is written as one batch before the next round is computed.
+     * The schedule is only generated once; later rounds of the tournament are already scheduled.
+     * The whole schedule is written before any game is played, so each match player only holds the points of its own
+     * game; the totals are kept in the tournament standings, which are created here for every participant.
+     * The tournament must last exactly the rounds of the Berger table, which the tournament service sets as its
+     * maximum number of rounds when it starts.
+     *
+     * @throws IllegalArgumentException if the maximum number of rounds differs from the rounds of the Berger table.
      */
     private void generateRoundRobinMatches(MatchmakingDTO matchmakingDTO) {
         Long tournamentId = matchmakingDTO.getTournamentId();
-        List<Long> playerIds = new ArrayList<>();
-        matchmakingDTO.getParticipants().forEach(player -> playerIds.add(player.getPlayerId()));
+        if (matchRepository.findMaxRoundNumberByTournamentId(tournamentId).isPresent()) return;
 
-        for (int i = 0; i < playerIds.size(); i++) {
-            for (int j = i + 1; j < playerIds.size(); j++) {
-                createMatch(tournamentId, 1, playerIds.get(i), playerIds.get(j));
-            }
-        }
-    }
+        List<TournamentPlayerDTO> seeds = new ArrayList<>(matchmakingDTO.getParticipants());
+        if (seeds.size() < 2) return;
+        seeds.sort(Comparator.comparingDouble(TournamentPlayerDTO::getGlickoRating).reversed()
+                .thenComparing(TournamentPlayerDTO::getPlayerId));
 
-    /**
-     * Helper method to check if all matches in a round are completed.
-     */
-    private boolean isRoundComplete(List<Match> matches) {
-        return matches.stream().allMatch(match -> matchPlayerRepository.findByMatchId(match.getId())
-                .stream().allMatch(player -> player.getResult() != null));
-    }
+        List<Long> playerIds = seeds.stream().map(TournamentPlayerDTO::getPlayerId).toList();
+        tournamentStandingService.getStandings(tournamentId, playerIds);
 
-    private List<MatchPlayer> getWinnersFromMatches(List<Match> matches) {
-        List<MatchPlayer> winners = new ArrayList<>();
-        for (Match match : matches) {
-            matchPlayerRepository.findByMatchId(match.getId()).stream()
-                    .filter(player -> player.getResult() == MatchPlayer.Result.WIN)
-                    .findFirst()
-                    .ifPresent(winners::add);
+        BergerTable bergerTable = new BergerTable(seeds.size());
+        if (matchmakingDTO.getMaxRounds() != bergerTable.getRounds()) {
+            // Rounds beyond the maximum could never be completed, and missing rounds would leave players unrated
+            throw new IllegalArgumentException("A round robin of " + seeds.size() + " players has "
+                    + bergerTable.getRounds() + " rounds, not " + matchmakingDTO.getMaxRounds() + ".");
+        }
+        int[] white = new int[bergerTable.getBoards()];
+        int[] black = new int[bergerTable.getBoards()];
+        for (int round = 1; round <= bergerTable.getRounds(); round++) {
+            int games = bergerTable.pairRound(round, white, black);
+
+            List<Match> roundMatches = new ArrayList<>(games);
+            for (int board = 0; board < games; board++) {
+                MatchPlayer player1 = createMatchPlayer(seeds.get(white[board]), round, 0);
+                MatchPlayer player2 = createMatchPlayer(seeds.get(black[board]), round, 0);
+                Match match = createMatch(player1, player2, tournamentId, round);
+                match.setScheduledTime(LocalDateTime.now().plusDays(round));
+                roundMatches.add(match);
+            }
+            matchBatchWriter.insertAll(roundMatches);
         }
-        return winners;
-    }
-
-    /**
-     * Helper method to create a match between two players.
-     */
-    private Match createMatch(Long tournamentId, int roundNumber, Long player1Id, Long player2Id) {
-        Match match = new Match();
-        match.setTournamentId(tournamentId);
-        match.setRoundNumber(roundNumber);
-
-        MatchPlayer player1 = new MatchPlayer();
-        player1.setPlayerId(player1Id);
-        player1.setMatch(match);
-
-        MatchPlayer player2 = new MatchPlayer();
-        player2.setPlayerId(player2Id);
-        player2.setMatch(match);
-
-        matchRepository.save(match);
-        matchPlayerRepository.save(player1);
-        matchPlayerRepository.save(player2);
-
-        return match;
     }
 
     /**
-     * Creates the Swiss system matches by pairing players based on their points and ratings.
+     * Creates the Swiss system matches with the {@link SwissPairingEngine}, which pairs players within score groups
+     * without rematches and allocates colours from the standings.
      *
      * @param players The list of MatchPlayer objects
      * @param tournamentId The tournament ID
      * @param currentRound The current round number
+     * @param standings The standings of the tournament, keyed by player ID
      * @return A list of Match objects representing the scheduled matches
      */
-    private List<Match> createSwissSystemMatches(List<MatchPlayer> players, Long tournamentId, int currentRound) {
-        List<Match> matches = new ArrayList<>();
-        sortPlayersByPointsAndRating(players);
+    private List<Match> createSwissSystemMatches(List<MatchPlayer> players, Long tournamentId, int currentRound,
+                                                 Map<Long, TournamentStanding> standings) {
+        SwissPairingEngine.Pairing pairing = swissPairingEngine.pair(players, standings);
 
-        Set<Long> pairedPlayers = new HashSet<>();
-        for (int i = 0; i < players.size() - 1; i += 2) {
-            MatchPlayer player1 = players.get(i);
-            MatchPlayer player2 = players.get(i + 1);
+        List<Match> matches = new ArrayList<>(pairing.getPairs().size());
+        for (MatchPlayer[] pair : pairing.getPairs()) {
+            matches.add(createMatch(pair[0], pair[1], tournamentId, currentRound));
+        }
 
-            if (canPairPlayers(pairedPlayers, player1, player2)) {
-                matches.add(createMatch(player1, player2, tournamentId, currentRound));
-                pairedPlayers.add(player1.getPlayerId());
-                pairedPlayers.add(player2.getPlayerId());
-            }
+        MatchPlayer byePlayer = pairing.getByePlayer();
+        if (byePlayer != null) {
+            handleBye(byePlayer, tournamentId, currentRound, standings.get(byePlayer.getPlayerId()));
         }
-        if (players.size() % 2 != 0) handleBye(players.get(players.size() - 1), tournamentId, currentRound);
 
         return matches;
     }
 
-    /**
-     * Checks if two players can be paired for a match.
-     *
-     * @param pairedPlayers Set of already paired players
-     * @param player1 The first player
-     * @param player2 The second player
-     * @return true if both players can be paired, false otherwise
-     */
-    private boolean canPairPlayers(Set<Long> pairedPlayers, MatchPlayer player1, MatchPlayer player2) {
-        return !pairedPlayers.contains(player1.getPlayerId()) && !pairedPlayers.contains(player2.getPlayerId());
-    }
-
     /**
      * Handles the bye scenario for a player who does not have an opponent in the current round.
      * The player automatically wins and earns points.
@@ -253,14 +222,16 @@ public class MatchmakingServiceImpl implements MatchmakingService {
      * @param byePlayer The player who receives a bye
      * @param tournamentId The tournament ID
      * @param currentRound The current round number
+     * @param standing The standing of the player who receives the bye
      */
-    private void handleBye(MatchPlayer byePlayer, Long tournamentId, int currentRound) {
+    private void handleBye(MatchPlayer byePlayer, Long tournamentId, int currentRound, TournamentStanding standing) {
         byePlayer.setPoints(byePlayer.getPoints() + 1);
         byePlayer.setResult(MatchPlayer.Result.WIN);
 
         Match byeMatch = createByeMatch(byePlayer, tournamentId, currentRound);
         matchRepository.save(byeMatch);
         matchPlayerRepository.save(byePlayer);
+        tournamentStandingService.recordBye(standing);
     }
 
     /**
@@ -285,8 +256,8 @@ public class MatchmakingServiceImpl implements MatchmakingService {
     /**
      * Creates a match between two players.
      *
-     * @param player1 The first player
-     * @param player2 The second player
+     * @param player1 The player with the white pieces
+     * @param player2 The player with the black pieces
      * @param tournamentId The tournament ID
      * @param currentRound The current round number
      * @return A Match object representing the scheduled match
@@ -306,30 +277,9 @@ public class MatchmakingServiceImpl implements MatchmakingService {
         player1.setOpponentId(player2.getPlayerId());
         player2.setOpponentId(player1.getPlayerId());
 
-        return match;
-    }
-
-    /**
-     * Saves the players associated with the matches to the database.
-     *
-     * @param matches The list of matches to save players for
-     */
-    private void saveMatchPlayers(List<Match> matches) {
-        List<MatchPlayer> matchPlayers = new ArrayList<>();
-        for (Match match : matches) {
-            matchPlayers.addAll(match.getParticipants());
-        }
-        matchPlayerRepository.saveAll(matchPlayers);
-    }
+        player1.setColour(MatchPlayer.Colour.WHITE);
+        player2.setColour(MatchPlayer.Colour.BLACK);
 
-    /**
-     * Sorts players by their points and rating in descending order.
-     *
-     * @param players The list of players to sort
-     */
-    private void sortPlayersByPointsAndRating(List<MatchPlayer> players) {
-        players.sort(Comparator.comparingDouble(MatchPlayer::getPoints)
-                .thenComparing(MatchPlayer::getGlickoRating)
-                .reversed());
+        return match;
     }
 }
@@ -0,0 +1,364 @@
+package com.g1.mychess.match.service.impl;
+
+import com.g1.mychess.match.model.MatchPlayer;
+import com.g1.mychess.match.model.TournamentStanding;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Swiss-system pairing engine loosely following the Dutch system.
+ * <p>
+ * Players are ranked by points and rating and bucketed into score groups. Each score group, together with
+ * the players floated down from the group above, is paired top half against bottom half with a depth-first
+ * search that forbids rematches. Players that cannot be paired within their group float down to the next one.
+ * If the last group cannot be completed, pairs from the groups above are dissolved back into it until it can.
+ * </p>
+ * <p>
+ * Every search shares a fixed step budget per score group. When the budget runs out the group is finished
+ * greedily, so pairing a round always completes in bounded time, even for thousands of players.
+ * Colours are allocated after pairing from each player's colour history in the tournament standings.
+ * </p>
+ */
+@Component
+public class SwissPairingEngine {
+
+    /**
+     * Maximum number of search steps spent on one score group before falling back to greedy pairing.
+     */
+    static final int STEP_BUDGET = 100_000;
+
+    /**
+     * Pairs the players of a round.
+     *
+     * @param players The players of the round, with their points before the round.
+     * @param standings The standings of the tournament, keyed by player ID.
+     * @return The pairings of the round, with the player having white first, and the bye player if any.
+     */
+    public Pairing pair(List<MatchPlayer> players, Map<Long, TournamentStanding> standings) {
+        List<Entrant> ranked = new ArrayList<>(players.size());
+        for (MatchPlayer player : players) {
+            ranked.add(new Entrant(player, standings.get(player.getPlayerId())));
+        }
+        ranked.sort(Comparator.comparingDouble((Entrant entrant) -> entrant.points).reversed()
+                .thenComparing(Comparator.comparingDouble((Entrant entrant) -> entrant.rating).reversed())
+                .thenComparing(entrant -> entrant.player.getPlayerId()));
+        for (int i = 0; i < ranked.size(); i++) {
+            ranked.get(i).rank = i;
+        }
+
+        MatchPlayer byePlayer = null;
+        if (ranked.size() % 2 != 0) {
+            Entrant bye = selectBye(ranked);
+            ranked.remove(bye);
+            byePlayer = bye.player;
+        }
+
+        List<Entrant[]> pairs = pairScoreGroups(ranked);
+
+        List<MatchPlayer[]> colouredPairs = new ArrayList<>(pairs.size());
+        for (Entrant[] pair : pairs) {
+            colouredPairs.add(allocateColours(pair[0], pair[1]));
+        }
+        return new Pairing(colouredPairs, byePlayer);
+    }
+
+    /**
+     * Selects the lowest-ranked player who has not had a bye yet, or the lowest-ranked player if all have.
+     */
+    private Entrant selectBye(List<Entrant> ranked) {
+        for (int i = ranked.size() - 1; i >= 0; i--) {
+            if (!ranked.get(i).hadBye) return ranked.get(i);
+        }
+        return ranked.get(ranked.size() - 1);
+    }
+
+    /**
+     * Pairs the score groups from the top down, floating unpaired players into the next group.
+     */
+    private List<Entrant[]> pairScoreGroups(List<Entrant> ranked) {
+        List<List<Entrant>> scoreGroups = new ArrayList<>();
+        for (Entrant entrant : ranked) {
+            if (scoreGroups.isEmpty() || scoreGroups.get(scoreGroups.size() - 1).get(0).points != entrant.points) {
+                scoreGroups.add(new ArrayList<>());
+            }
+            scoreGroups.get(scoreGroups.size() - 1).add(entrant);
+        }
+
+        List<Entrant[]> pairs = new ArrayList<>(ranked.size() / 2);
+        List<Entrant> floaters = new ArrayList<>();
+        for (int g = 0; g < scoreGroups.size(); g++) {
+            List<Entrant> pool = new ArrayList<>(floaters);
+            pool.addAll(scoreGroups.get(g));
+
+            if (g < scoreGroups.size() - 1) {
+                GroupSearch search = new GroupSearch(pool);
+                search.pairAllowingFloaters();
+                pairs.addAll(search.pairs);
+                floaters = search.floaters;
+            } else {
+                pairs.addAll(pairLastGroup(pool, pairs));
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Pairs the last score group completely. If that is impossible without rematches, the lowest pairs made so far
+     * are dissolved into the group, doubling their number each time. Rematches are only allowed when the whole
+     * field cannot be paired, or the step budget runs out.
+     */
+    private List<Entrant[]> pairLastGroup(List<Entrant> pool, List<Entrant[]> pairs) {
+        int dissolved = 0;
+        while (true) {
+            GroupSearch search = new GroupSearch(pool);
+            if (search.pairCompletely()) return search.pairs;
+            if (search.exhausted || pairs.isEmpty()) return pairGreedily(pool);
+
+            int count = Math.min(pairs.size(), Math.max(1, dissolved));
+            for (int i = 0; i < count; i++) {
+                Entrant[] pair = pairs.remove(pairs.size() - 1);
+                pool.add(pair[0]);
+                pool.add(pair[1]);
+            }
+            dissolved += count;
+            pool.sort(Comparator.comparingInt(entrant -> entrant.rank));
+        }
+    }
+
+    /**
+     * Pairs players in rank order with the first opponent they have not played, or the first available one.
+     */
+    private List<Entrant[]> pairGreedily(List<Entrant> pool) {
+        List<Entrant[]> pairs = new ArrayList<>(pool.size() / 2);
+        boolean[] paired = new boolean[pool.size()];
+        for (int i = 0; i < pool.size(); i++) {
+            if (paired[i]) continue;
+            int partner = -1;
+            for (int j = i + 1; j < pool.size(); j++) {
+                if (paired[j]) continue;
+                if (partner < 0) partner = j;
+                if (!pool.get(i).hasPlayed(pool.get(j))) {
+                    partner = j;
+                    break;
+                }
+            }
+            if (partner < 0) break;
+            paired[i] = true;
+            paired[partner] = true;
+            pairs.add(new Entrant[]{pool.get(i), pool.get(partner)});
+        }
+        return pairs;
+    }
+
+    /**
+     * Allocates colours to a pair: the player with more blacks gets white, then the player who had black last,
+     * then the higher-ranked player alternates from their last colour.
+     *
+     * @return The pair with the player having white first.
+     */
+    private MatchPlayer[] allocateColours(Entrant first, Entrant second) {
+        Entrant higher = first.rank < second.rank ? first : second;
+        Entrant lower = higher == first ? second : first;
+
+        boolean higherGetsWhite;
+        if (higher.colourBalance != lower.colourBalance) {
+            higherGetsWhite = higher.colourBalance < lower.colourBalance;
+        } else if (higher.lastColour != lower.lastColour) {
+            higherGetsWhite = higher.lastColour == 'B' || lower.lastColour == 'W';
+        } else {
+            higherGetsWhite = higher.lastColour != 'W';
+        }
+        return higherGetsWhite
+                ? new MatchPlayer[]{higher.player, lower.player}
+                : new MatchPlayer[]{lower.player, higher.player};
+    }
+
+    /**
+     * Depth-first pairing of one score group, top half against bottom half, without rematches.
+     */
+    private static final class GroupSearch {
+
+        private final List<Entrant> pool;
+        private final int size;
+        private final int half;
+        private final boolean[] paired;
+        private final List<Entrant[]> pairs = new ArrayList<>();
+        private final List<Entrant> floaters = new ArrayList<>();
+        private int steps;
+        private boolean exhausted;
+
+        GroupSearch(List<Entrant> pool) {
+            this.pool = pool;
+            this.size = pool.size();
+            this.half = size / 2;
+            this.paired = new boolean[size];
+        }
+
+        /**
+         * Pairs every player of the group, or returns false if that is impossible without rematches
+         * or the step budget runs out.
+         */
+        boolean pairCompletely() {
+            return search(0, 0);
+        }
+
+        /**
+         * Pairs the group with as few floaters as possible, trying 0 or 1 floaters first and adding two at a time.
+         * Once the step budget is spent, the remaining players are paired greedily and the rest float.
+         */
+        void pairAllowingFloaters() {
+            for (int allowedFloaters = size % 2; allowedFloaters <= size; allowedFloaters += 2) {
+                reset();
+                if (search(0, allowedFloaters)) return;
+                if (exhausted) break;
+            }
+            // Greedy pass: with every player allowed to float, the first choice at each step always succeeds
+            reset();
+            steps = Integer.MIN_VALUE;
+            search(0, size);
+        }
+
+        private void reset() {
+            Arrays.fill(paired, false);
+            pairs.clear();
+            floaters.clear();
+            exhausted = false;
+        }
+
+        private boolean search(int from, int floatersLeft) {
+            if (++steps > STEP_BUDGET) {
+                exhausted = true;
+                return false;
+            }
+
+            int i = from;
+            while (i < size && paired[i]) i++;
+            if (i == size) return true;
+
+            Entrant player = pool.get(i);
+            paired[i] = true;
+            // First try opponents whose colour preference is compatible, then the others
+            for (int pass = 0; pass < 2 && !exhausted; pass++) {
+                for (int k = 0; ; k++) {
+                    int j = candidate(i, k);
+                    if (j < 0) break;
+                    Entrant opponent = pool.get(j);
+                    if (paired[j] || player.hasPlayed(opponent) || player.prefersSameColourAs(opponent) != (pass == 1)) continue;
+
+                    paired[j] = true;
+                    pairs.add(new Entrant[]{player, opponent});
+                    if (search(i + 1, floatersLeft)) return true;
+                    pairs.remove(pairs.size() - 1);
+                    paired[j] = false;
+                    if (exhausted) break;
+                }
+            }
+
+            if (floatersLeft > 0 && !exhausted) {
+                floaters.add(player);
+                if (search(i + 1, floatersLeft - 1)) return true;
+                floaters.remove(floaters.size() - 1);
+            }
+            paired[i] = false;
+            return false;
+        }
+
+        /**
+         * Returns the k-th preferred opponent of player i, or -1 when there are no more candidates.
+         * A top-half player prefers the bottom-half player at the same position and then those below and above
+         * it; after that, top-half players from the bottom up. A bottom-half player tries the players below it.
+         */
+        private int candidate(int i, int k) {
+            if (i >= half) {
+                int j = i + 1 + k;
+                return j < size ? j : -1;
+            }
+            int forward = size - (half + i);
+            if (k < forward) return half + i + k;
+            k -= forward;
+            if (k < i) return half + i - 1 - k;
+            k -= i;
+            int j = half - 1 - k;
+            return j > i ? j : -1;
+        }
+    }
+
+    /**
+     * A player being paired, with the parts of their standing the engine needs.
+     */
+    private static final class Entrant {
+
+        private final MatchPlayer player;
+        private final double points;
+        private final double rating;
+        private final Set<Long> opponents;
+        private final boolean hadBye;
+        private final int colourBalance;
+        private final char lastColour;
+        private int rank;
+
+        Entrant(MatchPlayer player, TournamentStanding standing) {
+            this.player = player;
+            this.points = player.getPoints();
+            this.rating = player.getGlickoRating();
+
+            String colourHistory = standing != null ? standing.getColourHistory() : "";
+            this.opponents = standing != null ? new HashSet<>(standing.getOpponentIdList()) : Collections.emptySet();
+            this.hadBye = standing != null && standing.hasHadBye();
+
+            int balance = 0;
+            char last = ' ';
+            for (int c = 0; c < colourHistory.length(); c++) {
+                char colour = colourHistory.charAt(c);
+                if (colour == 'W') balance++;
+                else if (colour == 'B') balance--;
+                else continue;
+                last = colour;
+            }
+            this.colourBalance = balance;
+            this.lastColour = last;
+        }
+
+        boolean hasPlayed(Entrant other) {
+            return opponents.contains(other.player.getPlayerId());
+        }
+
+        /**
+         * Checks whether both players have had more games with the same colour, so one of them must repeat it.
+         */
+        boolean prefersSameColourAs(Entrant other) {
+            return Integer.signum(colourBalance) != 0 && Integer.signum(colourBalance) == Integer.signum(other.colourBalance);
+        }
+    }
+
+    /**
+     * The result of pairing a round.
+     */
+    public static final class Pairing {
+
+        private final List<MatchPlayer[]> pairs;
+        private final MatchPlayer byePlayer;
+
+        Pairing(List<MatchPlayer[]> pairs, MatchPlayer byePlayer) {
+            this.pairs = pairs;
+            this.byePlayer = byePlayer;
+        }
+
+        /**
+         * Gets the pairs of the round.
+         * @return the pairs, each with the player having white first and the player having black second.
+         */
+        public List<MatchPlayer[]> getPairs() {
+            return pairs;
+        }
+
+        /**
+         * Gets the player who receives the bye.
+         * @return the bye player, or {@code null} if the number of players is even.
+         */
+        public MatchPlayer getByePlayer() {
+            return byePlayer;
+        }
+    }
+}
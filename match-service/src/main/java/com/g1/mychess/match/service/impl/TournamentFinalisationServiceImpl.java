@@ -7,17 +7,15 @@ import com.g1.mychess.match.exception.TournamentNotFoundException;
 import com.g1.mychess.match.model.Match;
 import com.g1.mychess.match.model.MatchPlayer;
 import com.g1.mychess.match.repository.MatchPlayerRepository;
-import com.g1.mychess.match.repository.MatchRepository;
 import com.g1.mychess.match.service.Glicko2RatingService;
-import com.g1.mychess.match.service.MatchTimeService;
 import com.g1.mychess.match.service.TournamentFinalisationService;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * Implementation of the {@link TournamentFinalisationService} interface.
@@ -27,13 +25,11 @@ import java.util.stream.Collectors;
 @Service
 public class TournamentFinalisationServiceImpl implements TournamentFinalisationService {
 
-    private final MatchRepository matchRepository;
     private final MatchPlayerRepository matchPlayerRepository;
     private final Glicko2RatingService glicko2RatingService;
     private final PlayerServiceClient playerServiceClient;
 
-    public TournamentFinalisationServiceImpl(MatchRepository matchRepository, MatchPlayerRepository matchPlayerRepository, PlayerServiceClient playerServiceClient, Glicko2RatingService glicko2RatingService) {
-        this.matchRepository = matchRepository;
+    public TournamentFinalisationServiceImpl(MatchPlayerRepository matchPlayerRepository, PlayerServiceClient playerServiceClient, Glicko2RatingService glicko2RatingService) {
         this.matchPlayerRepository = matchPlayerRepository;
         this.playerServiceClient = playerServiceClient;
         this.glicko2RatingService = glicko2RatingService;
@@ -41,111 +37,91 @@ public class TournamentFinalisationServiceImpl implements TournamentFinalisation
 
     /**
      * Finalizes the tournament by validating if it can be completed and updating players' ratings.
+     * <p>
+     * All match players of the tournament are loaded with one query, every rating is computed in one
+     * batch, and the results are sent to the player service in a single bulk request, tagged with the
+     * tournament so that followers of the players see them as tournament results.
+     * </p>
+     * <p>
+     * Every participant of the tournament is rated, not only the players of the final round: a player knocked out
+     * early, or the player sitting out the last round of a round robin with an odd number of players, has no record
+     * in that round.
+     * </p>
      *
      * @param matchmakingDTO DTO containing tournament details (e.g., ID, rounds).
      * @throws IllegalStateException if tournament or matches are incomplete.
+     * @throws TournamentNotFoundException if tournament with the given ID has no matches.
      */
     @Override
     @Transactional
     public void finalizeTournament(MatchmakingDTO matchmakingDTO) {
-        validateTournamentCompletion(matchmakingDTO);
+        validateRoundsCompleted(matchmakingDTO);
 
-        List<MatchPlayer> matchPlayers = getFinalRoundPlayers(matchmakingDTO.getTournamentId(), matchmakingDTO.getMaxRounds());
+        List<MatchPlayer> tournamentMatchPlayers = getTournamentMatchPlayers(matchmakingDTO.getTournamentId());
+        checkAllMatchesCompleted(tournamentMatchPlayers);
 
-        matchPlayers.forEach(player -> {
-            PlayerRatingUpdateDTO ratingUpdate = calculatePlayerRating(player, matchmakingDTO.getTournamentId());
-            playerServiceClient.updatePlayerProfileRating(ratingUpdate);
-        });
+        List<MatchPlayer> participants = getParticipants(tournamentMatchPlayers);
+        List<PlayerRatingUpdateDTO> ratingUpdates = glicko2RatingService.calculatePlayerRatings(participants, tournamentMatchPlayers);
+
+        if (!ratingUpdates.isEmpty()) {
+            ratingUpdates.forEach(ratingUpdate -> ratingUpdate.setTournamentId(matchmakingDTO.getTournamentId()));
+            playerServiceClient.updatePlayerProfileRatings(ratingUpdates);
+        }
     }
 
     /**
-     * Validates if the tournament can be completed, ensuring all rounds are finished.
+     * Validates that all rounds of the tournament have been played.
      *
      * @param matchmakingDTO DTO containing tournament details.
      * @throws IllegalStateException if rounds are not completed.
      */
-    private void validateTournamentCompletion(MatchmakingDTO matchmakingDTO) {
+    private void validateRoundsCompleted(MatchmakingDTO matchmakingDTO) {
         if (matchmakingDTO.getCurrentRound() < matchmakingDTO.getMaxRounds()) {
             throw new IllegalStateException("Cannot complete tournament. Rounds not completed yet.");
         }
-        checkAllMatchesCompleted(matchmakingDTO.getTournamentId());
-    }
-
-    /**
-     * Ensures that all matches in the tournament are marked as completed.
-     *
-     * @param tournamentId ID of the tournament.
-     * @throws IllegalStateException if any match is not completed.
-     * @throws TournamentNotFoundException if tournament with the given ID does not exist.
-     */
-    private void checkAllMatchesCompleted(Long tournamentId) {
-        matchRepository.findByTournamentId(tournamentId)
-                .orElseThrow(() -> new TournamentNotFoundException("Tournament with id = " + tournamentId + " does not exist."))
-                .forEach(match -> {
-                    if (match.getStatus() != Match.MatchStatus.COMPLETED) {
-                        throw new IllegalStateException("Cannot complete tournament. Matches not completed yet.");
-                    }
-                });
     }
 
     /**
-     * Retrieves the players who participated in the final round of the tournament.
+     * Loads every match player of the tournament, together with its match, in a single query.
      *
      * @param tournamentId ID of the tournament.
-     * @param maxRounds    The maximum number of rounds to identify the final round.
-     * @return List of MatchPlayer objects for players in the final round.
+     * @return List of all MatchPlayer objects of the tournament.
+     * @throws TournamentNotFoundException if tournament with the given ID has no matches.
      */
-    private List<MatchPlayer> getFinalRoundPlayers(Long tournamentId, int maxRounds) {
-        return matchPlayerRepository.findByMatch_TournamentIdAndCurrentRound(tournamentId, maxRounds);
-    }
-
-    /**
-     * Calculates the rating for a given player using the Glicko2 rating system.
-     *
-     * @param player        The player whose rating is to be calculated.
-     * @param tournamentId  ID of the tournament.
-     * @return DTO containing the updated rating of the player.
-     */
-    private PlayerRatingUpdateDTO calculatePlayerRating(MatchPlayer player, Long tournamentId) {
-        List<MatchPlayer> matchPlayerList = matchPlayerRepository.findByPlayerIdAndMatch_TournamentId(player.getPlayerId(), tournamentId);
-        List<MatchPlayer> opponents = getAllOpponents(matchPlayerList);
-        double[] results = getAllResults(matchPlayerList);
-
-        return glicko2RatingService.calculatePlayerRatings(player, opponents, results);
+    private List<MatchPlayer> getTournamentMatchPlayers(Long tournamentId) {
+        List<MatchPlayer> tournamentMatchPlayers = matchPlayerRepository.findAllWithMatchByTournamentId(tournamentId);
+        if (tournamentMatchPlayers.isEmpty()) {
+            throw new TournamentNotFoundException("Tournament with id = " + tournamentId + " does not exist.");
+        }
+        return tournamentMatchPlayers;
     }
 
     /**
-     * Retrieves all opponents for the given list of match players.
+     * Ensures that all matches in the tournament are marked as completed.
      *
-     * @param matchPlayerList The list of match players involving the given player.
-     * @return List of opponent players.
+     * @param tournamentMatchPlayers All match players of the tournament, with their matches loaded.
+     * @throws IllegalStateException if any match is not completed.
      */
-    private List<MatchPlayer> getAllOpponents(List<MatchPlayer> matchPlayerList) {
-        return matchPlayerList.stream()
-                .filter(matchPlayer -> matchPlayer.getOpponentId() != null)
-                .map(matchPlayer -> matchPlayerRepository.findByPlayerIdAndMatchId(matchPlayer.getOpponentId(), matchPlayer.getMatch().getId()))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+    private void checkAllMatchesCompleted(List<MatchPlayer> tournamentMatchPlayers) {
+        tournamentMatchPlayers.forEach(matchPlayer -> {
+            if (matchPlayer.getMatch().getStatus() != Match.MatchStatus.COMPLETED) {
+                throw new IllegalStateException("Cannot complete tournament. Matches not completed yet.");
+            }
+        });
     }
 
     /**
-     * Retrieves the results of the matches for a given list of match players.
+     * Retrieves the earliest record of every player of the tournament, which holds their rating before it.
      *
-     * @param matchPlayerList The list of match players.
-     * @return Array of doubles representing the results (1.0 = win, 0.5 = draw, 0.0 = loss).
+     * @param tournamentMatchPlayers All match players of the tournament.
+     * @return List of MatchPlayer objects, one per participant of the tournament.
      */
-    private double[] getAllResults(List<MatchPlayer> matchPlayerList) {
-        return matchPlayerList.stream()
-                .mapToDouble(matchPlayer -> {
-                    MatchPlayer.Result result = matchPlayer.getResult();
-                    if (result == MatchPlayer.Result.WIN) {
-                        return 1.0;
-                    } else if (result == MatchPlayer.Result.DRAW) {
-                        return 0.5;
-                    } else {
-                        return 0.0;
-                    }
-                })
-                .toArray();
+    private List<MatchPlayer> getParticipants(List<MatchPlayer> tournamentMatchPlayers) {
+        Map<Long, MatchPlayer> earliestRecords = new LinkedHashMap<>();
+        for (MatchPlayer matchPlayer : tournamentMatchPlayers) {
+            earliestRecords.merge(matchPlayer.getPlayerId(), matchPlayer,
+                    (earliest, candidate) -> candidate.getCurrentRound() < earliest.getCurrentRound() ? candidate : earliest);
+        }
+        return new ArrayList<>(earliestRecords.values());
     }
 }
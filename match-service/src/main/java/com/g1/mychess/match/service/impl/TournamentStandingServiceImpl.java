@@ -0,0 +1,141 @@
+package com.g1.mychess.match.service.impl;
+
+import com.g1.mychess.match.model.Match;
+import com.g1.mychess.match.model.MatchPlayer;
+import com.g1.mychess.match.model.TournamentStanding;
+import com.g1.mychess.match.repository.TournamentStandingRepository;
+import com.g1.mychess.match.service.TournamentStandingService;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Implementation of the {@link TournamentStandingService} interface.
+ * Keeps one {@link TournamentStanding} row per player and tournament up to date, so that round
+ * generation reads the whole table once instead of looking up each player's previous round.
+ */
+@Service
+public class TournamentStandingServiceImpl implements TournamentStandingService {
+
+    private final TournamentStandingRepository tournamentStandingRepository;
+
+    /**
+     * Constructs a {@link TournamentStandingServiceImpl} with the provided repository.
+     *
+     * @param tournamentStandingRepository Repository for accessing tournament standing data.
+     */
+    public TournamentStandingServiceImpl(TournamentStandingRepository tournamentStandingRepository) {
+        this.tournamentStandingRepository = tournamentStandingRepository;
+    }
+
+    /**
+     * Loads the standings of the whole tournament in a single query, and creates empty standings
+     * for the given players who have not played in the tournament yet.
+     *
+     * @param tournamentId The ID of the tournament.
+     * @param playerIds The IDs of the players whose standings are needed.
+     * @return A map of player ID to {@link TournamentStanding}.
+     */
+    @Override
+    @Transactional
+    public Map<Long, TournamentStanding> getStandings(Long tournamentId, Collection<Long> playerIds) {
+        return withMissingStandings(tournamentId, playerIds, tournamentStandingRepository.findByTournamentId(tournamentId));
+    }
+
+    /**
+     * Records the result of a completed match in the standings of both participants.
+     * Participants without an opponent or a result are skipped.
+     *
+     * @param match The completed match, with the results of its participants set.
+     */
+    @Override
+    @Transactional
+    public void recordMatchResult(Match match) {
+        Set<MatchPlayer> participants = match.getParticipants();
+        List<Long> playerIds = participants.stream().map(MatchPlayer::getPlayerId).toList();
+        Map<Long, TournamentStanding> standings = withMissingStandings(match.getTournamentId(), playerIds,
+                tournamentStandingRepository.findByTournamentIdAndPlayerIdIn(match.getTournamentId(), playerIds));
+
+        for (MatchPlayer participant : participants) {
+            if (participant.getOpponentId() == null || participant.getResult() == null) continue;
+
+            TournamentStanding standing = standings.get(participant.getPlayerId());
+            recordGame(standing, participant);
+        }
+        tournamentStandingRepository.saveAll(standings.values());
+    }
+
+    /**
+     * Records a bye, worth one point, in the standing of a player.
+     *
+     * @param standing The standing of the player receiving the bye.
+     */
+    @Override
+    @Transactional
+    public void recordBye(TournamentStanding standing) {
+        addPoints(standing, 1);
+        standing.setColourHistory(standing.getColourHistory() + TournamentStanding.BYE);
+        tournamentStandingRepository.save(standing);
+    }
+
+    /**
+     * Indexes loaded standings by player ID and creates empty standings for the players missing from them.
+     */
+    private Map<Long, TournamentStanding> withMissingStandings(Long tournamentId, Collection<Long> playerIds,
+                                                              List<TournamentStanding> loadedStandings) {
+        Map<Long, TournamentStanding> standings = new HashMap<>();
+        for (TournamentStanding standing : loadedStandings) {
+            standings.put(standing.getPlayerId(), standing);
+        }
+
+        List<TournamentStanding> newStandings = new ArrayList<>();
+        for (Long playerId : playerIds) {
+            if (!standings.containsKey(playerId)) {
+                TournamentStanding standing = new TournamentStanding();
+                standing.setTournamentId(tournamentId);
+                standing.setPlayerId(playerId);
+                newStandings.add(standing);
+                standings.put(playerId, standing);
+            }
+        }
+        tournamentStandingRepository.saveAll(newStandings);
+
+        return standings;
+    }
+
+    /**
+     * Adds one game to a player's standing: points, tiebreaks, colour and opponent.
+     */
+    private void recordGame(TournamentStanding standing, MatchPlayer participant) {
+        addPoints(standing, toPoints(participant.getResult()));
+        standing.setGamesPlayed(standing.getGamesPlayed() + 1);
+        if (participant.getResult() == MatchPlayer.Result.WIN) {
+            standing.setWins(standing.getWins() + 1);
+        }
+        standing.setColourHistory(standing.getColourHistory() + toColourCode(participant.getColour()));
+        standing.setOpponentIds(standing.getOpponentIds().isEmpty()
+                ? String.valueOf(participant.getOpponentId())
+                : standing.getOpponentIds() + "," + participant.getOpponentId());
+    }
+
+    /**
+     * Adds the points of a round to a standing and updates the progressive score.
+     */
+    private void addPoints(TournamentStanding standing, double points) {
+        standing.setPoints(standing.getPoints() + points);
+        standing.setCumulativeScore(standing.getCumulativeScore() + standing.getPoints());
+    }
+
+    private static double toPoints(MatchPlayer.Result result) {
+        if (result == MatchPlayer.Result.WIN) return 1.0;
+        if (result == MatchPlayer.Result.DRAW) return 0.5;
+        return 0.0;
+    }
+
+    private static char toColourCode(MatchPlayer.Colour colour) {
+        if (colour == MatchPlayer.Colour.WHITE) return 'W';
+        if (colour == MatchPlayer.Colour.BLACK) return 'B';
+        return '?';
+    }
+}
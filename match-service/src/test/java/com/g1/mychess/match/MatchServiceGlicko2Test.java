@@ -1,40 +1,131 @@
 package com.g1.mychess.match;
 
+import com.g1.mychess.match.dto.PlayerRatingUpdateDTO;
 import com.g1.mychess.match.model.MatchPlayer;
-import com.g1.mychess.match.service.impl.*;
-import com.g1.mychess.match.*;
-import org.springframework.web.reactive.function.client.WebClient;
+import com.g1.mychess.match.service.impl.Glicko2RatingKernel;
+import com.g1.mychess.match.service.impl.Glicko2RatingServiceImpl;
+import org.junit.jupiter.api.Test;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Correctness oracle for the Glicko-2 implementation, based on the worked example in
+ * Glickman's "Example of the Glicko-2 system".
+ */
 public class MatchServiceGlicko2Test {
-    public static void main(String[] args) {
-        MatchPlayer player = new MatchPlayer();
-        player.setGlickoRating(1500);
-        player.setRatingDeviation(200);
-        player.setVolatility(0.06);
 
-        MatchPlayer opponent1 = new MatchPlayer();
-        opponent1.setGlickoRating(1400);
-        opponent1.setRatingDeviation(30);
+    private static final double GLICKO_CONSTANT = 173.7178;
 
-        MatchPlayer opponent2 = new MatchPlayer();
-        opponent2.setGlickoRating(1550);
-        opponent2.setRatingDeviation(100);
+    private final Glicko2RatingServiceImpl glicko2RatingService = new Glicko2RatingServiceImpl();
 
-        MatchPlayer opponent3 = new MatchPlayer();
-        opponent3.setGlickoRating(1700);
-        opponent3.setRatingDeviation(300);
+    @Test
+    void calculatePlayerRatings_GlickmanExample() {
+        MatchPlayer player = matchPlayer(1L, 1500, 200, 0.06);
 
         List<MatchPlayer> opponents = new ArrayList<>();
-        opponents.add(opponent1);
-        opponents.add(opponent2);
-        opponents.add(opponent3);
+        opponents.add(matchPlayer(2L, 1400, 30, 0.06));
+        opponents.add(matchPlayer(3L, 1550, 100, 0.06));
+        opponents.add(matchPlayer(4L, 1700, 300, 0.06));
 
         double[] result = {1.0, 0.0, 0.0};
-        Glicko2RatingServiceImpl glicko2RatingService = new Glicko2RatingServiceImpl();
-        glicko2RatingService.calculatePlayerRatings(player, opponents, result);
+        PlayerRatingUpdateDTO ratingUpdate = glicko2RatingService.calculatePlayerRatings(player, opponents, result);
+
+        assertEquals(1L, ratingUpdate.getPlayerId());
+        assertEquals(1464, ratingUpdate.getGlickoRating());
+        assertEquals(151.5, ratingUpdate.getRatingDeviation());
+        assertEquals(0.06, ratingUpdate.getVolatility());
+    }
+
+    @Test
+    void kernel_GlickmanExample() {
+        Glicko2RatingKernel.RatingPeriod period = new Glicko2RatingKernel.RatingPeriod(1, 3);
+        period.ratings[0] = 0;
+        period.ratingDeviations[0] = 200 / GLICKO_CONSTANT;
+        period.volatilities[0] = 0.06;
+        period.offsets[1] = 3;
+        setGame(period, 0, 1400, 30, 1.0);
+        setGame(period, 1, 1550, 100, 0.0);
+        setGame(period, 2, 1700, 300, 0.0);
+
+        Glicko2RatingKernel.rate(period);
+
+        assertEquals(1464.06, period.newRatings[0] * GLICKO_CONSTANT + 1500, 0.01);
+        assertEquals(151.52, period.newRatingDeviations[0] * GLICKO_CONSTANT, 0.01);
+        assertEquals(0.05999, period.newVolatilities[0], 0.00001);
+    }
+
+    @Test
+    void kernel_PlayerWithoutGames_OnlyRatingDeviationGrows() {
+        Glicko2RatingKernel.RatingPeriod period = new Glicko2RatingKernel.RatingPeriod(1, 0);
+        period.ratings[0] = 0.5;
+        period.ratingDeviations[0] = 0.3;
+        period.volatilities[0] = 0.06;
+
+        Glicko2RatingKernel.rate(period);
+
+        assertEquals(0.5, period.newRatings[0]);
+        assertEquals(Math.sqrt(0.3 * 0.3 + 0.06 * 0.06), period.newRatingDeviations[0]);
+        assertEquals(0.06, period.newVolatilities[0]);
+    }
+
+    @Test
+    void kernel_LargePeriod_MatchesPerPlayerPath() {
+        int playerCount = 10_000;
+        int gamesPerPlayer = 7;
+        Random random = new Random(42);
+
+        MatchPlayer[] players = new MatchPlayer[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            players[i] = matchPlayer((long) i, 1000 + random.nextInt(1500), 30 + random.nextInt(320), 0.04 + random.nextDouble() * 0.04);
+        }
+
+        Glicko2RatingKernel.RatingPeriod period = new Glicko2RatingKernel.RatingPeriod(playerCount, playerCount * gamesPerPlayer);
+        List<List<MatchPlayer>> opponentsByPlayer = new ArrayList<>(playerCount);
+        List<double[]> resultsByPlayer = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            period.ratings[i] = (players[i].getGlickoRating() - 1500) / GLICKO_CONSTANT;
+            period.ratingDeviations[i] = players[i].getRatingDeviation() / GLICKO_CONSTANT;
+            period.volatilities[i] = players[i].getVolatility();
+            period.offsets[i + 1] = period.offsets[i] + gamesPerPlayer;
+
+            List<MatchPlayer> opponents = new ArrayList<>(gamesPerPlayer);
+            double[] results = new double[gamesPerPlayer];
+            for (int k = 0; k < gamesPerPlayer; k++) {
+                MatchPlayer opponent = players[(i + 1 + k * 131) % playerCount];
+                results[k] = random.nextInt(3) / 2.0;
+                opponents.add(opponent);
+                setGame(period, period.offsets[i] + k, opponent.getGlickoRating(), opponent.getRatingDeviation(), results[k]);
+            }
+            opponentsByPlayer.add(opponents);
+            resultsByPlayer.add(results);
+        }
+
+        Glicko2RatingKernel.rate(period);
+
+        for (int i = 0; i < playerCount; i++) {
+            PlayerRatingUpdateDTO expected = glicko2RatingService.calculatePlayerRatings(players[i], opponentsByPlayer.get(i), resultsByPlayer.get(i));
+            assertEquals(expected.getGlickoRating(), Math.round(period.newRatings[i] * GLICKO_CONSTANT + 1500));
+            assertEquals(expected.getRatingDeviation(), Math.round(period.newRatingDeviations[i] * GLICKO_CONSTANT * 10) / 10.0);
+            assertEquals(expected.getVolatility(), Math.round(period.newVolatilities[i] * 1000) / 1000.0);
+        }
+    }
+
+    private static MatchPlayer matchPlayer(Long playerId, double glickoRating, double ratingDeviation, double volatility) {
+        MatchPlayer matchPlayer = new MatchPlayer();
+        matchPlayer.setPlayerId(playerId);
+        matchPlayer.setGlickoRating(glickoRating);
+        matchPlayer.setRatingDeviation(ratingDeviation);
+        matchPlayer.setVolatility(volatility);
+        return matchPlayer;
+    }
 
-//      System.out.printf("New Rating = %f\n New RD = %f\n New Volatility = %f\n", player.getNewRating(), player.getNewRatingDeviation(), player.getNewVolatility());
+    private static void setGame(Glicko2RatingKernel.RatingPeriod period, int slot, double opponentRating, double opponentRatingDeviation, double score) {
+        period.opponentRatings[slot] = (opponentRating - 1500) / GLICKO_CONSTANT;
+        period.opponentRatingDeviations[slot] = opponentRatingDeviation / GLICKO_CONSTANT;
+        period.scores[slot] = score;
     }
 }
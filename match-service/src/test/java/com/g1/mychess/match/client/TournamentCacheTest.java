@@ -0,0 +1,89 @@
+package com.g1.mychess.match.client;
+
+import com.g1.mychess.match.config.TournamentCacheProperties;
+import com.g1.mychess.match.dto.TournamentDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TournamentCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+    private TournamentCache tournamentCache;
+
+    @BeforeEach
+    void setUp() {
+        TournamentCacheProperties properties = new TournamentCacheProperties();
+        properties.setTtl(Duration.ofMinutes(10));
+        properties.setMaxSize(10);
+        meterRegistry = new SimpleMeterRegistry();
+        tournamentCache = new TournamentCache(properties, meterRegistry, now::get);
+    }
+
+    @Test
+    void get_CountsHitsAndMisses() {
+        TournamentDTO tournament = tournament("Open 2024");
+
+        assertNull(tournamentCache.get(1L));
+        tournamentCache.put(1L, tournament, tournamentCache.version());
+        assertSame(tournament, tournamentCache.get(1L));
+        assertSame(tournament, tournamentCache.get(1L));
+
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "tournaments").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "tournaments").tag("result", "miss").counter().count());
+        assertEquals(1.0, meterRegistry.get("cache.size").tag("cache", "tournaments").gauge().value());
+    }
+
+    @Test
+    void get_ExpiresEntriesAfterTheTtl() {
+        tournamentCache.put(1L, tournament("Open 2024"), tournamentCache.version());
+
+        now.addAndGet(Duration.ofMinutes(10).toMillis() - 1);
+        assertNotNull(tournamentCache.get(1L));
+        now.incrementAndGet();
+        assertNull(tournamentCache.get(1L));
+        assertEquals(0, tournamentCache.size());
+    }
+
+    @Test
+    void invalidate_DropsTheEntryAndDetailsRequestedBeforeIt() {
+        tournamentCache.put(1L, tournament("Open 2024"), tournamentCache.version());
+        long version = tournamentCache.version();
+
+        tournamentCache.invalidate(1L);
+        assertNull(tournamentCache.get(1L));
+
+        // Details requested before the invalidation arrive after it and may be stale
+        tournamentCache.put(1L, tournament("Open 2024"), version);
+        assertNull(tournamentCache.get(1L));
+
+        tournamentCache.put(1L, tournament("Renamed Open"), tournamentCache.version());
+        assertEquals("Renamed Open", tournamentCache.get(1L).getName());
+    }
+
+    @Test
+    void put_EvictsWhenFull() {
+        for (long tournamentId = 1; tournamentId <= 10; tournamentId++) {
+            tournamentCache.put(tournamentId, tournament("Tournament " + tournamentId), tournamentCache.version());
+        }
+        assertEquals(10, tournamentCache.size());
+
+        tournamentCache.put(11L, tournament("Tournament 11"), tournamentCache.version());
+
+        assertEquals(10, tournamentCache.size());
+        assertNotNull(tournamentCache.get(11L));
+        assertEquals(1.0, meterRegistry.get("cache.evictions").counter().count());
+    }
+
+    private static TournamentDTO tournament(String name) {
+        TournamentDTO tournament = new TournamentDTO();
+        tournament.setName(name);
+        return tournament;
+    }
+}
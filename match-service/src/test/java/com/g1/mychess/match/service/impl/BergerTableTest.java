@@ -0,0 +1,124 @@
+package com.g1.mychess.match.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BergerTableTest {
+
+    @Test
+    void testPairRound_FollowsThePublishedTableForSixPlayers() {
+        // The FIDE Berger table for six players, numbered from 1, white first
+        String[] rounds = {
+                "1-6 2-5 3-4",
+                "6-4 5-3 1-2",
+                "2-6 3-1 4-5",
+                "6-5 1-4 2-3",
+                "3-6 4-2 5-1"
+        };
+        BergerTable bergerTable = new BergerTable(6);
+        assertEquals(rounds.length, bergerTable.getRounds());
+
+        for (int round = 1; round <= rounds.length; round++) {
+            assertEquals(rounds[round - 1], table(bergerTable, round), "round " + round);
+        }
+    }
+
+    @Test
+    void testPairRound_PairsEveryTwoPlayersExactlyOnce() {
+        for (int playerCount = 2; playerCount <= 41; playerCount++) {
+            BergerTable bergerTable = new BergerTable(playerCount);
+            Set<Set<Integer>> pairings = new HashSet<>();
+            int[] white = new int[bergerTable.getBoards()];
+            int[] black = new int[bergerTable.getBoards()];
+
+            for (int round = 1; round <= bergerTable.getRounds(); round++) {
+                int games = bergerTable.pairRound(round, white, black);
+                assertEquals(playerCount / 2, games, playerCount + " players, round " + round);
+
+                Set<Integer> playing = new HashSet<>();
+                for (int board = 0; board < games; board++) {
+                    assertTrue(playing.add(white[board]) && playing.add(black[board]),
+                            playerCount + " players, round " + round + ": player paired twice");
+                    assertTrue(pairings.add(Set.of(white[board], black[board])),
+                            playerCount + " players, round " + round + ": " + white[board] + " and " + black[board] + " meet again");
+                }
+            }
+
+            assertEquals(playerCount * (playerCount - 1) / 2, pairings.size(), playerCount + " players");
+        }
+    }
+
+    @Test
+    void testPairRound_GivesEveryPlayerOfAnOddFieldOneBye() {
+        BergerTable bergerTable = new BergerTable(7);
+        assertEquals(7, bergerTable.getRounds());
+        int[] white = new int[bergerTable.getBoards()];
+        int[] black = new int[bergerTable.getBoards()];
+
+        Set<Integer> byes = new HashSet<>();
+        for (int round = 1; round <= bergerTable.getRounds(); round++) {
+            Set<Integer> resting = new HashSet<>(Set.of(0, 1, 2, 3, 4, 5, 6));
+            int games = bergerTable.pairRound(round, white, black);
+            for (int board = 0; board < games; board++) {
+                resting.remove(white[board]);
+                resting.remove(black[board]);
+            }
+            assertEquals(1, resting.size(), "round " + round);
+            assertTrue(byes.addAll(resting), "second bye in round " + round);
+        }
+    }
+
+    @Test
+    void testPairRound_BalancesColours() {
+        for (int playerCount = 2; playerCount <= 41; playerCount++) {
+            BergerTable bergerTable = new BergerTable(playerCount);
+            int[] whites = new int[playerCount];
+            int[] blacks = new int[playerCount];
+            int[] white = new int[bergerTable.getBoards()];
+            int[] black = new int[bergerTable.getBoards()];
+
+            for (int round = 1; round <= bergerTable.getRounds(); round++) {
+                int games = bergerTable.pairRound(round, white, black);
+                for (int board = 0; board < games; board++) {
+                    whites[white[board]]++;
+                    blacks[black[board]]++;
+                }
+            }
+
+            for (int player = 0; player < playerCount; player++) {
+                assertTrue(Math.abs(whites[player] - blacks[player]) <= 1,
+                        playerCount + " players, player " + player + ": " + whites[player] + " whites, " + blacks[player] + " blacks");
+            }
+        }
+    }
+
+    @Test
+    void testPairRound_RejectsRoundsOutsideTheSchedule() {
+        BergerTable bergerTable = new BergerTable(4);
+        int[] white = new int[bergerTable.getBoards()];
+        int[] black = new int[bergerTable.getBoards()];
+
+        assertThrows(IllegalArgumentException.class, () -> bergerTable.pairRound(0, white, black));
+        assertThrows(IllegalArgumentException.class, () -> bergerTable.pairRound(4, white, black));
+        assertThrows(IllegalArgumentException.class, () -> new BergerTable(1));
+    }
+
+    // The games of a round as "white-black" pairs of players numbered from 1
+    private static String table(BergerTable bergerTable, int round) {
+        int[] white = new int[bergerTable.getBoards()];
+        int[] black = new int[bergerTable.getBoards()];
+        int games = bergerTable.pairRound(round, white, black);
+
+        List<String> boards = new ArrayList<>();
+        for (int board = 0; board < games; board++) {
+            boards.add((white[board] + 1) + "-" + (black[board] + 1));
+        }
+        return String.join(" ", boards);
+    }
+}
@@ -0,0 +1,220 @@
+package com.g1.mychess.match.service.impl;
+
+import com.g1.mychess.match.dto.TournamentPlayerDTO;
+import com.g1.mychess.match.model.BracketNode;
+import com.g1.mychess.match.model.Match;
+import com.g1.mychess.match.model.MatchPlayer;
+import com.g1.mychess.match.repository.BracketNodeRepository;
+import com.g1.mychess.match.repository.MatchBatchWriter;
+import com.g1.mychess.match.repository.MatchRepository;
+import com.g1.mychess.match.service.KnockoutBracketService;
+import com.g1.mychess.match.service.MatchResultService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Bracket creation and advancement against a real database, including sibling matches completed at the same time
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        // Sibling results queue on the parent node's row lock, so wait longer for it than H2's default of one second
+        "spring.datasource.url=jdbc:h2:mem:bracket;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=16",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@Import({KnockoutBracketServiceImpl.class, MatchBatchWriter.class, MatchResultServiceImpl.class,
+        TournamentStandingServiceImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Each result commits on its own, as in production
+public class KnockoutBracketServiceImplTest {
+
+    private static final AtomicLong TOURNAMENT_IDS = new AtomicLong();
+
+    @Autowired
+    private KnockoutBracketService knockoutBracketService;
+
+    @Autowired
+    private MatchResultService matchResultService;
+
+    @Autowired
+    private BracketNodeRepository bracketNodeRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Test
+    void testCreateBracket_PairsTopSeedsAgainstBottomSeeds() {
+        long tournamentId = createBracket(4);
+
+        List<Match> firstRound = matches(tournamentId, 1);
+        assertEquals(2, firstRound.size());
+        assertEquals(Set.of(Set.of(1L, 4L), Set.of(2L, 3L)), pairings(firstRound));
+        assertTrue(matches(tournamentId, 2).isEmpty());
+    }
+
+    @Test
+    void testRecordMatchResult_FinalIsCreatedOnceBothSemifinalsAreWon() {
+        long tournamentId = createBracket(4);
+
+        play(match(tournamentId, 1, 1L), 4L);
+        BracketNode pendingFinal = node(tournamentId, 2, 0);
+        assertEquals(4L, pendingFinal.getTop().getPlayerId());
+        assertNull(pendingFinal.getMatchId());
+
+        play(match(tournamentId, 1, 2L), 2L);
+        BracketNode ready = node(tournamentId, 2, 0);
+        assertNotNull(ready.getMatchId());
+        assertEquals(4L, ready.getTop().getPlayerId());
+        assertEquals(2L, ready.getBottom().getPlayerId());
+
+        Match finalMatch = match(tournamentId, 2, 4L);
+        assertEquals(ready.getMatchId(), finalMatch.getId());
+        assertEquals(MatchPlayer.Colour.WHITE, participant(finalMatch, 4L).getColour());
+
+        play(finalMatch, 2L);
+        assertEquals(2L, node(tournamentId, 2, 0).getWinnerId());
+    }
+
+    @Test
+    void testCreateBracket_ByesAdvanceTheTopSeeds() {
+        long tournamentId = createBracket(5);
+
+        // Eight slots for five players: seeds 1, 2 and 3 get a bye, seeds 4 and 5 play
+        assertEquals(Set.of(Set.of(4L, 5L)), pairings(matches(tournamentId, 1)));
+        assertEquals(1L, node(tournamentId, 2, 0).getTop().getPlayerId());
+        assertNull(node(tournamentId, 2, 0).getMatchId());
+
+        // Both players of the lower second-round node got a bye, so their match is created at once
+        assertEquals(Set.of(Set.of(2L, 3L)), pairings(matches(tournamentId, 2)));
+
+        play(match(tournamentId, 1, 5L), 5L);
+        assertEquals(Set.of(Set.of(1L, 5L), Set.of(2L, 3L)), pairings(matches(tournamentId, 2)));
+    }
+
+    @Test
+    void testRecordMatchResult_RejectsADraw() {
+        long tournamentId = createBracket(4);
+        Match match = match(tournamentId, 1, 1L);
+        match.getParticipants().forEach(participant -> participant.setResult(MatchPlayer.Result.DRAW));
+
+        assertThrows(IllegalStateException.class, () -> knockoutBracketService.recordMatchResult(match));
+        assertNull(node(tournamentId, 1, 0).getWinnerId());
+    }
+
+    @Test
+    void testCompleteMatch_RejectsADrawInAKnockoutMatch() {
+        long tournamentId = createBracket(4);
+        Long matchId = match(tournamentId, 1, 1L).getId();
+
+        ResponseEntity<String> response = matchResultService.completeMatch(matchId, null, null, true);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(Match.MatchStatus.SCHEDULED, matchRepository.findById(matchId).orElseThrow().getStatus());
+    }
+
+    @Test
+    void testRecordMatchResult_ConcurrentSiblingsBothReachTheFinal() throws Exception {
+        int brackets = 20;
+        List<Long> tournamentIds = new ArrayList<>();
+        List<Callable<Void>> results = new ArrayList<>();
+        for (int i = 0; i < brackets; i++) {
+            long tournamentId = createBracket(4);
+            tournamentIds.add(tournamentId);
+            for (Match semifinal : matches(tournamentId, 1)) {
+                Long winnerId = semifinal.getParticipants().iterator().next().getPlayerId();
+                results.add(() -> {
+                    play(semifinal, winnerId);
+                    return null;
+                });
+            }
+        }
+        Collections.shuffle(results, new Random(42));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (Future<Void> result : executor.invokeAll(results)) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (long tournamentId : tournamentIds) {
+            BracketNode finalNode = node(tournamentId, 2, 0);
+            assertTrue(finalNode.getTop().isFilled(), "top slot of tournament " + tournamentId);
+            assertTrue(finalNode.getBottom().isFilled(), "bottom slot of tournament " + tournamentId);
+            assertNotNull(finalNode.getMatchId());
+            assertEquals(1, matches(tournamentId, 2).size());
+        }
+    }
+
+    // Creates a bracket for players 1..count, player 1 having the highest rating
+    private long createBracket(int count) {
+        long tournamentId = TOURNAMENT_IDS.incrementAndGet();
+        List<TournamentPlayerDTO> participants = new ArrayList<>();
+        for (long playerId = 1; playerId <= count; playerId++) {
+            participants.add(new TournamentPlayerDTO(tournamentId, playerId, LocalDateTime.now(),
+                    2000 - 100 * playerId, 50, 0.06, 0, 0, "ACTIVE"));
+        }
+        knockoutBracketService.createBracket(tournamentId, participants);
+        return tournamentId;
+    }
+
+    private void play(Match match, Long winnerId) {
+        for (MatchPlayer participant : match.getParticipants()) {
+            participant.setResult(participant.getPlayerId().equals(winnerId) ? MatchPlayer.Result.WIN : MatchPlayer.Result.LOSS);
+        }
+        knockoutBracketService.recordMatchResult(match);
+    }
+
+    private List<Match> matches(long tournamentId, int round) {
+        return matchRepository.findAllWithParticipantsByTournamentIdAndRoundNumber(tournamentId, round);
+    }
+
+    private Match match(long tournamentId, int round, Long playerId) {
+        return matches(tournamentId, round).stream()
+                .filter(match -> match.getParticipants().stream().anyMatch(p -> p.getPlayerId().equals(playerId)))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static MatchPlayer participant(Match match, Long playerId) {
+        return match.getParticipants().stream().filter(p -> p.getPlayerId().equals(playerId)).findFirst().orElseThrow();
+    }
+
+    private static Set<Set<Long>> pairings(List<Match> matches) {
+        Set<Set<Long>> pairings = new HashSet<>();
+        for (Match match : matches) {
+            Set<Long> players = new HashSet<>();
+            match.getParticipants().forEach(participant -> players.add(participant.getPlayerId()));
+            pairings.add(players);
+        }
+        return pairings;
+    }
+
+    private BracketNode node(long tournamentId, int round, int position) {
+        return bracketNodeRepository.findAll().stream()
+                .filter(node -> node.getTournamentId() == tournamentId && node.getRoundNumber() == round
+                        && node.getPosition() == position)
+                .findFirst()
+                .orElseThrow();
+    }
+}
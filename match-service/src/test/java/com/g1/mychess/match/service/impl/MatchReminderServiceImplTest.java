@@ -0,0 +1,149 @@
+package com.g1.mychess.match.service.impl;
+
+import com.g1.mychess.client.FanOut;
+import com.g1.mychess.match.client.EmailServiceClient;
+import com.g1.mychess.match.client.PlayerServiceClient;
+import com.g1.mychess.match.client.TournamentServiceClient;
+import com.g1.mychess.match.config.MatchReminderProperties;
+import com.g1.mychess.match.dto.PlayerDTO;
+import com.g1.mychess.match.dto.ReminderEmailDTO;
+import com.g1.mychess.match.dto.TournamentDTO;
+import com.g1.mychess.match.model.Match;
+import com.g1.mychess.match.model.MatchPlayer;
+import com.g1.mychess.match.repository.MatchRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class MatchReminderServiceImplTest {
+
+    private MatchRepository matchRepository;
+    private PlayerServiceClient playerServiceClient;
+    private TournamentServiceClient tournamentServiceClient;
+    private EmailServiceClient emailServiceClient;
+    private MatchReminderProperties properties;
+    private MatchReminderServiceImpl matchReminderService;
+
+    @BeforeEach
+    void setUp() {
+        matchRepository = mock(MatchRepository.class);
+        playerServiceClient = mock(PlayerServiceClient.class);
+        tournamentServiceClient = mock(TournamentServiceClient.class);
+        emailServiceClient = mock(EmailServiceClient.class);
+        properties = new MatchReminderProperties();
+        properties.setLeadTime(Duration.ofHours(1));
+
+        TournamentDTO tournament = new TournamentDTO();
+        tournament.setName("Open 2024");
+        when(tournamentServiceClient.getTournamentDetailsAsync(anyLong())).thenReturn(Mono.just(tournament));
+        when(playerServiceClient.getPlayersDetails(anyList())).thenReturn(List.of(
+                new PlayerDTO(1L, "alice", "alice@mychess.com"),
+                new PlayerDTO(2L, "bob", "bob@mychess.com"),
+                new PlayerDTO(3L, "carol", "carol@mychess.com"),
+                new PlayerDTO(4L, "dave", "dave@mychess.com")));
+        when(emailServiceClient.sendMatchReminderEmail(any(ReminderEmailDTO.class))).thenReturn(Mono.empty());
+
+        matchReminderService = new MatchReminderServiceImpl(matchRepository, playerServiceClient,
+                tournamentServiceClient, emailServiceClient, new FanOut(4), properties);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        matchReminderService.stop();
+    }
+
+    @Test
+    void sendReminders_ResolvesPlayersAndTournamentsInBatches() {
+        List<Match> matches = List.of(match(10L, 1L, 2L), match(11L, 3L, 4L));
+        when(matchRepository.claimReminders(anyCollection(), any(), any(), any())).thenReturn(2);
+        when(matchRepository.findClaimedReminders(anyCollection(), any())).thenReturn(matches);
+
+        assertEquals(4, matchReminderService.sendReminders(List.of(10L, 11L)));
+
+        verify(playerServiceClient, times(1)).getPlayersDetails(anyList());
+        verify(tournamentServiceClient, times(1)).getTournamentDetailsAsync(100L);
+        verify(emailServiceClient, times(4)).sendMatchReminderEmail(any(ReminderEmailDTO.class));
+        verify(matchRepository, never()).releaseReminders(anyCollection(), any());
+    }
+
+    @Test
+    void sendReminders_SkipsRemindersAlreadyClaimed() {
+        when(matchRepository.claimReminders(anyCollection(), any(), any(), any())).thenReturn(0);
+
+        assertEquals(0, matchReminderService.sendReminders(List.of(10L)));
+
+        verify(matchRepository, never()).findClaimedReminders(anyCollection(), any());
+        verifyNoInteractions(emailServiceClient);
+    }
+
+    @Test
+    void sendReminders_ReleasesMatchesWhoseEmailsFailed() {
+        List<Match> matches = List.of(match(10L, 1L, 2L), match(11L, 3L, 4L));
+        when(matchRepository.claimReminders(anyCollection(), any(), any(), any())).thenReturn(2);
+        when(matchRepository.findClaimedReminders(anyCollection(), any())).thenReturn(matches);
+        when(emailServiceClient.sendMatchReminderEmail(argThat(email -> email != null && email.getTo().startsWith("carol"))))
+                .thenReturn(Mono.error(new IllegalStateException("Email service unavailable")));
+
+        assertEquals(3, matchReminderService.sendReminders(List.of(10L, 11L)));
+
+        verify(matchRepository).releaseReminders(eq(Set.of(11L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    void schedule_FiresWhenTheReminderIsDue() {
+        when(matchRepository.findPendingReminders(any(), any())).thenReturn(List.of());
+        matchReminderService.start();
+
+        Match match = match(10L, 1L, 2L);
+        match.setScheduledTime(LocalDateTime.now().plus(properties.getLeadTime()).plusSeconds(1));
+        matchReminderService.schedule(match);
+
+        verify(matchRepository, never()).claimReminders(anyCollection(), any(), any(), any());
+        verify(matchRepository, timeout(3000)).claimReminders(eq(List.of(10L)), any(), any(), any());
+    }
+
+    @Test
+    void schedule_IgnoresMatchesBeyondTheHorizonOrAlreadyReminded() {
+        when(matchRepository.findPendingReminders(any(), any())).thenReturn(List.of());
+        matchReminderService.start();
+
+        Match later = match(10L, 1L, 2L);
+        later.setScheduledTime(LocalDateTime.now().plus(properties.getHorizon()).plusMinutes(1));
+        Match reminded = match(11L, 3L, 4L);
+        reminded.setScheduledTime(LocalDateTime.now().plusMinutes(1));
+        reminded.setReminderSentAt(LocalDateTime.now());
+        matchReminderService.schedule(later);
+        matchReminderService.schedule(reminded);
+
+        verify(matchRepository, after(500).never()).claimReminders(anyCollection(), any(), any(), any());
+    }
+
+    private static Match match(Long matchId, Long firstPlayerId, Long secondPlayerId) {
+        Match match = new Match();
+        match.setId(matchId);
+        match.setTournamentId(100L);
+        match.setStatus(Match.MatchStatus.SCHEDULED);
+        match.setScheduledTime(LocalDateTime.now().plusMinutes(30));
+
+        Set<MatchPlayer> participants = new HashSet<>();
+        for (Long playerId : List.of(firstPlayerId, secondPlayerId)) {
+            MatchPlayer participant = new MatchPlayer();
+            participant.setPlayerId(playerId);
+            participant.setMatch(match);
+            participants.add(participant);
+        }
+        match.setParticipants(participants);
+        return match;
+    }
+}
@@ -0,0 +1,143 @@
+package com.g1.mychess.match.service.impl;
+
+import com.g1.mychess.match.client.TournamentServiceClient;
+import com.g1.mychess.match.dto.MatchDTO;
+import com.g1.mychess.match.dto.MatchResultDTO;
+import com.g1.mychess.match.dto.TournamentDTO;
+import com.g1.mychess.match.dto.TournamentResultsDTO;
+import com.g1.mychess.match.exception.TournamentNotFoundException;
+import com.g1.mychess.match.exception.TournamentRoundNotFoundException;
+import com.g1.mychess.match.model.Match;
+import com.g1.mychess.match.model.MatchPlayer;
+import com.g1.mychess.match.model.TournamentStanding;
+import com.g1.mychess.match.repository.MatchRepository;
+import com.g1.mychess.match.repository.TournamentStandingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class MatchServiceImplTest {
+
+    private static final Long TOURNAMENT_ID = 100L;
+    private static final Long UNKNOWN_TOURNAMENT_ID = 404L;
+
+    private MatchRepository matchRepository;
+    private TournamentStandingRepository tournamentStandingRepository;
+    private TournamentServiceClient tournamentServiceClient;
+    private MatchServiceImpl matchService;
+
+    @BeforeEach
+    void setUp() {
+        matchRepository = mock(MatchRepository.class);
+        tournamentStandingRepository = mock(TournamentStandingRepository.class);
+        tournamentServiceClient = mock(TournamentServiceClient.class);
+        when(tournamentServiceClient.findTournament(TOURNAMENT_ID)).thenReturn(Optional.of(new TournamentDTO()));
+        when(tournamentServiceClient.findTournament(UNKNOWN_TOURNAMENT_ID)).thenReturn(Optional.empty());
+
+        matchService = new MatchServiceImpl(matchRepository, tournamentStandingRepository, tournamentServiceClient);
+    }
+
+    @Test
+    void findAllMatchByTournament_DoesNotLookUpTheTournamentWhenItHasMatches() {
+        when(matchRepository.findAllWithParticipantsByTournamentId(TOURNAMENT_ID)).thenReturn(List.of(match(1L)));
+
+        List<MatchDTO> matches = matchService.findAllMatchByTournament(TOURNAMENT_ID);
+
+        assertEquals(1, matches.size());
+        verify(tournamentServiceClient, never()).findTournament(anyLong());
+    }
+
+    @Test
+    void findAllMatchByTournament_ReturnsNoMatchesOfAnExistingTournament() {
+        when(matchRepository.findAllWithParticipantsByTournamentId(TOURNAMENT_ID)).thenReturn(List.of());
+
+        assertTrue(matchService.findAllMatchByTournament(TOURNAMENT_ID).isEmpty());
+    }
+
+    @Test
+    void findAllMatchByTournament_ThrowsForAnUnknownTournament() {
+        when(matchRepository.findAllWithParticipantsByTournamentId(UNKNOWN_TOURNAMENT_ID)).thenReturn(List.of());
+
+        assertThrows(TournamentNotFoundException.class, () -> matchService.findAllMatchByTournament(UNKNOWN_TOURNAMENT_ID));
+    }
+
+    @Test
+    void findAllMatchByTournamentRound_ThrowsForAMissingRoundOrTournament() {
+        when(matchRepository.findAllWithParticipantsByTournamentIdAndRoundNumber(anyLong(), anyInt())).thenReturn(List.of());
+        when(matchRepository.findAllWithParticipantsByTournamentIdAndRoundNumber(TOURNAMENT_ID, 1)).thenReturn(List.of(match(1L)));
+
+        assertEquals(1, matchService.findAllMatchByTournamentRound(TOURNAMENT_ID, 1).size());
+        assertThrows(TournamentRoundNotFoundException.class, () -> matchService.findAllMatchByTournamentRound(TOURNAMENT_ID, 2));
+        assertThrows(TournamentNotFoundException.class, () -> matchService.findAllMatchByTournamentRound(UNKNOWN_TOURNAMENT_ID, 1));
+    }
+
+    @Test
+    void findAllMatchResultsByTournament_ReportsWinnersAndThrowsForAnUnknownTournament() {
+        when(matchRepository.findAllWithParticipantsByTournamentId(TOURNAMENT_ID)).thenReturn(List.of(match(1L)));
+        when(matchRepository.findAllWithParticipantsByTournamentId(UNKNOWN_TOURNAMENT_ID)).thenReturn(List.of());
+
+        List<MatchResultDTO> results = matchService.findAllMatchResultsByTournament(TOURNAMENT_ID);
+        assertEquals(1, results.size());
+        assertEquals(1L, results.get(0).getWinnerId());
+        assertEquals(2L, results.get(0).getLoserId());
+
+        assertThrows(TournamentNotFoundException.class, () -> matchService.findAllMatchResultsByTournament(UNKNOWN_TOURNAMENT_ID));
+    }
+
+    @Test
+    void getTournamentResults_ReportsThePointsOfTheStandings() {
+        when(tournamentStandingRepository.findByTournamentIdOrderByPointsDescPlayerIdAsc(TOURNAMENT_ID))
+                .thenReturn(List.of(standing(2L, 2.5), standing(1L, 1.5)));
+
+        TournamentResultsDTO results = matchService.getTournamentResults(TOURNAMENT_ID);
+
+        assertEquals(TOURNAMENT_ID, results.getTournamentId());
+        assertEquals(List.of(2L, 1L), results.getPlayerResults().stream().map(TournamentResultsDTO.PlayerResultDTO::getPlayerId).toList());
+        assertEquals(2.5, results.getPlayerResults().get(0).getPoints());
+        verify(tournamentServiceClient, never()).findTournament(anyLong());
+    }
+
+    @Test
+    void getTournamentResults_ThrowsForAnUnknownTournament() {
+        when(tournamentStandingRepository.findByTournamentIdOrderByPointsDescPlayerIdAsc(anyLong())).thenReturn(List.of());
+
+        assertTrue(matchService.getTournamentResults(TOURNAMENT_ID).getPlayerResults().isEmpty());
+        assertThrows(TournamentNotFoundException.class, () -> matchService.getTournamentResults(UNKNOWN_TOURNAMENT_ID));
+    }
+
+    private static TournamentStanding standing(Long playerId, double points) {
+        TournamentStanding standing = new TournamentStanding();
+        standing.setTournamentId(TOURNAMENT_ID);
+        standing.setPlayerId(playerId);
+        standing.setPoints(points);
+        return standing;
+    }
+
+    // A completed match of the first round won by player 1 against player 2
+    private static Match match(Long matchId) {
+        Match match = new Match();
+        match.setId(matchId);
+        match.setTournamentId(TOURNAMENT_ID);
+        match.setRoundNumber(1);
+        match.setStatus(Match.MatchStatus.COMPLETED);
+
+        Set<MatchPlayer> participants = new LinkedHashSet<>();
+        for (Long playerId : List.of(1L, 2L)) {
+            MatchPlayer participant = new MatchPlayer();
+            participant.setPlayerId(playerId);
+            participant.setMatch(match);
+            participant.setResult(playerId == 1L ? MatchPlayer.Result.WIN : MatchPlayer.Result.LOSS);
+            participants.add(participant);
+        }
+        match.setParticipants(participants);
+        return match;
+    }
+}
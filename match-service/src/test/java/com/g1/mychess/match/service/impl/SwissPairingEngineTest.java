@@ -0,0 +1,226 @@
+package com.g1.mychess.match.service.impl;
+
+import com.g1.mychess.match.model.MatchPlayer;
+import com.g1.mychess.match.model.TournamentStanding;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SwissPairingEngineTest {
+
+    private final SwissPairingEngine swissPairingEngine = new SwissPairingEngine();
+
+    @Test
+    void testPair_PairsTopHalfAgainstBottomHalfWithoutRematches() {
+        List<MatchPlayer> players = players(0, 1L, 2L, 3L, 4L);
+        Map<Long, TournamentStanding> standings = standings(
+                standing(1L, "W", 3L), standing(2L, "W", 4L), standing(3L, "B", 1L), standing(4L, "B", 2L));
+
+        SwissPairingEngine.Pairing pairing = swissPairingEngine.pair(players, standings);
+
+        // 1 against 3 and 2 against 4 would be rematches
+        assertEquals(Set.of(Set.of(1L, 4L), Set.of(2L, 3L)), pairings(pairing));
+        assertNull(pairing.getByePlayer());
+    }
+
+    @Test
+    void testPair_FollowsTheColourHistory() {
+        // The player with more blacks gets white
+        MatchPlayer[] pair = pairAlone(standing(1L, "WW"), standing(2L, "BB"));
+        assertEquals(2L, pair[0].getPlayerId());
+
+        // With equal balances, the player who had black last gets white
+        pair = pairAlone(standing(1L, "BW"), standing(2L, "WB"));
+        assertEquals(2L, pair[0].getPlayerId());
+
+        // With the same history, the higher ranked player alternates
+        pair = pairAlone(standing(1L, "WB"), standing(2L, "WB"));
+        assertEquals(1L, pair[0].getPlayerId());
+        pair = pairAlone(standing(1L, "BW"), standing(2L, "BW"));
+        assertEquals(2L, pair[0].getPlayerId());
+
+        // Without a history, the higher ranked player gets white
+        pair = pairAlone(standing(1L, ""), standing(2L, ""));
+        assertEquals(1L, pair[0].getPlayerId());
+    }
+
+    @Test
+    void testPair_GivesTheByeToTheLowestRankedPlayerWithoutOne() {
+        List<MatchPlayer> players = players(0, 1L, 2L, 3L, 4L, 5L);
+
+        SwissPairingEngine.Pairing pairing = swissPairingEngine.pair(players, Map.of());
+        assertEquals(5L, pairing.getByePlayer().getPlayerId());
+        assertEquals(2, pairing.getPairs().size());
+
+        // Player 5 already had a bye
+        pairing = swissPairingEngine.pair(players, standings(standing(5L, String.valueOf(TournamentStanding.BYE))));
+        assertEquals(4L, pairing.getByePlayer().getPlayerId());
+        assertEquals(Set.of(1L, 2L, 3L, 5L), paired(pairing));
+
+        // Everyone had a bye, so the lowest ranked player gets another
+        Map<Long, TournamentStanding> standings = new HashMap<>();
+        for (long playerId = 1; playerId <= 5; playerId++) {
+            standings.put(playerId, standing(playerId, String.valueOf(TournamentStanding.BYE)));
+        }
+        assertEquals(5L, swissPairingEngine.pair(players, standings).getByePlayer().getPlayerId());
+    }
+
+    @Test
+    void testPair_FloatsTheLowestPlayerOfAnOddScoreGroup() {
+        List<MatchPlayer> players = new ArrayList<>(players(1, 1L, 2L, 3L));
+        players.addAll(players(0, 4L));
+
+        // The top group pairs 1 against 2, and 3 floats down to the player with fewer points
+        assertEquals(Set.of(Set.of(1L, 2L), Set.of(3L, 4L)), pairings(swissPairingEngine.pair(players, Map.of())));
+    }
+
+    @Test
+    void testPair_FloatsPlayersWhoCannotBePairedInTheirScoreGroup() {
+        List<MatchPlayer> players = new ArrayList<>(players(1, 1L, 2L));
+        players.addAll(players(0, 3L, 4L));
+        Map<Long, TournamentStanding> standings = standings(standing(1L, "W", 2L), standing(2L, "B", 1L));
+
+        // 1 and 2 already met, so both float down and meet the players with fewer points
+        assertEquals(Set.of(Set.of(1L, 3L), Set.of(2L, 4L)), pairings(swissPairingEngine.pair(players, standings)));
+    }
+
+    @Test
+    void testPair_DissolvesHigherPairsToCompleteTheLastScoreGroup() {
+        List<MatchPlayer> players = new ArrayList<>(players(1, 1L, 2L));
+        players.addAll(players(0, 3L, 4L));
+        Map<Long, TournamentStanding> standings = standings(standing(3L, "W", 4L), standing(4L, "B", 3L));
+
+        // 3 and 4 already met, so the pair 1-2 is dissolved and the four players are paired again
+        assertEquals(Set.of(Set.of(1L, 3L), Set.of(2L, 4L)), pairings(swissPairingEngine.pair(players, standings)));
+    }
+
+    @Test
+    void testPair_AllowsRematchesWhenNoOtherPairingExists() {
+        List<MatchPlayer> players = players(0, 1L, 2L, 3L, 4L);
+        Map<Long, TournamentStanding> standings = standings(
+                standing(1L, "WBW", 2L, 3L, 4L), standing(2L, "BWB", 1L, 4L, 3L),
+                standing(3L, "WBW", 4L, 1L, 2L), standing(4L, "BWB", 3L, 2L, 1L));
+
+        SwissPairingEngine.Pairing pairing = swissPairingEngine.pair(players, standings);
+
+        // Everyone played everyone, so everyone is still paired
+        assertEquals(2, pairing.getPairs().size());
+        assertEquals(Set.of(1L, 2L, 3L, 4L), paired(pairing));
+    }
+
+    @Test
+    void testPair_PlaysATournamentWithoutRematchesOrRepeatedByes() {
+        int count = 15;
+        int rounds = 6;
+        Random random = new Random(42);
+        Map<Long, TournamentStanding> standings = new HashMap<>();
+        for (long playerId = 1; playerId <= count; playerId++) {
+            standings.put(playerId, standing(playerId, ""));
+        }
+
+        for (int round = 1; round <= rounds; round++) {
+            List<MatchPlayer> players = new ArrayList<>();
+            for (TournamentStanding standing : standings.values()) {
+                players.add(player(standing.getPlayerId(), standing.getPoints()));
+            }
+
+            SwissPairingEngine.Pairing pairing = swissPairingEngine.pair(players, standings);
+
+            assertEquals(count / 2, pairing.getPairs().size(), "pairs of round " + round);
+            Set<Long> paired = paired(pairing);
+            assertEquals(count - 1, paired.size(), "players paired in round " + round);
+            assertFalse(paired.contains(pairing.getByePlayer().getPlayerId()));
+
+            TournamentStanding bye = standings.get(pairing.getByePlayer().getPlayerId());
+            assertFalse(bye.hasHadBye(), "second bye of player " + bye.getPlayerId());
+            record(bye, TournamentStanding.BYE, null, 1);
+
+            for (MatchPlayer[] pair : pairing.getPairs()) {
+                TournamentStanding white = standings.get(pair[0].getPlayerId());
+                TournamentStanding black = standings.get(pair[1].getPlayerId());
+                assertFalse(white.hasPlayed(black.getPlayerId()),
+                        "rematch of " + white.getPlayerId() + " and " + black.getPlayerId() + " in round " + round);
+                double whiteScore = random.nextInt(3) / 2.0;
+                record(white, 'W', black.getPlayerId(), whiteScore);
+                record(black, 'B', white.getPlayerId(), 1 - whiteScore);
+            }
+        }
+
+        for (TournamentStanding standing : standings.values()) {
+            String colours = standing.getColourHistory();
+            long whites = colours.chars().filter(colour -> colour == 'W').count();
+            long blacks = colours.chars().filter(colour -> colour == 'B').count();
+            assertTrue(Math.abs(whites - blacks) <= 2, "colours of player " + standing.getPlayerId() + ": " + colours);
+        }
+    }
+
+    // Pairs two players alone, player 1 being ranked higher
+    private MatchPlayer[] pairAlone(TournamentStanding first, TournamentStanding second) {
+        SwissPairingEngine.Pairing pairing = swissPairingEngine.pair(players(0, 1L, 2L), standings(first, second));
+        assertEquals(1, pairing.getPairs().size());
+        return pairing.getPairs().get(0);
+    }
+
+    private static void record(TournamentStanding standing, char colour, Long opponentId, double score) {
+        standing.setColourHistory(standing.getColourHistory() + colour);
+        if (opponentId != null) {
+            String opponentIds = standing.getOpponentIds();
+            standing.setOpponentIds(opponentIds.isEmpty() ? String.valueOf(opponentId) : opponentIds + "," + opponentId);
+        }
+        standing.setPoints(standing.getPoints() + score);
+        standing.setGamesPlayed(standing.getGamesPlayed() + 1);
+    }
+
+    // Players with the given points, rated in the order of their IDs
+    private static List<MatchPlayer> players(double points, Long... playerIds) {
+        List<MatchPlayer> players = new ArrayList<>();
+        for (Long playerId : playerIds) {
+            players.add(player(playerId, points));
+        }
+        return players;
+    }
+
+    private static MatchPlayer player(Long playerId, double points) {
+        MatchPlayer player = new MatchPlayer();
+        player.setPlayerId(playerId);
+        player.setPoints(points);
+        player.setGlickoRating(2000 - 10 * playerId);
+        return player;
+    }
+
+    private static TournamentStanding standing(Long playerId, String colourHistory, Long... opponentIds) {
+        TournamentStanding standing = new TournamentStanding();
+        standing.setPlayerId(playerId);
+        standing.setColourHistory(colourHistory);
+        standing.setOpponentIds(Arrays.stream(opponentIds).map(String::valueOf).collect(Collectors.joining(",")));
+        return standing;
+    }
+
+    private static Map<Long, TournamentStanding> standings(TournamentStanding... standings) {
+        Map<Long, TournamentStanding> byPlayerId = new HashMap<>();
+        for (TournamentStanding standing : standings) {
+            byPlayerId.put(standing.getPlayerId(), standing);
+        }
+        return byPlayerId;
+    }
+
+    private static Set<Set<Long>> pairings(SwissPairingEngine.Pairing pairing) {
+        Set<Set<Long>> pairings = new HashSet<>();
+        for (MatchPlayer[] pair : pairing.getPairs()) {
+            pairings.add(Set.of(pair[0].getPlayerId(), pair[1].getPlayerId()));
+        }
+        return pairings;
+    }
+
+    private static Set<Long> paired(SwissPairingEngine.Pairing pairing) {
+        Set<Long> paired = new HashSet<>();
+        for (MatchPlayer[] pair : pairing.getPairs()) {
+            assertTrue(paired.add(pair[0].getPlayerId()), "player " + pair[0].getPlayerId() + " paired twice");
+            assertTrue(paired.add(pair[1].getPlayerId()), "player " + pair[1].getPlayerId() + " paired twice");
+        }
+        return paired;
+    }
+}
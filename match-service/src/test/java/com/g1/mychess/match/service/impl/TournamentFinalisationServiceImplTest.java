@@ -0,0 +1,102 @@
+package com.g1.mychess.match.service.impl;
+
+import com.g1.mychess.match.client.PlayerServiceClient;
+import com.g1.mychess.match.dto.MatchmakingDTO;
+import com.g1.mychess.match.dto.PlayerRatingUpdateDTO;
+import com.g1.mychess.match.model.Match;
+import com.g1.mychess.match.model.MatchPlayer;
+import com.g1.mychess.match.repository.MatchPlayerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class TournamentFinalisationServiceImplTest {
+
+    private static final Long TOURNAMENT_ID = 100L;
+
+    private MatchPlayerRepository matchPlayerRepository;
+    private PlayerServiceClient playerServiceClient;
+    private TournamentFinalisationServiceImpl tournamentFinalisationService;
+
+    @BeforeEach
+    void setUp() {
+        matchPlayerRepository = mock(MatchPlayerRepository.class);
+        playerServiceClient = mock(PlayerServiceClient.class);
+        tournamentFinalisationService = new TournamentFinalisationServiceImpl(
+                matchPlayerRepository, playerServiceClient, new Glicko2RatingServiceImpl());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void finalizeTournament_RatesThePlayerSittingOutTheFinalRound() {
+        // A round robin of three players: 1 sits out round 1, 3 round 2 and 2 round 3
+        List<MatchPlayer> matchPlayers = new ArrayList<>();
+        matchPlayers.addAll(game(1, 2L, 1600, MatchPlayer.Result.WIN, 3L, 1400));
+        matchPlayers.addAll(game(2, 1L, 1500, MatchPlayer.Result.DRAW, 2L, 1600));
+        matchPlayers.addAll(game(3, 3L, 1400, MatchPlayer.Result.LOSS, 1L, 1500));
+        when(matchPlayerRepository.findAllWithMatchByTournamentId(TOURNAMENT_ID)).thenReturn(matchPlayers);
+
+        tournamentFinalisationService.finalizeTournament(new MatchmakingDTO(TOURNAMENT_ID, 3, 3, Set.of()));
+
+        ArgumentCaptor<List<PlayerRatingUpdateDTO>> captor = ArgumentCaptor.forClass((Class) List.class);
+        verify(playerServiceClient).updatePlayerProfileRatings(captor.capture());
+        List<PlayerRatingUpdateDTO> ratingUpdates = captor.getValue();
+        assertEquals(Set.of(1L, 2L, 3L),
+                Set.copyOf(ratingUpdates.stream().map(PlayerRatingUpdateDTO::getPlayerId).toList()));
+        ratingUpdates.forEach(ratingUpdate -> assertEquals(TOURNAMENT_ID, ratingUpdate.getTournamentId()));
+
+        // Player 2 won and drew against the other two, so gains rating from the pre-tournament 1600
+        PlayerRatingUpdateDTO player2 = ratingUpdates.stream()
+                .filter(ratingUpdate -> ratingUpdate.getPlayerId().equals(2L)).findFirst().orElseThrow();
+        assertTrue(player2.getGlickoRating() > 1600, "rating of player 2: " + player2.getGlickoRating());
+    }
+
+    @Test
+    void finalizeTournament_RejectsATournamentWithUnplayedRounds() {
+        assertThrows(IllegalStateException.class,
+                () -> tournamentFinalisationService.finalizeTournament(new MatchmakingDTO(TOURNAMENT_ID, 2, 3, Set.of())));
+        verify(playerServiceClient, never()).updatePlayerProfileRatings(anyList());
+    }
+
+    // A completed game of the round, the result being that of the white player
+    private static List<MatchPlayer> game(int round, Long whiteId, double whiteRating, MatchPlayer.Result whiteResult,
+                                          Long blackId, double blackRating) {
+        Match match = new Match();
+        match.setId(10L * round);
+        match.setTournamentId(TOURNAMENT_ID);
+        match.setRoundNumber(round);
+        match.setStatus(Match.MatchStatus.COMPLETED);
+
+        MatchPlayer.Result blackResult = switch (whiteResult) {
+            case WIN -> MatchPlayer.Result.LOSS;
+            case LOSS -> MatchPlayer.Result.WIN;
+            default -> MatchPlayer.Result.DRAW;
+        };
+        MatchPlayer white = matchPlayer(match, round, whiteId, whiteRating, whiteResult, blackId);
+        MatchPlayer black = matchPlayer(match, round, blackId, blackRating, blackResult, whiteId);
+        match.setParticipants(Set.of(white, black));
+        return List.of(white, black);
+    }
+
+    private static MatchPlayer matchPlayer(Match match, int round, Long playerId, double rating,
+                                           MatchPlayer.Result result, Long opponentId) {
+        MatchPlayer matchPlayer = new MatchPlayer();
+        matchPlayer.setMatch(match);
+        matchPlayer.setCurrentRound(round);
+        matchPlayer.setPlayerId(playerId);
+        matchPlayer.setOpponentId(opponentId);
+        matchPlayer.setGlickoRating(rating);
+        matchPlayer.setRatingDeviation(100);
+        matchPlayer.setVolatility(0.06);
+        matchPlayer.setResult(result);
+        return matchPlayer;
+    }
+}
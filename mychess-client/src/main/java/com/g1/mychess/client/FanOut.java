@@ -0,0 +1,64 @@
+package com.g1.mychess.client;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
+
+import java.util.function.Function;
+
+/**
+ * Runs one remote call per item with a bounded number of calls in flight, instead of one call at a time.
+ *
+ * <p>The bound keeps a large fan-out from queueing on the connection pool of its target, so it should not exceed
+ * the target's {@code max-connections}.</p>
+ */
+public class FanOut {
+
+    private final int concurrency;
+
+    /**
+     * Constructs a fan-out helper.
+     *
+     * @param concurrency the maximum number of calls in flight at once.
+     */
+    public FanOut(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Calls the given function for every item and emits the results in the order of the items.
+     * The first failed call cancels the others.
+     *
+     * @param items the items to call for.
+     * @param call the remote call of one item.
+     * @param <T> the type of the items.
+     * @param <R> the type of the results.
+     * @return the results of all calls.
+     */
+    public <T, R> Flux<R> map(Iterable<T> items, Function<? super T, ? extends Publisher<? extends R>> call) {
+        return Flux.fromIterable(items).flatMapSequential(call, concurrency);
+    }
+
+    /**
+     * Calls the given function for every item. A failed call does not stop the others; the failure is signalled
+     * once all calls have completed.
+     *
+     * @param items the items to call for.
+     * @param call the remote call of one item.
+     * @param <T> the type of the items.
+     * @return a Mono completing when all calls have completed.
+     */
+    public <T> Mono<Void> forEach(Iterable<T> items, Function<? super T, ? extends Publisher<?>> call) {
+        return Flux.fromIterable(items).flatMapDelayError(call, concurrency, Queues.XS_BUFFER_SIZE).then();
+    }
+
+    /**
+     * Gets the maximum number of calls in flight at once.
+     *
+     * @return the concurrency of the fan-out.
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+}
@@ -0,0 +1,48 @@
+package com.g1.mychess.client;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Auto-configuration of the client layer shared by all services.
+ *
+ * <p>Every service depending on {@code mychess-client} gets:
+ * <ul>
+ *     <li>a {@link ServiceClientFactory}, which builds the clients of the target services on pooled connections,</li>
+ *     <li>a {@link FanOut}, which runs the calls of a fan-out with bounded concurrency.</li>
+ * </ul>
+ * Each bean backs off if the service defines its own.</p>
+ */
+@AutoConfiguration(after = WebClientAutoConfiguration.class)
+@EnableConfigurationProperties(ServiceClientProperties.class)
+public class ServiceClientAutoConfiguration {
+
+    /**
+     * Creates the factory of the service clients.
+     *
+     * @param webClientBuilder the WebClient builder configured by Spring Boot.
+     * @param properties the connection limits and timeouts.
+     * @return the service client factory.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ServiceClientFactory serviceClientFactory(WebClient.Builder webClientBuilder, ServiceClientProperties properties) {
+        return new ServiceClientFactory(webClientBuilder, properties);
+    }
+
+    /**
+     * Creates the fan-out helper with the configured concurrency.
+     *
+     * @param properties the client settings.
+     * @return the fan-out helper.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public FanOut fanOut(ServiceClientProperties properties) {
+        return new FanOut(properties.getConcurrency());
+    }
+}
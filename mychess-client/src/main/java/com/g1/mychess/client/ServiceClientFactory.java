@@ -0,0 +1,72 @@
+package com.g1.mychess.client;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates the {@link WebClient}s the services use to call each other.
+ *
+ * <p>Every target service gets one pooled Reactor Netty {@link ConnectionProvider}, shared by all clients calling
+ * that target, with the limits and timeouts of {@link ServiceClientProperties}. Pools are kept per target rather
+ * than per remote host because in the docker profile all services sit behind the same host.</p>
+ */
+public class ServiceClientFactory implements DisposableBean {
+
+    private final WebClient.Builder webClientBuilder;
+    private final ServiceClientProperties properties;
+    private final Map<String, ConnectionProvider> connectionProviders = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the factory.
+     *
+     * @param webClientBuilder the builder configured by Spring Boot, with the codecs of the service.
+     * @param properties the connection limits and timeouts.
+     */
+    public ServiceClientFactory(WebClient.Builder webClientBuilder, ServiceClientProperties properties) {
+        this.webClientBuilder = webClientBuilder;
+        this.properties = properties;
+    }
+
+    /**
+     * Creates a client for a target service.
+     *
+     * @param target the name of the target service, e.g. {@code player}, used to pick its pool and settings.
+     * @param baseUrl the base URL of the target service.
+     * @return a WebClient using the pool of the target.
+     */
+    public WebClient create(String target, String baseUrl) {
+        HttpClient httpClient = HttpClient.create(connectionProviders.computeIfAbsent(target, this::createConnectionProvider))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getResponseTimeout(target));
+
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .baseUrl(baseUrl)
+                .build();
+    }
+
+    /**
+     * Closes the connections of every pool.
+     */
+    @Override
+    public void destroy() {
+        connectionProviders.values().forEach(ConnectionProvider::dispose);
+    }
+
+    private ConnectionProvider createConnectionProvider(String target) {
+        return ConnectionProvider.builder("mychess-" + target)
+                .maxConnections(properties.getMaxConnections(target))
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .maxIdleTime(properties.getMaxIdleTime())
+                .evictInBackground(properties.getMaxIdleTime())
+                .build();
+    }
+}
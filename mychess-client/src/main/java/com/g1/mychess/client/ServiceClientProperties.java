@@ -0,0 +1,169 @@
+package com.g1.mychess.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings of the clients calling the other MyChess services, bound from {@code mychess.client.*}.
+ *
+ * <p>Each target service, such as {@code player} or {@code email}, gets its own connection pool. The defaults below
+ * apply to every target and can be overridden per target, e.g.
+ * {@code mychess.client.targets.email.max-connections=20}.</p>
+ */
+@ConfigurationProperties(prefix = "mychess.client")
+public class ServiceClientProperties {
+
+    /**
+     * Time allowed to open a connection.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Time allowed between sending a request and receiving its response.
+     */
+    private Duration responseTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Maximum number of open connections to each target service.
+     */
+    private int maxConnections = 100;
+
+    /**
+     * Maximum number of requests waiting for a connection of a pool once all of its connections are in use.
+     */
+    private int pendingAcquireMaxCount = 1000;
+
+    /**
+     * Time a request may wait for a connection of a pool before it fails.
+     */
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Time after which an idle connection is closed.
+     */
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+
+    /**
+     * Maximum number of calls a fan-out keeps in flight at once.
+     */
+    private int concurrency = 16;
+
+    /**
+     * Overrides of the settings above, keyed by target service name.
+     */
+    private Map<String, Target> targets = new HashMap<>();
+
+    /**
+     * Gets the maximum number of connections to the given target.
+     *
+     * @param target the name of the target service.
+     * @return the target's own limit if set, otherwise {@link #getMaxConnections()}.
+     */
+    public int getMaxConnections(String target) {
+        Target settings = targets.get(target);
+        return settings != null && settings.getMaxConnections() != null ? settings.getMaxConnections() : maxConnections;
+    }
+
+    /**
+     * Gets the response timeout of the given target.
+     *
+     * @param target the name of the target service.
+     * @return the target's own timeout if set, otherwise {@link #getResponseTimeout()}.
+     */
+    public Duration getResponseTimeout(String target) {
+        Target settings = targets.get(target);
+        return settings != null && settings.getResponseTimeout() != null ? settings.getResponseTimeout() : responseTimeout;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getResponseTimeout() {
+        return responseTimeout;
+    }
+
+    public void setResponseTimeout(Duration responseTimeout) {
+        this.responseTimeout = responseTimeout;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public int getPendingAcquireMaxCount() {
+        return pendingAcquireMaxCount;
+    }
+
+    public void setPendingAcquireMaxCount(int pendingAcquireMaxCount) {
+        this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+    }
+
+    public Duration getPendingAcquireTimeout() {
+        return pendingAcquireTimeout;
+    }
+
+    public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+        this.pendingAcquireTimeout = pendingAcquireTimeout;
+    }
+
+    public Duration getMaxIdleTime() {
+        return maxIdleTime;
+    }
+
+    public void setMaxIdleTime(Duration maxIdleTime) {
+        this.maxIdleTime = maxIdleTime;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public Map<String, Target> getTargets() {
+        return targets;
+    }
+
+    public void setTargets(Map<String, Target> targets) {
+        this.targets = targets;
+    }
+
+    /**
+     * Settings of a single target service. Unset values fall back to the defaults.
+     */
+    public static class Target {
+
+        private Integer maxConnections;
+        private Duration responseTimeout;
+
+        public Integer getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(Integer maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public Duration getResponseTimeout() {
+            return responseTimeout;
+        }
+
+        public void setResponseTimeout(Duration responseTimeout) {
+            this.responseTimeout = responseTimeout;
+        }
+    }
+}
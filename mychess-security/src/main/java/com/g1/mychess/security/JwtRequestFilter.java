@@ -1,11 +1,9 @@
-package com.g1.mychess.match.filter;
+package com.g1.mychess.security;
 
-import com.g1.mychess.match.util.JwtUtil;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
-import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import jakarta.servlet.FilterChain;
@@ -21,8 +19,11 @@ import java.util.Optional;
  * It checks for a valid JWT in the Authorization header, validates it,
  * extracts the user information, and sets the authentication context
  * for Spring Security.
+ * <p>
+ * Registered as a bean by {@link JwtSecurityAutoConfiguration} and added to a service's security filter chain by
+ * {@link JwtSecurityConfigurer}.
+ * </p>
  */
-@Component
 public class JwtRequestFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
@@ -51,14 +52,15 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
 
-        Optional<String> jwtOpt = extractJwt(request);
-        if (jwtOpt.isPresent() && jwtUtil.validateToken(jwtOpt.get())) {
-            String username = jwtUtil.extractUsername(jwtOpt.get());
+        // The token is parsed once; later consumers of the request read the claims from the request attribute
+        Optional<VerifiedClaims> claimsOpt = extractJwt(request).flatMap(jwtUtil::verify);
+        if (claimsOpt.isPresent()) {
+            VerifiedClaims claims = claimsOpt.get();
+            request.setAttribute(VerifiedClaims.REQUEST_ATTRIBUTE, claims);
 
             // Check if authentication is not set in the SecurityContext
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                List<GrantedAuthority> authorities = jwtUtil.extractRoles(jwtOpt.get());
-                setAuthenticationContext(username, request, authorities);
+            if (claims.getUsername() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                setAuthenticationContext(claims.getUsername(), request, claims.getAuthorities());
             }
         }
 
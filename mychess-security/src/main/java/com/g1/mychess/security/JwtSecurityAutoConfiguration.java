@@ -0,0 +1,93 @@
+package com.g1.mychess.security;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+import java.util.List;
+
+/**
+ * Auto-configuration of the JWT security shared by all services.
+ *
+ * <p>Every service depending on {@code mychess-security} gets:
+ * <ul>
+ *     <li>a single {@link JwtUtil}, which loads {@code JWT_SECRET} once and caches verified tokens,</li>
+ *     <li>the {@link JwtRequestFilter}, to be added to the security filter chain with {@link JwtSecurityConfigurer},</li>
+ *     <li>the CORS configuration of the MyChess frontends.</li>
+ * </ul>
+ * Each bean backs off if the service defines its own.</p>
+ */
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class JwtSecurityAutoConfiguration {
+
+    /**
+     * Origins of the MyChess frontends allowed to call the services.
+     */
+    static final List<String> ALLOWED_ORIGINS = List.of(
+            "http://54.251.32.169", "http://localhost:3000", "https://www.mychesss.com", "https://mychesss.com",
+            "http://mychesss.com", "http://www.mychesss.com", "https://54.251.32.169", "http://52.221.193.231",
+            "https://52.221.193.231");
+
+    /**
+     * Creates the {@link JwtUtil} with the secret from the {@code JWT_SECRET} environment variable or a .env file.
+     *
+     * @return the JWT utility shared by the filter and the services.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public JwtUtil jwtUtil() {
+        return new JwtUtil();
+    }
+
+    /**
+     * Creates the JWT authentication filter.
+     *
+     * @param jwtUtil the JWT utility used to verify tokens.
+     * @return the JWT request filter.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public JwtRequestFilter jwtRequestFilter(JwtUtil jwtUtil) {
+        return new JwtRequestFilter(jwtUtil);
+    }
+
+    /**
+     * Keeps the servlet container from registering the {@link JwtRequestFilter} bean as a filter of its own, so it
+     * only runs inside the security filter chain.
+     *
+     * @param jwtRequestFilter the JWT request filter.
+     * @return a disabled registration of the filter.
+     */
+    @Bean
+    public FilterRegistrationBean<JwtRequestFilter> jwtRequestFilterRegistration(JwtRequestFilter jwtRequestFilter) {
+        FilterRegistrationBean<JwtRequestFilter> registration = new FilterRegistrationBean<>(jwtRequestFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * Configures CORS to allow the MyChess frontends.
+     *
+     * @return CorsConfigurationSource with allowed origins, methods, and headers.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public CorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration configuration = new CorsConfiguration();
+        configuration.setAllowedOrigins(ALLOWED_ORIGINS);
+        configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedHeaders(List.of("*"));
+        configuration.setAllowCredentials(true);
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", configuration);
+
+        return source;
+    }
+}
@@ -0,0 +1,46 @@
+package com.g1.mychess.security;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+/**
+ * Applies the security settings shared by all services to a {@link HttpSecurity}:
+ * <ul>
+ *     <li>CSRF protection is disabled, as the APIs are stateless and authenticated by bearer tokens.</li>
+ *     <li>CORS uses the {@code CorsConfigurationSource} bean, by default the one of {@link JwtSecurityAutoConfiguration}.</li>
+ *     <li>Sessions are stateless.</li>
+ *     <li>The shared {@link JwtRequestFilter} runs before the {@link UsernamePasswordAuthenticationFilter}.</li>
+ * </ul>
+ * Services keep their own authorization rules and apply this configurer with
+ * {@code http.with(new JwtSecurityConfigurer(), Customizer.withDefaults())}.
+ */
+public class JwtSecurityConfigurer extends AbstractHttpConfigurer<JwtSecurityConfigurer, HttpSecurity> {
+
+    /**
+     * Disables CSRF, enables CORS and makes sessions stateless.
+     *
+     * @param http the {@link HttpSecurity} being configured
+     * @throws Exception if the configuration fails
+     */
+    @Override
+    public void init(HttpSecurity http) throws Exception {
+        http.csrf(AbstractHttpConfigurer::disable)
+                .cors(Customizer.withDefaults())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+    }
+
+    /**
+     * Adds the {@link JwtRequestFilter} bean of the application context to the filter chain.
+     *
+     * @param http the {@link HttpSecurity} being configured
+     */
+    @Override
+    public void configure(HttpSecurity http) {
+        ApplicationContext context = http.getSharedObject(ApplicationContext.class);
+        http.addFilterBefore(context.getBean(JwtRequestFilter.class), UsernamePasswordAuthenticationFilter.class);
+    }
+}
@@ -1,14 +1,15 @@
-package com.g1.mychess.match.util;
+package com.g1.mychess.security;
 
 import io.github.cdimascio.dotenv.Dotenv;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.*;
@@ -17,19 +18,45 @@ import java.util.stream.Collectors;
 
 /**
  * Utility class for handling JWT (JSON Web Token) operations such as token creation, validation, and extraction of claims.
+ * <p>
+ * Shared by all services and registered as a bean by {@link JwtSecurityAutoConfiguration}. Tokens are verified by
+ * {@link #verify(String)} with a single prebuilt parser, and verified tokens are cached until they expire.
+ * </p>
  */
-@Component
 public class JwtUtil {
 
     private final SecretKey secretKey;
     private final long jwtExpirationInMs = 604800000; // 7 days
     private final long refreshExpirationInMs = 2592000000L; // 30 days
 
+    /**
+     * Maximum number of verified tokens kept in the cache.
+     */
+    private static final int MAX_CACHED_TOKENS = 10_000;
+
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(MAX_CACHED_TOKENS);
+
     /**
      * Constructor that initializes the secret key from an environment variable or a .env file.
      * Throws an IllegalStateException if the JWT_SECRET environment variable is not set.
      */
     public JwtUtil() {
+        this(loadSecret());
+    }
+
+    /**
+     * Constructor that initializes the secret key from the given Base64-encoded secret.
+     *
+     * @param secret the Base64-encoded HMAC secret
+     */
+    public JwtUtil(String secret) {
+        byte[] decodedKey = Base64.getDecoder().decode(secret);
+        this.secretKey = Keys.hmacShaKeyFor(decodedKey);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(secretKey).build();
+    }
+
+    private static String loadSecret() {
         String secret = System.getenv("JWT_SECRET");
 
         if (secret == null) {
@@ -40,8 +67,7 @@ public class JwtUtil {
                 throw new IllegalStateException("JWT_SECRET environment variable not set");
             }
         }
-        byte[] decodedKey = Base64.getDecoder().decode(secret);
-        this.secretKey = Keys.hmacShaKeyFor(decodedKey);
+        return secret;
     }
 
     /**
@@ -84,17 +110,34 @@ public class JwtUtil {
      * @return all claims from the token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     /**
-     * Checks if the token is expired.
+     * Verifies the signature and expiry of a JWT token and returns its claims.
+     * Tokens verified before are served from a bounded cache until they expire, so a client reusing its
+     * token skips the signature check.
      *
      * @param token the JWT token
-     * @return true if the token is expired, otherwise false
+     * @return the verified claims, or empty if the token is malformed, wrongly signed or expired
      */
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public Optional<VerifiedClaims> verify(String token) {
+        if (token == null || token.isEmpty()) return Optional.empty();
+
+        long now = System.currentTimeMillis();
+        VerifiedClaims cached = verifiedTokenCache.get(token, now);
+        if (cached != null) return Optional.of(cached);
+
+        VerifiedClaims claims;
+        try {
+            claims = VerifiedClaims.from(extractAllClaims(token));
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (claims.isExpired(now)) return Optional.empty();
+
+        verifiedTokenCache.put(token, claims, now);
+        return Optional.of(claims);
     }
 
     /**
@@ -150,11 +193,7 @@ public class JwtUtil {
      * @return true if the token is valid, otherwise false
      */
     public Boolean validateToken(String token) {
-        try {
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            return false;
-        }
+        return verify(token).isPresent();
     }
 
     /**
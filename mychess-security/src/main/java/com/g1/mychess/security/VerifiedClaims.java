@@ -0,0 +1,101 @@
+package com.g1.mychess.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Immutable view of the claims of a JWT token whose signature has been verified.
+ * <p>
+ * A request's token is parsed once by {@link JwtUtil#verify(String)}; the result is stored as a request
+ * attribute under {@link #REQUEST_ATTRIBUTE} so later consumers of the same request do not parse it again.
+ * </p>
+ */
+public final class VerifiedClaims {
+
+    /**
+     * Name of the request attribute holding the verified claims of the request's token.
+     */
+    public static final String REQUEST_ATTRIBUTE = VerifiedClaims.class.getName();
+
+    private final String username;
+    private final Long userId;
+    private final List<GrantedAuthority> authorities;
+    private final long expiresAtMillis;
+
+    private VerifiedClaims(String username, Long userId, List<GrantedAuthority> authorities, long expiresAtMillis) {
+        this.username = username;
+        this.userId = userId;
+        this.authorities = authorities;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    /**
+     * Copies the claims this service uses out of parsed JWT claims.
+     *
+     * @param claims the claims of a verified token
+     * @return the verified claims
+     */
+    static VerifiedClaims from(Claims claims) {
+        List<?> roles = claims.get("role", List.class);
+        List<GrantedAuthority> authorities = new ArrayList<>(roles != null ? roles.size() : 0);
+        if (roles != null) {
+            for (Object role : roles) {
+                authorities.add(new SimpleGrantedAuthority(String.valueOf(role)));
+            }
+        }
+        Date expiration = claims.getExpiration();
+        return new VerifiedClaims(
+                claims.getSubject(),
+                claims.get("userId", Long.class),
+                Collections.unmodifiableList(authorities),
+                expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+    }
+
+    /**
+     * Gets the username (subject) of the token.
+     * @return the username.
+     */
+    public String getUsername() {
+        return username;
+    }
+
+    /**
+     * Gets the user ID of the token.
+     * @return the user ID, or {@code null} for tokens without one, such as refresh tokens.
+     */
+    public Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Gets the roles of the token as granted authorities.
+     * @return an unmodifiable list of authorities, empty for tokens without roles.
+     */
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * Gets the expiration time of the token.
+     * @return the expiration time in milliseconds since the epoch.
+     */
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    /**
+     * Checks whether the token has expired at the given time.
+     *
+     * @param nowMillis the current time in milliseconds since the epoch
+     * @return true if the token is expired
+     */
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
@@ -0,0 +1,72 @@
+package com.g1.mychess.security;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of recently verified JWT tokens.
+ * <p>
+ * Clients send the same token with every request until it expires, so most requests can skip the HMAC check.
+ * Entries are keyed by the whole compact token, so only the exact token that was verified is ever matched, and
+ * they are dropped once the token expires. When the cache is full, expired entries are evicted first, then an
+ * arbitrary tenth of the remaining ones, which keeps eviction amortised O(1) per insert.
+ * </p>
+ */
+final class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, VerifiedClaims> entries;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxSize the maximum number of tokens kept
+     */
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new ConcurrentHashMap<>(Math.min(maxSize, 1024));
+    }
+
+    /**
+     * Gets the verified claims of a token, unless the token is unknown or has expired.
+     *
+     * @param token the compact JWT token
+     * @param nowMillis the current time in milliseconds since the epoch
+     * @return the cached claims, or {@code null}
+     */
+    VerifiedClaims get(String token, long nowMillis) {
+        VerifiedClaims claims = entries.get(token);
+        if (claims != null && claims.isExpired(nowMillis)) {
+            entries.remove(token, claims);
+            return null;
+        }
+        return claims;
+    }
+
+    /**
+     * Caches the verified claims of a token, evicting entries first if the cache is full.
+     *
+     * @param token the compact JWT token
+     * @param claims the claims of the token
+     * @param nowMillis the current time in milliseconds since the epoch
+     */
+    void put(String token, VerifiedClaims claims, long nowMillis) {
+        if (maxSize <= 0) return;
+        if (entries.size() >= maxSize) {
+            evict(nowMillis);
+        }
+        entries.put(token, claims);
+    }
+
+    private void evict(long nowMillis) {
+        entries.values().removeIf(claims -> claims.isExpired(nowMillis));
+
+        int target = maxSize - Math.max(1, maxSize / 10);
+        Iterator<String> tokens = entries.keySet().iterator();
+        while (entries.size() > target && tokens.hasNext()) {
+            tokens.next();
+            tokens.remove();
+        }
+    }
+}
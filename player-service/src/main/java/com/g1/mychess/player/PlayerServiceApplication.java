@@ -1,9 +1,15 @@
 package com.g1.mychess.player;
 
 import org.springframework.boot.SpringApplication;
+import com.g1.mychess.player.config.FeedProperties;
+import com.g1.mychess.player.config.RatingHistoryProperties;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@EnableConfigurationProperties({RatingHistoryProperties.class, FeedProperties.class})
 public class PlayerServiceApplication {
 
     public static void main(String[] args) {
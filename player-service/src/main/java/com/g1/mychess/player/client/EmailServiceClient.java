@@ -1,5 +1,6 @@
 package com.g1.mychess.player.client;
 
+import com.g1.mychess.client.ServiceClientFactory;
 import com.g1.mychess.player.dto.ReportEmailDTO;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -10,8 +11,8 @@ public class EmailServiceClient {
 
     private final WebClient webClient;
 
-    public EmailServiceClient(@Value("${email.service.url}") String emailServiceUrl, WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.baseUrl(emailServiceUrl).build();
+    public EmailServiceClient(@Value("${email.service.url}") String emailServiceUrl, ServiceClientFactory serviceClientFactory) {
+        this.webClient = serviceClientFactory.create("email", emailServiceUrl);
     }
 
     public String sendPlayerReportEmail(ReportEmailDTO reportEmailDTO) {
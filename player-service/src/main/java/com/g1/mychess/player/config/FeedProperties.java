@@ -0,0 +1,64 @@
+package com.g1.mychess.player.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Settings of the activity feed, bound from player.feed.*
+@ConfigurationProperties(prefix = "player.feed")
+public class FeedProperties {
+
+    // Events kept per feed; older ones drop out of the feed
+    private int inboxSize = 100;
+
+    // Feeds held in memory; the least recently read one is dropped first and reloaded from the database on its next read
+    private int maxInboxes = 50_000;
+
+    // Players with more followers than this are not fanned out to; their followers merge their events in when reading
+    private int fanOutLimit = 1000;
+
+    // Players above the fan-out limit whose latest events are held in memory; the least recently active one is dropped
+    // first and rebuilt from the database when next read or written
+    private int maxOutboxes = 1000;
+
+    // Days events are kept in the database
+    private int retentionDays = 30;
+
+    public int getInboxSize() {
+        return inboxSize;
+    }
+
+    public void setInboxSize(int inboxSize) {
+        this.inboxSize = inboxSize;
+    }
+
+    public int getMaxInboxes() {
+        return maxInboxes;
+    }
+
+    public void setMaxInboxes(int maxInboxes) {
+        this.maxInboxes = maxInboxes;
+    }
+
+    public int getFanOutLimit() {
+        return fanOutLimit;
+    }
+
+    public void setFanOutLimit(int fanOutLimit) {
+        this.fanOutLimit = fanOutLimit;
+    }
+
+    public int getMaxOutboxes() {
+        return maxOutboxes;
+    }
+
+    public void setMaxOutboxes(int maxOutboxes) {
+        this.maxOutboxes = maxOutboxes;
+    }
+
+    public int getRetentionDays() {
+        return retentionDays;
+    }
+
+    public void setRetentionDays(int retentionDays) {
+        this.retentionDays = retentionDays;
+    }
+}
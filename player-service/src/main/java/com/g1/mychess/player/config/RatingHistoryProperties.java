@@ -0,0 +1,54 @@
+package com.g1.mychess.player.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+// Settings of the rating history rollup and retention, bound from player.rating-history.*
+@ConfigurationProperties(prefix = "player.rating-history")
+public class RatingHistoryProperties {
+
+    // Days raw samples are kept after being rolled up into day, week and month buckets
+    private int rawRetentionDays = 30;
+
+    // Rows read and deleted per chunk; each chunk is its own short transaction
+    private int retentionChunkSize = 1000;
+
+    // Pause between two chunks, leaving the database to other work
+    private Duration retentionPause = Duration.ofMillis(100);
+
+    // A run stops after this long and the next run continues where it stopped
+    private Duration retentionMaxRunTime = Duration.ofMinutes(30);
+
+    public int getRawRetentionDays() {
+        return rawRetentionDays;
+    }
+
+    public void setRawRetentionDays(int rawRetentionDays) {
+        this.rawRetentionDays = rawRetentionDays;
+    }
+
+    public int getRetentionChunkSize() {
+        return retentionChunkSize;
+    }
+
+    public void setRetentionChunkSize(int retentionChunkSize) {
+        this.retentionChunkSize = retentionChunkSize;
+    }
+
+    public Duration getRetentionPause() {
+        return retentionPause;
+    }
+
+    public void setRetentionPause(Duration retentionPause) {
+        this.retentionPause = retentionPause;
+    }
+
+    public Duration getRetentionMaxRunTime() {
+        return retentionMaxRunTime;
+    }
+
+    public void setRetentionMaxRunTime(Duration retentionMaxRunTime) {
+        this.retentionMaxRunTime = retentionMaxRunTime;
+    }
+}
@@ -2,7 +2,7 @@ package com.g1.mychess.player.controller;
 
 import com.g1.mychess.player.dto.*;
 import com.g1.mychess.player.service.PlayerService;
-import com.g1.mychess.player.util.JwtUtil;
+import com.g1.mychess.security.JwtUtil;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
@@ -72,6 +72,12 @@ public class PlayerController {
         return ResponseEntity.ok(playerDTO);
     }
 
+    // Details of several players in one request, for callers that would otherwise fetch them one by one
+    @PostMapping("/details")
+    public ResponseEntity<List<PlayerDTO>> getPlayersWithDetails(@RequestBody List<Long> playerIds) {
+        return ResponseEntity.ok(playerService.getPlayersDetails(playerIds));
+    }
+
     @PostMapping("/reports")
     public ResponseEntity<String> reportPlayer(@RequestBody ReportPlayerRequestDTO reportPlayerRequestDTO) {
         return playerService.reportPlayer(reportPlayerRequestDTO);
@@ -114,6 +120,43 @@ public class PlayerController {
         return ResponseEntity.ok(following);
     }
 
+    // Keyset-paged lists: pass the returned nextCursor as the cursor of the next request
+    @GetMapping("/{playerId}/followers/scroll")
+    public ResponseEntity<FollowPageDTO> scrollFollowers(
+            @PathVariable Long playerId,
+            @RequestParam(defaultValue = "0") long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(playerService.getFollowersAfter(playerId, cursor, size));
+    }
+
+    @GetMapping("/{playerId}/following/scroll")
+    public ResponseEntity<FollowPageDTO> scrollFollowing(
+            @PathVariable Long playerId,
+            @RequestParam(defaultValue = "0") long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(playerService.getFollowedPlayersAfter(playerId, cursor, size));
+    }
+
+    @GetMapping("/{playerId}/follow-counts")
+    public ResponseEntity<FollowCountsDTO> getFollowCounts(@PathVariable Long playerId) {
+        return ResponseEntity.ok(playerService.getFollowCounts(playerId));
+    }
+
+    // Which of the given players the follower follows, for rendering follow buttons on a list
+    @PostMapping("/{followerId}/following/check")
+    public ResponseEntity<List<Long>> checkFollowing(@PathVariable Long followerId, @RequestBody List<Long> playerIds) {
+        return ResponseEntity.ok(playerService.getFollowedAmong(followerId, playerIds));
+    }
+
+    // What the players someone follows did, newest first: pass the returned nextCursor as the cursor of the next request
+    @GetMapping("/{playerId}/feed")
+    public ResponseEntity<FeedPageDTO> getFeed(
+            @PathVariable Long playerId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(playerService.getFeed(playerId, cursor, size));
+    }
+
     @GetMapping("/health")
     public ResponseEntity<String> healthCheck() {
         return ResponseEntity.ok("Service is up and running");
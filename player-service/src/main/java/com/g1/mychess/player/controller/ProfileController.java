@@ -1,24 +1,31 @@
 package com.g1.mychess.player.controller;
 
 import com.g1.mychess.player.dto.LeaderboardProfileDTO;
+import com.g1.mychess.player.dto.LeaderboardRankDTO;
 import com.g1.mychess.player.dto.PlayerProfileDTO;
 import com.g1.mychess.player.dto.PlayerProfileUpdateDTO;
 import com.g1.mychess.player.dto.PlayerRatingUpdateDTO;
 import com.g1.mychess.player.dto.PlayerRatingHistoryDTO;
+import com.g1.mychess.player.dto.PlayerRatingSeriesDTO;
 import com.g1.mychess.player.service.PlayerRatingHistoryService;
 import com.g1.mychess.player.service.ProfileService;
-import com.g1.mychess.player.util.JwtUtil;
+import com.g1.mychess.security.JwtUtil;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
+@Validated
 @RequestMapping("/api/v1/profile")
 public class ProfileController {
 
@@ -44,6 +51,13 @@ public class ProfileController {
         return ResponseEntity.status(HttpStatus.OK).build();
     }
 
+    // @Valid on the list itself would not reach its elements, so each one is validated through the element type
+    @PostMapping("/ratings")
+    public ResponseEntity<Void> updateProfileRatings(@RequestBody List<@Valid @NotNull PlayerRatingUpdateDTO> ratingUpdateDTOs) {
+        profileService.updateProfileRatings(ratingUpdateDTOs);
+        return ResponseEntity.status(HttpStatus.OK).build();
+    }
+
     @PutMapping("/{playerId}")
     public ResponseEntity<String> updatePlayerProfile(@Valid @PathVariable Long playerId, @RequestBody PlayerProfileUpdateDTO profileUpdateDTO) {
         return profileService.updatePlayerProfile(playerId, profileUpdateDTO);
@@ -54,9 +68,28 @@ public class ProfileController {
         return playerRatingHistoryService.getPlayerRatingHistory(playerId);
     }
 
+    // Rating chart data as arrays, by default the last year at daily resolution
+    @GetMapping("/rating-history/{playerId}/series")
+    public ResponseEntity<PlayerRatingSeriesDTO> getPlayerRatingSeries(@PathVariable Long playerId,
+                                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                       @RequestParam(defaultValue = "day") String resolution) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        return ResponseEntity.ok(playerRatingHistoryService.getPlayerRatingSeries(playerId, start, end, resolution));
+    }
+
     @GetMapping("/leaderboard")
-    public ResponseEntity<List<LeaderboardProfileDTO>> getLeaderboard() {
-        return ResponseEntity.ok(profileService.getLeaderboard());
+    public ResponseEntity<List<LeaderboardProfileDTO>> getLeaderboard(@RequestParam(defaultValue = "0") int offset,
+                                                                      @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(profileService.getLeaderboard(offset, limit));
+    }
+
+    // A player's position on the leaderboard, with the players ranked around them
+    @GetMapping("/leaderboard/rank/{playerId}")
+    public ResponseEntity<LeaderboardRankDTO> getLeaderboardRank(@PathVariable Long playerId,
+                                                                 @RequestParam(defaultValue = "5") int radius) {
+        return ResponseEntity.ok(profileService.getLeaderboardRank(playerId, radius));
     }
 
 }
@@ -0,0 +1,68 @@
+package com.g1.mychess.player.dto;
+
+import com.g1.mychess.player.model.FeedEvent;
+
+import java.time.LocalDateTime;
+
+// One feed entry. Instances are shared by every feed holding them and are never modified.
+public class FeedEventDTO {
+    private final Long id;
+    private final Long playerId;
+    private final String username;
+    private final FeedEvent.Type type;
+    private final Long tournamentId;
+    private final double oldRating;
+    private final double newRating;
+    private final LocalDateTime createdAt;
+
+    public FeedEventDTO(Long id, Long playerId, String username, FeedEvent.Type type, Long tournamentId,
+                        double oldRating, double newRating, LocalDateTime createdAt) {
+        this.id = id;
+        this.playerId = playerId;
+        this.username = username;
+        this.type = type;
+        this.tournamentId = tournamentId;
+        this.oldRating = oldRating;
+        this.newRating = newRating;
+        this.createdAt = createdAt;
+    }
+
+    public static FeedEventDTO of(FeedEvent event) {
+        return new FeedEventDTO(event.getId(), event.getPlayerId(), event.getUsername(), event.getType(),
+                event.getTournamentId(), event.getOldRating(), event.getNewRating(), event.getCreatedAt());
+    }
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public FeedEvent.Type getType() {
+        return type;
+    }
+
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    public double getOldRating() {
+        return oldRating;
+    }
+
+    public double getNewRating() {
+        return newRating;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,36 @@
+package com.g1.mychess.player.dto;
+
+import java.util.List;
+
+// One page of a feed, newest first. nextCursor is passed as the cursor of the next request and is null on the
+// last page.
+public class FeedPageDTO {
+    private List<FeedEventDTO> events;
+    private Long nextCursor;
+
+    public FeedPageDTO() {
+    }
+
+    public FeedPageDTO(List<FeedEventDTO> events, Long nextCursor) {
+        this.events = events;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+
+    public List<FeedEventDTO> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<FeedEventDTO> events) {
+        this.events = events;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,42 @@
+package com.g1.mychess.player.dto;
+
+public class FollowCountsDTO {
+    private Long playerId;
+    private long followers;
+    private long following;
+
+    public FollowCountsDTO() {
+    }
+
+    public FollowCountsDTO(Long playerId, long followers, long following) {
+        this.playerId = playerId;
+        this.followers = followers;
+        this.following = following;
+    }
+
+    // Getters and Setters
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+
+    public long getFollowers() {
+        return followers;
+    }
+
+    public void setFollowers(long followers) {
+        this.followers = followers;
+    }
+
+    public long getFollowing() {
+        return following;
+    }
+
+    public void setFollowing(long following) {
+        this.following = following;
+    }
+}
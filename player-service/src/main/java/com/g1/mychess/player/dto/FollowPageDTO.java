@@ -0,0 +1,46 @@
+package com.g1.mychess.player.dto;
+
+import java.util.List;
+
+// One page of a follower or following list. nextCursor is passed as the cursor of the next request and is null on
+// the last page; total comes from the player's follow counter.
+public class FollowPageDTO {
+    private List<PlayerDTO> players;
+    private Long nextCursor;
+    private long total;
+
+    public FollowPageDTO() {
+    }
+
+    public FollowPageDTO(List<PlayerDTO> players, Long nextCursor, long total) {
+        this.players = players;
+        this.nextCursor = nextCursor;
+        this.total = total;
+    }
+
+    // Getters and Setters
+
+    public List<PlayerDTO> getPlayers() {
+        return players;
+    }
+
+    public void setPlayers(List<PlayerDTO> players) {
+        this.players = players;
+    }
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+}
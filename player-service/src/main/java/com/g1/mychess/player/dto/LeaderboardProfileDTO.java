@@ -4,6 +4,7 @@ import com.g1.mychess.player.model.CustomChessRank;
 
 public class LeaderboardProfileDTO {
 
+    private int position;
     private Long playerId;
     private String username;
     private CustomChessRank rank;
@@ -19,7 +20,20 @@ public class LeaderboardProfileDTO {
         this.glickoRating = glickoRating;
     }
 
+    public LeaderboardProfileDTO(int position, Long playerId, String username, CustomChessRank rank, String country, double glickoRating) {
+        this(playerId, username, rank, country, glickoRating);
+        this.position = position;
+    }
+
     // Getters and Setters
+    public int getPosition() {
+        return position;
+    }
+
+    public void setPosition(int position) {
+        this.position = position;
+    }
+
     public Long getPlayerId() {
         return playerId;
     }
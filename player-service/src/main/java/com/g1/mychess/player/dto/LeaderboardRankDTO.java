@@ -0,0 +1,53 @@
+package com.g1.mychess.player.dto;
+
+import java.util.List;
+
+public class LeaderboardRankDTO {
+
+    private Long playerId;
+    private int position;
+    private int totalPlayers;
+    // Players ranked just above and below the player, including the player
+    private List<LeaderboardProfileDTO> neighbourhood;
+
+    // Constructor
+    public LeaderboardRankDTO(Long playerId, int position, int totalPlayers, List<LeaderboardProfileDTO> neighbourhood) {
+        this.playerId = playerId;
+        this.position = position;
+        this.totalPlayers = totalPlayers;
+        this.neighbourhood = neighbourhood;
+    }
+
+    // Getters and Setters
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public void setPosition(int position) {
+        this.position = position;
+    }
+
+    public int getTotalPlayers() {
+        return totalPlayers;
+    }
+
+    public void setTotalPlayers(int totalPlayers) {
+        this.totalPlayers = totalPlayers;
+    }
+
+    public List<LeaderboardProfileDTO> getNeighbourhood() {
+        return neighbourhood;
+    }
+
+    public void setNeighbourhood(List<LeaderboardProfileDTO> neighbourhood) {
+        this.neighbourhood = neighbourhood;
+    }
+}
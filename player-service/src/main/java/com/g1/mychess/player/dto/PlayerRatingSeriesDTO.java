@@ -0,0 +1,94 @@
+package com.g1.mychess.player.dto;
+
+// A player's rating history as parallel arrays, one element per bucket (or per sample at the RAW resolution).
+// Timestamps are the start of each bucket in epoch milliseconds.
+public class PlayerRatingSeriesDTO {
+    private Long playerId;
+    private String resolution;
+    private long[] timestamps;
+    private double[] ratings;        // Last rating of each bucket
+    private double[] minRatings;
+    private double[] maxRatings;
+    private double[] ratingDeviations;
+    private int[] samples;
+
+    public PlayerRatingSeriesDTO() {
+    }
+
+    public PlayerRatingSeriesDTO(Long playerId, String resolution, int size) {
+        this.playerId = playerId;
+        this.resolution = resolution;
+        this.timestamps = new long[size];
+        this.ratings = new double[size];
+        this.minRatings = new double[size];
+        this.maxRatings = new double[size];
+        this.ratingDeviations = new double[size];
+        this.samples = new int[size];
+    }
+
+    // Getters and Setters
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+
+    public String getResolution() {
+        return resolution;
+    }
+
+    public void setResolution(String resolution) {
+        this.resolution = resolution;
+    }
+
+    public long[] getTimestamps() {
+        return timestamps;
+    }
+
+    public void setTimestamps(long[] timestamps) {
+        this.timestamps = timestamps;
+    }
+
+    public double[] getRatings() {
+        return ratings;
+    }
+
+    public void setRatings(double[] ratings) {
+        this.ratings = ratings;
+    }
+
+    public double[] getMinRatings() {
+        return minRatings;
+    }
+
+    public void setMinRatings(double[] minRatings) {
+        this.minRatings = minRatings;
+    }
+
+    public double[] getMaxRatings() {
+        return maxRatings;
+    }
+
+    public void setMaxRatings(double[] maxRatings) {
+        this.maxRatings = maxRatings;
+    }
+
+    public double[] getRatingDeviations() {
+        return ratingDeviations;
+    }
+
+    public void setRatingDeviations(double[] ratingDeviations) {
+        this.ratingDeviations = ratingDeviations;
+    }
+
+    public int[] getSamples() {
+        return samples;
+    }
+
+    public void setSamples(int[] samples) {
+        this.samples = samples;
+    }
+}
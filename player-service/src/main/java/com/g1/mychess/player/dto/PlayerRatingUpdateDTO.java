@@ -1,10 +1,15 @@
 package com.g1.mychess.player.dto;
 
+import jakarta.validation.constraints.NotNull;
+
 public class PlayerRatingUpdateDTO {
+    @NotNull
     private Long playerId;
     private double glickoRating;
     private double ratingDeviation;
     private double volatility;
+    // Set when the update is the result of a tournament
+    private Long tournamentId;
 
     // Constructors, Getters, and Setters
     public PlayerRatingUpdateDTO(Long playerId, double glickoRating, double ratingDeviation, double volatility) {
@@ -30,4 +35,8 @@ public class PlayerRatingUpdateDTO {
     public double getVolatility() { return volatility; }
 
     public void setVolatility(double volatility) { this.volatility = volatility; }
+
+    public Long getTournamentId() { return tournamentId; }
+
+    public void setTournamentId(Long tournamentId) { this.tournamentId = tournamentId; }
 }
@@ -0,0 +1,28 @@
+package com.g1.mychess.player.dto;
+
+import java.time.LocalDateTime;
+
+// Key columns of a rating history row, enough for the retention job to decide whether to delete it
+public class RatingHistoryRowDTO {
+    private final Long id;
+    private final Long playerId;
+    private final LocalDateTime date;
+
+    public RatingHistoryRowDTO(Long id, Long playerId, LocalDateTime date) {
+        this.id = id;
+        this.playerId = playerId;
+        this.date = date;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+}
@@ -0,0 +1,40 @@
+package com.g1.mychess.player.dto;
+
+import java.time.LocalDateTime;
+
+// One raw rating sample, read without loading the PlayerRatingHistory entity or its player
+public class RatingSampleDTO {
+    private final Long playerId;
+    private final LocalDateTime date;
+    private final double glickoRating;
+    private final double ratingDeviation;
+    private final double volatility;
+
+    public RatingSampleDTO(Long playerId, LocalDateTime date, double glickoRating, double ratingDeviation, double volatility) {
+        this.playerId = playerId;
+        this.date = date;
+        this.glickoRating = glickoRating;
+        this.ratingDeviation = ratingDeviation;
+        this.volatility = volatility;
+    }
+
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public double getGlickoRating() {
+        return glickoRating;
+    }
+
+    public double getRatingDeviation() {
+        return ratingDeviation;
+    }
+
+    public double getVolatility() {
+        return volatility;
+    }
+}
@@ -0,0 +1,7 @@
+package com.g1.mychess.player.exception;
+
+public class AlreadyFollowingException extends RuntimeException {
+    public AlreadyFollowingException(String message) {
+        super(message);
+    }
+}
@@ -1,22 +1,25 @@
 package com.g1.mychess.player.mapper;
 
 import com.g1.mychess.player.dto.LeaderboardProfileDTO;
-import com.g1.mychess.player.model.Profile;
+import com.g1.mychess.player.service.impl.LeaderboardIndex;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class ProfileMapper {
 
-    // Mapper function to convert List of Profiles to List of LeaderboardProfileDTO
-    public static List<LeaderboardProfileDTO> toLeaderboardProfileDTOList(List<Profile> profiles) {
-        return profiles.stream()
-                .map(profile -> new LeaderboardProfileDTO(
-                        profile.getPlayerId(),
-                        profile.getPlayer() != null ? profile.getPlayer().getUsername() : "",
-                        profile.getRank(),
-                        profile.getCountry(),
-                        profile.getGlickoRating()))
-                .collect(Collectors.toList());
+    // Mapper function to convert a page of leaderboard entries, starting at 0-based offset, to LeaderboardProfileDTOs
+    public static List<LeaderboardProfileDTO> toLeaderboardProfileDTOList(List<LeaderboardIndex.Entry> entries, int offset) {
+        List<LeaderboardProfileDTO> profiles = new ArrayList<>(entries.size());
+        for (LeaderboardIndex.Entry entry : entries) {
+            profiles.add(new LeaderboardProfileDTO(
+                    offset + profiles.size() + 1,
+                    entry.getPlayerId(),
+                    entry.getUsername(),
+                    entry.getRank(),
+                    entry.getCountry(),
+                    entry.getGlickoRating()));
+        }
+        return profiles;
     }
 }
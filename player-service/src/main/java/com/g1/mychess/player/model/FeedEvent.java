@@ -0,0 +1,102 @@
+package com.g1.mychess.player.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+// Something a player did that their followers see in their feed: a rating change after a match, or the rating a
+// tournament ended with. Rows are flat and carry the username, so a feed page is read without joining players,
+// profiles or matches. Ids grow with time and order the feed.
+@Entity
+@Table(name = "feed_events",
+        indexes = {
+                @Index(name = "idx_feed_event_player", columnList = "player_id, id"),
+                @Index(name = "idx_feed_event_created", columnList = "created_at")
+        })
+public class FeedEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(name = "player_id", nullable = false)
+    private Long playerId;
+
+    @NotNull
+    @Column(name = "username", nullable = false)
+    private String username;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 32)
+    private Type type;
+
+    // Only set for tournament results
+    @Column(name = "tournament_id")
+    private Long tournamentId;
+
+    @Column(name = "old_rating", nullable = false)
+    private double oldRating;
+
+    @Column(name = "new_rating", nullable = false)
+    private double newRating;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public enum Type {
+        RATING_CHANGE,
+        TOURNAMENT_RESULT
+    }
+
+    public FeedEvent() {
+    }
+
+    public FeedEvent(Long playerId, String username, Type type, Long tournamentId,
+                     double oldRating, double newRating, LocalDateTime createdAt) {
+        this.playerId = playerId;
+        this.username = username;
+        this.type = type;
+        this.tournamentId = tournamentId;
+        this.oldRating = oldRating;
+        this.newRating = newRating;
+        this.createdAt = createdAt;
+    }
+
+    // Getters and Setters
+
+    public Long getId() { return id; }
+
+    public void setId(Long id) { this.id = id; }
+
+    public Long getPlayerId() { return playerId; }
+
+    public void setPlayerId(Long playerId) { this.playerId = playerId; }
+
+    public String getUsername() { return username; }
+
+    public void setUsername(String username) { this.username = username; }
+
+    public Type getType() { return type; }
+
+    public void setType(Type type) { this.type = type; }
+
+    public Long getTournamentId() { return tournamentId; }
+
+    public void setTournamentId(Long tournamentId) { this.tournamentId = tournamentId; }
+
+    public double getOldRating() { return oldRating; }
+
+    public void setOldRating(double oldRating) { this.oldRating = oldRating; }
+
+    public double getNewRating() { return newRating; }
+
+    public void setNewRating(double newRating) { this.newRating = newRating; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -1,57 +1,56 @@
 package com.g1.mychess.player.model;
 
 import jakarta.persistence.*;
+import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.Objects;
 
+// One edge of the follow graph, keyed by (follower, followed) so that a player's followed players are a range of
+// the primary key and their followers a range of idx_follow_followed, without loading either player.
+// The unique constraint keeps pairs unique on databases created before the composite key, whose primary key is
+// still the old id column.
 @Entity
+@Table(name = "follow",
+        uniqueConstraints = @UniqueConstraint(name = "uk_follow_pair", columnNames = {"follower_id", "followed_id"}),
+        indexes = @Index(name = "idx_follow_followed", columnList = "followed_id, follower_id"))
+@IdClass(Follow.Key.class)
 public class Follow {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @Column(name = "follower_id", nullable = false)
+    private Long followerId;
 
-    @ManyToOne
-    @JoinColumn(name = "follower_id", nullable = false)
-    private Player follower;
-
-    @ManyToOne
-    @JoinColumn(name = "followed_id", nullable = false)
-    private Player followed;
+    @Id
+    @Column(name = "followed_id", nullable = false)
+    private Long followedId;
 
+    @Column(name = "follow_date")
     private LocalDateTime followDate;
 
     // Constructors, getters, setters
     public Follow() {}
 
-    public Follow(Player follower, Player followed) {
-        this.follower = follower;
-        this.followed = followed;
+    public Follow(Long followerId, Long followedId) {
+        this.followerId = followerId;
+        this.followedId = followedId;
         this.followDate = LocalDateTime.now();
     }
 
     // Getters and setters
-    public Long getId() {
-        return id;
-    }
-
-    public void setId(Long id) {
-        this.id = id;
-    }
-
-    public Player getFollower() {
-        return follower;
+    public Long getFollowerId() {
+        return followerId;
     }
 
-    public void setFollower(Player follower) {
-        this.follower = follower;
+    public void setFollowerId(Long followerId) {
+        this.followerId = followerId;
     }
 
-    public Player getFollowed() {
-        return followed;
+    public Long getFollowedId() {
+        return followedId;
     }
 
-    public void setFollowed(Player followed) {
-        this.followed = followed;
+    public void setFollowedId(Long followedId) {
+        this.followedId = followedId;
     }
 
     public LocalDateTime getFollowDate() {
@@ -61,4 +60,28 @@ public class Follow {
     public void setFollowDate(LocalDateTime followDate) {
         this.followDate = followDate;
     }
+
+    public static class Key implements Serializable {
+        private Long followerId;
+        private Long followedId;
+
+        public Key() {}
+
+        public Key(Long followerId, Long followedId) {
+            this.followerId = followerId;
+            this.followedId = followedId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(followerId, key.followerId) && Objects.equals(followedId, key.followedId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(followerId, followedId);
+        }
+    }
 }
@@ -50,6 +50,14 @@ public class Player {
     @OneToMany(mappedBy = "player", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<PlayerRatingHistory> ratingHistory;
 
+    // Follow counts, changed only by the updates in PlayerRepository so that saving a stale copy of the player
+    // cannot overwrite them
+    @Column(name = "follower_count", nullable = false, updatable = false)
+    private long followerCount = 0;
+
+    @Column(name = "following_count", nullable = false, updatable = false)
+    private long followingCount = 0;
+
     // Getters and Setters
 
     public Long getPlayerId() {
@@ -131,4 +139,20 @@ public class Player {
     public void setRatingHistory(List<PlayerRatingHistory> ratingHistory) {
         this.ratingHistory = ratingHistory;
     }
+
+    public long getFollowerCount() {
+        return followerCount;
+    }
+
+    public void setFollowerCount(long followerCount) {
+        this.followerCount = followerCount;
+    }
+
+    public long getFollowingCount() {
+        return followingCount;
+    }
+
+    public void setFollowingCount(long followingCount) {
+        this.followingCount = followingCount;
+    }
 }
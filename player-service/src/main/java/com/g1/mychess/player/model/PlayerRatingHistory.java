@@ -6,7 +6,12 @@ import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "player_rating_history")
+// Append-only rating samples. The (player_id, date) index serves a player's range scans, the (date, id) index the
+// nightly rollup and the retention job's keyset walk over the expired rows
+@Table(name = "player_rating_history", indexes = {
+        @Index(name = "idx_rating_history_player_date", columnList = "player_id, date"),
+        @Index(name = "idx_rating_history_date_id", columnList = "date, id")
+})
 public class PlayerRatingHistory {
 
     @Id
@@ -0,0 +1,138 @@
+package com.g1.mychess.player.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+// A player's ratings over one day, week or month, downsampled from player_rating_history.
+// Rows are flat (no association to Player) so that a long chart is a single range scan of the unique index.
+@Entity
+@Table(name = "player_rating_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_rating_rollup_player_bucket",
+                columnNames = {"player_id", "resolution", "bucket_start"}),
+        indexes = @Index(name = "idx_rating_rollup_bucket", columnList = "resolution, bucket_start"))
+public class PlayerRatingRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(name = "player_id", nullable = false)
+    private Long playerId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resolution", nullable = false, length = 8)
+    private Resolution resolution;
+
+    @NotNull
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    // First and last rating of the bucket, and its extremes
+    @Column(name = "open_rating", nullable = false)
+    private double openRating;
+
+    @Column(name = "close_rating", nullable = false)
+    private double closeRating;
+
+    @Column(name = "min_rating", nullable = false)
+    private double minRating;
+
+    @Column(name = "max_rating", nullable = false)
+    private double maxRating;
+
+    // Deviation and volatility of the last rating of the bucket
+    @Column(name = "rating_deviation", nullable = false)
+    private double ratingDeviation;
+
+    @Column(name = "volatility", nullable = false)
+    private double volatility;
+
+    @Column(name = "samples", nullable = false)
+    private int samples;
+
+    public enum Resolution {
+        DAY,
+        WEEK,   // Starting on Monday
+        MONTH;
+
+        public LocalDate bucketStart(LocalDate date) {
+            return switch (this) {
+                case DAY -> date;
+                case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> date.withDayOfMonth(1);
+            };
+        }
+    }
+
+    public PlayerRatingRollup() {
+    }
+
+    public PlayerRatingRollup(Long playerId, Resolution resolution, LocalDate bucketStart) {
+        this.playerId = playerId;
+        this.resolution = resolution;
+        this.bucketStart = bucketStart;
+    }
+
+    // Copies the aggregated values of another rollup of the same bucket
+    public void copyValuesFrom(PlayerRatingRollup other) {
+        this.openRating = other.openRating;
+        this.closeRating = other.closeRating;
+        this.minRating = other.minRating;
+        this.maxRating = other.maxRating;
+        this.ratingDeviation = other.ratingDeviation;
+        this.volatility = other.volatility;
+        this.samples = other.samples;
+    }
+
+    // Getters and Setters
+
+    public Long getId() { return id; }
+
+    public void setId(Long id) { this.id = id; }
+
+    public Long getPlayerId() { return playerId; }
+
+    public void setPlayerId(Long playerId) { this.playerId = playerId; }
+
+    public Resolution getResolution() { return resolution; }
+
+    public void setResolution(Resolution resolution) { this.resolution = resolution; }
+
+    public LocalDate getBucketStart() { return bucketStart; }
+
+    public void setBucketStart(LocalDate bucketStart) { this.bucketStart = bucketStart; }
+
+    public double getOpenRating() { return openRating; }
+
+    public void setOpenRating(double openRating) { this.openRating = openRating; }
+
+    public double getCloseRating() { return closeRating; }
+
+    public void setCloseRating(double closeRating) { this.closeRating = closeRating; }
+
+    public double getMinRating() { return minRating; }
+
+    public void setMinRating(double minRating) { this.minRating = minRating; }
+
+    public double getMaxRating() { return maxRating; }
+
+    public void setMaxRating(double maxRating) { this.maxRating = maxRating; }
+
+    public double getRatingDeviation() { return ratingDeviation; }
+
+    public void setRatingDeviation(double ratingDeviation) { this.ratingDeviation = ratingDeviation; }
+
+    public double getVolatility() { return volatility; }
+
+    public void setVolatility(double volatility) { this.volatility = volatility; }
+
+    public int getSamples() { return samples; }
+
+    public void setSamples(int samples) { this.samples = samples; }
+}
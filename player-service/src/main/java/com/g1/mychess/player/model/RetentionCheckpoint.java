@@ -0,0 +1,66 @@
+package com.g1.mychess.player.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// Progress of a chunked retention job, so that a run stopped by its time budget or a restart resumes
+// after the last row it processed instead of scanning from the start again
+@Entity
+@Table(name = "retention_checkpoints")
+public class RetentionCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 64)
+    private String jobName;
+
+    // Keyset cursor: every row up to (lastDate, lastId) has been processed in the current pass
+    @Column(name = "last_date")
+    private LocalDateTime lastDate;
+
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+
+    @Column(name = "cutoff")
+    private LocalDateTime cutoff;
+
+    // Whether the last pass reached the end; the next run then starts a new pass from the first row
+    @Column(name = "completed", nullable = false)
+    private boolean completed = true;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public RetentionCheckpoint() {
+    }
+
+    public RetentionCheckpoint(String jobName) {
+        this.jobName = jobName;
+    }
+
+    // Getters and Setters
+
+    public String getJobName() { return jobName; }
+
+    public void setJobName(String jobName) { this.jobName = jobName; }
+
+    public LocalDateTime getLastDate() { return lastDate; }
+
+    public void setLastDate(LocalDateTime lastDate) { this.lastDate = lastDate; }
+
+    public long getLastId() { return lastId; }
+
+    public void setLastId(long lastId) { this.lastId = lastId; }
+
+    public LocalDateTime getCutoff() { return cutoff; }
+
+    public void setCutoff(LocalDateTime cutoff) { this.cutoff = cutoff; }
+
+    public boolean isCompleted() { return completed; }
+
+    public void setCompleted(boolean completed) { this.completed = completed; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
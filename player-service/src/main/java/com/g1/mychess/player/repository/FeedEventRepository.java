@@ -0,0 +1,31 @@
+package com.g1.mychess.player.repository;
+
+import com.g1.mychess.player.model.FeedEvent;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FeedEventRepository extends JpaRepository<FeedEvent, Long> {
+
+    // Latest events of a player, a backward range scan of idx_feed_event_player
+    @Query("SELECT e FROM FeedEvent e WHERE e.playerId = :playerId ORDER BY e.id DESC")
+    List<FeedEvent> findLatestByPlayerId(@Param("playerId") Long playerId, Pageable pageable);
+
+    // Latest events of everyone a player follows. Only used to fill a feed that is not in memory yet,
+    // every later read of that feed is served from memory.
+    @Query("SELECT e FROM FeedEvent e WHERE e.playerId IN " +
+            "(SELECT f.followedId FROM Follow f WHERE f.followerId = :followerId) ORDER BY e.id DESC")
+    List<FeedEvent> findLatestOfFollowed(@Param("followerId") Long followerId, Pageable pageable);
+
+    // Deletes up to limit expired events, each call its own short transaction
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM feed_events WHERE created_at < :cutoff LIMIT :limit", nativeQuery = true)
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
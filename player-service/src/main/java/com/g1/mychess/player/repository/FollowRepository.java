@@ -1,15 +1,45 @@
 package com.g1.mychess.player.repository;
 
 import com.g1.mychess.player.model.Follow;
-import com.g1.mychess.player.model.Player;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
-public interface FollowRepository extends JpaRepository<Follow, Long> {
-    Page<Follow> findByFollower(Player follower, Pageable pageable);
-    Page<Follow> findByFollowed(Player followed, Pageable pageable);
-    Optional<Follow> findByFollowerAndFollowed(Player follower, Player followed);
+public interface FollowRepository extends JpaRepository<Follow, Follow.Key> {
+
+    // Plain insert, so that an existing pair fails on the key instead of being merged
+    @Modifying
+    @Query(value = "INSERT INTO follow (follower_id, followed_id, follow_date) VALUES (:followerId, :followedId, :followDate)",
+            nativeQuery = true)
+    int insert(@Param("followerId") Long followerId,
+               @Param("followedId") Long followedId,
+               @Param("followDate") LocalDateTime followDate);
+
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.followerId = :followerId AND f.followedId = :followedId")
+    int deletePair(@Param("followerId") Long followerId, @Param("followedId") Long followedId);
+
+    // Next followers of a player after the keyset cursor, a range scan of idx_follow_followed
+    @Query("SELECT f.followerId FROM Follow f WHERE f.followedId = :playerId AND f.followerId > :afterId ORDER BY f.followerId")
+    List<Long> findFollowerIdsAfter(@Param("playerId") Long playerId, @Param("afterId") long afterId, Pageable pageable);
+
+    // Next players followed by a player after the keyset cursor, a range scan of the primary key
+    @Query("SELECT f.followedId FROM Follow f WHERE f.followerId = :playerId AND f.followedId > :afterId ORDER BY f.followedId")
+    List<Long> findFollowedIdsAfter(@Param("playerId") Long playerId, @Param("afterId") long afterId, Pageable pageable);
+
+    // Players the follower follows that have more followers than the limit, a range scan of the primary key
+    // joined to the followed players' counters
+    @Query("SELECT f.followedId FROM Follow f, Player p " +
+            "WHERE f.followerId = :followerId AND p.playerId = f.followedId AND p.followerCount > :limit")
+    List<Long> findFollowedIdsWithMoreFollowersThan(@Param("followerId") Long followerId, @Param("limit") long limit);
+
+    // Which of the given players the follower follows, one key lookup each
+    @Query("SELECT f.followedId FROM Follow f WHERE f.followerId = :followerId AND f.followedId IN :playerIds")
+    List<Long> findFollowedIdsIn(@Param("followerId") Long followerId, @Param("playerIds") Collection<Long> playerIds);
 }
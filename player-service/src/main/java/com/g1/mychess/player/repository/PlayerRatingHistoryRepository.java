@@ -1,7 +1,11 @@
 package com.g1.mychess.player.repository;
 
+import com.g1.mychess.player.dto.PlayerRatingHistoryDTO;
+import com.g1.mychess.player.dto.RatingHistoryRowDTO;
+import com.g1.mychess.player.dto.RatingSampleDTO;
 import com.g1.mychess.player.model.PlayerRatingHistory;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,6 +13,8 @@ import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,15 +23,53 @@ public interface PlayerRatingHistoryRepository extends JpaRepository<PlayerRatin
 	@Query("SELECT prh FROM PlayerRatingHistory prh WHERE prh.player.playerId = :playerId ORDER BY prh.date DESC")
 	Optional<PlayerRatingHistory> findLatestRatingByPlayerId(@Param("playerId") Long playerId);
 
-	// Query to delete ratings older than 7 days except the latest
+	@Query("SELECT new com.g1.mychess.player.dto.PlayerRatingHistoryDTO(prh.id, prh.player.playerId, prh.glickoRating, " +
+			"prh.ratingDeviation, prh.volatility, prh.date) " +
+			"FROM PlayerRatingHistory prh WHERE prh.player.playerId = :playerId ORDER BY prh.date")
+	List<PlayerRatingHistoryDTO> findHistoryByPlayerId(@Param("playerId") Long playerId);
+
+	// A player's samples in [from, to), a range scan of the (player_id, date) index
+	@Query("SELECT new com.g1.mychess.player.dto.RatingSampleDTO(prh.player.playerId, prh.date, prh.glickoRating, " +
+			"prh.ratingDeviation, prh.volatility) " +
+			"FROM PlayerRatingHistory prh " +
+			"WHERE prh.player.playerId = :playerId AND prh.date >= :from AND prh.date < :to ORDER BY prh.date")
+	List<RatingSampleDTO> findSamplesByPlayerId(@Param("playerId") Long playerId,
+												@Param("from") LocalDateTime from,
+												@Param("to") LocalDateTime to);
+
+	// All players' samples in [from, to), grouped by player, for the nightly rollup
+	@Query("SELECT new com.g1.mychess.player.dto.RatingSampleDTO(prh.player.playerId, prh.date, prh.glickoRating, " +
+			"prh.ratingDeviation, prh.volatility) " +
+			"FROM PlayerRatingHistory prh " +
+			"WHERE prh.date >= :from AND prh.date < :to ORDER BY prh.player.playerId, prh.date")
+	List<RatingSampleDTO> findSamplesBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+	@Query("SELECT MIN(prh.date) FROM PlayerRatingHistory prh")
+	Optional<LocalDateTime> findEarliestDate();
+
+	// First chunk of rows older than the cutoff, oldest first, a range scan of the (date, id) index
+	@Query("SELECT new com.g1.mychess.player.dto.RatingHistoryRowDTO(prh.id, prh.player.playerId, prh.date) " +
+			"FROM PlayerRatingHistory prh WHERE prh.date < :cutoff ORDER BY prh.date, prh.id")
+	List<RatingHistoryRowDTO> findExpired(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+	// Next chunk of rows older than the cutoff after the (date, id) keyset cursor; the scan of the (date, id) index
+	// starts at the cursor and ends at the cutoff, so it only reads expired rows
+	@Query("SELECT new com.g1.mychess.player.dto.RatingHistoryRowDTO(prh.id, prh.player.playerId, prh.date) " +
+			"FROM PlayerRatingHistory prh " +
+			"WHERE prh.date >= :afterDate AND prh.date < :cutoff " +
+			"AND (prh.date > :afterDate OR prh.id > :afterId) " +
+			"ORDER BY prh.date, prh.id")
+	List<RatingHistoryRowDTO> findExpiredAfter(@Param("afterDate") LocalDateTime afterDate,
+											   @Param("afterId") long afterId,
+											   @Param("cutoff") LocalDateTime cutoff,
+											   Pageable pageable);
+
+	// The latest row of each given player, which the retention job keeps
+	@Query("SELECT MAX(prh.id) FROM PlayerRatingHistory prh WHERE prh.player.playerId IN :playerIds GROUP BY prh.player.playerId")
+	List<Long> findLatestIds(@Param("playerIds") Collection<Long> playerIds);
+
 	@Modifying
 	@Transactional
-	@Query(value = "DELETE FROM player_rating_history " +
-			"WHERE date < NOW() - INTERVAL 7 DAY " +
-			"AND id NOT IN (" +
-			"   SELECT * FROM (SELECT MAX(id) " +
-			"                 FROM player_rating_history " +
-			"                 GROUP BY player_id) as latest)",
-			nativeQuery = true)
-	void deleteOldRatingHistories();
+	@Query("DELETE FROM PlayerRatingHistory prh WHERE prh.id IN :ids")
+	int deleteByIds(@Param("ids") Collection<Long> ids);
 }
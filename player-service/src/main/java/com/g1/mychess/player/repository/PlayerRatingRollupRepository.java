@@ -0,0 +1,37 @@
+package com.g1.mychess.player.repository;
+
+import com.g1.mychess.player.model.PlayerRatingRollup;
+import com.g1.mychess.player.model.PlayerRatingRollup.Resolution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PlayerRatingRollupRepository extends JpaRepository<PlayerRatingRollup, Long> {
+
+    // A player's buckets in [from, to], a range scan of the (player_id, resolution, bucket_start) index
+    @Query("SELECT r FROM PlayerRatingRollup r WHERE r.playerId = :playerId AND r.resolution = :resolution " +
+            "AND r.bucketStart >= :from AND r.bucketStart <= :to ORDER BY r.bucketStart")
+    List<PlayerRatingRollup> findSeries(@Param("playerId") Long playerId,
+                                        @Param("resolution") Resolution resolution,
+                                        @Param("from") LocalDate from,
+                                        @Param("to") LocalDate to);
+
+    // The given players' buckets in [from, to], grouped by player
+    @Query("SELECT r FROM PlayerRatingRollup r WHERE r.playerId IN :playerIds AND r.resolution = :resolution " +
+            "AND r.bucketStart >= :from AND r.bucketStart <= :to ORDER BY r.playerId, r.bucketStart")
+    List<PlayerRatingRollup> findBuckets(@Param("playerIds") Collection<Long> playerIds,
+                                         @Param("resolution") Resolution resolution,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+
+    // The last day rolled up; samples after it are only in player_rating_history
+    @Query("SELECT MAX(r.bucketStart) FROM PlayerRatingRollup r WHERE r.resolution = :resolution")
+    Optional<LocalDate> findLastBucketStart(@Param("resolution") Resolution resolution);
+}
@@ -1,10 +1,13 @@
 package com.g1.mychess.player.repository;
 
+import com.g1.mychess.player.dto.FollowCountsDTO;
 import com.g1.mychess.player.model.Player;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,5 +26,28 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
     // Check if a player already exists by username
     boolean existsByUsername(String username);
 
-    Page<Player> findByUsernameContainingIgnoreCase(String query, Pageable pageable);
+    // Find players with their profiles in one query; the profile side of the one-to-one would otherwise load per player
+    @Query("SELECT p FROM Player p LEFT JOIN FETCH p.profile WHERE p.playerId IN :playerIds")
+    List<Player> findAllWithProfileByPlayerIdIn(@Param("playerIds") Collection<Long> playerIds);
+
+    @Query("SELECT new com.g1.mychess.player.dto.FollowCountsDTO(p.playerId, p.followerCount, p.followingCount) " +
+            "FROM Player p WHERE p.playerId = :playerId")
+    Optional<FollowCountsDTO> findFollowCounts(@Param("playerId") Long playerId);
+
+    // Counter updates return 0 if the player does not exist
+    @Modifying
+    @Query(value = "UPDATE players SET follower_count = follower_count + :delta WHERE player_id = :playerId", nativeQuery = true)
+    int addFollowers(@Param("playerId") Long playerId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE players SET following_count = following_count + :delta WHERE player_id = :playerId", nativeQuery = true)
+    int addFollowing(@Param("playerId") Long playerId, @Param("delta") long delta);
+
+    // Recomputes every follow counter from the follow table, e.g. for rows created before the counters existed
+    @Modifying
+    @Query(value = "UPDATE players SET " +
+            "follower_count = (SELECT COUNT(*) FROM follow f WHERE f.followed_id = players.player_id), " +
+            "following_count = (SELECT COUNT(*) FROM follow f WHERE f.follower_id = players.player_id)",
+            nativeQuery = true)
+    int recountFollows();
 }
@@ -2,6 +2,8 @@ package com.g1.mychess.player.repository;
 
 import com.g1.mychess.player.model.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,6 +15,12 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
     // Find profile by player id
     Optional<Profile> findByPlayer_PlayerId(Long playerId);
 
-    List<Profile> findTop50ByOrderByGlickoRatingDesc();
+    // Find every profile with its player in one query, for building the leaderboard
+    @Query("SELECT p FROM Profile p JOIN FETCH p.player")
+    List<Profile> findAllWithPlayer();
+
+    // Find profiles with their players in one query, for bulk rating updates
+    @Query("SELECT p FROM Profile p JOIN FETCH p.player WHERE p.playerId IN :playerIds")
+    List<Profile> findAllWithPlayerByPlayerIdIn(@Param("playerIds") List<Long> playerIds);
 
 }
@@ -0,0 +1,9 @@
+package com.g1.mychess.player.repository;
+
+import com.g1.mychess.player.model.RetentionCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RetentionCheckpointRepository extends JpaRepository<RetentionCheckpoint, String> {
+}
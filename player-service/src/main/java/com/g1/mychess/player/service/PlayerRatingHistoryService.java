@@ -1,18 +1,24 @@
 package com.g1.mychess.player.service;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.http.ResponseEntity;
 import com.g1.mychess.player.dto.PlayerRatingHistoryDTO;
 
+import com.g1.mychess.player.dto.PlayerRatingSeriesDTO;
 import com.g1.mychess.player.dto.PlayerRatingUpdateDTO;
 
 public interface PlayerRatingHistoryService {
 
-    void cleanupOldRatingHistories();
+    // Rolls the samples of all complete days not rolled up yet into daily, weekly and monthly buckets
+    int rollUpRatingHistories();
 
     void updatePlayerRatingHistory(PlayerRatingUpdateDTO ratingUpdateDTO);
 
     ResponseEntity<List<PlayerRatingHistoryDTO>> getPlayerRatingHistory(Long playerId);
 
-}
\ No newline at end of file
+    // Ratings between two dates (inclusive) at the raw, day, week or month resolution
+    PlayerRatingSeriesDTO getPlayerRatingSeries(Long playerId, LocalDate from, LocalDate to, String resolution);
+
+}
@@ -21,6 +21,8 @@ public interface PlayerService {
 
     PlayerDTO getPlayerDetails(Long playerId);
 
+    List<PlayerDTO> getPlayersDetails(List<Long> playerIds);
+
     ResponseEntity<String> reportPlayer(ReportPlayerRequestDTO reportPlayerRequestDTO);
 
     void blacklistPlayer(Long playerId);
@@ -36,4 +38,14 @@ public interface PlayerService {
     Page<PlayerDTO> getFollowedPlayers(Long followerId, int page, int size);
 
     Page<PlayerDTO> getFollowers(Long playerId, int page, int size);
+
+    FollowPageDTO getFollowedPlayersAfter(Long followerId, long cursor, int size);
+
+    FollowPageDTO getFollowersAfter(Long playerId, long cursor, int size);
+
+    FollowCountsDTO getFollowCounts(Long playerId);
+
+    List<Long> getFollowedAmong(Long followerId, List<Long> playerIds);
+
+    FeedPageDTO getFeed(Long playerId, Long cursor, int size);
 }
\ No newline at end of file
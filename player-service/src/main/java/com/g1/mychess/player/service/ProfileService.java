@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.http.ResponseEntity;
 
 import com.g1.mychess.player.dto.LeaderboardProfileDTO;
+import com.g1.mychess.player.dto.LeaderboardRankDTO;
 import com.g1.mychess.player.dto.PlayerProfileDTO;
 import com.g1.mychess.player.dto.PlayerRatingUpdateDTO;
 import com.g1.mychess.player.dto.PlayerProfileUpdateDTO;
@@ -13,9 +14,13 @@ public interface ProfileService {
 
     void updateProfileRating(PlayerRatingUpdateDTO ratingUpdateDTO);
 
+    void updateProfileRatings(List<PlayerRatingUpdateDTO> ratingUpdateDTOs);
+
     PlayerProfileDTO getPlayerProfile(Long playerId);
 
     ResponseEntity<String> updatePlayerProfile(Long playerId, PlayerProfileUpdateDTO profileUpdateDTO);
 
-    List<LeaderboardProfileDTO> getLeaderboard();
+    List<LeaderboardProfileDTO> getLeaderboard(int offset, int limit);
+
+    LeaderboardRankDTO getLeaderboardRank(Long playerId, int radius);
 }
\ No newline at end of file
@@ -0,0 +1,342 @@
+package com.g1.mychess.player.service.impl;
+
+import com.g1.mychess.player.config.FeedProperties;
+import com.g1.mychess.player.dto.FeedEventDTO;
+import com.g1.mychess.player.dto.FeedPageDTO;
+import com.g1.mychess.player.exception.PlayerNotFoundException;
+import com.g1.mychess.player.model.FeedEvent;
+import com.g1.mychess.player.repository.FeedEventRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// What the players someone follows did, newest first.
+// Events are stored in feed_events and, once their transaction commits, fanned out on one background thread into the
+// inbox of every follower: a bounded ring of the latest events, so a page is read in O(page size) without joining
+// follows, ratings and matches. Only recently read feeds are held in memory. A feed read for the first time, or again
+// after being dropped, is filled from the database once; events fanned out while it loads queue behind the load.
+// Fanning out the events of a player with many followers would make each of them a large write, so players above the
+// fan-out limit get an outbox of their own latest events instead, and readers merge in the outboxes of the players
+// they follow at read time. Each feed keeps the list of followed players above the limit, looked up with the feed and
+// again only once a player passed the limit; a change of the reader's follows drops the feed, to be loaded afresh.
+// Outboxes are held for the most recently active players only, and one dropped is rebuilt from the database by the
+// next reader or event needing it.
+@Component
+public class ActivityFeed {
+
+    private static final int FAN_OUT_CHUNK_SIZE = 1000;
+    private static final int RETENTION_CHUNK_SIZE = 1000;
+
+    private final FeedEventRepository feedEventRepository;
+    private final FollowGraph followGraph;
+    private final FeedProperties properties;
+
+    // Feeds of recent readers, least recently read first
+    private final Map<Long, Inbox> inboxes;
+    // Latest events of players above the fan-out limit, least recently active first
+    private final Map<Long, Ring> outboxes;
+
+    // Players whose events last went to their outbox; a player joining them bumps the generation, so that every feed
+    // looks up its followed players above the limit again on its next read. Only changed by the fan-out thread.
+    private final Set<Long> aboveLimit = ConcurrentHashMap.newKeySet();
+    private final AtomicLong aboveLimitGeneration = new AtomicLong();
+
+    // A single thread, so events reach the feeds in the order their transactions committed
+    private final ExecutorService fanOut;
+
+    public ActivityFeed(FeedEventRepository feedEventRepository, FollowGraph followGraph, FeedProperties properties) {
+        this(feedEventRepository, followGraph, properties, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "feed-fan-out");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    ActivityFeed(FeedEventRepository feedEventRepository, FollowGraph followGraph, FeedProperties properties,
+                 ExecutorService fanOut) {
+        this.feedEventRepository = feedEventRepository;
+        this.followGraph = followGraph;
+        this.properties = properties;
+        this.fanOut = fanOut;
+        this.inboxes = boundedMap(properties.getMaxInboxes());
+        this.outboxes = boundedMap(properties.getMaxOutboxes());
+    }
+
+    // Stores the events in the caller's transaction and fans them out once it commits
+    public void publish(List<FeedEvent> events) {
+        if (events.isEmpty()) return;
+        feedEventRepository.saveAll(events);
+        List<FeedEventDTO> snapshot = events.stream().map(FeedEventDTO::of).toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            fanOut.execute(() -> deliver(snapshot));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                fanOut.execute(() -> deliver(snapshot));
+            }
+        });
+    }
+
+    // Drops the follower's feed once the current transaction commits (or now, outside of one), so that its next read
+    // loads the events and followed players above the limit of its new follows
+    public void followsChanged(Long followerId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            inboxes.remove(followerId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                inboxes.remove(followerId);
+            }
+        });
+    }
+
+    // Events older than the cursor (an event id, or null for the newest), newest first
+    public FeedPageDTO getFeed(Long playerId, Long cursor, int size) {
+        long before = cursor != null ? cursor : Long.MAX_VALUE;
+        Inbox inbox = inbox(playerId);
+        List<FeedEventDTO> events = new ArrayList<>(inbox.before(before, size + 1));
+        for (Long followedId : followedAboveLimit(playerId, inbox)) {
+            events.addAll(outbox(followedId).before(before, size + 1));
+        }
+
+        // An outbox event may also be in the inbox, fanned out before its player passed the limit
+        events.sort(Comparator.comparing(FeedEventDTO::getId).reversed());
+        List<FeedEventDTO> page = new ArrayList<>(size);
+        boolean hasNext = false;
+        for (FeedEventDTO event : events) {
+            if (!page.isEmpty() && page.get(page.size() - 1).getId().equals(event.getId())) continue;
+            if (page.size() == size) {
+                hasNext = true;
+                break;
+            }
+            page.add(event);
+        }
+        Long nextCursor = hasNext ? page.get(page.size() - 1).getId() : null;
+        return new FeedPageDTO(page, nextCursor);
+    }
+
+    @Scheduled(cron = "0 30 0 * * ?")  // every day at half past midnight
+    public void deleteExpired() {
+        LocalDateTime cutoff = LocalDate.now().minusDays(properties.getRetentionDays()).atStartOfDay();
+        int deleted;
+        do {
+            deleted = feedEventRepository.deleteCreatedBefore(cutoff, RETENTION_CHUNK_SIZE);
+        } while (deleted == RETENTION_CHUNK_SIZE);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOut.shutdown();
+    }
+
+    private void deliver(List<FeedEventDTO> events) {
+        for (FeedEventDTO event : events) {
+            try {
+                deliver(event);
+            } catch (PlayerNotFoundException e) {
+                // Deleted since; nobody can follow the player any more
+            }
+        }
+    }
+
+    private void deliver(FeedEventDTO event) {
+        Long playerId = event.getPlayerId();
+        if (followGraph.getCounts(playerId).getFollowers() > properties.getFanOutLimit()) {
+            // Bumped before the event is added, so a reader seeing it also reads the outbox
+            if (aboveLimit.add(playerId)) aboveLimitGeneration.incrementAndGet();
+            outbox(playerId).add(event);
+            return;
+        }
+        aboveLimit.remove(playerId);
+
+        // Only feeds in memory are written to, the others read the event from the database when they are loaded
+        long afterId = 0;
+        List<Long> followerIds;
+        do {
+            followerIds = followGraph.getFollowerIds(playerId, afterId, FAN_OUT_CHUNK_SIZE);
+            for (Long followerId : followerIds) {
+                Inbox inbox = inboxes.get(followerId);
+                if (inbox != null) inbox.add(event);
+            }
+            if (!followerIds.isEmpty()) afterId = followerIds.get(followerIds.size() - 1);
+        } while (followerIds.size() == FAN_OUT_CHUNK_SIZE);
+    }
+
+    private Inbox inbox(Long playerId) {
+        Inbox inbox;
+        synchronized (inboxes) {
+            // Re-inserted to mark it as recently read
+            inbox = inboxes.remove(playerId);
+            if (inbox != null) {
+                inboxes.put(playerId, inbox);
+                return inbox;
+            }
+        }
+        // Fails for unknown players before anything is held for them
+        long following = followGraph.getCounts(playerId).getFollowing();
+        return load(inboxes, playerId, () -> new Inbox(properties.getInboxSize()), () -> following == 0 ? List.of()
+                : feedEventRepository.findLatestOfFollowed(playerId, PageRequest.of(0, properties.getInboxSize())));
+    }
+
+    // Called by the fan-out thread for new events and by readers, which rebuild outboxes dropped from memory
+    private Ring outbox(Long playerId) {
+        Ring outbox;
+        synchronized (outboxes) {
+            outbox = outboxes.remove(playerId);
+            if (outbox != null) {
+                outboxes.put(playerId, outbox);
+                return outbox;
+            }
+        }
+        return load(outboxes, playerId, () -> new Ring(properties.getInboxSize()),
+                () -> feedEventRepository.findLatestByPlayerId(playerId, PageRequest.of(0, properties.getInboxSize())));
+    }
+
+    // Installs an empty ring and fills it while holding its lock, so readers wait for the load and events added
+    // meanwhile are merged in after it instead of being missed
+    private <R extends Ring> R load(Map<Long, R> rings, Long key, Supplier<R> factory, Supplier<List<FeedEvent>> loader) {
+        R ring;
+        synchronized (rings) {
+            ring = rings.get(key);
+            if (ring != null) return ring;
+            ring = factory.get();
+            ring.lock.lock();
+            rings.put(key, ring);
+        }
+        try {
+            for (FeedEvent event : loader.get()) {
+                ring.add(FeedEventDTO.of(event));
+            }
+            return ring;
+        } catch (RuntimeException e) {
+            rings.remove(key, ring);
+            throw e;
+        } finally {
+            ring.lock.unlock();
+        }
+    }
+
+    // Players above the fan-out limit the reader follows, kept with the feed and looked up again only after another
+    // player passed the limit. The generation is read before the lookup, so a bump during it is not missed.
+    private Set<Long> followedAboveLimit(Long playerId, Inbox inbox) {
+        FollowedAboveLimit followed = inbox.followedAboveLimit;
+        long generation = aboveLimitGeneration.get();
+        if (followed == null || followed.generation() != generation) {
+            Set<Long> playerIds = Set.copyOf(followGraph.getFollowedWithMoreFollowersThan(playerId, properties.getFanOutLimit()));
+            followed = new FollowedAboveLimit(playerIds, generation);
+            inbox.followedAboveLimit = followed;
+        }
+        return followed.playerIds();
+    }
+
+    private static <V> Map<Long, V> boundedMap(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<Long, V>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    // A follower's feed and the players above the fan-out limit it follows, null until first read
+    static final class Inbox extends Ring {
+        private volatile FollowedAboveLimit followedAboveLimit;
+
+        Inbox(int capacity) {
+            super(capacity);
+        }
+    }
+
+    private record FollowedAboveLimit(Set<Long> playerIds, long generation) {
+    }
+
+    // The latest events of one feed, ordered by id in a circular buffer: the newest event is appended at the end and,
+    // once the buffer is full, overwrites the oldest one. An event committed out of order is inserted in its place.
+    static class Ring {
+        final ReentrantLock lock = new ReentrantLock();
+        private final FeedEventDTO[] events;
+        private int start;
+        private int size;
+
+        Ring(int capacity) {
+            this.events = new FeedEventDTO[capacity];
+        }
+
+        void add(FeedEventDTO event) {
+            lock.lock();
+            try {
+                int position = search(event.getId());
+                if (position >= 0) return;
+                position = -position - 1;
+                if (size == events.length) {
+                    if (position == 0) return;  // older than everything kept
+                    start = (start + 1) % events.length;
+                    size--;
+                    position--;
+                }
+                for (int i = size; i > position; i--) {
+                    events[index(i)] = events[index(i - 1)];
+                }
+                events[index(position)] = event;
+                size++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Up to limit events with an id below the cursor, newest first
+        List<FeedEventDTO> before(long cursor, int limit) {
+            lock.lock();
+            try {
+                int end = search(cursor);
+                if (end < 0) end = -end - 1;
+                List<FeedEventDTO> page = new ArrayList<>(Math.min(limit, end));
+                for (int i = end - 1; i >= 0 && page.size() < limit; i--) {
+                    page.add(events[index(i)]);
+                }
+                return page;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int index(int position) {
+            return (start + position) % events.length;
+        }
+
+        // Position of the id, or -(insertion point) - 1 like Arrays.binarySearch
+        private int search(long id) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long midId = events[index(mid)].getId();
+                if (midId < id) {
+                    low = mid + 1;
+                } else if (midId > id) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.g1.mychess.player.service.impl;
+
+import com.g1.mychess.player.dto.FollowCountsDTO;
+import com.g1.mychess.player.exception.AlreadyFollowingException;
+import com.g1.mychess.player.exception.PlayerNotFoundException;
+import com.g1.mychess.player.repository.FollowRepository;
+import com.g1.mychess.player.repository.PlayerRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Who follows whom, by player id only. Edges live in the follow table under a (follower, followed) key and every
+// player carries a follower and a following count. Following and unfollowing update both counters and the edge in
+// one transaction, counters first and in player id order, so concurrent changes of the same players queue on the
+// same rows in the same order instead of deadlocking. Lists are paged by keyset: the cursor is the last player id
+// returned, so a page costs the same however deep it is.
+@Component
+public class FollowGraph {
+
+    public static final int MAX_MEMBERSHIP_BATCH_SIZE = 1000;
+
+    private final FollowRepository followRepository;
+    private final PlayerRepository playerRepository;
+
+    public FollowGraph(FollowRepository followRepository, PlayerRepository playerRepository) {
+        this.followRepository = followRepository;
+        this.playerRepository = playerRepository;
+    }
+
+    @Transactional
+    public void follow(Long followerId, Long followedId) {
+        if (followerId.equals(followedId)) {
+            throw new IllegalArgumentException("You cannot follow yourself.");
+        }
+        addToCounters(followerId, followedId, 1);
+        try {
+            followRepository.insert(followerId, followedId, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            // Rolls back the counters updated above
+            throw new AlreadyFollowingException("Already following this player.");
+        }
+    }
+
+    @Transactional
+    public void unfollow(Long followerId, Long followedId) {
+        addToCounters(followerId, followedId, -1);
+        if (followRepository.deletePair(followerId, followedId) == 0) {
+            // Rolls back the counters updated above
+            throw new IllegalArgumentException("Not following this player.");
+        }
+    }
+
+    public FollowCountsDTO getCounts(Long playerId) {
+        return playerRepository.findFollowCounts(playerId)
+                .orElseThrow(() -> new PlayerNotFoundException("Player not found with id: " + playerId));
+    }
+
+    // Followers with an id above the cursor, ascending
+    public List<Long> getFollowerIds(Long playerId, long afterId, int limit) {
+        return followRepository.findFollowerIdsAfter(playerId, afterId, PageRequest.of(0, limit));
+    }
+
+    // Followed players with an id above the cursor, ascending
+    public List<Long> getFollowingIds(Long playerId, long afterId, int limit) {
+        return followRepository.findFollowedIdsAfter(playerId, afterId, PageRequest.of(0, limit));
+    }
+
+    // Page-number variants, kept for clients that jump to a page; they skip over the index without loading players
+    public List<Long> getFollowerIds(Long playerId, Pageable pageable) {
+        return followRepository.findFollowerIdsAfter(playerId, 0, pageable);
+    }
+
+    public List<Long> getFollowingIds(Long playerId, Pageable pageable) {
+        return followRepository.findFollowedIdsAfter(playerId, 0, pageable);
+    }
+
+    // Which of the given players the follower follows, e.g. to render follow buttons on a list in one query
+    public Set<Long> getFollowedAmong(Long followerId, Collection<Long> playerIds) {
+        if (playerIds.size() > MAX_MEMBERSHIP_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_MEMBERSHIP_BATCH_SIZE + " players can be checked at once.");
+        }
+        if (playerIds.isEmpty()) return Set.of();
+        return new HashSet<>(followRepository.findFollowedIdsIn(followerId, new HashSet<>(playerIds)));
+    }
+
+    // Players the follower follows that have more followers than the limit
+    public List<Long> getFollowedWithMoreFollowersThan(Long followerId, long limit) {
+        return followRepository.findFollowedIdsWithMoreFollowersThan(followerId, limit);
+    }
+
+    // Runs after the DataInitializer, and fixes the counters of follows made before they existed
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void recountFollows() {
+        playerRepository.recountFollows();
+    }
+
+    private void addToCounters(Long followerId, Long followedId, long delta) {
+        if (followerId < followedId) {
+            addFollowing(followerId, delta);
+            addFollowers(followedId, delta);
+        } else {
+            addFollowers(followedId, delta);
+            addFollowing(followerId, delta);
+        }
+    }
+
+    private void addFollowing(Long playerId, long delta) {
+        if (playerRepository.addFollowing(playerId, delta) == 0) {
+            throw new PlayerNotFoundException("Player not found with id: " + playerId);
+        }
+    }
+
+    private void addFollowers(Long playerId, long delta) {
+        if (playerRepository.addFollowers(playerId, delta) == 0) {
+            throw new PlayerNotFoundException("Player not found with id: " + playerId);
+        }
+    }
+}
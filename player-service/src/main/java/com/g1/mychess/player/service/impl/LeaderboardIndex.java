@@ -0,0 +1,251 @@
+package com.g1.mychess.player.service.impl;
+
+import com.g1.mychess.player.model.CustomChessRank;
+import com.g1.mychess.player.model.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory leaderboard ordered by rating (highest first, ties by player id).
+// Backed by a treap where every node knows the size of its subtree, so inserting, removing,
+// finding a player's position and jumping to any offset are all O(log n).
+@Component
+public class LeaderboardIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entriesByPlayerId = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    // Replaces the whole leaderboard, used when the service starts
+    public void rebuild(Collection<Entry> entries) {
+        lock.writeLock().lock();
+        try {
+            root = null;
+            entriesByPlayerId.clear();
+            for (Entry entry : entries) {
+                put(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Inserts or moves the given players, once the current transaction commits (or now, outside of one)
+    public void updateAfterCommit(Collection<Entry> entries) {
+        List<Entry> snapshot = List.copyOf(entries);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update(snapshot);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update(snapshot);
+            }
+        });
+    }
+
+    public void update(Collection<Entry> entries) {
+        lock.writeLock().lock();
+        try {
+            for (Entry entry : entries) {
+                put(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 1-based position of the player, or 0 if the player is not on the leaderboard
+    public int positionOf(Long playerId) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entriesByPlayerId.get(playerId);
+            if (entry == null) return 0;
+
+            int before = 0;
+            Node node = root;
+            while (node != null) {
+                int cmp = compare(entry, node.entry);
+                if (cmp == 0) return before + size(node.left) + 1;
+                if (cmp < 0) {
+                    node = node.left;
+                } else {
+                    before += size(node.left) + 1;
+                    node = node.right;
+                }
+            }
+            return 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Entries at 0-based positions [offset, offset + limit)
+    public List<Entry> page(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Entry> entries = new ArrayList<>(Math.max(0, Math.min(limit, size(root) - offset)));
+            collect(root, 0, offset, offset + limit, entries);
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(Entry entry) {
+        Entry previous = entriesByPlayerId.put(entry.getPlayerId(), entry);
+        if (previous != null) {
+            root = remove(root, previous);
+        }
+        root = insert(root, new Node(entry, random.nextInt()));
+    }
+
+    private static Node insert(Node node, Node newNode) {
+        if (node == null) return newNode;
+        if (compare(newNode.entry, node.entry) < 0) {
+            node.left = insert(node.left, newNode);
+            if (node.left.priority > node.priority) node = rotateRight(node);
+        } else {
+            node.right = insert(node.right, newNode);
+            if (node.right.priority > node.priority) node = rotateLeft(node);
+        }
+        node.update();
+        return node;
+    }
+
+    private static Node remove(Node node, Entry entry) {
+        if (node == null) return null;
+        int cmp = compare(entry, node.entry);
+        if (cmp == 0) return merge(node.left, node.right);
+        if (cmp < 0) node.left = remove(node.left, entry);
+        else node.right = remove(node.right, entry);
+        node.update();
+        return node;
+    }
+
+    // Joins two treaps where every entry of the left one ranks above every entry of the right one
+    private static Node merge(Node left, Node right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        return right;
+    }
+
+    // In-order walk that skips subtrees outside of [from, to); offset is the position of the subtree's first entry
+    private static void collect(Node node, int offset, int from, int to, List<Entry> entries) {
+        if (node == null || from >= to) return;
+        int position = offset + size(node.left);
+        if (from < position) collect(node.left, offset, from, to, entries);
+        if (from <= position && position < to) entries.add(node.entry);
+        if (to > position + 1) collect(node.right, position + 1, from, to, entries);
+    }
+
+    private static int compare(Entry a, Entry b) {
+        int cmp = Double.compare(b.getGlickoRating(), a.getGlickoRating());
+        return cmp != 0 ? cmp : Long.compare(a.getPlayerId(), b.getPlayerId());
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+        private final Entry entry;
+        private final int priority;
+        private Node left;
+        private Node right;
+        private int size = 1;
+
+        private Node(Entry entry, int priority) {
+            this.entry = entry;
+            this.priority = priority;
+        }
+
+        private void update() {
+            size = size(left) + size(right) + 1;
+        }
+    }
+
+    // Immutable copy of the leaderboard fields of a profile
+    public static final class Entry {
+        private final Long playerId;
+        private final String username;
+        private final CustomChessRank rank;
+        private final String country;
+        private final double glickoRating;
+
+        public Entry(Long playerId, String username, CustomChessRank rank, String country, double glickoRating) {
+            this.playerId = playerId;
+            this.username = username;
+            this.rank = rank;
+            this.country = country;
+            this.glickoRating = glickoRating;
+        }
+
+        public static Entry of(Profile profile) {
+            return new Entry(
+                    profile.getPlayerId(),
+                    profile.getPlayer() != null ? profile.getPlayer().getUsername() : "",
+                    profile.getRank(),
+                    profile.getCountry(),
+                    profile.getGlickoRating());
+        }
+
+        public Long getPlayerId() {
+            return playerId;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public CustomChessRank getRank() {
+            return rank;
+        }
+
+        public String getCountry() {
+            return country;
+        }
+
+        public double getGlickoRating() {
+            return glickoRating;
+        }
+    }
+}
@@ -1,38 +1,90 @@
 package com.g1.mychess.player.service.impl;
 
 import com.g1.mychess.player.dto.PlayerRatingHistoryDTO;
+import com.g1.mychess.player.dto.PlayerRatingSeriesDTO;
 import com.g1.mychess.player.dto.PlayerRatingUpdateDTO;
-import com.g1.mychess.player.mapper.PlayerMapper;
+import com.g1.mychess.player.dto.RatingSampleDTO;
+import com.g1.mychess.player.exception.PlayerNotFoundException;
 import com.g1.mychess.player.model.Player;
 import com.g1.mychess.player.model.PlayerRatingHistory;
+import com.g1.mychess.player.model.PlayerRatingRollup;
+import com.g1.mychess.player.model.PlayerRatingRollup.Resolution;
 import com.g1.mychess.player.repository.PlayerRatingHistoryRepository;
+import com.g1.mychess.player.repository.PlayerRatingRollupRepository;
 import com.g1.mychess.player.repository.PlayerRepository;
 import com.g1.mychess.player.service.PlayerRatingHistoryService;
 import jakarta.transaction.Transactional;
 
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.time.ZoneId;
+import java.util.*;
 
 @Service
 public class PlayerRatingHistoryServiceImpl implements PlayerRatingHistoryService {
 
     private final PlayerRepository playerRepository;
     private final PlayerRatingHistoryRepository playerRatingHistoryRepository;
+    private final PlayerRatingRollupRepository playerRatingRollupRepository;
 
-    public PlayerRatingHistoryServiceImpl(PlayerRepository playerRepository, PlayerRatingHistoryRepository playerRatingHistoryRepository) {
+    public PlayerRatingHistoryServiceImpl(PlayerRepository playerRepository,
+                                          PlayerRatingHistoryRepository playerRatingHistoryRepository,
+                                          PlayerRatingRollupRepository playerRatingRollupRepository) {
         this.playerRepository = playerRepository;
         this.playerRatingHistoryRepository = playerRatingHistoryRepository;
-        
+        this.playerRatingRollupRepository = playerRatingRollupRepository;
     }
 
     @Override
-    @Scheduled(cron = "0 0 0 * * ?")  // every day at midnight
-    public void cleanupOldRatingHistories() {
-        playerRatingHistoryRepository.deleteOldRatingHistories();
+    @Transactional
+    public int rollUpRatingHistories() {
+        LocalDate today = LocalDate.now();
+        LocalDate firstDay = playerRatingRollupRepository.findLastBucketStart(Resolution.DAY)
+                .map(day -> day.plusDays(1))
+                .or(() -> playerRatingHistoryRepository.findEarliestDate().map(LocalDateTime::toLocalDate))
+                .orElse(today);
+        if (!firstDay.isBefore(today)) return 0;
+
+        // Only complete days are rolled up, today's samples are read from the raw table until tomorrow
+        List<RatingSampleDTO> samples = playerRatingHistoryRepository.findSamplesBetween(firstDay.atStartOfDay(), today.atStartOfDay());
+        if (samples.isEmpty()) return 0;
+
+        List<PlayerRatingRollup> days = RatingRollups.fromSamples(samples, Resolution.DAY);
+        playerRatingRollupRepository.saveAll(days);
+
+        // Weeks and months are recomputed from their days, so they never need raw samples older than the new days
+        Set<Long> playerIds = new LinkedHashSet<>();
+        days.forEach(day -> playerIds.add(day.getPlayerId()));
+        LocalDate lastDay = today.minusDays(1);
+        for (Resolution resolution : List.of(Resolution.WEEK, Resolution.MONTH)) {
+            LocalDate firstBucket = resolution.bucketStart(firstDay);
+            List<PlayerRatingRollup> daily = playerRatingRollupRepository.findBuckets(playerIds, Resolution.DAY, firstBucket, lastDay);
+            saveBuckets(RatingRollups.combine(daily, resolution), playerIds, resolution, firstBucket, lastDay);
+        }
+        return samples.size();
+    }
+
+    // Inserts the new buckets and overwrites the values of the existing ones
+    private void saveBuckets(List<PlayerRatingRollup> buckets, Set<Long> playerIds, Resolution resolution, LocalDate from, LocalDate to) {
+        Map<Long, Map<LocalDate, PlayerRatingRollup>> existing = new HashMap<>();
+        for (PlayerRatingRollup rollup : playerRatingRollupRepository.findBuckets(playerIds, resolution, from, to)) {
+            existing.computeIfAbsent(rollup.getPlayerId(), id -> new HashMap<>()).put(rollup.getBucketStart(), rollup);
+        }
+
+        List<PlayerRatingRollup> toSave = new ArrayList<>(buckets.size());
+        for (PlayerRatingRollup bucket : buckets) {
+            PlayerRatingRollup current = existing.getOrDefault(bucket.getPlayerId(), Map.of()).get(bucket.getBucketStart());
+            if (current == null) {
+                toSave.add(bucket);
+            } else {
+                current.copyValuesFrom(bucket);
+                toSave.add(current);
+            }
+        }
+        playerRatingRollupRepository.saveAll(toSave);
     }
 
     @Override
@@ -51,18 +103,87 @@ public class PlayerRatingHistoryServiceImpl implements PlayerRatingHistoryServic
         playerRatingHistoryRepository.save(ratingHistory);
     }
 
-    
+
     @Override
     public ResponseEntity<List<PlayerRatingHistoryDTO>> getPlayerRatingHistory(Long playerId){
-        Player player = getPlayerById(playerId);
-        List<PlayerRatingHistory> ratingHistory = player.getRatingHistory();
-        return ResponseEntity.ok(PlayerMapper.toPlayerRatingHistoryDTOList(ratingHistory));
+        ensurePlayerExists(playerId);
+        return ResponseEntity.ok(playerRatingHistoryRepository.findHistoryByPlayerId(playerId));
     }
 
-    private Player getPlayerById(Long playerId) {
-        return playerRepository.findById(playerId)
-                .orElseThrow(() -> new IllegalArgumentException("Player not found"));
+    @Override
+    public PlayerRatingSeriesDTO getPlayerRatingSeries(Long playerId, LocalDate from, LocalDate to, String resolution) {
+        ensurePlayerExists(playerId);
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("The start of the range must not be after its end.");
+        }
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        if ("raw".equalsIgnoreCase(resolution)) {
+            return toSeries(playerId, playerRatingHistoryRepository.findSamplesByPlayerId(playerId, from.atStartOfDay(), end));
+        }
+
+        Resolution bucketResolution = parseResolution(resolution);
+        LocalDate firstBucket = bucketResolution.bucketStart(from);
+        List<PlayerRatingRollup> rolledUp = playerRatingRollupRepository.findSeries(playerId, bucketResolution, firstBucket, to);
+
+        // Samples after the last rolled-up day are only in the raw table, a few days at most
+        LocalDate pendingFrom = playerRatingRollupRepository.findLastBucketStart(Resolution.DAY)
+                .map(day -> day.plusDays(1))
+                .filter(day -> day.isAfter(firstBucket))
+                .orElse(firstBucket);
+        List<PlayerRatingRollup> pending = List.of();
+        if (!pendingFrom.isAfter(to)) {
+            List<RatingSampleDTO> samples = playerRatingHistoryRepository.findSamplesByPlayerId(playerId, pendingFrom.atStartOfDay(), end);
+            pending = RatingRollups.fromSamples(samples, bucketResolution);
+        }
+
+        return toSeries(playerId, bucketResolution, RatingRollups.concat(rolledUp, pending));
     }
 
+    private void ensurePlayerExists(Long playerId) {
+        if (!playerRepository.existsById(playerId)) {
+            throw new PlayerNotFoundException("Player not found with id: " + playerId);
+        }
+    }
+
+    private static Resolution parseResolution(String resolution) {
+        try {
+            return Resolution.valueOf(resolution.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown resolution: " + resolution + ". Use raw, day, week or month.");
+        }
+    }
 
-}
\ No newline at end of file
+    private static PlayerRatingSeriesDTO toSeries(Long playerId, Resolution resolution, List<PlayerRatingRollup> buckets) {
+        PlayerRatingSeriesDTO series = new PlayerRatingSeriesDTO(playerId, resolution.name(), buckets.size());
+        for (int i = 0; i < buckets.size(); i++) {
+            PlayerRatingRollup bucket = buckets.get(i);
+            series.getTimestamps()[i] = toEpochMillis(bucket.getBucketStart().atStartOfDay());
+            series.getRatings()[i] = bucket.getCloseRating();
+            series.getMinRatings()[i] = bucket.getMinRating();
+            series.getMaxRatings()[i] = bucket.getMaxRating();
+            series.getRatingDeviations()[i] = bucket.getRatingDeviation();
+            series.getSamples()[i] = bucket.getSamples();
+        }
+        return series;
+    }
+
+    private static PlayerRatingSeriesDTO toSeries(Long playerId, List<RatingSampleDTO> samples) {
+        PlayerRatingSeriesDTO series = new PlayerRatingSeriesDTO(playerId, "RAW", samples.size());
+        for (int i = 0; i < samples.size(); i++) {
+            RatingSampleDTO sample = samples.get(i);
+            series.getTimestamps()[i] = toEpochMillis(sample.getDate());
+            series.getRatings()[i] = sample.getGlickoRating();
+            series.getMinRatings()[i] = sample.getGlickoRating();
+            series.getMaxRatings()[i] = sample.getGlickoRating();
+            series.getRatingDeviations()[i] = sample.getRatingDeviation();
+            series.getSamples()[i] = 1;
+        }
+        return series;
+    }
+
+    // Dates are stored in the server's time zone, like LocalDateTime.now()
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,435 @@
+package com.g1.mychess.player.service.impl;
+
+import com.g1.mychess.player.model.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+// In-memory player search over username, full name and country.
+// Every word is split into trigrams padded like "  word " (as pg_trgm does), so the grams "  w" and " wo" mark
+// the start of a word. Each trigram maps to a posting list of document ids in ascending order, and a query
+// intersects the lists of its grams, shortest first. Usernames are also kept sorted for prefix lookups.
+// Updating a player appends a new document and tombstones the old one, so posting lists stay sorted without ever
+// inserting in the middle; they are rebuilt once most documents are dead.
+// A username without letters or digits, e.g. "__", has no words and so no trigrams; it is only found by a query made
+// of the same symbols, through the username prefix lookup.
+@Component
+public class PlayerSearchIndex {
+
+    // Matches are counted up to this many, so a broad query stops as soon as it has filled the allowed pages
+    public static final int MAX_MATCHES = 1000;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final int MIN_DEAD_DOCUMENTS_TO_COMPACT = 1024;
+    private static final long TWO_SPACES = ((long) ' ' << 16) | ' ';
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postingsByGram = new HashMap<>();
+    private final Map<Long, Integer> documentByPlayerId = new HashMap<>();
+    // "username playerId" -> document; the space sorts an exact username before its longer completions
+    private final NavigableMap<String, Integer> documentByUsername = new TreeMap<>();
+    private Document[] documents = new Document[1024];
+    private int documentCount;
+    private int deadCount;
+
+    // Replaces the whole index, used when the service starts
+    public void rebuild(Collection<Entry> entries) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            for (Entry entry : entries) {
+                put(entry);
+            }
+            postingsByGram.values().forEach(Postings::trim);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Adds or re-indexes the given players, once the current transaction commits (or now, outside of one)
+    public void updateAfterCommit(Collection<Entry> entries) {
+        List<Entry> snapshot = List.copyOf(entries);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update(snapshot);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update(snapshot);
+            }
+        });
+    }
+
+    public void update(Collection<Entry> entries) {
+        lock.writeLock().lock();
+        try {
+            for (Entry entry : entries) {
+                put(entry);
+            }
+            if (deadCount >= MIN_DEAD_DOCUMENTS_TO_COMPACT && deadCount > documentCount - deadCount) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentByPlayerId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Players matching every word of the query, in three tiers:
+    // 1. usernames starting with the query, alphabetically (so an exact match comes first),
+    // 2. players with a word starting with each word of the query, e.g. a first name or country,
+    // 3. players containing each word of three letters or more anywhere in a word.
+    // Tiers 2 and 3 are ordered by when the player was indexed. Every tier is walked in order and the walk stops
+    // after MAX_MATCHES matches, which bounds the work of a broad query by the pages it can return.
+    // A query without letters or digits only matches usernames by prefix.
+    // Returns the player ids at 0-based positions [offset, offset + limit) and the number of matches, at most MAX_MATCHES.
+    public Result search(String query, int offset, int limit) {
+        String[] tokens = words(query);
+        String username = tokens.length > 0 ? String.join("", tokens) : symbols(query);
+        if (username.isEmpty() || limit <= 0) return new Result(List.of(), 0);
+
+        lock.readLock().lock();
+        try {
+            Collector collector = new Collector(offset, limit);
+            String[] wordStarts = new String[tokens.length];
+            boolean substrings = false;
+            for (int i = 0; i < tokens.length; i++) {
+                wordStarts[i] = " " + tokens[i];
+                substrings |= tokens[i].length() >= 3;
+            }
+
+            for (Integer doc : documentByUsername.subMap(username, true, username + Character.MAX_VALUE, false).values()) {
+                if (!collector.add(documents[doc])) return collector.result();
+            }
+            if (tokens.length == 0) return collector.result();
+
+            Postings[] lists = postingsOf(tokens, true);
+            if (lists != null) {
+                walk(lists, document -> !document.username.startsWith(username) && startsWords(document, wordStarts), collector);
+            }
+
+            if (substrings && !collector.isFull() && (lists = postingsOf(tokens, false)) != null) {
+                walk(lists, document -> !document.username.startsWith(username) && !startsWords(document, wordStarts)
+                        && containsWords(document, tokens), collector);
+            }
+            return collector.result();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Feeds the documents on every list, ascending, to the collector until it is full; the trigrams only suggest a
+    // match, which the filter then checks against the text
+    private void walk(Postings[] lists, Predicate<Document> filter, Collector collector) {
+        int[] positions = new int[lists.length];
+        Postings shortest = lists[0];
+        for (int i = 0; i < shortest.size; i++) {
+            int doc = shortest.docs[i];
+            Document document = documents[doc];
+            if (document == null || !containsAll(lists, positions, doc) || !filter.test(document)) continue;
+            if (!collector.add(document)) return;
+        }
+    }
+
+    // The posting lists of the grams of the query, shortest first, or null if one of them has no documents.
+    // Word starts use the padded grams "  w", " wo", "wor", ..., substrings only the inner ones of words of three
+    // letters or more.
+    private Postings[] postingsOf(String[] tokens, boolean wordStarts) {
+        Set<Long> grams = new HashSet<>();
+        for (String token : tokens) {
+            if (wordStarts) {
+                addGrams("  " + token, grams);
+            } else if (token.length() >= 3) {
+                addGrams(token, grams);
+            }
+        }
+        Postings[] lists = new Postings[grams.size()];
+        int i = 0;
+        for (Long gram : grams) {
+            Postings postings = postingsByGram.get(gram);
+            if (postings == null || postings.size == 0) return null;
+            lists[i++] = postings;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(postings -> postings.size));
+        return lists;
+    }
+
+    // Whether every list but the first contains the document; the cursors only move forward as documents ascend
+    private static boolean containsAll(Postings[] lists, int[] positions, int doc) {
+        for (int i = 1; i < lists.length; i++) {
+            positions[i] = lists[i].seek(positions[i], doc);
+            if (positions[i] == lists[i].size || lists[i].docs[positions[i]] != doc) return false;
+        }
+        return true;
+    }
+
+    private static boolean startsWords(Document document, String[] wordStarts) {
+        for (String wordStart : wordStarts) {
+            if (!document.text.contains(wordStart)) return false;
+        }
+        return true;
+    }
+
+    // Words of one or two letters must start a word, longer ones may be anywhere
+    private static boolean containsWords(Document document, String[] tokens) {
+        for (String token : tokens) {
+            if (!document.text.contains(token.length() < 3 ? " " + token : token)) return false;
+        }
+        return true;
+    }
+
+    private void put(Entry entry) {
+        Integer previous = documentByPlayerId.get(entry.getPlayerId());
+        if (previous != null) {
+            documentByUsername.remove(documents[previous].usernameKey());
+            documents[previous] = null;
+            deadCount++;
+        }
+
+        // Two spaces between words, so every word carries its own "  word " padding
+        StringBuilder text = new StringBuilder(" ");
+        for (String field : new String[]{entry.getUsername(), entry.getFullName(), entry.getCountry()}) {
+            for (String word : words(field)) {
+                text.append(' ').append(word).append(' ');
+            }
+        }
+
+        int doc = documentCount++;
+        if (doc == documents.length) {
+            documents = Arrays.copyOf(documents, documents.length * 2);
+        }
+        String username = String.join("", words(entry.getUsername()));
+        Document document = new Document(entry, username.isEmpty() ? symbols(entry.getUsername()) : username, text.toString());
+        documents[doc] = document;
+        documentByPlayerId.put(entry.getPlayerId(), doc);
+        documentByUsername.put(document.usernameKey(), doc);
+
+        // Distinct grams of the text, without the "d  " ones between two words that no query looks for.
+        // A player without any words has the text " " and no grams.
+        long[] grams = new long[Math.max(0, document.text.length() - 2)];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = gram(document.text, i);
+        }
+        Arrays.sort(grams);
+        for (int i = 0; i < grams.length; i++) {
+            if (i > 0 && grams[i] == grams[i - 1] || (grams[i] & 0xFFFFFFFFL) == TWO_SPACES) continue;
+            postingsByGram.computeIfAbsent(grams[i], g -> new Postings()).add(doc);
+        }
+    }
+
+    // Rebuilds the index from the live documents, dropping the tombstones from the posting lists
+    private void compact() {
+        List<Entry> live = new ArrayList<>(documentCount - deadCount);
+        for (int doc = 0; doc < documentCount; doc++) {
+            Document document = documents[doc];
+            if (document != null) live.add(document.entry());
+        }
+        clear();
+        live.forEach(this::put);
+        postingsByGram.values().forEach(Postings::trim);
+    }
+
+    private void clear() {
+        postingsByGram.clear();
+        documentByPlayerId.clear();
+        documentByUsername.clear();
+        documents = new Document[1024];
+        documentCount = 0;
+        deadCount = 0;
+    }
+
+    private static void addGrams(String s, Set<Long> grams) {
+        for (int i = 0; i + 3 <= s.length(); i++) {
+            grams.add(gram(s, i));
+        }
+    }
+
+    private static long gram(String s, int from) {
+        return ((long) s.charAt(from) << 32) | ((long) s.charAt(from + 1) << 16) | s.charAt(from + 2);
+    }
+
+    // Lower case words without accents, split on anything that is not a letter or a digit
+    static String[] words(String value) {
+        String normalized = normalize(value);
+        List<String> words = new ArrayList<>(4);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean separator = i == normalized.length() || normalized.charAt(i) == ' ';
+            if (separator && start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            } else if (!separator && start < 0) {
+                start = i;
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+    // A value without words kept as its trimmed lower case symbols, so it can still be looked up by prefix
+    private static String symbols(String value) {
+        return value == null ? "" : value.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalize(String value) {
+        if (value == null) return "";
+        String decomposed = isAscii(value) ? value
+                : DIACRITICS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            normalized.append(Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : ' ');
+        }
+        return normalized.toString();
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) return false;
+        }
+        return true;
+    }
+
+    // Ascending document ids of one gram
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private int size;
+
+        private void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        private void trim() {
+            if (size < docs.length) docs = Arrays.copyOf(docs, size);
+        }
+
+        // Index of the first document >= doc at or after from, galloping then binary search
+        private int seek(int from, int doc) {
+            if (from >= size || docs[from] >= doc) return from;
+            int step = 1;
+            int low = from;
+            int high = from + 1;
+            while (high < size && docs[high] < doc) {
+                low = high;
+                step <<= 1;
+                high = from + step;
+            }
+            int index = Arrays.binarySearch(docs, low + 1, Math.min(high, size), doc);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+
+    // Keeps the player ids of the requested page while counting matches up to MAX_MATCHES
+    private static final class Collector {
+        private final int offset;
+        private final int limit;
+        private final List<Long> playerIds;
+        private int total;
+
+        private Collector(int offset, int limit) {
+            this.offset = offset;
+            this.limit = limit;
+            this.playerIds = new ArrayList<>(limit);
+        }
+
+        // Returns false once no more matches are needed
+        private boolean add(Document document) {
+            if (total >= offset && playerIds.size() < limit) {
+                playerIds.add(document.entry().getPlayerId());
+            }
+            total++;
+            return !isFull();
+        }
+
+        private boolean isFull() {
+            return total >= MAX_MATCHES;
+        }
+
+        private Result result() {
+            return new Result(playerIds, total);
+        }
+    }
+
+    // An indexed player: the entry it was built from, its normalized username and its words as "  w1  w2 ... "
+    private record Document(Entry entry, String username, String text) {
+        private String usernameKey() {
+            return username + " " + entry.getPlayerId();
+        }
+    }
+
+    // One page of player ids and the number of matches, counted up to MAX_MATCHES
+    public static final class Result {
+        private final List<Long> playerIds;
+        private final int total;
+
+        public Result(List<Long> playerIds, int total) {
+            this.playerIds = playerIds;
+            this.total = total;
+        }
+
+        public List<Long> getPlayerIds() {
+            return playerIds;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+    }
+
+    // Immutable copy of the searchable fields of a player
+    public static final class Entry {
+        private final Long playerId;
+        private final String username;
+        private final String fullName;
+        private final String country;
+
+        public Entry(Long playerId, String username, String fullName, String country) {
+            this.playerId = playerId;
+            this.username = username;
+            this.fullName = fullName;
+            this.country = country;
+        }
+
+        public static Entry of(Profile profile) {
+            return new Entry(
+                    profile.getPlayerId(),
+                    profile.getPlayer() != null ? profile.getPlayer().getUsername() : "",
+                    profile.getFullName(),
+                    profile.getCountry());
+        }
+
+        public Long getPlayerId() {
+            return playerId;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public String getFullName() {
+            return fullName;
+        }
+
+        public String getCountry() {
+            return country;
+        }
+    }
+}
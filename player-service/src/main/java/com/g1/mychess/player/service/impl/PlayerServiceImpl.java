@@ -1,16 +1,15 @@
 package com.g1.mychess.player.service.impl;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import com.g1.mychess.player.dto.*;
 import com.g1.mychess.player.exception.PlayerNotFoundException;
 import com.g1.mychess.player.mapper.PlayerMapper;
-import com.g1.mychess.player.model.Follow;
 import com.g1.mychess.player.model.Player;
 import com.g1.mychess.player.model.PlayerRatingHistory;
 import com.g1.mychess.player.model.Profile;
-import com.g1.mychess.player.repository.FollowRepository;
 import com.g1.mychess.player.repository.PlayerRatingHistoryRepository;
 import com.g1.mychess.player.repository.PlayerRepository;
 import com.g1.mychess.player.repository.ProfileRepository;
@@ -23,29 +22,50 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class PlayerServiceImpl implements PlayerService {
 
+    private static final int MAX_DETAILS_BATCH_SIZE = 1000;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = PlayerSearchIndex.MAX_MATCHES;
+    private static final int MAX_FOLLOW_PAGE_SIZE = 100;
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+
     private final PlayerRepository playerRepository;
     private final ProfileRepository profileRepository;
     private final PlayerRatingHistoryRepository playerRatingHistoryRepository;
     private final EmailServiceClient emailServiceClient;
-    private final FollowRepository followRepository;
+    private final FollowGraph followGraph;
+    private final LeaderboardIndex leaderboardIndex;
+    private final PlayerSearchIndex playerSearchIndex;
+    private final ActivityFeed activityFeed;
 
     public PlayerServiceImpl(
             PlayerRepository playerRepository,
             ProfileRepository profileRepository,
             PlayerRatingHistoryRepository playerRatingHistoryRepository,
             EmailServiceClient emailServiceClient,
-            FollowRepository followRepositoru
+            FollowGraph followGraph,
+            LeaderboardIndex leaderboardIndex,
+            PlayerSearchIndex playerSearchIndex,
+            ActivityFeed activityFeed
     ) {
         this.playerRepository = playerRepository;
         this.profileRepository = profileRepository;
         this.playerRatingHistoryRepository = playerRatingHistoryRepository;
         this.emailServiceClient = emailServiceClient;
-        this.followRepository = followRepositoru;
+        this.followGraph = followGraph;
+        this.leaderboardIndex = leaderboardIndex;
+        this.playerSearchIndex = playerSearchIndex;
+        this.activityFeed = activityFeed;
     }
 
     @Override
@@ -69,6 +89,8 @@ public class PlayerServiceImpl implements PlayerService {
 
         playerRepository.save(newPlayer);
         playerRatingHistoryRepository.save(playerRatingHistory);
+        leaderboardIndex.updateAfterCommit(List.of(LeaderboardIndex.Entry.of(profile)));
+        playerSearchIndex.updateAfterCommit(List.of(PlayerSearchIndex.Entry.of(profile)));
 
         return ResponseEntity.ok(new PlayerCreationResponseDTO(newPlayer.getPlayerId(), "Player and Profile created successfully"));
     }
@@ -145,6 +167,17 @@ public class PlayerServiceImpl implements PlayerService {
         return PlayerMapper.toPlayerDTO(player);
     }
 
+    // Players that do not exist are left out of the result
+    @Override
+    public List<PlayerDTO> getPlayersDetails(List<Long> playerIds) {
+        if (playerIds.size() > MAX_DETAILS_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_DETAILS_BATCH_SIZE + " players can be requested at once.");
+        }
+        return playerRepository.findAllWithProfileByPlayerIdIn(new HashSet<>(playerIds)).stream()
+                .map(PlayerMapper::toPlayerDTO)
+                .toList();
+    }
+
     @Override
     public ResponseEntity<String> reportPlayer(ReportPlayerRequestDTO reportRequestDTO) {
 
@@ -187,52 +220,102 @@ public class PlayerServiceImpl implements PlayerService {
         playerRepository.save(player);
     }
 
+    // Matches come from the in-memory search index, only the players of the page are loaded from the database
     @Override
     public Page<PlayerDTO> searchPlayers(String query, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return playerRepository.findByUsernameContainingIgnoreCase(query, pageable)
-                .map(PlayerMapper::toPlayerDTO);
+        Pageable pageable = PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE)));
+        if (pageable.getOffset() >= MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("Only the first " + MAX_SEARCH_RESULTS + " search results can be paged through.");
+        }
+
+        PlayerSearchIndex.Result result = playerSearchIndex.search(query, (int) pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(loadPlayers(result.getPlayerIds()), pageable, result.getTotal());
     }
 
     @Override
     public ResponseEntity<String> followPlayer(Long followerId, Long followedId) {
-        if (followerId.equals(followedId)) {
-            throw new IllegalArgumentException("You cannot follow yourself.");
-        }
-
-        Player follower = getPlayerById(followerId);
-        Player followed = getPlayerById(followedId);
-
-        if (followRepository.findByFollowerAndFollowed(follower, followed).isPresent()) {
-            return ResponseEntity.status(HttpStatus.CONFLICT).body("Already following this player.");
-        }
-
-        followRepository.save(new Follow(follower, followed));
+        followGraph.follow(followerId, followedId);
+        activityFeed.followsChanged(followerId);
         return ResponseEntity.ok("Successfully followed the player.");
     }
 
     @Override
     public ResponseEntity<String> unfollowPlayer(Long followerId, Long followedId) {
-        Player follower = getPlayerById(followerId);
-        Player followed = getPlayerById(followedId);
-        Follow follow = followRepository.findByFollowerAndFollowed(follower, followed)
-                .orElseThrow(() -> new IllegalArgumentException("Not following this player."));
-        followRepository.delete(follow);
+        followGraph.unfollow(followerId, followedId);
+        activityFeed.followsChanged(followerId);
         return ResponseEntity.ok("Successfully unfollowed the player.");
     }
 
+    // The total comes from the follow counter instead of a COUNT over the follow table
     @Override
     public Page<PlayerDTO> getFollowedPlayers(Long followerId, int page, int size) {
-        Player follower = getPlayerById(followerId);
-        Pageable pageable = PageRequest.of(page, size);
-        return followRepository.findByFollower(follower, pageable).map(follow -> PlayerMapper.toPlayerDTO(follow.getFollowed()));
+        FollowCountsDTO counts = followGraph.getCounts(followerId);
+        Pageable pageable = PageRequest.of(Math.max(0, page), followPageSize(size));
+        return new PageImpl<>(loadPlayers(followGraph.getFollowingIds(followerId, pageable)), pageable, counts.getFollowing());
     }
 
     @Override
     public Page<PlayerDTO> getFollowers(Long playerId, int page, int size) {
-        Player followed = getPlayerById(playerId);
-        Pageable pageable = PageRequest.of(page, size);
-        return followRepository.findByFollowed(followed, pageable).map(follow -> PlayerMapper.toPlayerDTO(follow.getFollower()));
+        FollowCountsDTO counts = followGraph.getCounts(playerId);
+        Pageable pageable = PageRequest.of(Math.max(0, page), followPageSize(size));
+        return new PageImpl<>(loadPlayers(followGraph.getFollowerIds(playerId, pageable)), pageable, counts.getFollowers());
+    }
+
+    @Override
+    public FollowPageDTO getFollowedPlayersAfter(Long followerId, long cursor, int size) {
+        FollowCountsDTO counts = followGraph.getCounts(followerId);
+        int limit = followPageSize(size);
+        // One extra id tells whether there is a next page
+        List<Long> ids = followGraph.getFollowingIds(followerId, cursor, limit + 1);
+        return toFollowPage(ids, limit, counts.getFollowing());
+    }
+
+    @Override
+    public FollowPageDTO getFollowersAfter(Long playerId, long cursor, int size) {
+        FollowCountsDTO counts = followGraph.getCounts(playerId);
+        int limit = followPageSize(size);
+        List<Long> ids = followGraph.getFollowerIds(playerId, cursor, limit + 1);
+        return toFollowPage(ids, limit, counts.getFollowers());
+    }
+
+    @Override
+    public FollowCountsDTO getFollowCounts(Long playerId) {
+        return followGraph.getCounts(playerId);
+    }
+
+    @Override
+    public List<Long> getFollowedAmong(Long followerId, List<Long> playerIds) {
+        Set<Long> followed = followGraph.getFollowedAmong(followerId, playerIds);
+        return playerIds.stream().distinct().filter(followed::contains).toList();
+    }
+
+    // Served from the follower's feed in memory, see ActivityFeed
+    @Override
+    public FeedPageDTO getFeed(Long playerId, Long cursor, int size) {
+        return activityFeed.getFeed(playerId, cursor, Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE)));
+    }
+
+    private static int followPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_FOLLOW_PAGE_SIZE));
+    }
+
+    private FollowPageDTO toFollowPage(List<Long> ids, int limit, long total) {
+        boolean hasNext = ids.size() > limit;
+        List<Long> page = hasNext ? ids.subList(0, limit) : ids;
+        Long nextCursor = hasNext ? page.get(page.size() - 1) : null;
+        return new FollowPageDTO(loadPlayers(page), nextCursor, total);
+    }
+
+    // Players with their profiles in the order of the given ids, leaving out the ones that no longer exist
+    private List<PlayerDTO> loadPlayers(List<Long> playerIds) {
+        if (playerIds.isEmpty()) return List.of();
+        Map<Long, Player> players = playerRepository.findAllWithProfileByPlayerIdIn(playerIds).stream()
+                .collect(Collectors.toMap(Player::getPlayerId, Function.identity()));
+        return playerIds.stream()
+                .map(players::get)
+                .filter(Objects::nonNull)
+                .map(PlayerMapper::toPlayerDTO)
+                .toList();
     }
 
     private Player getPlayerById(Long playerId) {
@@ -1,6 +1,7 @@
 package com.g1.mychess.player.service.impl;
 
 import com.g1.mychess.player.dto.LeaderboardProfileDTO;
+import com.g1.mychess.player.dto.LeaderboardRankDTO;
 import com.g1.mychess.player.dto.PlayerProfileDTO;
 import com.g1.mychess.player.dto.PlayerProfileUpdateDTO;
 import com.g1.mychess.player.dto.PlayerRatingUpdateDTO;
@@ -8,6 +9,7 @@ import com.g1.mychess.player.exception.PlayerNotFoundException;
 import com.g1.mychess.player.mapper.PlayerMapper;
 import com.g1.mychess.player.mapper.ProfileMapper;
 import com.g1.mychess.player.model.CustomChessRank;
+import com.g1.mychess.player.model.FeedEvent;
 import com.g1.mychess.player.model.Player;
 import com.g1.mychess.player.model.PlayerRatingHistory;
 import com.g1.mychess.player.model.Profile;
@@ -17,27 +19,53 @@ import com.g1.mychess.player.repository.ProfileRepository;
 import com.g1.mychess.player.service.ProfileService;
 import jakarta.transaction.Transactional;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ProfileServiceImpl implements ProfileService {
 
+    private static final int MAX_LEADERBOARD_PAGE_SIZE = 100;
+    private static final int MAX_LEADERBOARD_RADIUS = 50;
+
     private final PlayerRepository playerRepository;
     private final ProfileRepository profileRepository;
 
     private final PlayerRatingHistoryRepository playerRatingHistoryRepository;
+    private final LeaderboardIndex leaderboardIndex;
+    private final PlayerSearchIndex playerSearchIndex;
+    private final ActivityFeed activityFeed;
 
     public ProfileServiceImpl(
             PlayerRepository playerRepository,
-            ProfileRepository profileRepository, PlayerRatingHistoryRepository playerRatingHistoryRepository
+            ProfileRepository profileRepository, PlayerRatingHistoryRepository playerRatingHistoryRepository,
+            LeaderboardIndex leaderboardIndex,
+            PlayerSearchIndex playerSearchIndex,
+            ActivityFeed activityFeed
     ) {
         this.playerRepository = playerRepository;
         this.profileRepository = profileRepository;
         this.playerRatingHistoryRepository = playerRatingHistoryRepository;
+        this.leaderboardIndex = leaderboardIndex;
+        this.playerSearchIndex = playerSearchIndex;
+        this.activityFeed = activityFeed;
+    }
+
+    // Load the leaderboard and the search index once the application (and its data initializer) has started
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndexes() {
+        List<Profile> profiles = profileRepository.findAllWithPlayer();
+        leaderboardIndex.rebuild(profiles.stream().map(LeaderboardIndex.Entry::of).toList());
+        playerSearchIndex.rebuild(profiles.stream().map(PlayerSearchIndex.Entry::of).toList());
     }
 
     @Override
@@ -53,12 +81,55 @@ public class ProfileServiceImpl implements ProfileService {
     }
 
     private void updateProfileRating(Profile profile, PlayerRatingUpdateDTO ratingUpdateDTO) {
+        FeedEvent feedEvent = feedEvent(profile, ratingUpdateDTO, LocalDateTime.now());
+        applyRatingUpdate(profile, ratingUpdateDTO);
+        profileRepository.save(profile);
+        leaderboardIndex.updateAfterCommit(List.of(LeaderboardIndex.Entry.of(profile)));
+        activityFeed.publish(List.of(feedEvent));
+    }
+
+    @Override
+    @Transactional
+    public void updateProfileRatings(List<PlayerRatingUpdateDTO> ratingUpdateDTOs) {
+        List<Long> playerIds = ratingUpdateDTOs.stream().map(PlayerRatingUpdateDTO::getPlayerId).toList();
+        Map<Long, Profile> profiles = profileRepository.findAllWithPlayerByPlayerIdIn(playerIds).stream()
+                .collect(Collectors.toMap(Profile::getPlayerId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PlayerRatingHistory> ratingHistories = new ArrayList<>(ratingUpdateDTOs.size());
+        List<FeedEvent> feedEvents = new ArrayList<>(ratingUpdateDTOs.size());
+        for (PlayerRatingUpdateDTO ratingUpdateDTO : ratingUpdateDTOs) {
+            Profile profile = profiles.get(ratingUpdateDTO.getPlayerId());
+            if (profile == null) {
+                throw new PlayerNotFoundException("Player not found with id: " + ratingUpdateDTO.getPlayerId());
+            }
+            feedEvents.add(feedEvent(profile, ratingUpdateDTO, now));
+            applyRatingUpdate(profile, ratingUpdateDTO);
+            ratingHistories.add(new PlayerRatingHistory(profile.getPlayer(), ratingUpdateDTO.getGlickoRating(),
+                    ratingUpdateDTO.getRatingDeviation(), ratingUpdateDTO.getVolatility(), now));
+        }
+
+        profileRepository.saveAll(profiles.values());
+        playerRatingHistoryRepository.saveAll(ratingHistories);
+        leaderboardIndex.updateAfterCommit(profiles.values().stream().map(LeaderboardIndex.Entry::of).toList());
+        activityFeed.publish(feedEvents);
+    }
+
+    // Taken before the update is applied, to keep the rating it changes from
+    private static FeedEvent feedEvent(Profile profile, PlayerRatingUpdateDTO ratingUpdateDTO, LocalDateTime date) {
+        FeedEvent.Type type = ratingUpdateDTO.getTournamentId() != null
+                ? FeedEvent.Type.TOURNAMENT_RESULT
+                : FeedEvent.Type.RATING_CHANGE;
+        return new FeedEvent(profile.getPlayerId(), profile.getPlayer().getUsername(), type,
+                ratingUpdateDTO.getTournamentId(), profile.getGlickoRating(), ratingUpdateDTO.getGlickoRating(), date);
+    }
+
+    private void applyRatingUpdate(Profile profile, PlayerRatingUpdateDTO ratingUpdateDTO) {
         profile.setGlickoRating(ratingUpdateDTO.getGlickoRating());
         profile.setRatingDeviation(ratingUpdateDTO.getRatingDeviation());
         profile.setVolatility(ratingUpdateDTO.getVolatility());
         CustomChessRank rank = CustomChessRank.getRankForRating(ratingUpdateDTO.getGlickoRating());
         profile.setRank(rank);
-        profileRepository.save(profile);
     }
 
     @Override
@@ -73,6 +144,8 @@ public class ProfileServiceImpl implements ProfileService {
         Profile profile = getProfileByPlayerId(playerId);
         PlayerMapper.updateProfileFromDTO(profile, profileUpdateDTO);
         profileRepository.save(profile);
+        leaderboardIndex.updateAfterCommit(List.of(LeaderboardIndex.Entry.of(profile)));
+        playerSearchIndex.updateAfterCommit(List.of(PlayerSearchIndex.Entry.of(profile)));
         return ResponseEntity.ok("Profile updated successfully");
     }
 
@@ -86,11 +159,25 @@ public class ProfileServiceImpl implements ProfileService {
         playerRatingHistoryRepository.save(ratingHistory);
     }
 
+    // Served from the in-memory leaderboard, without touching the database
     @Override
-    @Transactional
-    public List<LeaderboardProfileDTO> getLeaderboard() {
-        return ProfileMapper.toLeaderboardProfileDTOList(profileRepository.findTop50ByOrderByGlickoRatingDesc());
-                
+    public List<LeaderboardProfileDTO> getLeaderboard(int offset, int limit) {
+        int from = Math.max(0, offset);
+        int size = Math.max(1, Math.min(limit, MAX_LEADERBOARD_PAGE_SIZE));
+        return ProfileMapper.toLeaderboardProfileDTOList(leaderboardIndex.page(from, size), from);
     }
 
-}
\ No newline at end of file
+    @Override
+    public LeaderboardRankDTO getLeaderboardRank(Long playerId, int radius) {
+        int position = leaderboardIndex.positionOf(playerId);
+        if (position == 0) {
+            throw new PlayerNotFoundException("Player not found with id: " + playerId);
+        }
+
+        int neighbours = Math.max(0, Math.min(radius, MAX_LEADERBOARD_RADIUS));
+        int from = Math.max(0, position - 1 - neighbours);
+        List<LeaderboardProfileDTO> neighbourhood = ProfileMapper.toLeaderboardProfileDTOList(
+                leaderboardIndex.page(from, position - from + neighbours), from);
+        return new LeaderboardRankDTO(playerId, position, leaderboardIndex.size(), neighbourhood);
+    }
+}
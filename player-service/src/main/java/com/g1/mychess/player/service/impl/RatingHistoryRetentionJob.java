@@ -0,0 +1,156 @@
+package com.g1.mychess.player.service.impl;
+
+import com.g1.mychess.player.config.RatingHistoryProperties;
+import com.g1.mychess.player.dto.RatingHistoryRowDTO;
+import com.g1.mychess.player.model.RetentionCheckpoint;
+import com.g1.mychess.player.repository.PlayerRatingHistoryRepository;
+import com.g1.mychess.player.repository.RetentionCheckpointRepository;
+import com.g1.mychess.player.service.PlayerRatingHistoryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// Nightly rollup and retention of the raw rating history.
+// Expired rows are deleted oldest first in chunks walking the (date, id) index (keyset pagination), each chunk a
+// short transaction locking only its own rows, with a pause in between. The walk ends at the cutoff, so a run reads
+// the expired rows and nothing newer: its cost depends on the rows it deletes, plus the latest row kept for each
+// inactive player, not on the size of the table. The cursor is stored after every chunk, so a run stopped by its
+// time budget or a restart continues where it stopped.
+@Component
+public class RatingHistoryRetentionJob {
+
+    static final String JOB_NAME = "rating-history";
+
+    private static final Logger log = LoggerFactory.getLogger(RatingHistoryRetentionJob.class);
+
+    private final PlayerRatingHistoryService playerRatingHistoryService;
+    private final PlayerRatingHistoryRepository playerRatingHistoryRepository;
+    private final RetentionCheckpointRepository retentionCheckpointRepository;
+    private final RatingHistoryProperties properties;
+
+    private final Counter deletedRows;
+    private volatile double rowsPerSecond;
+    private volatile double lagSeconds;
+
+    public RatingHistoryRetentionJob(PlayerRatingHistoryService playerRatingHistoryService,
+                                     PlayerRatingHistoryRepository playerRatingHistoryRepository,
+                                     RetentionCheckpointRepository retentionCheckpointRepository,
+                                     RatingHistoryProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.playerRatingHistoryService = playerRatingHistoryService;
+        this.playerRatingHistoryRepository = playerRatingHistoryRepository;
+        this.retentionCheckpointRepository = retentionCheckpointRepository;
+        this.properties = properties;
+
+        this.deletedRows = Counter.builder("rating.history.retention.deleted")
+                .description("Raw rating history rows deleted by the retention job")
+                .register(meterRegistry);
+        Gauge.builder("rating.history.retention.rate", this, job -> job.rowsPerSecond)
+                .description("Rows deleted per second by the current or last retention run")
+                .baseUnit("rows/s")
+                .register(meterRegistry);
+        Gauge.builder("rating.history.retention.lag", this, job -> job.lagSeconds)
+                .description("How far past the retention cutoff the oldest row still to be deleted is")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "0 0 0 * * ?")  // every day at midnight
+    public void run() {
+        // Raw samples are only deleted once they are in the daily, weekly and monthly rollups
+        playerRatingHistoryService.rollUpRatingHistories();
+        deleteExpired(LocalDate.now().minusDays(properties.getRawRetentionDays()).atStartOfDay());
+    }
+
+    // Deletes the rows older than the cutoff, except each player's latest, and returns how many were deleted
+    public long deleteExpired(LocalDateTime cutoff) {
+        RetentionCheckpoint checkpoint = retentionCheckpointRepository.findById(JOB_NAME)
+                .orElseGet(() -> new RetentionCheckpoint(JOB_NAME));
+        boolean resume = !checkpoint.isCompleted() && checkpoint.getLastDate() != null;
+        LocalDateTime afterDate = resume ? checkpoint.getLastDate() : null;
+        long afterId = resume ? checkpoint.getLastId() : 0;
+        int chunkSize = properties.getRetentionChunkSize();
+
+        long started = System.nanoTime();
+        long deadline = started + properties.getRetentionMaxRunTime().toNanos();
+        long deleted = 0;
+        rowsPerSecond = 0;
+
+        while (true) {
+            PageRequest page = PageRequest.of(0, chunkSize);
+            List<RatingHistoryRowDTO> chunk = afterDate == null
+                    ? playerRatingHistoryRepository.findExpired(cutoff, page)
+                    : playerRatingHistoryRepository.findExpiredAfter(afterDate, afterId, cutoff, page);
+            if (!chunk.isEmpty()) {
+                deleted += deleteChunk(chunk);
+                RatingHistoryRowDTO last = chunk.get(chunk.size() - 1);
+                afterDate = last.getDate();
+                afterId = last.getId();
+                lagSeconds = Math.max(0, Duration.between(last.getDate(), cutoff).toSeconds());
+            }
+
+            boolean completed = chunk.size() < chunkSize;
+            saveCheckpoint(checkpoint, afterDate, afterId, cutoff, completed);
+            rowsPerSecond = deleted / Math.max(1e-3, (System.nanoTime() - started) / 1e9);
+
+            if (completed) {
+                lagSeconds = 0;
+                break;
+            }
+            if (System.nanoTime() > deadline) {
+                log.warn("Rating history retention stopped after its time budget at ({}, {}), resuming next run", afterDate, afterId);
+                break;
+            }
+            if (!pause()) break;
+        }
+        return deleted;
+    }
+
+    // Deletes the rows of the chunk that are not the latest of their player
+    private int deleteChunk(List<RatingHistoryRowDTO> chunk) {
+        Set<Long> playerIds = new HashSet<>();
+        chunk.forEach(row -> playerIds.add(row.getPlayerId()));
+        Set<Long> latestIds = new HashSet<>(playerRatingHistoryRepository.findLatestIds(playerIds));
+
+        List<Long> ids = new ArrayList<>(chunk.size());
+        for (RatingHistoryRowDTO row : chunk) {
+            if (!latestIds.contains(row.getId())) ids.add(row.getId());
+        }
+        if (ids.isEmpty()) return 0;
+
+        int deleted = playerRatingHistoryRepository.deleteByIds(ids);
+        deletedRows.increment(deleted);
+        return deleted;
+    }
+
+    private void saveCheckpoint(RetentionCheckpoint checkpoint, LocalDateTime lastDate, long lastId,
+                                LocalDateTime cutoff, boolean completed) {
+        checkpoint.setLastDate(lastDate);
+        checkpoint.setLastId(lastId);
+        checkpoint.setCutoff(cutoff);
+        checkpoint.setCompleted(completed);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        retentionCheckpointRepository.save(checkpoint);
+    }
+
+    // Throttles the job between chunks; returns false if the thread was interrupted, e.g. on shutdown
+    private boolean pause() {
+        try {
+            Thread.sleep(properties.getRetentionPause().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
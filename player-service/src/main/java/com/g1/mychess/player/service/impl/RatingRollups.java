@@ -0,0 +1,86 @@
+package com.g1.mychess.player.service.impl;
+
+import com.g1.mychess.player.dto.RatingSampleDTO;
+import com.g1.mychess.player.model.PlayerRatingRollup;
+import com.g1.mychess.player.model.PlayerRatingRollup.Resolution;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Downsampling of rating samples into day, week and month buckets.
+// Inputs are ordered by player and time, so every bucket is built in one pass without grouping maps.
+final class RatingRollups {
+
+    private RatingRollups() {
+    }
+
+    // Buckets of raw samples ordered by player and date
+    static List<PlayerRatingRollup> fromSamples(List<RatingSampleDTO> samples, Resolution resolution) {
+        List<PlayerRatingRollup> buckets = new ArrayList<>();
+        PlayerRatingRollup current = null;
+        for (RatingSampleDTO sample : samples) {
+            PlayerRatingRollup single = new PlayerRatingRollup(sample.getPlayerId(), resolution,
+                    resolution.bucketStart(sample.getDate().toLocalDate()));
+            single.setOpenRating(sample.getGlickoRating());
+            single.setCloseRating(sample.getGlickoRating());
+            single.setMinRating(sample.getGlickoRating());
+            single.setMaxRating(sample.getGlickoRating());
+            single.setRatingDeviation(sample.getRatingDeviation());
+            single.setVolatility(sample.getVolatility());
+            single.setSamples(1);
+            current = append(buckets, current, single);
+        }
+        return buckets;
+    }
+
+    // Coarser buckets of finer ones ordered by player and bucket start, e.g. weeks of days
+    static List<PlayerRatingRollup> combine(List<PlayerRatingRollup> finer, Resolution resolution) {
+        List<PlayerRatingRollup> buckets = new ArrayList<>();
+        PlayerRatingRollup current = null;
+        for (PlayerRatingRollup rollup : finer) {
+            PlayerRatingRollup copy = new PlayerRatingRollup(rollup.getPlayerId(), resolution,
+                    resolution.bucketStart(rollup.getBucketStart()));
+            copy.copyValuesFrom(rollup);
+            current = append(buckets, current, copy);
+        }
+        return buckets;
+    }
+
+    // Concatenates two series of one player, merging the last bucket of the first with the first of the second
+    // when they are the same bucket
+    static List<PlayerRatingRollup> concat(List<PlayerRatingRollup> earlier, List<PlayerRatingRollup> later) {
+        List<PlayerRatingRollup> buckets = new ArrayList<>(earlier.size() + later.size());
+        PlayerRatingRollup current = null;
+        for (PlayerRatingRollup rollup : earlier) {
+            buckets.add(rollup);
+            current = rollup;
+        }
+        if (current != null && !later.isEmpty()) {
+            // Not merged into the loaded entity, which belongs to the persistence context
+            PlayerRatingRollup copy = new PlayerRatingRollup(current.getPlayerId(), current.getResolution(), current.getBucketStart());
+            copy.copyValuesFrom(current);
+            buckets.set(buckets.size() - 1, copy);
+            current = copy;
+        }
+        for (PlayerRatingRollup rollup : later) {
+            current = append(buckets, current, rollup);
+        }
+        return buckets;
+    }
+
+    // Adds the next bucket in order, or merges it into the current one if they cover the same player and period
+    private static PlayerRatingRollup append(List<PlayerRatingRollup> buckets, PlayerRatingRollup current, PlayerRatingRollup next) {
+        if (current != null && current.getPlayerId().equals(next.getPlayerId())
+                && current.getBucketStart().equals(next.getBucketStart())) {
+            current.setCloseRating(next.getCloseRating());
+            current.setMinRating(Math.min(current.getMinRating(), next.getMinRating()));
+            current.setMaxRating(Math.max(current.getMaxRating(), next.getMaxRating()));
+            current.setRatingDeviation(next.getRatingDeviation());
+            current.setVolatility(next.getVolatility());
+            current.setSamples(current.getSamples() + next.getSamples());
+            return current;
+        }
+        buckets.add(next);
+        return next;
+    }
+}
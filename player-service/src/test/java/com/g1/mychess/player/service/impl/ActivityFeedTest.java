@@ -0,0 +1,204 @@
+package com.g1.mychess.player.service.impl;
+
+import com.g1.mychess.player.config.FeedProperties;
+import com.g1.mychess.player.dto.FeedEventDTO;
+import com.g1.mychess.player.dto.FeedPageDTO;
+import com.g1.mychess.player.dto.FollowCountsDTO;
+import com.g1.mychess.player.model.FeedEvent;
+import com.g1.mychess.player.repository.FeedEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ActivityFeedTest {
+
+    private static final Long READER_ID = 1L;
+    // Followed by the reader, below the fan-out limit
+    private static final Long SMALL_ID = 10L;
+    // Followed by the reader, above the fan-out limit
+    private static final Long BIG_ID = 20L;
+    private static final Long OTHER_BIG_ID = 30L;
+
+    private final AtomicLong eventIds = new AtomicLong();
+    // Events stored by the repository
+    private final List<FeedEvent> stored = new ArrayList<>();
+
+    private FeedEventRepository feedEventRepository;
+    private FollowGraph followGraph;
+    private ExecutorService fanOut;
+    private ActivityFeed activityFeed;
+
+    @BeforeEach
+    void setUp() {
+        feedEventRepository = mock(FeedEventRepository.class);
+        when(feedEventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<FeedEvent> events = invocation.getArgument(0);
+            events.forEach(event -> event.setId(eventIds.incrementAndGet()));
+            stored.addAll(events);
+            return events;
+        });
+        when(feedEventRepository.findLatestByPlayerId(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            Long playerId = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            return stored.stream()
+                    .filter(event -> event.getPlayerId().equals(playerId))
+                    .sorted(Comparator.comparing(FeedEvent::getId).reversed())
+                    .limit(pageable.getPageSize())
+                    .toList();
+        });
+
+        followGraph = mock(FollowGraph.class);
+        when(followGraph.getCounts(READER_ID)).thenReturn(new FollowCountsDTO(READER_ID, 0, 3));
+        when(followGraph.getCounts(SMALL_ID)).thenReturn(new FollowCountsDTO(SMALL_ID, 1, 0));
+        when(followGraph.getCounts(BIG_ID)).thenReturn(new FollowCountsDTO(BIG_ID, 5, 0));
+        when(followGraph.getCounts(OTHER_BIG_ID)).thenReturn(new FollowCountsDTO(OTHER_BIG_ID, 5, 0));
+        when(followGraph.getFollowerIds(eq(SMALL_ID), anyLong(), anyInt())).thenReturn(List.of(READER_ID));
+        when(followGraph.getFollowedWithMoreFollowersThan(READER_ID, 2)).thenReturn(List.of(BIG_ID, OTHER_BIG_ID));
+
+        FeedProperties properties = new FeedProperties();
+        properties.setInboxSize(3);
+        properties.setFanOutLimit(2);
+        properties.setMaxOutboxes(1);
+
+        fanOut = Executors.newSingleThreadExecutor();
+        activityFeed = new ActivityFeed(feedEventRepository, followGraph, properties, fanOut);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanOut.shutdownNow();
+    }
+
+    @Test
+    void testRing_KeepsTheLatestEventsInIdOrder() {
+        ActivityFeed.Ring ring = new ActivityFeed.Ring(3);
+        for (long id : new long[]{2, 5, 3, 3, 4}) {
+            ring.add(event(id));
+        }
+
+        // 3 was added twice, and 2 was overwritten once the ring was full
+        assertEquals(List.of(5L, 4L, 3L), ids(ring.before(Long.MAX_VALUE, 10)));
+
+        // Older than everything kept, so it is dropped
+        ring.add(event(1));
+        assertEquals(List.of(5L, 4L, 3L), ids(ring.before(Long.MAX_VALUE, 10)));
+
+        ring.add(event(7));
+        ring.add(event(6));
+        assertEquals(List.of(7L, 6L, 5L), ids(ring.before(Long.MAX_VALUE, 10)));
+    }
+
+    @Test
+    void testRing_PagesBeforeTheCursor() {
+        ActivityFeed.Ring ring = new ActivityFeed.Ring(5);
+        for (long id = 1; id <= 5; id++) {
+            ring.add(event(id * 10));
+        }
+
+        assertEquals(List.of(50L, 40L), ids(ring.before(Long.MAX_VALUE, 2)));
+        assertEquals(List.of(30L, 20L), ids(ring.before(40, 2)));
+        assertEquals(List.of(30L, 20L, 10L), ids(ring.before(35, 10)));
+        assertTrue(ring.before(10, 10).isEmpty());
+    }
+
+    @Test
+    void testGetFeed_FansOutToFeedsInMemory() throws Exception {
+        // Loads the reader's empty feed, so the next event is fanned out to it
+        assertTrue(activityFeed.getFeed(READER_ID, null, 10).getEvents().isEmpty());
+
+        publish(SMALL_ID);
+        publish(SMALL_ID);
+
+        FeedPageDTO page = activityFeed.getFeed(READER_ID, null, 1);
+        assertEquals(List.of(2L), ids(page.getEvents()));
+        assertEquals(2L, page.getNextCursor());
+        assertEquals(List.of(1L), ids(activityFeed.getFeed(READER_ID, page.getNextCursor(), 1).getEvents()));
+        verify(feedEventRepository, times(1)).findLatestOfFollowed(eq(READER_ID), any(Pageable.class));
+    }
+
+    @Test
+    void testGetFeed_MergesTheOutboxesOfPlayersAboveTheLimit() throws Exception {
+        activityFeed.getFeed(READER_ID, null, 10);
+
+        publish(SMALL_ID);
+        publish(BIG_ID);
+        publish(SMALL_ID);
+
+        assertEquals(List.of(3L, 2L, 1L), ids(activityFeed.getFeed(READER_ID, null, 10).getEvents()));
+        // Not fanned out to the followers of a player above the limit
+        verify(followGraph, never()).getFollowerIds(eq(BIG_ID), anyLong(), anyInt());
+    }
+
+    @Test
+    void testGetFeed_RebuildsAnOutboxDroppedFromMemory() throws Exception {
+        publish(BIG_ID);
+        // Only one outbox is held, so this drops the first player's
+        publish(OTHER_BIG_ID);
+
+        assertEquals(List.of(2L, 1L), ids(activityFeed.getFeed(READER_ID, null, 10).getEvents()));
+    }
+
+    @Test
+    void testGetFeed_LooksUpFollowedPlayersAboveTheLimitOnlyWhenTheyChange() throws Exception {
+        activityFeed.getFeed(READER_ID, null, 10);
+        publish(BIG_ID);
+        activityFeed.getFeed(READER_ID, null, 10);
+        activityFeed.getFeed(READER_ID, null, 10);
+        // Once for the first read and once after the player passed the limit, not for every read
+        verify(followGraph, times(2)).getFollowedWithMoreFollowersThan(READER_ID, 2);
+
+        publish(BIG_ID);
+        activityFeed.getFeed(READER_ID, null, 10);
+        verify(followGraph, times(2)).getFollowedWithMoreFollowersThan(READER_ID, 2);
+        verify(followGraph, never()).getFollowedAmong(anyLong(), anyCollection());
+    }
+
+    @Test
+    void testFollowsChanged_ReloadsTheFeed() throws Exception {
+        activityFeed.getFeed(READER_ID, null, 10);
+        FeedEvent event = publish(BIG_ID);
+        activityFeed.getFeed(READER_ID, null, 10);
+
+        // The reader unfollowed the player above the limit and now follows a player whose events were not fanned out
+        when(followGraph.getFollowedWithMoreFollowersThan(READER_ID, 2)).thenReturn(List.of());
+        FeedEvent earlier = new FeedEvent(40L, "player40", FeedEvent.Type.RATING_CHANGE, null, 1500, 1510, LocalDateTime.now());
+        earlier.setId(eventIds.incrementAndGet());
+        when(feedEventRepository.findLatestOfFollowed(eq(READER_ID), any(Pageable.class))).thenReturn(List.of(earlier));
+        activityFeed.followsChanged(READER_ID);
+
+        List<FeedEventDTO> events = activityFeed.getFeed(READER_ID, null, 10).getEvents();
+        assertEquals(List.of(earlier.getId()), ids(events));
+        assertNotEquals(event.getId(), events.get(0).getId());
+        verify(feedEventRepository, times(2)).findLatestOfFollowed(eq(READER_ID), any(Pageable.class));
+    }
+
+    // Publishes an event of the player and waits for it to be fanned out
+    private FeedEvent publish(Long playerId) throws Exception {
+        FeedEvent event = new FeedEvent(playerId, "player" + playerId, FeedEvent.Type.RATING_CHANGE, null,
+                1500, 1510, LocalDateTime.now());
+        activityFeed.publish(new ArrayList<>(List.of(event)));
+        fanOut.submit(() -> { }).get();
+        return event;
+    }
+
+    private static FeedEventDTO event(long id) {
+        return new FeedEventDTO(id, 1L, "player", FeedEvent.Type.RATING_CHANGE, null, 1500, 1510, LocalDateTime.now());
+    }
+
+    private static List<Long> ids(List<FeedEventDTO> events) {
+        return events.stream().map(FeedEventDTO::getId).toList();
+    }
+}
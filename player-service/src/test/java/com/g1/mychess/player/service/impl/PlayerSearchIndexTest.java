@@ -0,0 +1,128 @@
+package com.g1.mychess.player.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PlayerSearchIndexTest {
+
+    private PlayerSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlayerSearchIndex();
+        index.rebuild(List.of(
+                new PlayerSearchIndex.Entry(1L, "magnus", "Magnus Carlsen", "Norway"),
+                new PlayerSearchIndex.Entry(2L, "mag", "Hikaru Nakamura", "United States"),
+                new PlayerSearchIndex.Entry(3L, "fabi", "Fabiano Caruana", "United States"),
+                new PlayerSearchIndex.Entry(4L, "ding", "Ding Liren", "China"),
+                new PlayerSearchIndex.Entry(5L, "bobby_fischer", null, null)));
+    }
+
+    @Test
+    void testSearch_UsernamePrefixesComeFirstAlphabetically() {
+        PlayerSearchIndex.Result result = index.search("mag", 0, 10);
+
+        // "mag" and "magnus" start with the query, the exact username first
+        assertEquals(List.of(2L, 1L), result.getPlayerIds());
+        assertEquals(2, result.getTotal());
+    }
+
+    @Test
+    void testSearch_MatchesWordStartsThenSubstrings() {
+        // "Carlsen" and "Caruana" both start with the query, so they are ordered by when they were indexed
+        assertEquals(List.of(1L, 3L), index.search("car", 0, 10).getPlayerIds());
+
+        // "ura" only appears inside "Nakamura"
+        assertEquals(List.of(2L), index.search("ura", 0, 10).getPlayerIds());
+    }
+
+    @Test
+    void testSearch_EveryWordMustMatch() {
+        assertEquals(List.of(2L, 3L), index.search("united states", 0, 10).getPlayerIds());
+        assertEquals(List.of(3L), index.search("fabiano united", 0, 10).getPlayerIds());
+        assertTrue(index.search("fabiano china", 0, 10).getPlayerIds().isEmpty());
+    }
+
+    @Test
+    void testSearch_NormalizesCaseAccentsAndSeparators() {
+        index.update(List.of(new PlayerSearchIndex.Entry(6L, "jose", "Jos\u00e9 Ra\u00fal Capablanca", "Cuba")));
+
+        assertEquals(List.of(6L), index.search("RAUL", 0, 10).getPlayerIds());
+        assertEquals(List.of(6L), index.search("cap\u00e1blanca", 0, 10).getPlayerIds());
+        assertEquals(List.of(5L), index.search("Bobby-Fischer", 0, 10).getPlayerIds());
+        assertEquals(List.of(5L), index.search("fischer", 0, 10).getPlayerIds());
+    }
+
+    @Test
+    void testSearch_ShortWordsOnlyMatchWordStarts() {
+        // One and two letter words are looked up by their word start grams, never as substrings
+        assertEquals(List.of(4L), index.search("d", 0, 10).getPlayerIds());
+        assertEquals(List.of(4L), index.search("li", 0, 10).getPlayerIds());
+        assertTrue(index.search("en", 0, 10).getPlayerIds().isEmpty());
+    }
+
+    @Test
+    void testUpdate_ReplacesThePreviousEntry() {
+        index.update(List.of(new PlayerSearchIndex.Entry(4L, "liren", "Ding Liren", "Canada")));
+
+        assertEquals(List.of(4L), index.search("canada", 0, 10).getPlayerIds());
+        assertTrue(index.search("china", 0, 10).getPlayerIds().isEmpty());
+        assertEquals(List.of(4L), index.search("liren", 0, 10).getPlayerIds());
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void testUpdate_CompactsOnceMostDocumentsAreDead() {
+        for (int version = 0; version < 3000; version++) {
+            index.update(List.of(new PlayerSearchIndex.Entry(4L, "ding", "Ding Liren", "Country" + version)));
+        }
+
+        assertEquals(5, index.size());
+        assertEquals(List.of(4L), index.search("country2999", 0, 10).getPlayerIds());
+        assertTrue(index.search("country2998", 0, 10).getPlayerIds().isEmpty());
+        assertEquals(List.of(1L), index.search("norway", 0, 10).getPlayerIds());
+    }
+
+    @Test
+    void testUpdate_IndexesTextWithoutWords() {
+        index.update(List.of(
+                new PlayerSearchIndex.Entry(6L, "__", null, null),
+                new PlayerSearchIndex.Entry(7L, "", null, null),
+                new PlayerSearchIndex.Entry(8L, "x", null, null)));
+
+        assertEquals(8, index.size());
+        // A username of symbols is found by a prefix of the same symbols only
+        assertEquals(List.of(6L), index.search("_", 0, 10).getPlayerIds());
+        assertEquals(List.of(6L), index.search(" __ ", 0, 10).getPlayerIds());
+        assertEquals(List.of(8L), index.search("x", 0, 10).getPlayerIds());
+    }
+
+    @Test
+    void testSearch_BlankOrEmptyQueryMatchesNothing() {
+        assertEquals(0, index.search("", 0, 10).getTotal());
+        assertEquals(0, index.search("   ", 0, 10).getTotal());
+        assertEquals(0, index.search(null, 0, 10).getTotal());
+        assertEquals(0, index.search("magnus", 0, 0).getTotal());
+    }
+
+    @Test
+    void testSearch_PagesAndCountsUpToTheLimit() {
+        List<PlayerSearchIndex.Entry> entries = new ArrayList<>();
+        for (long playerId = 100; playerId < 100 + PlayerSearchIndex.MAX_MATCHES + 50; playerId++) {
+            entries.add(new PlayerSearchIndex.Entry(playerId, "player" + playerId, null, "Chess Land"));
+        }
+        index.update(entries);
+
+        PlayerSearchIndex.Result firstPage = index.search("player", 0, 3);
+        assertEquals(List.of(100L, 1000L, 1001L), firstPage.getPlayerIds());
+        assertEquals(PlayerSearchIndex.MAX_MATCHES, firstPage.getTotal());
+
+        PlayerSearchIndex.Result secondPage = index.search("land", 3, 3);
+        assertEquals(List.of(103L, 104L, 105L), secondPage.getPlayerIds());
+    }
+}
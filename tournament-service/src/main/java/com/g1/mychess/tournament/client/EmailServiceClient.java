@@ -1,6 +1,9 @@
 package com.g1.mychess.tournament.client;
 
-import com.g1.mychess.tournament.dto.TournamentNotificationDTO;
+import com.g1.mychess.client.ServiceClientFactory;
+import com.g1.mychess.tournament.dto.TournamentBroadcastDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -9,22 +12,30 @@ import reactor.core.publisher.Mono;
 @Service
 public class EmailServiceClient {
 
+    private static final Logger log = LoggerFactory.getLogger(EmailServiceClient.class);
+
     private final WebClient webClient;
+    private final String serviceToken;
 
-    public EmailServiceClient(@Value("${email.service.url}") String emailServiceUrl, WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.baseUrl(emailServiceUrl).build();
+    public EmailServiceClient(@Value("${email.service.url}") String emailServiceUrl,
+                              @Value("${email.service-token:}") String serviceToken,
+                              ServiceClientFactory serviceClientFactory) {
+        this.webClient = serviceClientFactory.create("email", emailServiceUrl);
+        this.serviceToken = serviceToken;
     }
 
-    public Mono<String> sendTournamentNotification(TournamentNotificationDTO notification) {
+    // One request for all recipients; the email service renders and queues one email per recipient.
+    // Broadcasts send to any address, so the email service only accepts them with the shared service token.
+    public Mono<String> sendTournamentBroadcast(TournamentBroadcastDTO broadcast) {
         return webClient.post()
-                .uri("/api/v1/email/tournament-notification")
-                .bodyValue(notification)
+                .uri("/api/v1/email/tournament-broadcast")
+                .header("X-Service-Token", serviceToken)
+                .bodyValue(broadcast)
                 .retrieve()
                 .bodyToMono(String.class)
                 .onErrorResume(error -> {
-                    // Log the error or handle fallback
-                    System.err.println("Error sending tournament notification: " + error.getMessage());
-                    return Mono.just("Failed to send notification");
+                    log.warn("Error sending broadcast of tournament {}: {}", broadcast.getTournamentId(), error.getMessage());
+                    return Mono.just("Failed to send broadcast");
                 });
     }
-}
\ No newline at end of file
+}
@@ -1,17 +1,23 @@
 package com.g1.mychess.tournament.client;
 
+import com.g1.mychess.client.ServiceClientFactory;
 import com.g1.mychess.tournament.dto.MatchmakingDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 @Service
 public class MatchServiceClient {
+    private static final Logger log = LoggerFactory.getLogger(MatchServiceClient.class);
+
     private final WebClient webClient;
 
-    public MatchServiceClient(@Value("${match.service.url}") String matchServiceUrl, WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.baseUrl(matchServiceUrl).build();
+    public MatchServiceClient(@Value("${match.service.url}") String matchServiceUrl, ServiceClientFactory serviceClientFactory) {
+        this.webClient = serviceClientFactory.create("match", matchServiceUrl);
     }
 
     public void runMatchmaking(MatchmakingDTO matchmakingDTO, String tournamentFormat, String jwtToken) {
@@ -33,4 +39,17 @@ public class MatchServiceClient {
                 .bodyToMono(Void.class)
                 .block();
     }
-}
\ No newline at end of file
+
+    // Tells the match service to drop its cached copy of the tournament; failures only delay the refresh until the cache TTL
+    public Mono<Void> notifyTournamentUpdated(Long tournamentId, String jwtToken) {
+        return webClient.post()
+                .uri("/api/v1/matches/admin/tournaments/{tournamentId}/events/updated", tournamentId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtToken)
+                .retrieve()
+                .bodyToMono(Void.class)
+                .onErrorResume(error -> {
+                    log.warn("Error notifying match service of update of tournament {}: {}", tournamentId, error.getMessage());
+                    return Mono.empty();
+                });
+    }
+}
@@ -1,16 +1,27 @@
 package com.g1.mychess.tournament.client;
 
+import com.g1.mychess.client.FanOut;
+import com.g1.mychess.client.ServiceClientFactory;
 import com.g1.mychess.tournament.dto.PlayerDTO;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 public class PlayerServiceClient {
+    // Number of players requested per call to the batch details endpoint
+    static final int DETAILS_BATCH_SIZE = 100;
+
     private final WebClient webClient;
+    private final FanOut fanOut;
 
-    public PlayerServiceClient(@Value("${player.service.url}") String playerServiceUrl, WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.baseUrl(playerServiceUrl).build();
+    public PlayerServiceClient(@Value("${player.service.url}") String playerServiceUrl, ServiceClientFactory serviceClientFactory, FanOut fanOut) {
+        this.webClient = serviceClientFactory.create("player", playerServiceUrl);
+        this.fanOut = fanOut;
     }
 
     public PlayerDTO getPlayerDetails(Long playerId) {
@@ -20,4 +31,20 @@ public class PlayerServiceClient {
                 .bodyToMono(PlayerDTO.class)
                 .block();
     }
-}
\ No newline at end of file
+
+    // Fetches the details of many players in parallel chunks of DETAILS_BATCH_SIZE; players that do not exist are left out
+    public List<PlayerDTO> getPlayersDetails(List<Long> playerIds) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < playerIds.size(); from += DETAILS_BATCH_SIZE) {
+            chunks.add(playerIds.subList(from, Math.min(from + DETAILS_BATCH_SIZE, playerIds.size())));
+        }
+        return fanOut.map(chunks, chunk -> webClient.post()
+                        .uri("/api/v1/player/details")
+                        .bodyValue(chunk)
+                        .retrieve()
+                        .bodyToMono(new ParameterizedTypeReference<List<PlayerDTO>>() {}))
+                .flatMapIterable(players -> players)
+                .collectList()
+                .block();
+    }
+}
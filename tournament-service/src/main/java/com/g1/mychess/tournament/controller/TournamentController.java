@@ -9,7 +9,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import com.g1.mychess.tournament.service.*;
 import com.g1.mychess.tournament.dto.*;
-import com.g1.mychess.tournament.util.JwtUtil;
+import com.g1.mychess.security.JwtUtil;
+import com.g1.mychess.security.VerifiedClaims;
+import com.g1.mychess.tournament.exception.UnauthorizedActionException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -79,13 +81,20 @@ public class TournamentController {
         return tournamentService.completeTournament(tournamentId, request);
     }
 
+    @PostMapping("/admin/{tournamentId}/status/canceled")
+    public ResponseEntity<String> cancelTournament(@Valid @PathVariable Long tournamentId, HttpServletRequest request) {
+        return tournamentService.cancelTournament(tournamentId, request);
+    }
+
     @PostMapping("/player/{tournamentId}")
     public ResponseEntity<String> signUpToTournament(@Valid @PathVariable Long tournamentId, @Valid @RequestHeader(value = "Authorization", required = true) String authorizationHeader) {
         String token = null;
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             token = authorizationHeader.substring(7); // Remove "Bearer " prefix
         }
-        Long playerId = jwtUtil.extractUserId(token);
+        Long playerId = jwtUtil.verify(token)
+                .map(VerifiedClaims::getUserId)
+                .orElseThrow(() -> new UnauthorizedActionException("Authorization header is missing or invalid."));
         return tournamentService.signUpToTournament(tournamentId, playerId);
     }
 
@@ -0,0 +1,33 @@
+package com.g1.mychess.tournament.dto;
+
+import java.util.Map;
+
+public class BroadcastRecipientDTO {
+    private String to;
+    private Map<String, String> variables;  // Template variables of this recipient, e.g. username
+
+    // Constructors, Getters, Setters
+    public BroadcastRecipientDTO() {
+    }
+
+    public BroadcastRecipientDTO(String to, Map<String, String> variables) {
+        this.to = to;
+        this.variables = variables;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public void setTo(String to) {
+        this.to = to;
+    }
+
+    public Map<String, String> getVariables() {
+        return variables;
+    }
+
+    public void setVariables(Map<String, String> variables) {
+        this.variables = variables;
+    }
+}
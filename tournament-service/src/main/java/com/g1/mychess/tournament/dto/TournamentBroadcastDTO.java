@@ -0,0 +1,54 @@
+package com.g1.mychess.tournament.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class TournamentBroadcastDTO {
+    private Long tournamentId;  // All players of the tournament receive the email unless recipients are listed
+    private List<BroadcastRecipientDTO> recipients;
+    private String templateId;
+    private Map<String, String> variables;  // Template variables shared by all recipients
+
+    // Constructors, Getters, Setters
+    public TournamentBroadcastDTO() {
+    }
+
+    public TournamentBroadcastDTO(Long tournamentId, List<BroadcastRecipientDTO> recipients, String templateId, Map<String, String> variables) {
+        this.tournamentId = tournamentId;
+        this.recipients = recipients;
+        this.templateId = templateId;
+        this.variables = variables;
+    }
+
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    public void setTournamentId(Long tournamentId) {
+        this.tournamentId = tournamentId;
+    }
+
+    public List<BroadcastRecipientDTO> getRecipients() {
+        return recipients;
+    }
+
+    public void setRecipients(List<BroadcastRecipientDTO> recipients) {
+        this.recipients = recipients;
+    }
+
+    public String getTemplateId() {
+        return templateId;
+    }
+
+    public void setTemplateId(String templateId) {
+        this.templateId = templateId;
+    }
+
+    public Map<String, String> getVariables() {
+        return variables;
+    }
+
+    public void setVariables(Map<String, String> variables) {
+        this.variables = variables;
+    }
+}
@@ -0,0 +1,7 @@
+package com.g1.mychess.tournament.exception;
+
+public class TournamentFullException extends RuntimeException {
+    public TournamentFullException(String message) {
+        super(message);
+    }
+}
@@ -36,6 +36,11 @@ public class Tournament {
     @Min(value = 2, message = "At least 2 players are required to start the tournament.")
     private Integer maxPlayers;
 
+    // Seats taken, changed only by the conditional updates in TournamentRepository so that saving a stale copy of
+    // the tournament cannot overwrite it
+    @Column(name = "player_count", nullable = false, updatable = false)
+    private int playerCount = 0;
+
     @Column(name = "start_date_time", nullable = false)
     @NotNull
     private LocalDateTime startDateTime;
@@ -162,6 +167,10 @@ public class Tournament {
 
     public void setMaxPlayers(Integer maxPlayers) { this.maxPlayers = maxPlayers; }
 
+    public int getPlayerCount() { return playerCount; }
+
+    public void setPlayerCount(int playerCount) { this.playerCount = playerCount; }
+
     public LocalDateTime getStartDateTime() { return startDateTime; }
 
     public void setStartDateTime(LocalDateTime startDateTime) { this.startDateTime = startDateTime; }
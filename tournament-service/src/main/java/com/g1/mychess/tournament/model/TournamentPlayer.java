@@ -7,7 +7,10 @@ import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tournament_player")
+@Table(name = "tournament_player", uniqueConstraints = {
+        // A player holds at most one seat per tournament, even when signing up twice concurrently
+        @UniqueConstraint(name = "uk_tournament_player", columnNames = {"tournament_id", "player_id"})
+})
 public class TournamentPlayer {
 
     @Id
@@ -8,6 +8,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,5 +21,24 @@ public interface TournamentRepository extends JpaRepository<Tournament, Long>{
     Page<Tournament> findByStartDateTimeAfterOrderByStartDateTimeAsc(LocalDateTime date, Pageable pageable);
     Page<Tournament> findAllByOrderByStartDateTimeAsc(Pageable pageable);
 
+    // Takes a seat if one is left; returns 0 when the tournament is full. The row lock taken by the update
+    // serialises concurrent sign-ups to the same tournament until their transactions end
+    @Modifying
+    @Query(value = "UPDATE tournaments SET player_count = player_count + 1 " +
+            "WHERE tournament_id = :tournamentId AND (max_players IS NULL OR player_count < max_players)",
+            nativeQuery = true)
+    int claimSeat(@Param("tournamentId") Long tournamentId);
 
+    @Modifying
+    @Query(value = "UPDATE tournaments SET player_count = player_count - 1 " +
+            "WHERE tournament_id = :tournamentId AND player_count > 0",
+            nativeQuery = true)
+    int releaseSeat(@Param("tournamentId") Long tournamentId);
+
+    // Recomputes every seat counter from the sign-ups, e.g. for rows created before the counter existed
+    @Modifying
+    @Query(value = "UPDATE tournaments SET player_count = " +
+            "(SELECT COUNT(*) FROM tournament_player tp WHERE tp.tournament_id = tournaments.tournament_id)",
+            nativeQuery = true)
+    int recountPlayers();
 }
@@ -1,7 +1,8 @@
 package com.g1.mychess.tournament.service;
 
 import com.g1.mychess.tournament.exception.UnauthorizedActionException;
-import com.g1.mychess.tournament.util.JwtUtil;
+import com.g1.mychess.security.JwtUtil;
+import com.g1.mychess.security.VerifiedClaims;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.stereotype.Service;
 
@@ -14,6 +15,10 @@ public class AuthenticationService {
     }
 
     public Long getUserIdFromRequest(HttpServletRequest request) {
+        // Claims verified by JwtRequestFilter for this request
+        if (request.getAttribute(VerifiedClaims.REQUEST_ATTRIBUTE) instanceof VerifiedClaims claims) {
+            return claims.getUserId();
+        }
         String authorizationHeader = request.getHeader("Authorization");
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
             String jwtToken = authorizationHeader.substring(7);
@@ -0,0 +1,12 @@
+package com.g1.mychess.tournament.service;
+
+import com.g1.mychess.tournament.model.TournamentPlayer;
+
+public interface TournamentRegistrationService {
+
+    TournamentPlayer register(TournamentPlayer tournamentPlayer);
+
+    void unregister(TournamentPlayer tournamentPlayer);
+
+    void recountPlayers();
+}
@@ -35,5 +35,7 @@ public interface TournamentService {
 
     ResponseEntity<String> completeTournament(Long tournamentId, HttpServletRequest request);
 
+    ResponseEntity<String> cancelTournament(Long tournamentId, HttpServletRequest request);
+
     ResponseEntity<List<PlayerDTO>> getPlayersByTournament(Long tournamentId);
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.g1.mychess.tournament.service.impl;
+
+import com.g1.mychess.tournament.exception.PlayerAlreadySignedUpException;
+import com.g1.mychess.tournament.exception.TournamentFullException;
+import com.g1.mychess.tournament.model.TournamentPlayer;
+import com.g1.mychess.tournament.repository.TournamentPlayerRepository;
+import com.g1.mychess.tournament.repository.TournamentRepository;
+import com.g1.mychess.tournament.service.TournamentRegistrationService;
+import jakarta.transaction.Transactional;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+// Takes and gives back tournament seats. A seat is claimed with a conditional update of the tournament's player
+// count and the sign-up is inserted in the same transaction, so a failed insert gives the seat back. The unique
+// constraint on (tournament_id, player_id) rejects a player signing up twice at the same time.
+@Service
+public class TournamentRegistrationServiceImpl implements TournamentRegistrationService {
+
+    private final TournamentRepository tournamentRepository;
+    private final TournamentPlayerRepository tournamentPlayerRepository;
+
+    public TournamentRegistrationServiceImpl(TournamentRepository tournamentRepository,
+                                             TournamentPlayerRepository tournamentPlayerRepository) {
+        this.tournamentRepository = tournamentRepository;
+        this.tournamentPlayerRepository = tournamentPlayerRepository;
+    }
+
+    @Override
+    @Transactional
+    public TournamentPlayer register(TournamentPlayer tournamentPlayer) {
+        Long tournamentId = tournamentPlayer.getTournament().getId();
+        if (tournamentRepository.claimSeat(tournamentId) == 0) {
+            throw new TournamentFullException("Tournament is full.");
+        }
+
+        try {
+            return tournamentPlayerRepository.saveAndFlush(tournamentPlayer);
+        } catch (DataIntegrityViolationException e) {
+            // Rolls back the seat claimed above
+            throw new PlayerAlreadySignedUpException("Player is already signed up for this tournament.");
+        }
+    }
+
+    @Override
+    @Transactional
+    public void unregister(TournamentPlayer tournamentPlayer) {
+        tournamentPlayerRepository.delete(tournamentPlayer);
+        tournamentRepository.releaseSeat(tournamentPlayer.getTournament().getId());
+    }
+
+    // Runs after the DataInitializer, which inserts sign-ups directly
+    @EventListener(ApplicationReadyEvent.class)
+    @Override
+    @Transactional
+    public void recountPlayers() {
+        tournamentRepository.recountPlayers();
+    }
+}
@@ -11,8 +11,8 @@ import com.g1.mychess.tournament.model.TournamentPlayer;
 import com.g1.mychess.tournament.repository.TournamentPlayerRepository;
 import com.g1.mychess.tournament.repository.TournamentRepository;
 import com.g1.mychess.tournament.service.AuthenticationService;
+import com.g1.mychess.tournament.service.TournamentRegistrationService;
 import com.g1.mychess.tournament.service.TournamentService;
-import com.g1.mychess.tournament.util.EmailContentBuilder;
 import com.g1.mychess.tournament.validation.PlayerEligibilityChecker;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.transaction.Transactional;
@@ -23,32 +23,42 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class TournamentServiceImpl implements TournamentService {
 
+    // Templates of the email service
+    private static final String SIGN_UP_TEMPLATE = "tournament-sign-up";
+    private static final String ROUND_START_TEMPLATE = "tournament-round-start";
+    private static final String CANCELLATION_TEMPLATE = "tournament-cancellation";
+
     private final TournamentRepository tournamentRepository;
     private final TournamentPlayerRepository tournamentPlayerRepository;
     private final AuthenticationService authenticationService;
     private final PlayerServiceClient playerServiceClient;
     private final MatchServiceClient matchServiceClient;
     private final EmailServiceClient emailServiceClient;
+    private final TournamentRegistrationService tournamentRegistrationService;
 
     public TournamentServiceImpl(TournamentRepository tournamentRepository,
                                  TournamentPlayerRepository tournamentPlayerRepository,
                                  AuthenticationService authenticationService,
                                  PlayerServiceClient playerServiceClient,
                                  MatchServiceClient matchServiceClient,
-                                 EmailServiceClient emailServiceClient) {
+                                 EmailServiceClient emailServiceClient,
+                                 TournamentRegistrationService tournamentRegistrationService) {
         this.tournamentRepository = tournamentRepository;
         this.tournamentPlayerRepository = tournamentPlayerRepository;
         this.authenticationService = authenticationService;
         this.playerServiceClient = playerServiceClient;
         this.matchServiceClient = matchServiceClient;
         this.emailServiceClient = emailServiceClient;
+        this.tournamentRegistrationService = tournamentRegistrationService;
     }
 
     @Override
@@ -102,6 +112,7 @@ public class TournamentServiceImpl implements TournamentService {
 
         TournamentMapper.updateEntityFromDTO(tournament, tournamentDTO);
         Tournament updatedTournament = tournamentRepository.save(tournament);
+        notifyTournamentUpdated(updatedTournament, request);
 
         return ResponseEntity.ok(TournamentMapper.toDTO(updatedTournament));
     }
@@ -111,6 +122,8 @@ public class TournamentServiceImpl implements TournamentService {
         Tournament tournament = getTournamentById(tournamentId);
 
         validateRegistrationPeriod(tournament);
+        // Cheap early rejections; the seat itself is claimed atomically by the registration service
+        ensureTournamentNotFull(tournament);
         ensurePlayerNotAlreadySignedUp(tournamentId, playerId);
 
         PlayerDTO playerDTO = fetchPlayerDetails(playerId);
@@ -132,6 +145,7 @@ public class TournamentServiceImpl implements TournamentService {
 
         String jwtToken = extractJwtToken(request);
         runMatchmakingForTournament(tournament, jwtToken);
+        announceRoundStart(tournament);
 
         return ResponseEntity.ok("Tournament started successfully.");
     }
@@ -170,10 +184,26 @@ public class TournamentServiceImpl implements TournamentService {
 
         String jwtToken = extractJwtToken(request);
         prepareMatchmakingForNextRound(tournament, jwtToken);
+        announceRoundStart(tournament);
 
         return ResponseEntity.ok("Next round prepared successfully.");
     }
 
+    @Override
+    @Transactional
+    public ResponseEntity<String> cancelTournament(Long tournamentId, HttpServletRequest request) {
+        Tournament tournament = getTournamentById(tournamentId);
+        verifyAdminAccess(tournament.getAdminId(), request);
+        ensureTournamentNotCompleted(tournament);
+
+        tournament.setStatus(Tournament.TournamentStatus.CANCELED);
+        tournamentRepository.save(tournament);
+        notifyTournamentUpdated(tournament, request);
+        announceCancellation(tournament);
+
+        return ResponseEntity.ok("Tournament canceled successfully.");
+    }
+
     @Transactional
     public ResponseEntity<String> completeTournament(Long tournamentId, HttpServletRequest request) {
         Tournament tournament = getTournamentById(tournamentId);
@@ -193,9 +223,8 @@ public class TournamentServiceImpl implements TournamentService {
                 .map(TournamentPlayer::getPlayerId)
                 .toList();
 
-        List<PlayerDTO> players = playerIds.stream()
-                .map(playerServiceClient::getPlayerDetails)
-                .collect(Collectors.toList());
+        // One batched call per chunk of players instead of one call per player
+        List<PlayerDTO> players = playerServiceClient.getPlayersDetails(playerIds);
 
         return ResponseEntity.ok(players);
     }
@@ -208,6 +237,12 @@ public class TournamentServiceImpl implements TournamentService {
         }
     }
 
+    private void ensureTournamentNotFull(Tournament tournament) {
+        if (tournament.getMaxPlayers() != null && tournament.getPlayerCount() >= tournament.getMaxPlayers()) {
+            throw new TournamentFullException("Tournament is full.");
+        }
+    }
+
     private void ensurePlayerNotAlreadySignedUp(Long tournamentId, Long playerId) {
         if (tournamentPlayerRepository.existsByTournamentIdAndPlayerId(tournamentId, playerId)) {
             throw new PlayerAlreadySignedUpException("Player is already signed up for this tournament.");
@@ -241,28 +276,64 @@ public class TournamentServiceImpl implements TournamentService {
     }
 
     private void saveTournamentPlayer(TournamentPlayer tournamentPlayer) {
-        tournamentPlayerRepository.save(tournamentPlayer);
+        tournamentRegistrationService.register(tournamentPlayer);
     }
 
     private void sendTournamentSignUpNotification(PlayerDTO playerDTO, Tournament tournament) {
-        TournamentNotificationDTO notification = buildTournamentSignUpNotification(playerDTO, tournament);
-        emailServiceClient.sendTournamentNotification(notification).subscribe();
+        BroadcastRecipientDTO recipient = new BroadcastRecipientDTO(playerDTO.getEmail(), variables("username", playerDTO.getUsername()));
+        TournamentBroadcastDTO broadcast = new TournamentBroadcastDTO(
+                tournament.getId(), List.of(recipient), SIGN_UP_TEMPLATE, variables("tournamentName", tournament.getName()));
+        emailServiceClient.sendTournamentBroadcast(broadcast).subscribe();
     }
 
-    private TournamentNotificationDTO buildTournamentSignUpNotification(PlayerDTO playerDTO, Tournament tournament) {
-        TournamentNotificationDTO notification = new TournamentNotificationDTO();
-        notification.setTo(playerDTO.getEmail());
-        notification.setSubject("Tournament Sign-Up Confirmation");
-        notification.setMessage(EmailContentBuilder.buildTournamentSignUpMessage(playerDTO, tournament));
-        return notification;
+    // One request notifies every player; the email service looks them up by tournament id
+    private void announceRoundStart(Tournament tournament) {
+        broadcastToPlayers(tournament, ROUND_START_TEMPLATE, variables(
+                "tournamentName", tournament.getName(),
+                "round", String.valueOf(tournament.getCurrentRound())));
+    }
+
+    private void announceCancellation(Tournament tournament) {
+        broadcastToPlayers(tournament, CANCELLATION_TEMPLATE, variables("tournamentName", tournament.getName()));
+    }
+
+    private void broadcastToPlayers(Tournament tournament, String templateId, Map<String, String> variables) {
+        if (tournament.getParticipants() == null || tournament.getParticipants().isEmpty()) return;
+
+        TournamentBroadcastDTO broadcast = new TournamentBroadcastDTO(tournament.getId(), List.of(), templateId, variables);
+        emailServiceClient.sendTournamentBroadcast(broadcast).subscribe();
+    }
+
+    // Round changes reach the match service through matchmaking and finalization, which refresh its cache themselves
+    private void notifyTournamentUpdated(Tournament tournament, HttpServletRequest request) {
+        matchServiceClient.notifyTournamentUpdated(tournament.getId(), extractJwtToken(request)).subscribe();
+    }
+
+    // Unlike Map.of, allows null values
+    private static Map<String, String> variables(String... namesAndValues) {
+        Map<String, String> variables = new HashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            variables.put(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return variables;
     }
 
     private void initializeTournamentForStart(Tournament tournament) {
         tournament.setCurrentRound(1);
         tournament.setStatus(Tournament.TournamentStatus.ONGOING);
+        if (tournament.getFormat() == Tournament.TournamentFormat.ROUND_ROBIN) {
+            tournament.setMaxRounds(roundRobinRounds(tournament.getParticipants().size()));
+        }
         tournamentRepository.save(tournament);
     }
 
+    // A round robin is scheduled in full when it starts, so its length follows from the field instead of the
+    // configured maximum: every player meets every other once, in n - 1 rounds, or n with a bye each for an odd field
+    private static int roundRobinRounds(int playerCount) {
+        if (playerCount < 2) return 1;
+        return playerCount % 2 == 0 ? playerCount - 1 : playerCount;
+    }
+
     private String extractJwtToken(HttpServletRequest request) {
         return authenticationService.extractJwtToken(request);
     }
@@ -323,7 +394,7 @@ public class TournamentServiceImpl implements TournamentService {
     private void removePlayerFromTournament(Tournament tournament, Long playerId) {
         TournamentPlayer tournamentPlayer = tournamentPlayerRepository.findByTournamentIdAndPlayerId(tournament.getId(), playerId)
                 .orElseThrow(() -> new PlayerNotSignedUpException("Player is not signed up for this tournament."));
-        tournamentPlayerRepository.delete(tournamentPlayer);
+        tournamentRegistrationService.unregister(tournamentPlayer);
     }
 
     private void markTournamentAsCompleted(Tournament tournament) {
@@ -0,0 +1,186 @@
+package com.g1.mychess.tournament.service.impl;
+
+import com.g1.mychess.tournament.exception.PlayerAlreadySignedUpException;
+import com.g1.mychess.tournament.exception.TournamentFullException;
+import com.g1.mychess.tournament.model.TimeControlSetting;
+import com.g1.mychess.tournament.model.Tournament;
+import com.g1.mychess.tournament.model.TournamentPlayer;
+import com.g1.mychess.tournament.repository.TournamentPlayerRepository;
+import com.g1.mychess.tournament.repository.TournamentRepository;
+import com.g1.mychess.tournament.service.TournamentRegistrationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Load test of the seat claim against a real database: thousands of concurrent sign-ups to one tournament
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        // Sign-ups queue on the tournament row lock, so wait longer for it than H2's default of one second
+        "spring.datasource.url=jdbc:h2:mem:registration;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=32",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@Import(TournamentRegistrationServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Each sign-up commits on its own, as in production
+public class TournamentRegistrationServiceImplTest {
+
+    private static final int SEATS = 100;
+    private static final int PLAYERS = 1000;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private TournamentRegistrationService tournamentRegistrationService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private TournamentPlayerRepository tournamentPlayerRepository;
+
+    @AfterEach
+    void tearDown() {
+        tournamentPlayerRepository.deleteAllInBatch();
+        tournamentRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void testRegister_ConcurrentSignUpsNeverOverbook() throws Exception {
+        Tournament tournament = tournamentRepository.save(tournament(SEATS));
+
+        // Every player signs up twice, so seats and duplicate sign-ups are contended at the same time
+        List<Callable<String>> signUps = new ArrayList<>();
+        for (long playerId = 1; playerId <= PLAYERS; playerId++) {
+            signUps.add(signUp(tournament, playerId));
+            signUps.add(signUp(tournament, playerId));
+        }
+        Collections.shuffle(signUps, new Random(42));
+
+        Map<String, Integer> outcomes = new HashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Future<String> outcome : executor.invokeAll(signUps)) {
+                outcomes.merge(outcome.get(), 1, Integer::sum);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(SEATS, outcomes.get("registered"));
+        assertEquals(2 * PLAYERS - SEATS, outcomes.getOrDefault("full", 0) + outcomes.getOrDefault("duplicate", 0));
+
+        List<TournamentPlayer> registered = tournamentPlayerRepository.findByTournamentId(tournament.getId()).orElseThrow();
+        assertEquals(SEATS, registered.size());
+        assertEquals(SEATS, registered.stream().map(TournamentPlayer::getPlayerId).distinct().count());
+        assertEquals(SEATS, tournamentRepository.findById(tournament.getId()).orElseThrow().getPlayerCount());
+    }
+
+    @Test
+    void testRegister_DuplicateSignUpGivesTheSeatBack() {
+        Tournament tournament = tournamentRepository.save(tournament(2));
+
+        tournamentRegistrationService.register(player(tournament, 1L));
+        assertThrows(PlayerAlreadySignedUpException.class,
+                () -> tournamentRegistrationService.register(player(tournament, 1L)));
+
+        assertEquals(1, tournamentRepository.findById(tournament.getId()).orElseThrow().getPlayerCount());
+        tournamentRegistrationService.register(player(tournament, 2L));
+        assertThrows(TournamentFullException.class,
+                () -> tournamentRegistrationService.register(player(tournament, 3L)));
+    }
+
+    @Test
+    void testUnregister_FreesTheSeat() {
+        Tournament tournament = tournamentRepository.save(tournament(2));
+        tournamentRegistrationService.register(player(tournament, 1L));
+        TournamentPlayer second = tournamentRegistrationService.register(player(tournament, 2L));
+        assertThrows(TournamentFullException.class,
+                () -> tournamentRegistrationService.register(player(tournament, 3L)));
+
+        tournamentRegistrationService.unregister(second);
+        assertEquals(1, tournamentRepository.findById(tournament.getId()).orElseThrow().getPlayerCount());
+
+        tournamentRegistrationService.register(player(tournament, 3L));
+        assertEquals(2, tournamentRepository.findById(tournament.getId()).orElseThrow().getPlayerCount());
+        assertThrows(TournamentFullException.class,
+                () -> tournamentRegistrationService.register(player(tournament, 4L)));
+    }
+
+    @Test
+    void testRecountPlayers_RestoresCountersOfExistingSignUps() {
+        Tournament tournament = tournamentRepository.save(tournament(4));
+        // Inserted directly, as by the DataInitializer, without claiming seats
+        tournamentPlayerRepository.save(player(tournament, 1L));
+        tournamentPlayerRepository.save(player(tournament, 2L));
+
+        tournamentRegistrationService.recountPlayers();
+
+        assertEquals(2, tournamentRepository.findById(tournament.getId()).orElseThrow().getPlayerCount());
+    }
+
+    private Callable<String> signUp(Tournament tournament, long playerId) {
+        return () -> {
+            try {
+                tournamentRegistrationService.register(player(tournament, playerId));
+                return "registered";
+            } catch (TournamentFullException e) {
+                return "full";
+            } catch (PlayerAlreadySignedUpException e) {
+                return "duplicate";
+            }
+        };
+    }
+
+    private static Tournament tournament(int maxPlayers) {
+        Tournament tournament = new Tournament();
+        tournament.setAdminId(1L);
+        tournament.setName("Rush " + UUID.randomUUID());
+        tournament.setDescription("Registration rush");
+        tournament.setMaxPlayers(maxPlayers);
+        tournament.setStartDateTime(LocalDateTime.now().plusDays(7));
+        tournament.setEndDateTime(LocalDateTime.now().plusDays(8));
+        tournament.setRegistrationStartDate(LocalDateTime.now().minusDays(1));
+        tournament.setRegistrationEndDate(LocalDateTime.now().plusDays(6));
+        tournament.setFormat(Tournament.TournamentFormat.SWISS);
+        tournament.setTimeControlSetting(new TimeControlSetting(15, 10));
+        tournament.setStatus(Tournament.TournamentStatus.UPCOMING);
+        tournament.setMinRating(0);
+        tournament.setMaxRating(3000);
+        tournament.setMinAge(0);
+        tournament.setMaxAge(100);
+        tournament.setCountry("Singapore");
+        tournament.setRegion("Central");
+        tournament.setAddress("1 Chess Street");
+        tournament.setMaxRounds(5);
+        return tournament;
+    }
+
+    private static TournamentPlayer player(Tournament tournament, long playerId) {
+        TournamentPlayer tournamentPlayer = new TournamentPlayer();
+        tournamentPlayer.setTournament(tournament);
+        tournamentPlayer.setPlayerId(playerId);
+        tournamentPlayer.setSignUpDateTime(LocalDateTime.now());
+        tournamentPlayer.setGlickoRating(1500);
+        tournamentPlayer.setRatingDeviation(350);
+        tournamentPlayer.setVolatility(0.06);
+        tournamentPlayer.setStatus(TournamentPlayer.TournamentPlayerStatus.ACTIVE);
+        return tournamentPlayer;
+    }
+}
@@ -6,13 +6,16 @@ import com.g1.mychess.tournament.client.PlayerServiceClient;
 import com.g1.mychess.tournament.dto.MatchmakingDTO;
 import com.g1.mychess.tournament.dto.PlayerDTO;
 import com.g1.mychess.tournament.dto.TournamentDTO;
-import com.g1.mychess.tournament.dto.TournamentNotificationDTO;
+import com.g1.mychess.tournament.dto.TournamentBroadcastDTO;
 import com.g1.mychess.tournament.exception.PlayerBlacklistedException;
+import com.g1.mychess.tournament.exception.TournamentFullException;
 import com.g1.mychess.tournament.model.TimeControlSetting;
 import com.g1.mychess.tournament.model.Tournament;
+import com.g1.mychess.tournament.model.TournamentPlayer;
 import com.g1.mychess.tournament.repository.TournamentPlayerRepository;
 import com.g1.mychess.tournament.repository.TournamentRepository;
 import com.g1.mychess.tournament.service.AuthenticationService;
+import com.g1.mychess.tournament.service.TournamentRegistrationService;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +28,7 @@ import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -55,14 +59,18 @@ public class TournamentServiceImplTest {
     @Mock
     private EmailServiceClient emailServiceClient;
 
+    @Mock
+    private TournamentRegistrationService tournamentRegistrationService;
+
     @Mock
     private HttpServletRequest mockRequest;
 
     @BeforeEach
     void setUp() {
         // Mock email service client to return a non-null Mono
-        when(emailServiceClient.sendTournamentNotification(any(TournamentNotificationDTO.class)))
+        when(emailServiceClient.sendTournamentBroadcast(any(TournamentBroadcastDTO.class)))
                 .thenReturn(Mono.empty());
+        when(matchServiceClient.notifyTournamentUpdated(anyLong(), any())).thenReturn(Mono.empty());
     }
 
     @Test
@@ -151,6 +159,37 @@ public class TournamentServiceImplTest {
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals("Player successfully signed up to the tournament", response.getBody());
+
+        ArgumentCaptor<TournamentPlayer> registered = ArgumentCaptor.forClass(TournamentPlayer.class);
+        verify(tournamentRegistrationService).register(registered.capture());
+        assertEquals(playerId, registered.getValue().getPlayerId());
+        assertSame(tournament, registered.getValue().getTournament());
+
+        ArgumentCaptor<TournamentBroadcastDTO> broadcast = ArgumentCaptor.forClass(TournamentBroadcastDTO.class);
+        verify(emailServiceClient).sendTournamentBroadcast(broadcast.capture());
+        assertEquals("tournament-sign-up", broadcast.getValue().getTemplateId());
+        assertEquals(1, broadcast.getValue().getRecipients().size());
+        assertEquals("player@gmail.com", broadcast.getValue().getRecipients().get(0).getTo());
+    }
+
+    @Test
+    void testSignUpToTournament_FullTournamentRejectedBeforeFetchingPlayer() {
+        // Arrange
+        long tournamentId = 1L;
+
+        Tournament tournament = new Tournament();
+        tournament.setId(tournamentId);
+        tournament.setRegistrationStartDate(LocalDateTime.now().minusDays(1));
+        tournament.setRegistrationEndDate(LocalDateTime.now().plusDays(1));
+        tournament.setMaxPlayers(2);
+        tournament.setPlayerCount(2);
+
+        when(tournamentRepository.findById(tournamentId)).thenReturn(Optional.of(tournament));
+
+        // Act & Assert
+        assertThrows(TournamentFullException.class, () -> tournamentService.signUpToTournament(tournamentId, 2L));
+
+        verifyNoInteractions(playerServiceClient, tournamentRegistrationService);
     }
 
     @Test
@@ -218,6 +257,7 @@ public class TournamentServiceImplTest {
         assertNotNull(response.getBody());
         assertEquals("Updated Tournament", response.getBody().getName());
         assertEquals(timeControlSetting, response.getBody().getTimeControlSetting());
+        verify(matchServiceClient, times(1)).notifyTournamentUpdated(eq(1L), any());
     }
 
     @Test
@@ -243,4 +283,100 @@ public class TournamentServiceImplTest {
         assertEquals(Tournament.TournamentStatus.COMPLETED, tournament.getStatus());
         verify(matchServiceClient).finalizeTournament(any(MatchmakingDTO.class), eq("mock-jwt-token"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testStartTournament_RoundRobinLastsOneRoundPerOpponent() {
+        // Arrange
+        long tournamentId = 1L;
+        Tournament tournament = new Tournament();
+        tournament.setId(tournamentId);
+        tournament.setName("Test Tournament");
+        tournament.setAdminId(1L);
+        tournament.setFormat(Tournament.TournamentFormat.ROUND_ROBIN);
+        tournament.setStatus(Tournament.TournamentStatus.UPCOMING);
+        tournament.setMaxRounds(3);
+        HashSet<TournamentPlayer> participants = new HashSet<>();
+        for (long playerId = 2; playerId <= 6; playerId++) {
+            TournamentPlayer participant = new TournamentPlayer();
+            participant.setTournament(tournament);
+            participant.setPlayerId(playerId);
+            participant.setStatus(TournamentPlayer.TournamentPlayerStatus.ACTIVE);
+            participants.add(participant);
+        }
+        tournament.setParticipants(participants);
+
+        when(tournamentRepository.findById(tournamentId)).thenReturn(Optional.of(tournament));
+        when(authenticationService.getUserIdFromRequest(mockRequest)).thenReturn(1L);
+
+        // Act
+        ResponseEntity<String> response = tournamentService.startTournament(tournamentId, mockRequest);
+
+        // Assert: five players meet each other in five rounds, each sitting out one
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(5, tournament.getMaxRounds());
+        ArgumentCaptor<MatchmakingDTO> matchmaking = ArgumentCaptor.forClass(MatchmakingDTO.class);
+        verify(matchServiceClient).runMatchmaking(matchmaking.capture(), any(), any());
+        assertEquals(5, matchmaking.getValue().getMaxRounds());
+    }
+
+    @Test
+    void testCancelTournament_BroadcastsToAllPlayersInOneRequest() {
+        // Arrange
+        long tournamentId = 1L;
+        Tournament tournament = new Tournament();
+        tournament.setId(tournamentId);
+        tournament.setName("Test Tournament");
+        tournament.setAdminId(1L);
+        tournament.setStatus(Tournament.TournamentStatus.UPCOMING);
+        HashSet<TournamentPlayer> participants = new HashSet<>();
+        for (long playerId = 2; playerId <= 4; playerId++) {
+            TournamentPlayer participant = new TournamentPlayer();
+            participant.setPlayerId(playerId);
+            participants.add(participant);
+        }
+        tournament.setParticipants(participants);
+
+        when(tournamentRepository.findById(tournamentId)).thenReturn(Optional.of(tournament));
+        when(authenticationService.getUserIdFromRequest(mockRequest)).thenReturn(1L);
+
+        // Act
+        ResponseEntity<String> response = tournamentService.cancelTournament(tournamentId, mockRequest);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(Tournament.TournamentStatus.CANCELED, tournament.getStatus());
+        verify(matchServiceClient, times(1)).notifyTournamentUpdated(eq(tournamentId), any());
+
+        ArgumentCaptor<TournamentBroadcastDTO> broadcast = ArgumentCaptor.forClass(TournamentBroadcastDTO.class);
+        verify(emailServiceClient, times(1)).sendTournamentBroadcast(broadcast.capture());
+        assertEquals(tournamentId, broadcast.getValue().getTournamentId());
+        assertEquals("tournament-cancellation", broadcast.getValue().getTemplateId());
+        assertTrue(broadcast.getValue().getRecipients().isEmpty());
+        assertEquals("Test Tournament", broadcast.getValue().getVariables().get("tournamentName"));
+    }
+
+    @Test
+    void testGetPlayersByTournament_FetchesDetailsInOneBatch() {
+        // Arrange
+        long tournamentId = 1L;
+        TournamentPlayer firstPlayer = new TournamentPlayer();
+        firstPlayer.setPlayerId(2L);
+        TournamentPlayer secondPlayer = new TournamentPlayer();
+        secondPlayer.setPlayerId(3L);
+
+        PlayerDTO firstDTO = new PlayerDTO(2L, false, "first", "first@gmail.com", 25, "MALE", 1500.0, 200.0, 0.06);
+        PlayerDTO secondDTO = new PlayerDTO(3L, false, "second", "second@gmail.com", 30, "FEMALE", 1600.0, 150.0, 0.06);
+
+        when(tournamentPlayerRepository.findByTournamentId(tournamentId))
+                .thenReturn(Optional.of(List.of(firstPlayer, secondPlayer)));
+        when(playerServiceClient.getPlayersDetails(List.of(2L, 3L))).thenReturn(List.of(firstDTO, secondDTO));
+
+        // Act
+        ResponseEntity<List<PlayerDTO>> response = tournamentService.getPlayersByTournament(tournamentId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(firstDTO, secondDTO), response.getBody());
+        verify(playerServiceClient, never()).getPlayerDetails(anyLong());
+    }
+}